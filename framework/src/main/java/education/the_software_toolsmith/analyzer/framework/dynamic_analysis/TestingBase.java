@@ -149,6 +149,8 @@ import java.util.Queue ;
  *     <li>>undo reversing '==' and '!=' comparisons
  *     <li>cosmetic changes
  *     </ul>
+ * @version 7.4 2026-10-16 the test-logs folder may be relocated via {@link #TEST_LOGS_FOLDER_PROPERTY} -
+ *     long-lived grading workers can't change their working directory between students
  */
 public class TestingBase
     {
@@ -179,6 +181,12 @@ public class TestingBase
     protected final static String DEFAULT_STUB_BEHAVIOR_INDICATOR = " s" ;
 
 
+    /**
+     * system property which names the folder for detailed test logs - defaults to {@code ./test-logs}
+     */
+    public static final String TEST_LOGS_FOLDER_PROPERTY = "test-logs.folder" ;
+
+
     /*
      * timeouts
      */
@@ -319,7 +327,7 @@ public class TestingBase
         final String timestamp = String.format( "%TF %<TH%<TM%<TS",
                                                 now ) ;
 
-        Path testLogsPath = new File( "./test-logs" ).toPath()
+        Path testLogsPath = new File( System.getProperty( TEST_LOGS_FOLDER_PROPERTY, "./test-logs" ) ).toPath()
                                                      .toAbsolutePath()
                                                      .normalize() ;
 
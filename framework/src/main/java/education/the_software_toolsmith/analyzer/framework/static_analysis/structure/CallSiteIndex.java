@@ -0,0 +1,261 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+import com.github.javaparser.ast.DataKey ;
+import com.github.javaparser.ast.body.CallableDeclaration ;
+import com.github.javaparser.ast.expr.MethodCallExpr ;
+import com.github.javaparser.ast.expr.ObjectCreationExpr ;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt ;
+import com.github.javaparser.resolution.Resolvable ;
+import com.github.javaparser.resolution.UnsolvedSymbolException ;
+import com.github.javaparser.resolution.declarations.ResolvedMethodLikeDeclaration ;
+
+import java.util.ArrayList ;
+import java.util.HashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Objects ;
+
+/**
+ * every method call, instantiation, and chained constructor call in a method or constructor - collected
+ * and resolved in a single traversal so each {@link Heuristics} query is a lookup
+ * <p>
+ * The index is attached to its {@link CallableDeclaration} the first time it's needed and reused by every
+ * later query on that declaration, so each call is resolved once.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 resolve through the {@code ResolutionCache}
+ * @version 1.2 2026-10-16 answer chained constructor queries for {@link RequirementPlan}s
+ * @version 1.3 2026-10-16 resolve directly again - the index is built once per declaration, so the
+ *     {@code ResolutionCache} never answered a repeated resolution
+ */
+final class CallSiteIndex
+    {
+
+    /** attaches the index to its declaration */
+    private static final DataKey<CallSiteIndex> INDEX_KEY = new DataKey<>()
+        {} ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the indexed method's or constructor's signature - for diagnostics */
+    private final String declarationSignature ;
+
+    /** number of calls by method name - whether or not the call resolved */
+    private final Map<String, Integer> methodCallsByName = new HashMap<>() ;
+
+    /** number of calls by normalized signature of the resolved method */
+    private final Map<String, Integer> methodCallsBySignature = new HashMap<>() ;
+
+    /** number of instantiations by normalized signature of the resolved constructor */
+    private final Map<String, Integer> instantiationsBySignature = new HashMap<>() ;
+
+    /** normalized signatures of chained constructor calls - {@code null} if the call didn't resolve */
+    private final List<String> constructorInvocations = new ArrayList<>() ;
+
+    /** the chained constructor calls as written - for diagnostics */
+    private final List<ExplicitConstructorInvocationStmt> constructorInvocationStatements
+            = new ArrayList<>() ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private CallSiteIndex( final CallableDeclaration<?> callableDeclaration )
+        {
+
+        this.declarationSignature = callableDeclaration.getSignature().toString() ;
+
+        callableDeclaration.walk( node ->
+            {
+
+            if ( node instanceof final MethodCallExpr methodCallExpression )
+                {
+                this.methodCallsByName.merge( methodCallExpression.getNameAsString(), 1, Integer::sum ) ;
+                count( this.methodCallsBySignature, resolvedSignature( methodCallExpression ) ) ;
+                }
+            else if ( node instanceof final ObjectCreationExpr objectCreationExpression )
+                {
+                count( this.instantiationsBySignature,
+                       resolvedSignature( objectCreationExpression ) ) ;
+                }
+            else if ( node instanceof final ExplicitConstructorInvocationStmt constructorInvocationStatement )
+                {
+                this.constructorInvocationStatements.add( constructorInvocationStatement ) ;
+                this.constructorInvocations.add( resolvedSignature( constructorInvocationStatement ) ) ;
+                }
+
+            } ) ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * API methods
+     */
+
+
+    /**
+     * retrieve - building it on first use - the index for a method or constructor
+     *
+     * @param callableDeclaration
+     *     the method or constructor
+     *
+     * @return its index
+     */
+    static CallSiteIndex of( final CallableDeclaration<?> callableDeclaration )
+        {
+
+        // a node's data isn't thread-safe
+        synchronized ( callableDeclaration )
+            {
+
+            if ( callableDeclaration.containsData( INDEX_KEY ) )
+                {
+                return callableDeclaration.getData( INDEX_KEY ) ;
+                }
+
+            final CallSiteIndex index = new CallSiteIndex( callableDeclaration ) ;
+            callableDeclaration.setData( INDEX_KEY, index ) ;
+
+            return index ;
+            }
+
+        }   // end of()
+
+
+    /**
+     * @param methodName
+     *     the name of a method
+     *
+     * @return the number of calls to methods with that name
+     */
+    int methodCallsNamed( final String methodName )
+        {
+
+        return this.methodCallsByName.getOrDefault( methodName, 0 ) ;
+
+        }   // end methodCallsNamed()
+
+
+    /**
+     * @param normalizedSignature
+     *     a method signature normalized by {@link Heuristics#normalize(String)}
+     *
+     * @return the number of calls which resolved to a method with that signature
+     */
+    int methodCallsWithSignature( final String normalizedSignature )
+        {
+
+        return this.methodCallsBySignature.getOrDefault( normalizedSignature, 0 ) ;
+
+        }   // end methodCallsWithSignature()
+
+
+    /**
+     * @param normalizedSignature
+     *     a constructor signature normalized by {@link Heuristics#normalize(String)}
+     *
+     * @return the number of instantiations which resolved to a constructor with that signature
+     */
+    int instantiationsWithSignature( final String normalizedSignature )
+        {
+
+        return this.instantiationsBySignature.getOrDefault( normalizedSignature, 0 ) ;
+
+        }   // end instantiationsWithSignature()
+
+
+    /**
+     * @param normalizedSignature
+     *     a constructor signature normalized by {@link Heuristics#normalize(String)}
+     *
+     * @return {@code true} if the chained constructor call resolved to a constructor with that signature
+     *
+     * @throws IllegalStateException
+     *     if there's more than one chained constructor call
+     */
+    boolean chainsTo( final String normalizedSignature )
+        {
+
+        if ( this.constructorInvocations.size() > 1 )
+            {
+            // can't have more than one chained constructor call
+            throw new IllegalStateException( String.format( "multiple (%,d) chained constructor calls from %s to %s",
+                                                            this.constructorInvocations.size(),
+                                                            this.declarationSignature,
+                                                            this.constructorInvocationStatements ) ) ;
+            }
+
+        // null if there's no chained call or it didn't resolve
+        return ( this.constructorInvocations.size() == 1 )
+               && Objects.equals( normalizedSignature, this.constructorInvocations.getFirst() ) ;
+
+        }   // end chainsTo()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static void count( final Map<String, Integer> counts,
+                               final String normalizedSignature )
+        {
+
+        if ( normalizedSignature != null )
+            {
+            counts.merge( normalizedSignature, 1, Integer::sum ) ;
+            }
+
+        }   // end count()
+
+
+    /**
+     * @return the normalized signature of the invoked method or constructor or {@code null} if the
+     *     invocation can't be resolved
+     */
+    private static String resolvedSignature( final Resolvable<? extends ResolvedMethodLikeDeclaration> invocation )
+        {
+
+        try
+            {
+            return Heuristics.normalize( invocation.resolve().getSignature() ) ;
+            }
+        catch ( UnsolvedSymbolException
+                | UnsupportedOperationException e )
+            {
+            // resolution failed for this call; it can't match any signature
+            return null ;
+            }
+
+        }   // end resolvedSignature()
+
+    }   // end class CallSiteIndex
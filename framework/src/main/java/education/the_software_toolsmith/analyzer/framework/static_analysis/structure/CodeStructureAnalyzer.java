@@ -21,7 +21,10 @@
 package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
 
 import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceException ;
+import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus ;
 import education.the_software_toolsmith.analyzer.framework.compliance.InvalidRequirementException ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan.CompiledRequirement ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan.MethodPlan ;
 import education.the_software_toolsmith.analyzer.framework.utilities.SharedState ;
 
 import static education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus.FAILED ;
@@ -33,19 +36,21 @@ import static education.the_software_toolsmith.analyzer.framework.static_analysi
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.CodeSourceCategory.STARTER ;
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.CodeSourceCategory.TO_EVALUATE ;
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Heuristics.* ;
-import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.OriginalSource.getOriginalMethodSource ;
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementType.* ;
 
-import com.github.javaparser.StaticJavaParser ;
+import com.github.javaparser.JavaParser ;
+import com.github.javaparser.ParseProblemException ;
+import com.github.javaparser.ParseResult ;
+import com.github.javaparser.ParserConfiguration ;
 import com.github.javaparser.ast.CompilationUnit ;
 import com.github.javaparser.ast.body.CallableDeclaration ;
-import com.github.javaparser.ast.body.ConstructorDeclaration ;
-import com.github.javaparser.ast.body.MethodDeclaration ;
 
 import java.nio.file.Files ;
 import java.nio.file.Path ;
+import java.util.ArrayList ;
 import java.util.Arrays ;
 import java.util.HashMap ;
+import java.util.IdentityHashMap ;
 import java.util.LinkedHashMap ;
 import java.util.LinkedList ;
 import java.util.List ;
@@ -68,6 +73,33 @@ import java.util.Objects ;
  *     <li>add support in constructors to specify student and/or starter code locations</li>
  *     <li>add {@code toString()} for debugging</li>
  *     </ul>
+ * @version 3.2 2026-10-16 add constructor taking paths so code can be analyzed in place in a mounted
+ *     submission zip
+ * @version 3.3 2026-10-16 parse with this analyzer's own {@code JavaParser} rather than
+ *     {@code StaticJavaParser} so analyzers can run concurrently
+ * @version 3.4 2026-10-16 reuse the starter code's AST, methods, and normalized bodies from
+ *     {@link StarterCode}
+ * @version 3.5 2026-10-16 compare method bodies by structural fingerprint rather than printed text
+ * @version 3.6 2026-10-16 memoize symbol resolution for the analysis in a {@code ResolutionCache}
+ * @version 3.7 2026-10-16 evaluate a compiled {@link RequirementPlan} which may be shared among analyses;
+ *     record compliance in the {@link Result} rather than the shared requirements
+ * @version 3.8 2026-10-16 describe requirements with this analysis' {@link RequirementFormat} rather than
+ *     {@code Requirement}'s static flags
+ * @version 3.9 2026-10-16 key requirements by the starter code's class name rather than
+ *     {@code SharedState}'s
+ * @version 3.10 2026-10-16 record a {@link MethodAssessment} for each method rather than formatting the
+ *     report as it's assessed - {@link Result#report()} renders it on demand
+ * @version 3.11 2026-10-16 remove {@code logComplianceCheck()} - {@link Result} defines the compliance
+ *     layout
+ * @version 3.12 2026-10-16 remove the {@code ResolutionCache} - {@link CallSiteIndex} already resolves
+ *     each call once per method
+ * @version 3.13 2026-10-16
+ *     <ul>
+ *     <li>cache the compiled form of requirements passed to {@code checkActionCall()} and
+ *     {@code checkActionInstantiate()}</li>
+ *     <li>keep updating the requirements' compliance when this analysis compiled its own plan</li>
+ *     <li>restore {@code report} and {@code logComplianceCheck()} as deprecated</li>
+ *     </ul>
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class CodeStructureAnalyzer extends SharedState
@@ -101,9 +133,21 @@ public final class CodeStructureAnalyzer extends SharedState
     /** contains summary and detailed information about the results of the compliance tests */
     public Result result ;
 
-    /** convenience reference to the result's report */
+    /**
+     * convenience reference to the result's report
+     *
+     * @deprecated use {@code result.report()} - this is only filled when {@link #analyze()} completes an
+     *     analysis which compiled its own plan from {@link #requirementsForEachMethod}
+     */
+    @Deprecated( since = "3.10", forRemoval = true )
     public StringBuilder report ;
 
+    /** the shared, pre-parsed starter code - {@code null} until the code is collected */
+    private StarterCode starterCode ;
+
+    /** parses and resolves this analysis' code - {@code null} until configured or first needed */
+    private JavaParser parser ;
+
     /** all method signatures (text) collected from the student's work */
     public final List<String> studentWorkMethodSignatures ;
 
@@ -113,6 +157,24 @@ public final class CodeStructureAnalyzer extends SharedState
      */
     public final Map<String, List<Requirement>> requirementsForEachMethod ;
 
+    /**
+     * the compiled requirements - supplied by {@link #usePlan(RequirementPlan)} or compiled from
+     * {@link #requirementsForEachMethod} when first needed
+     */
+    private RequirementPlan requirementPlan ;
+
+    /**
+     * {@code true} if {@link #requirementPlan} was compiled from {@link #requirementsForEachMethod} rather
+     * than supplied - only then are the requirements this analysis' to update
+     */
+    private boolean ownsRequirements ;
+
+    /** requirements compiled for {@code checkActionCall()} and {@code checkActionInstantiate()} */
+    private final Map<Requirement, CompiledRequirement> compiledRequirements = new IdentityHashMap<>() ;
+
+    /** how requirements are described in this analysis' report */
+    private RequirementFormat requirementFormat = RequirementFormat.DEFAULT ;
+
     /*
      * constructors
      */
@@ -210,28 +272,65 @@ public final class CodeStructureAnalyzer extends SharedState
                                   final Map<String, List<Requirement>> methodRequirements )
         {
 
-        this.classToAssess = specifiedClassName ;
-        this.baseSearchLocation = specifiedBaseSearchLocation ;
+        this( specifiedClassName,
+              specifiedBaseSearchLocation,
+              methodRequirements,
+              specifiedStarterCodeLocation == null
+                      ? null
+                      : Path.of( specifiedStarterCodeLocation ),
+              specifiedStudentCodeLocation == null
+                      ? null
+                      : Path.of( specifiedStudentCodeLocation ) ) ;
 
+        }   // end 5-arg constructor
 
-        this.studentCodePath = null ;
-        if ( specifiedStudentCodeLocation != null )
-            {
 
-            this.studentCodePath = Path.of( specifiedStudentCodeLocation ) ;
+    /**
+     * set initial state to analyze code at known locations - the paths may be on any file system, e.g., a
+     * mounted submission zip
+     *
+     * @param specifiedClassName
+     *     name of the class to validate
+     * @param specifiedStarterCodePath
+     *     the starter code
+     * @param specifiedStudentCodePath
+     *     the student code
+     * @param methodRequirements
+     *     map of method signature -> list of implementation requirements
+     */
+    public CodeStructureAnalyzer( final String specifiedClassName,
+                                  final Path specifiedStarterCodePath,
+                                  final Path specifiedStudentCodePath,
+                                  final Map<String, List<Requirement>> methodRequirements )
+        {
+
+        this( specifiedClassName,
+              String.valueOf( specifiedStudentCodePath.getParent() ),
+              methodRequirements,
+              specifiedStarterCodePath,
+              specifiedStudentCodePath ) ;
 
-            }
+        }   // end 4-arg constructor with paths
 
-        
-        this.starterCodePath = null ;
-        if ( specifiedStarterCodeLocation != null )
-            {
 
-            this.starterCodePath = Path.of( specifiedStarterCodeLocation ) ;
+    /*
+     * common initialization for the public constructors - missing paths are searched for from
+     * specifiedBaseSearchLocation
+     */
+    @SuppressWarnings( "deprecation" )  // keep the deprecated report alias
+    private CodeStructureAnalyzer( final String specifiedClassName,
+                                   final String specifiedBaseSearchLocation,
+                                   final Map<String, List<Requirement>> methodRequirements,
+                                   final Path specifiedStarterCodePath,
+                                   final Path specifiedStudentCodePath )
+        {
 
-            }
+        this.classToAssess = specifiedClassName ;
+        this.baseSearchLocation = specifiedBaseSearchLocation ;
+
+        this.studentCodePath = specifiedStudentCodePath ;
+        this.starterCodePath = specifiedStarterCodePath ;
 
-        
         this.studentWorkMethodSignatures = new LinkedList<>() ;
 
         this.result = new Result( this ) ;
@@ -244,7 +343,75 @@ public final class CodeStructureAnalyzer extends SharedState
 
         this.requirementsForEachMethod = methodRequirements ;
 
-        }   // end 5-arg/full constructor
+        }   // end full constructor
+
+
+    /**
+     * set the parser configuration - including its symbol resolver - for this analysis
+     * <p>
+     * If not configured, the first parse configures the parser to resolve the JDK and the student's
+     * sources.
+     *
+     * @param parserConfiguration
+     *     e.g., from {@link Configuration#parserConfiguration}
+     */
+    public void configureParser( final ParserConfiguration parserConfiguration )
+        {
+
+        this.parser = new JavaParser( Objects.requireNonNull( parserConfiguration, "parserConfiguration" ) ) ;
+
+        }   // end configureParser()
+
+
+    /**
+     * evaluate a pre-compiled plan - e.g., one compiled once for a batch of students - instead of
+     * {@link #requirementsForEachMethod}
+     * <p>
+     * The plan may be shared with concurrent analyses so its requirements' compliance isn't updated - it's
+     * recorded in {@link #result} alone.
+     *
+     * @param plan
+     *     the compiled requirements
+     */
+    public void usePlan( final RequirementPlan plan )
+        {
+
+        this.requirementPlan = Objects.requireNonNull( plan, "plan" ) ;
+        this.ownsRequirements = false ;
+
+        }   // end usePlan()
+
+
+    /**
+     * set how requirements are described in this analysis' report
+     *
+     * @param format
+     *     the format - {@link RequirementFormat#DEFAULT} if not set
+     */
+    public void setRequirementFormat( final RequirementFormat format )
+        {
+
+        this.requirementFormat = Objects.requireNonNull( format, "format" ) ;
+
+        }   // end setRequirementFormat()
+
+
+    /**
+     * @return the requirements this analysis evaluates - compiled from {@link #requirementsForEachMethod}
+     *     if a plan wasn't supplied
+     */
+    public RequirementPlan requirementPlan()
+        {
+
+        if ( this.requirementPlan == null )
+            {
+            this.requirementPlan = RequirementPlan.compile( this.requirementsForEachMethod ) ;
+            this.ownsRequirements = true ;
+            }
+
+        return this.requirementPlan ;
+
+        }   // end requirementPlan()
 
 
     /**
@@ -328,13 +495,6 @@ public final class CodeStructureAnalyzer extends SharedState
 //                }
 //
 //            }
-        
-        Requirement.includeIndentInToString() ;
-        Requirement.includeComplianceInToString() ;
-
-        this.report.append( String.format( "%n%s%n",
-                                           "-".repeat( 5 ) ) ) ;
-
 
         /*
          * do the analysis
@@ -349,6 +509,12 @@ public final class CodeStructureAnalyzer extends SharedState
             assessMethodCompliance( studentWorkMethodSignature, format ) ;
             }
 
+        // callers written against the eagerly built report
+        if ( this.ownsRequirements )
+            {
+            this.result.fillReport() ;
+            }
+
 
         // the results of the analysis
         return this.result ;
@@ -360,7 +526,7 @@ public final class CodeStructureAnalyzer extends SharedState
                                         final String format )
         {
 
-        final List<Requirement> requirements = this.requirementsForEachMethod.get( studentWorkMethodSignature ) ;
+        final MethodPlan methodPlan = requirementPlan().forMethod( studentWorkMethodSignature ) ;
 
         int testCount = 0 ;
         int testsPassed = 0 ;
@@ -368,8 +534,6 @@ public final class CodeStructureAnalyzer extends SharedState
         boolean correctBehavior = true ;
 
 
-        this.report.append( String.format( "%n%s%n%n", studentWorkMethodSignature ) ) ;
-
         final MethodKey studentWorkMethodKey
                 = this.result.methodKeys.get( TO_EVALUATE ).get( studentWorkMethodSignature ) ;
         MethodInfo studentWorkMethodInfo = null ;
@@ -396,35 +560,42 @@ public final class CodeStructureAnalyzer extends SharedState
 
             }
 
-        if ( requirements == null )
+        // what was checked - the report is rendered from these on demand
+        final List<Requirement> requirements = methodPlan == null
+                ? null
+                : new ArrayList<>( methodPlan.requirements().size() ) ;
+        final List<ComplianceStatus> compliance = new LinkedList<>() ;
+
+        if ( methodPlan == null )
             {
             /*
              * method was added
              */
             
-            this.report.append( String.format( "[no implementation compliance rules available]%n" ) ) ;
-
             // DMR TODO make sure state is properly set/updated
             
             }
         else
             {
 
-            for ( final Requirement requirement : requirements )
+            // one traversal of the method answers all of its call site requirements
+            final CallSiteIndex callSites = methodPlan.needsCallSites() && ( studentMethod != null )
+                    ? CallSiteIndex.of( studentMethod )
+                    : null ;
+
+            this.result.requirementCompliance.put( studentWorkMethodSignature, compliance ) ;
+
+            for ( final CompiledRequirement compiledRequirement : methodPlan.requirements() )
                 {
+                final Requirement requirement = compiledRequirement.requirement() ;
+                requirements.add( requirement ) ;
                 testCount++ ;
 
                 correctBehavior = switch ( requirement.behavior.action )
                     {
-                    case CALL -> checkActionCall( requirement,
-                                                  studentWorkMethodKey,
-                                                  studentWorkMethodInfo,
-                                                  studentMethod ) ;
+                    case CALL -> checkActionCall( compiledRequirement, callSites ) ;
 
-                    case INSTANTIATE -> checkActionInstantiate( requirement,
-                                                                studentWorkMethodKey,
-                                                                studentWorkMethodInfo,
-                                                                studentMethod ) ;
+                    case INSTANTIATE -> checkActionInstantiate( compiledRequirement, callSites ) ;
 
                     case SET_VALUE -> checkActionSetValue( requirement,
                                                            studentWorkMethodKey,
@@ -498,15 +669,20 @@ public final class CodeStructureAnalyzer extends SharedState
                 if ( correctBehavior )
                     {
                     testsPassed++ ;
-
-                    requirement.complianceStatus = PASSED ;
                     }
-                else
+
+                // the requirement may be shared with other analyses - its compliance is ours alone
+                final ComplianceStatus status = correctBehavior
+                        ? PASSED
+                        : FAILED ;
+                compliance.add( status ) ;
+
+                // our own requirements keep reporting their latest compliance as they always have
+                if ( this.ownsRequirements )
                     {
-                    requirement.complianceStatus = FAILED ;
+                    requirement.setCompliance( status ) ;
                     }
 
-                logComplianceCheck( this.report, format, requirement.toString(), correctBehavior ) ;
                 }   // end for
             }   // end if/else
 
@@ -538,47 +714,60 @@ public final class CodeStructureAnalyzer extends SharedState
 
             }
 
-        this.report.append( String.format( "%nPassed %,d of %,d check%s%n",
-                                           testsPassed,
-                                           testCount,
-                                           testCount == 1
-                                                   ? ""
-                                                   : "s" ) ) ;
-
         this.result.testCount += testCount ;
         this.result.testsPassed += testsPassed ;
 
-
-        // if the method didn't pass all compliance tests, include the original method code in the report
-        if ( ( studentWorkMethodInfo != null ) && ( studentWorkMethodInfo.getCompliance() == FAILED ) )
-            {
-
-            final String studentImplementation = getOriginalMethodSource( this.result,
-                                                                          studentWorkMethodKey,
-                                                                          TO_EVALUATE ) ;
-            this.report.append( String.format( "%s%n",
-                                               studentImplementation ) ) ;/* IN_PROCESS DMR DEBUG */
-
-            }
-
-        
-        this.report.append( String.format( "%n%s%n", "-".repeat( 5 ) ) ) ;
+        this.result.methodAssessments.add( new MethodAssessment( studentWorkMethodSignature,
+                                                                 studentWorkMethodKey,
+                                                                 requirements,
+                                                                 compliance,
+                                                                 format,
+                                                                 this.requirementFormat ) ) ;
 
         }   // end assessMethodImplementation()
 
 
-    @SuppressWarnings( { "static-method", "unused" } )
+    @SuppressWarnings( "unused" )
     public boolean checkActionCall( final Requirement requirement,
                                     final MethodKey methodKey,
                                     final MethodInfo methodInfo,
                                     final CallableDeclaration<?> studentMethod )
         {
 
+        // a deleted method has no call sites
+        return checkActionCall( compiled( requirement ),
+                                studentMethod == null
+                                        ? null
+                                        : CallSiteIndex.of( studentMethod ) ) ;
+
+        }   // end checkActionCall()
+
+
+    /*
+     * compile a requirement passed to a public check once for this analysis
+     */
+    private CompiledRequirement compiled( final Requirement requirement )
+        {
+
+        return this.compiledRequirements.computeIfAbsent( Objects.requireNonNull( requirement, "requirement" ),
+                                                          RequirementPlan::compile ) ;
+
+        }   // end compiled()
+
+
+    /*
+     * callSites is null if the method was deleted - it can't call anything
+     */
+    private static boolean checkActionCall( final CompiledRequirement compiledRequirement,
+                                            final CallSiteIndex callSites )
+        {
+
+        final Requirement requirement = compiledRequirement.requirement() ;
         final Behavior behavior = requirement.behavior ;
         final RequirementType requirementType = behavior.requirementType ;
         final Action action = behavior.action ;
         final TargetType targetType = requirement.targetType ;
-        final String target = requirement.target ;
+        final String target = compiledRequirement.normalizedTarget() ;
 
         if ( action != CALL )
             {
@@ -589,10 +778,8 @@ public final class CodeStructureAnalyzer extends SharedState
         final boolean callsTheTarget = switch ( targetType )
             {
 
-            case METHOD -> callsMethodWithSignature( studentMethod,
-                                                     target ) ;
-            case CONSTRUCTOR -> callsConstructorWithSignature( studentMethod,
-                                                               target ) ;
+            case METHOD -> ( callSites != null ) && ( callSites.methodCallsWithSignature( target ) >= 1 ) ;
+            case CONSTRUCTOR -> ( callSites != null ) && callSites.chainsTo( target ) ;
             default -> throw new ComplianceException( String.format( "unexpected targetType: %s",
                                                                      targetType.getClass()
                                                                                .getSimpleName() ) ) ;
@@ -616,21 +803,37 @@ public final class CodeStructureAnalyzer extends SharedState
                                                                                     .getSimpleName() ) ) ;
             } ;
 
-        }   // end checkActionCall()
+        }   // end checkActionCall() with a compiled requirement
 
 
-    @SuppressWarnings( { "static-method", "unused" } )
+    @SuppressWarnings( "unused" )
     public boolean checkActionInstantiate( final Requirement requirement,
                                            final MethodKey methodKey,
                                            final MethodInfo methodInfo,
                                            final CallableDeclaration<?> studentMethod )
         {
 
+        // a deleted method has no call sites
+        return checkActionInstantiate( compiled( requirement ),
+                                       studentMethod == null
+                                               ? null
+                                               : CallSiteIndex.of( studentMethod ) ) ;
+
+        }   // end checkActionInstantiate()
+
+
+    /*
+     * callSites is null if the method was deleted - it can't instantiate anything
+     */
+    private static boolean checkActionInstantiate( final CompiledRequirement compiledRequirement,
+                                                   final CallSiteIndex callSites )
+        {
+
+        final Requirement requirement = compiledRequirement.requirement() ;
         final Behavior behavior = requirement.behavior ;
         final RequirementType requirementType = behavior.requirementType ;
         final Action action = behavior.action ;
-        final TargetType targetType = requirement.targetType ;
-        final String target = requirement.target ;  // the specific constructor signature
+        final String target = compiledRequirement.normalizedTarget() ;  // the specific constructor signature
 
         if ( action != INSTANTIATE )
             {
@@ -638,8 +841,7 @@ public final class CodeStructureAnalyzer extends SharedState
                                                             action ) ) ;
             }
 
-/* IN_PROCESS */
-        final boolean callsTheTarget = instantiatesClassWithSignature( studentMethod, target ) ;
+        final boolean callsTheTarget = ( callSites != null ) && ( callSites.instantiationsWithSignature( target ) >= 1 ) ;
 
         // match the actual behavior with the specified behavior
         return switch ( requirementType )
@@ -657,7 +859,7 @@ public final class CodeStructureAnalyzer extends SharedState
                                                                                     .getSimpleName() ) ) ;
             } ;
 
-        }   // end checkActionInstantiate()
+        }   // end checkActionInstantiate() with a compiled requirement
 
 
     @SuppressWarnings( { "static-method", "unused" } )
@@ -1109,10 +1311,25 @@ public final class CodeStructureAnalyzer extends SharedState
 //                                           """, this.result.sourceCodePaths.get( STARTER ),
 //                                           this.result.sourceCodePaths.get( TO_EVALUATE ) ) ) ;/* DEBUG IN_PROCESS DMR */
 
-        this.result.sourceCode.put( STARTER, Files.readAllLines( this.starterCodePath ) ) ;
+        // the starter code is the same for every student - parsed once and shared
+        this.starterCode = StarterCode.of( this.starterCodePath ) ;
+
+        this.result.sourceCode.put( STARTER, this.starterCode.sourceLines() ) ;
+        this.result.methods.put( STARTER, this.starterCode.methods() ) ;
+        this.result.methodKeys.put( STARTER, this.starterCode.methodKeys() ) ;
+
+        for ( final String starterMethodSignature : this.starterCode.methodKeys().keySet() )
+            {
+
+            if ( ! this.studentWorkMethodSignatures.contains( starterMethodSignature ) )
+                {
+                this.studentWorkMethodSignatures.add( starterMethodSignature ) ;
+                }
+
+            }
+
         this.result.sourceCode.put( TO_EVALUATE, Files.readAllLines( this.studentCodePath ) ) ;
 
-        collectMethods( this.starterCodePath, STARTER ) ;
         collectMethods( this.studentCodePath, TO_EVALUATE ) ;
 
         }   // end collectCode()
@@ -1133,13 +1350,45 @@ public final class CodeStructureAnalyzer extends SharedState
                                                       final CodeSourceCategory codeSourceCategory ) throws Exception
         {
 
-        final CompilationUnit compilationUnit = StaticJavaParser.parse( javaFilePath ) ;
+        final CompilationUnit compilationUnit = parse( javaFilePath ) ;
 
         return collectMethods( compilationUnit, codeSourceCategory ) ;
 
         }   // end collectMethods()
 
 
+    /**
+     * parse a source file with this analysis' parser
+     *
+     * @param javaFilePath
+     *     path to the source code
+     *
+     * @return the AST with symbol resolution configured
+     *
+     * @throws Exception
+     *     from the file system or JavaParser - {@link ParseProblemException} if the code doesn't parse
+     */
+    private CompilationUnit parse( final Path javaFilePath ) throws Exception
+        {
+
+        if ( this.parser == null )
+            {
+            configureParser( Configuration.parserConfiguration( SharedTypeSolvers.sharedLayer(),
+                                                                this.studentCodePath ) ) ;
+            }
+
+        final ParseResult<CompilationUnit> parsed = this.parser.parse( javaFilePath ) ;
+
+        if ( ! parsed.isSuccessful() || parsed.getResult().isEmpty() )
+            {
+            throw new ParseProblemException( parsed.getProblems() ) ;
+            }
+
+        return parsed.getResult().get() ;
+
+        }   // end parse()
+
+
     /**
      * retrieve all methods from specified source code
      *
@@ -1166,22 +1415,7 @@ public final class CodeStructureAnalyzer extends SharedState
 
         compilationUnit.findAll( CallableDeclaration.class ).forEach( callableDeclaration ->
             {
-            final MethodInfo methodInfo ;
-
-            if ( callableDeclaration instanceof final MethodDeclaration methodDeclaration )
-                {
-                methodInfo = MethodInfo.fromMethod( sourceClassName, methodDeclaration ) ;
-                }
-            else if ( callableDeclaration instanceof final ConstructorDeclaration constructorDeclaration )
-                {
-                methodInfo = MethodInfo.fromConstructor( sourceClassName, constructorDeclaration ) ;
-                }
-            else
-                {
-                throw new IllegalStateException( String.format( "unexpected CallableDeclaration of type %s",
-                                                                callableDeclaration.getClass()
-                                                                                   .getSimpleName() ) ) ;
-                }
+            final MethodInfo methodInfo = MethodInfo.from( sourceClassName, callableDeclaration ) ;
 
             final MethodKey methodKey = MethodKey.from( methodInfo ) ;
             methods.put( methodKey, methodInfo ) ;
@@ -1216,7 +1450,6 @@ public final class CodeStructureAnalyzer extends SharedState
             {
             final MethodKey methodKey = entry.getKey() ;
             final MethodInfo starterMethodInfo = entry.getValue() ;
-            final CallableDeclaration<?> starterMethod = starterMethodInfo.getCallableDeclaration() ;
             final MethodInfo studentMethodInfo = this.result.methods.get( TO_EVALUATE ).get( methodKey ) ;
 
             if ( studentMethodInfo == null )
@@ -1225,12 +1458,7 @@ public final class CodeStructureAnalyzer extends SharedState
                 }
             else
                 {
-                final CallableDeclaration<?> studentMethod = studentMethodInfo.getCallableDeclaration() ;
-
-                final String starterMethodBody = MethodNormalizer.normalizedBody( starterMethod ) ;
-                final String studentMethodBody = MethodNormalizer.normalizedBody( studentMethod ) ;
-
-                if ( ! starterMethodBody.equals( studentMethodBody ) )
+                if ( ! MethodNormalizer.sameBody( starterMethodInfo, studentMethodInfo ) )
                     {
                     methodsModified.add( methodKey ) ;
                     }
@@ -1287,6 +1515,8 @@ public final class CodeStructureAnalyzer extends SharedState
     /**
      * log a category of methods
      *
+     * @param report
+     *     where to list the methods
      * @param methodsToLog
      *     the list of zero or more methods
      * @param actionCategory
@@ -1295,24 +1525,25 @@ public final class CodeStructureAnalyzer extends SharedState
      * @return whether any methods had optional actions
      */
     @SuppressWarnings( "unused" )
-    private boolean reportSummaryListOfMethods( final List<MethodKey> methodsToLog,
+    private boolean reportSummaryListOfMethods( final StringBuilder report,
+                                                final List<MethodKey> methodsToLog,
                                                 final String actionCategory )
         {
         
         boolean sawOptionalActions = false ;
 
-        this.report.append( String.format( "%n%s:%n%n", actionCategory ) ) ;
+        report.append( String.format( "%n%s:%n%n", actionCategory ) ) ;
 
         if ( methodsToLog.size() == 0 )
             {
-            this.report.append( String.format( "  none%n" ) ) ;
+            report.append( String.format( "  none%n" ) ) ;
             }
         else
             {
             
             for ( final MethodKey key : methodsToLog )
                 {
-                List<Requirement> requirements = this.requirementsForEachMethod.get( key.toString() ) ;
+                List<Requirement> requirements = requirementPlan().requirements().get( key.toString() ) ;
                 
                 if ( requirements == null )
                     {
@@ -1322,7 +1553,7 @@ public final class CodeStructureAnalyzer extends SharedState
                     // DMR TODO test adding method in rules that isn't in the starter code
                     
                     // log it
-                    this.report.append( String.format( "  %s%n", key ) ) ;
+                    report.append( String.format( "  %s%n", key ) ) ;
                     
                     
                     // DMR TODO make sure appropriate state is set
@@ -1358,7 +1589,7 @@ public final class CodeStructureAnalyzer extends SharedState
                     qualifier = "* " ;
                     }
                 
-                this.report.append( String.format( "%s%s%n", qualifier, key ) ) ;
+                report.append( String.format( "%s%s%n", qualifier, key ) ) ;
                 }
 
             }
@@ -1385,10 +1616,15 @@ public final class CodeStructureAnalyzer extends SharedState
          * for each method for which there are rules/requirements, add their key to the list which best
          * describes our expectations
          */
-        for ( final Entry<String, List<Requirement>> requirements : this.requirementsForEachMethod.entrySet() )
+        // keys match the starter code's - not whichever assignment SharedState names
+        final String starterClassName = this.starterCode == null
+                ? SharedState.className
+                : this.starterCode.compilationUnit().getPrimaryTypeName().orElse( SharedState.className ) ;
+
+        for ( final Entry<String, List<Requirement>> requirements : requirementPlan().requirements().entrySet() )
             {
             
-            final MethodKey psuedoMethodKey = MethodKey.from( requirements.getKey() ) ;
+            final MethodKey psuedoMethodKey = MethodKey.from( starterClassName, requirements.getKey() ) ;
             
             // default is to leave the method/constructor as-is
             Action action = LEAVE_AS_IS ;
@@ -1463,7 +1699,10 @@ public final class CodeStructureAnalyzer extends SharedState
      * @param format
      * @param description
      * @param isCorrect
+     *
+     * @deprecated {@link Result#report()} renders each check's compliance
      */
+    @Deprecated( since = "3.11", forRemoval = true )
     public static void logComplianceCheck( final StringBuilder report,
                                            final String format,
                                            final String description,
@@ -1472,9 +1711,7 @@ public final class CodeStructureAnalyzer extends SharedState
 
         report.append( String.format( format,
                                       description,
-                                      isCorrect
-                                              ? "✓ compliant"
-                                              : "✗ non-compliant" ) ) ;
+                                      Result.complianceMark( isCorrect ) ) ) ;
 
         }   // end logCompliance()
 
@@ -1580,7 +1817,8 @@ public final class CodeStructureAnalyzer extends SharedState
 
 
     /**
-     * sets or updates the requirements for a method
+     * sets or updates the requirements for a method - replaces any plan supplied to
+     * {@link #usePlan(RequirementPlan)}
      *
      * @param methodSignature
      *     identifies the specific method, including overridden methods
@@ -1606,6 +1844,9 @@ public final class CodeStructureAnalyzer extends SharedState
         requirements.addAll( Arrays.asList( newRequirements ) ) ;
         this.requirementsForEachMethod.put( methodSignature, requirements ) ;
 
+        // recompile when next needed
+        this.requirementPlan = null ;
+
         }   // end setMethodRequirements()
 
 
@@ -1626,6 +1867,9 @@ public final class CodeStructureAnalyzer extends SharedState
         final List<Requirement> requirements = new LinkedList<>() ;
         this.requirementsForEachMethod.put( methodSignature, requirements ) ;
 
+        // recompile when next needed
+        this.requirementPlan = null ;
+
         }   // end setMethodNoRequirements()
 
 
@@ -1646,7 +1890,7 @@ public final class CodeStructureAnalyzer extends SharedState
         text.append( String.format( "result:%n%s%n",
                                     this.result.toString().indent( 2 ) ) ) ;
         text.append( String.format( "report:%n%s%n",
-                                    this.report.toString().indent( 2 ) ) ) ;
+                                    this.result.report().indent( 2 ) ) ) ;
 
         text.append( String.format( "%nstudentWorkMethodSignatures:%n" ) ) ;
 
@@ -1660,7 +1904,7 @@ public final class CodeStructureAnalyzer extends SharedState
         text.append( String.format( "%nrequirementsForEachMethod:%n" ) ) ;
 
         for ( final Entry<String,
-                          List<Requirement>> requirements : this.requirementsForEachMethod.entrySet() )
+                          List<Requirement>> requirements : requirementPlan().requirements().entrySet() )
             {
 
             text.append( requirements.getKey().indent( 2 ) ) ;
@@ -23,12 +23,13 @@ package education.the_software_toolsmith.analyzer.framework.static_analysis.stru
 
 import com.github.javaparser.ParserConfiguration ;
 import com.github.javaparser.StaticJavaParser ;
+import com.github.javaparser.resolution.TypeSolver ;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver ;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver ;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver ;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver ;
 
+import java.nio.file.Files ;
 import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.List ;
 import java.util.Objects ;
 
 
@@ -39,6 +40,10 @@ import java.util.Objects ;
  *
  * @version 1.0 2025-12-15 Initial implementation based on code from ChatGPT 5.2
  * @version 1.1 2026-04-19 TEMP enhancement to determine project source code given the class under test
+ * @version 1.2 2026-10-16 layer each student's sources over a shared, cached solver for the JDK and starter
+ *     code - see {@link SharedTypeSolvers}
+ * @version 1.3 2026-10-16 build parser configurations without touching {@code StaticJavaParser} so each
+ *     analysis can own its parser
  */
 public class Configuration
     {
@@ -49,7 +54,7 @@ public class Configuration
 
 
     /**
-     * configure the JavaParser ecosystem
+     * configure the JavaParser ecosystem to resolve the JDK and one student's sources
      *
      * @param sourceRoot
      *     if provided, JavaParser will be configured; if an empty array then only for the JDK; if a non-empty
@@ -57,39 +62,112 @@ public class Configuration
      */
     public static void configureSolver( final Path... sourceRoot )
         {
-        
+
+        configureSolver( SharedTypeSolvers.sharedLayer(), sourceRoot ) ;
+
+        }   // end configureSolver()
+
+
+    /**
+     * configure the JavaParser ecosystem to resolve one student's sources over a shared layer
+     * <p>
+     * This replaces {@code StaticJavaParser}'s global configuration - prefer
+     * {@link #parserConfiguration(TypeSolver, Path...)} with a parser per analysis when analyses may run
+     * concurrently.
+     *
+     * @param sharedLayer
+     *     resolves the JDK and the code shared by all students - from {@link #sharedTypeSolver(Path...)}
+     * @param sourceRoot
+     *     one or more base source paths for JavaParser to use to locate the student's components
+     */
+    public static void configureSolver( final TypeSolver sharedLayer,
+                                        final Path... sourceRoot )
+        {
+
+        StaticJavaParser.setConfiguration( parserConfiguration( sharedLayer, sourceRoot ) ) ;
+
+        }   // end configureSolver()
+
+
+    /**
+     * build a parser configuration to resolve one student's sources over a shared layer - nothing global is
+     * modified
+     *
+     * @param sharedLayer
+     *     resolves the JDK and the code shared by all students - from {@link #sharedTypeSolver(Path...)}
+     * @param sourceRoot
+     *     one or more base source paths for JavaParser to use to locate the student's components
+     *
+     * @return a new configuration with its own symbol resolver
+     */
+    public static ParserConfiguration parserConfiguration( final TypeSolver sharedLayer,
+                                                           final Path... sourceRoot )
+        {
+
+        Objects.requireNonNull( sharedLayer, "sharedLayer" ) ;
         Objects.requireNonNull( sourceRoot, "sourceRoot" ) ;
-        
+
         final ParserConfiguration config
                 = new ParserConfiguration().setLanguageLevel( ParserConfiguration.LanguageLevel.JAVA_21 ) ;
 
-        final CombinedTypeSolver solver = new CombinedTypeSolver() ;
-
-        // JDK
-        solver.add( new ReflectionTypeSolver() ) ;
-
         // project sources(s)
+        final List<Path> studentRoots = new ArrayList<>() ;
+
         for ( final Path path : sourceRoot )
             {
-            solver.add( new JavaParserTypeSolver( /* path */ path.toFile().isDirectory()
+            studentRoots.add( Files.isDirectory( path )
                     ? path
-                    : path.getParent() ) ) ;
-            
-            solver.add( new JavaParserTypeSolver( findMavenJavaRoot( path ) ) ) ;/* IN_PROCESS should also add src? */
+                    : path.getParent() ) ;
+
+            final Path mavenJavaRoot = findMavenJavaRoot( path ) ;
+
+            if ( mavenJavaRoot != null )
+                {
+                studentRoots.add( mavenJavaRoot ) ;/* IN_PROCESS should also add src? */
+                }
+
             }
 
-//        Path srcPath = Path.of( "./src" ) ;
-//        Path srcMainJavaPath = Path.of( "./src/main/java" ) ;
-        
-        // let the symbol resolver know about all code in this project
-//        solver.add( new JavaParserTypeSolver( srcPath ) );
-//        solver.add( new JavaParserTypeSolver( srcMainJavaPath ) );
+        return config.setSymbolResolver( new JavaSymbolSolver( SharedTypeSolvers.studentOverlay( sharedLayer,
+                                                                                                 studentRoots ) ) ) ;
 
-        config.setSymbolResolver( new JavaSymbolSolver( solver ) ) ;
+        }   // end parserConfiguration()
 
-        StaticJavaParser.setConfiguration( config ) ;
 
-        }   // end configureSolver()
+    /**
+     * retrieve the shared solver layer for the JDK and the starter code's project
+     *
+     * @param starterCode
+     *     source files or folders in the starter project(s) - each contributes its Maven source root, or its
+     *     folder if it's not in a Maven project
+     *
+     * @return the shared layer - built and cached on first use
+     */
+    public static TypeSolver sharedTypeSolver( final Path... starterCode )
+        {
+
+        final Path[] sharedRoots = new Path[ starterCode.length ] ;
+
+        for ( int i = 0 ; i < starterCode.length ; i++ )
+            {
+            final Path mavenJavaRoot = findMavenJavaRoot( starterCode[ i ] ) ;
+
+            if ( mavenJavaRoot != null )
+                {
+                sharedRoots[ i ] = mavenJavaRoot ;
+                }
+            else
+                {
+                sharedRoots[ i ] = Files.isDirectory( starterCode[ i ] )
+                        ? starterCode[ i ]
+                        : starterCode[ i ].getParent() ;
+                }
+
+            }
+
+        return SharedTypeSolvers.sharedLayer( sharedRoots ) ;
+
+        }   // end sharedTypeSolver()
     
     
     /* IN_PROCESS add Javadoc; DMR TODO move to file utilities */
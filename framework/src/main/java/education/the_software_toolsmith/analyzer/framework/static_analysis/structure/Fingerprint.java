@@ -0,0 +1,52 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+
+/**
+ * 128-bit structural hash of a method or constructor body - see
+ * {@link MethodNormalizer#fingerprint(com.github.javaparser.ast.body.CallableDeclaration)}
+ * <p>
+ * Bodies which differ only in comments or formatting have the same fingerprint. Different fingerprints
+ * always mean different bodies; equal fingerprints almost certainly mean equal bodies.
+ *
+ * @param high
+ *     the high-order 64 bits
+ * @param low
+ *     the low-order 64 bits
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public record Fingerprint( long high,
+                           long low )
+    {
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%016x%016x", this.high, this.low ) ;
+
+        }   // end toString()
+
+    }   // end record Fingerprint
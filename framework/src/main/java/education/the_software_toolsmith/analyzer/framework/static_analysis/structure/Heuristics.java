@@ -21,12 +21,6 @@
 package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
 
 import com.github.javaparser.ast.body.CallableDeclaration ;
-import com.github.javaparser.ast.expr.MethodCallExpr ;
-import com.github.javaparser.ast.expr.ObjectCreationExpr ;
-import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt ;
-import com.github.javaparser.resolution.UnsolvedSymbolException ;
-import com.github.javaparser.resolution.declarations.ResolvedConstructorDeclaration ;
-import com.github.javaparser.resolution.declarations.ResolvedMethodDeclaration ;
 
 import java.util.ArrayList ;
 import java.util.List ;
@@ -52,6 +46,8 @@ import java.util.Objects ;
  * @version 1.6 2025-12-25 add support for constructor chaining
  * @version 1.7 2025-12-26 add support for instantiation
  * @version 1.8 2026-04-19 enhance method signature comparisons to improve reliability
+ * @version 1.9 2026-10-16 answer queries from a {@link CallSiteIndex} built once per method rather than
+ *     walking and resolving the method for each query
  */
 public class Heuristics
     {
@@ -73,43 +69,7 @@ public class Heuristics
         Objects.requireNonNull( callableDeclaration, "callableDeclaration" ) ;
         Objects.requireNonNull( constructorSignature, "constructorSignature" ) ;
 
-        final List<ExplicitConstructorInvocationStmt> explicitConstructorInvocationStatements
-                = callableDeclaration.findAll( ExplicitConstructorInvocationStmt.class ) ;
-
-        if ( explicitConstructorInvocationStatements.size() > 1 )
-            {
-            // can't have more than one chained constructor call
-            throw new IllegalStateException( String.format( "multiple (%,d) chained constructor calls from %s to %s",
-                                                            callableDeclaration.getSignature().toString(),
-                                                            explicitConstructorInvocationStatements ) ) ;
-            }
-
-        if ( explicitConstructorInvocationStatements.size() == 0 )
-            {
-            // not found
-            return false ;
-            }
-
-        // assertion: there is one chained constructor invocation
-
-        try
-            {
-            final ResolvedConstructorDeclaration resolvedConstructorDeclaration
-                    = explicitConstructorInvocationStatements.getFirst().resolve() ;
-
-            if ( normalize( constructorSignature ).equals( normalize( resolvedConstructorDeclaration.getSignature() ) ) )
-                {
-                // found a match
-                return true ;
-                }
-
-            }
-        catch ( UnsolvedSymbolException
-                | UnsupportedOperationException e )
-            {}  // fall through - not a match
-
-        // not a match
-        return false ;
+        return CallSiteIndex.of( callableDeclaration ).chainsTo( normalize( constructorSignature ) ) ;
 
         }   // end callsConstructorWithSignature()
 
@@ -148,42 +108,11 @@ public class Heuristics
                                                     final String methodSignature )
         {
 
-//        // the number of methods is likely to be small so checking the number of matches is acceptable
-//        return timesMethodWithSignatureCalled( callableDeclaration, methodSignature ) >= 1 ;
-
         Objects.requireNonNull( callableDeclaration, "callableDeclaration" ) ;
         Objects.requireNonNull( methodSignature, "methodSignature" ) ;
 
-        final List<MethodCallExpr> methodCallExpressions
-                = callableDeclaration.findAll( MethodCallExpr.class ) ;
-
-        final String normalizedMethodSignature = normalize( methodSignature ) ;
-        
-        
-        // check each method invocation to see if it's a match with the target method
-        for ( final MethodCallExpr methodCallExpression : methodCallExpressions )
-            {
-
-            try
-                {
-
-                if ( normalizedMethodSignature.equals( normalize( methodCallExpression.resolve().getSignature() ) ) )
-                    {
-
-                    // found a match
-                    return true ;
-
-                    }
-
-                }
-            catch ( UnsolvedSymbolException
-                    | UnsupportedOperationException e )
-                {}  // fall through - not a match
-
-            }
-
-        // no matches
-        return false ;
+        return CallSiteIndex.of( callableDeclaration )
+                            .methodCallsWithSignature( normalize( methodSignature ) ) >= 1 ;
 
         }   // end callsMethodWithSignature()
 
@@ -205,9 +134,7 @@ public class Heuristics
         Objects.requireNonNull( callableDeclaration, "callableDeclaration" ) ;
         Objects.requireNonNull( methodName, "methodName" ) ;
 
-        return callableDeclaration.findAll( MethodCallExpr.class,
-                                            methodCallExpression -> methodName.equals( methodCallExpression.getNameAsString() ) )
-                                  .size() ;
+        return CallSiteIndex.of( callableDeclaration ).methodCallsNamed( methodName ) ;
 
         }   // end timesMethodNamedCalled()
 
@@ -229,32 +156,8 @@ public class Heuristics
         Objects.requireNonNull( callableDeclaration, "callableDeclaration" ) ;
         Objects.requireNonNull( methodSignature, "methodSignature" ) ;
 
-        final String expectedMethodSignature = normalize( methodSignature ) ;
-
-        return callableDeclaration.findAll( MethodCallExpr.class, methodCallExpression ->
-            {
-            ResolvedMethodDeclaration resolvedMethodCallExpression = null ;
-            String actualMethodSignature = null ;
-
-            try
-                {
-                resolvedMethodCallExpression = methodCallExpression.resolve() ;
-
-                // Typically "add(T[])" / "add(Object[])" etc.
-                actualMethodSignature = normalize( resolvedMethodCallExpression.getSignature() ) ;
-
-                final boolean matches = expectedMethodSignature.equals( actualMethodSignature ) ;
-
-                return matches ;
-                }
-            catch ( UnsolvedSymbolException
-                    | UnsupportedOperationException e )
-                {
-                // resolution failed for this call; treat as not a match
-                return false ;
-                }
-
-            } ).size() ;
+        return CallSiteIndex.of( callableDeclaration )
+                            .methodCallsWithSignature( normalize( methodSignature ) ) ;
 
         }   // end timesMethodWithSignatureCalled()
     
@@ -297,31 +200,8 @@ public class Heuristics
         Objects.requireNonNull( callableDeclaration, "callableDeclaration" ) ;
         Objects.requireNonNull( constructorSignature, "constructorSignature" ) ;
 
-        final String expectedMethodSignature = normalize( constructorSignature ) ;
-
-        return callableDeclaration.findAll( ObjectCreationExpr.class, objectCreationExpression ->
-            {
-            ResolvedConstructorDeclaration resolvedConstructorDeclaration = null ;
-            String actualConstructorSignature = null ;
-
-            try
-                {
-                resolvedConstructorDeclaration = objectCreationExpression.resolve() ;
-
-                actualConstructorSignature = normalize( resolvedConstructorDeclaration.getSignature() ) ;
-
-                final boolean matches = expectedMethodSignature.equals( actualConstructorSignature ) ;
-
-                return matches ;
-                }
-            catch ( UnsolvedSymbolException
-                    | UnsupportedOperationException e )
-                {
-                // resolution failed for this call; treat as not a match
-                return false ;
-                }
-
-            } ).size() ;
+        return CallSiteIndex.of( callableDeclaration )
+                            .instantiationsWithSignature( normalize( constructorSignature ) ) ;
 
         }   // end timesObjectInstantiatedWithSignatureCalled()
 
@@ -404,7 +284,7 @@ public class Heuristics
      *
      * @return normalized form of the method signature
      */
-    private static String normalize( final String methodSignature )
+    static String normalize( final String methodSignature )
         {
 
         if ( methodSignature == null )
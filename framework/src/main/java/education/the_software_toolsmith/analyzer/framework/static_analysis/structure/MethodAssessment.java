@@ -0,0 +1,114 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus ;
+
+import static education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus.PASSED ;
+
+import java.util.List ;
+
+
+/**
+ * the outcome of checking one method against its requirements - kept so the {@link Result}'s report can be
+ * rendered on demand
+ *
+ * @param signature
+ *     the method's signature in the student's code
+ * @param methodKey
+ *     the method in the student's code - {@code null} if it was deleted
+ * @param requirements
+ *     the requirements checked in order - {@code null} if there are no rules for the method
+ * @param compliance
+ *     each requirement's compliance in the same order
+ * @param complianceFormat
+ *     format specification for a requirement's description and its compliance
+ * @param requirementFormat
+ *     how requirements are described
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public record MethodAssessment( String signature,
+                                MethodKey methodKey,
+                                List<Requirement> requirements,
+                                List<ComplianceStatus> compliance,
+                                String complianceFormat,
+                                RequirementFormat requirementFormat )
+    {
+
+    /**
+     * @return {@code true} if there are rules for the method
+     */
+    public boolean hasRules()
+        {
+
+        return this.requirements != null ;
+
+        }   // end hasRules()
+
+
+    /**
+     * @return the number of requirements checked
+     */
+    public int checkCount()
+        {
+
+        return this.compliance.size() ;
+
+        }   // end checkCount()
+
+
+    /**
+     * @return the number of requirements the method complies with
+     */
+    public int checksPassed()
+        {
+
+        int passed = 0 ;
+
+        for ( final ComplianceStatus status : this.compliance )
+            {
+
+            if ( status == PASSED )
+                {
+                passed++ ;
+                }
+
+            }
+
+        return passed ;
+
+        }   // end checksPassed()
+
+
+    /**
+     * @return {@code true} if the method complies with all of its requirements
+     */
+    public boolean isCompliant()
+        {
+
+        return checksPassed() == checkCount() ;
+
+        }   // end isCompliant()
+
+    }   // end record MethodAssessment
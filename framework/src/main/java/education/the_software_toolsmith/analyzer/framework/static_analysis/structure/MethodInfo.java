@@ -37,6 +37,8 @@ import java.util.List ;
  *
  * @version 1.0 2025-12-07 Initial implementation based on code provided by ChatGPT 5.1
  * @version 1.1 2026-04-19 tweak text from {@code toString()}
+ * @version 1.2 2026-10-16 add {@code from()} to handle either kind of callable
+ * @version 1.3 2026-10-16 cache the body's {@link Fingerprint}
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class MethodInfo
@@ -53,6 +55,9 @@ public final class MethodInfo
 
     private ComplianceStatus isCompliant ;
 
+    /** computed on first use */
+    private volatile Fingerprint bodyFingerprint ;
+
 
     /**
      * set initial state to represent a method or constructor
@@ -112,6 +117,26 @@ public final class MethodInfo
         }   // end getBody()
 
 
+    /**
+     * @return the structural fingerprint of the body - computed on first use
+     */
+    public Fingerprint getBodyFingerprint()
+        {
+
+        Fingerprint fingerprint = this.bodyFingerprint ;
+
+        if ( fingerprint == null )
+            {
+            // benign race - every thread computes the same value
+            fingerprint = MethodNormalizer.fingerprint( this.callableDeclaration ) ;
+            this.bodyFingerprint = fingerprint ;
+            }
+
+        return fingerprint ;
+
+        }   // end getBodyFingerprint()
+
+
     /**
      * @return the methodOrConstructorDeclaration
      */
@@ -254,6 +279,39 @@ public final class MethodInfo
         }   // end toString()
 
 
+    /**
+     * build the definition of a method or constructor
+     *
+     * @param className
+     *     the declaring class - may be {@code null}
+     * @param callableDeclaration
+     *     the method or constructor
+     *
+     * @return the definition
+     *
+     * @throws IllegalStateException
+     *     if the callable is neither a method nor a constructor
+     */
+    public static MethodInfo from( final String className,
+                                   final CallableDeclaration<?> callableDeclaration )
+        {
+
+        if ( callableDeclaration instanceof final MethodDeclaration methodDeclaration )
+            {
+            return fromMethod( className, methodDeclaration ) ;
+            }
+
+        if ( callableDeclaration instanceof final ConstructorDeclaration constructorDeclaration )
+            {
+            return fromConstructor( className, constructorDeclaration ) ;
+            }
+
+        throw new IllegalStateException( String.format( "unexpected CallableDeclaration of type %s",
+                                                        callableDeclaration.getClass().getSimpleName() ) ) ;
+
+        }   // end from()
+
+
     /**
      * PLACEHOLDER
      *
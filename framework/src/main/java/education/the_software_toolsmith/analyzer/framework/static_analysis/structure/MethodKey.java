@@ -33,6 +33,7 @@ import java.util.Objects ;
  *
  * @version 1.0 2025-12-14 Initial implementation
  * @version 1.0.1 2025-12-27 add placeholder Javadoc comments
+ * @version 1.1 2026-10-16 fabricated keys may name their class rather than use {@code SharedState}'s
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public class MethodKey extends SharedState
@@ -80,13 +81,15 @@ public class MethodKey extends SharedState
      * 
      * set initial state to valid PLACEHOLDER
      *
+     * @param className
      * @param method
      */
-    private MethodKey ( final String method )
+    private MethodKey ( final String className,
+                        final String method )
         {
         
         this.methodOrConstructorInfo = null ;
-        this.baseClassName = SharedState.className ;
+        this.baseClassName = className ;
         this.resolvedClassName = this.baseClassName ;
         this.isConstructor = false ;
         this.methodSignature = method ;
@@ -214,11 +217,30 @@ public class MethodKey extends SharedState
     public static MethodKey from( final String methodName )
         {
 
-        return new MethodKey( methodName ) ;
+        return from( SharedState.className, methodName ) ;
 
         }   // end from (String)
 
 
+    /**
+     * fabricate a key for a method in a specific class
+     *
+     * @param className
+     *     the class declaring the method
+     * @param methodName
+     *     the method's signature
+     *
+     * @return the key
+     */
+    public static MethodKey from( final String className,
+                                  final String methodName )
+        {
+
+        return new MethodKey( className, methodName ) ;
+
+        }   // end from (String, String)
+
+
     /**
      * 
      * PLACEHOLDER
@@ -23,17 +23,41 @@ package education.the_software_toolsmith.analyzer.framework.static_analysis.stru
 import static com.github.javaparser.printer.configuration.DefaultPrinterConfiguration.ConfigOption.PRINT_COMMENTS ;
 import static com.github.javaparser.printer.configuration.DefaultPrinterConfiguration.ConfigOption.PRINT_JAVADOC ;
 
+import com.github.javaparser.ast.Node ;
+import com.github.javaparser.ast.NodeList ;
 import com.github.javaparser.ast.body.CallableDeclaration ;
 import com.github.javaparser.ast.body.ConstructorDeclaration ;
 import com.github.javaparser.ast.body.MethodDeclaration ;
+import com.github.javaparser.ast.stmt.BlockStmt ;
+import com.github.javaparser.metamodel.PropertyMetaModel ;
 import com.github.javaparser.printer.DefaultPrettyPrinter ;
 import com.github.javaparser.printer.configuration.DefaultConfigurationOption ;
 import com.github.javaparser.printer.configuration.DefaultPrinterConfiguration ;
 
+import java.util.List ;
+import java.util.Map ;
+import java.util.Objects ;
+import java.util.concurrent.ConcurrentHashMap ;
+
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public class MethodNormalizer
     {
 
+    /**
+     * system property which, if {@code true}, has {@link #sameBody(MethodInfo, MethodInfo)} confirm equal
+     * fingerprints by walking both bodies - for debugging the fingerprint, not for grading
+     */
+    public static final String VERIFY_FINGERPRINTS_PROPERTY = "methodNormalizer.verifyFingerprints" ;
+
+    private static final boolean VERIFY_FINGERPRINTS = Boolean.getBoolean( VERIFY_FINGERPRINTS_PROPERTY ) ;
+
+    /** fingerprint of a callable without a body (e.g., abstract) */
+    private static final Fingerprint NO_BODY = new Fingerprint( 0L, 0L ) ;
+
+    /** the properties which contribute to a node's structure, by node type - everything but its comment */
+    private static final Map<Class<?>, List<PropertyMetaModel>> STRUCTURAL_PROPERTIES
+            = new ConcurrentHashMap<>() ;
+
     private static final DefaultPrinterConfiguration printerConfiguration
             = new DefaultPrinterConfiguration() ;
     static
@@ -70,4 +94,297 @@ public class MethodNormalizer
 
         }   // end normalizedBody()
 
+
+    /**
+     * compute the structural fingerprint of a method or constructor body - comments and formatting are
+     * ignored; nothing is printed
+     *
+     * @param callableDeclaration
+     *     the method or constructor
+     *
+     * @return the fingerprint
+     */
+    public static Fingerprint fingerprint( final CallableDeclaration<?> callableDeclaration )
+        {
+
+        final BlockStmt body = bodyOf( callableDeclaration ) ;
+
+        if ( body == null )
+            {
+            return NO_BODY ;
+            }
+
+        final StructuralHasher hasher = new StructuralHasher() ;
+        hasher.add( body ) ;
+
+        return hasher.finish() ;
+
+        }   // end fingerprint()
+
+
+    /**
+     * determine whether two methods' bodies are the same ignoring comments and formatting
+     * <p>
+     * The 128-bit fingerprints settle it - neither body is walked again. With
+     * {@link #VERIFY_FINGERPRINTS_PROPERTY} set, equal fingerprints are confirmed by walking both bodies.
+     *
+     * @param first
+     *     one method
+     * @param second
+     *     the other method
+     *
+     * @return {@code true} if the bodies are structurally identical
+     */
+    public static boolean sameBody( final MethodInfo first,
+                                    final MethodInfo second )
+        {
+
+        if ( ! first.getBodyFingerprint().equals( second.getBodyFingerprint() ) )
+            {
+            return false ;
+            }
+
+        if ( VERIFY_FINGERPRINTS )
+            {
+            return structurallyEqual( bodyOf( first.getCallableDeclaration() ),
+                                      bodyOf( second.getCallableDeclaration() ) ) ;
+            }
+
+        return true ;
+
+        }   // end sameBody()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static BlockStmt bodyOf( final CallableDeclaration<?> callableDeclaration )
+        {
+
+        if ( callableDeclaration instanceof final MethodDeclaration methodDeclaration )
+            {
+            return methodDeclaration.getBody().orElse( null ) ;
+            }
+
+        if ( callableDeclaration instanceof final ConstructorDeclaration constructorDeclaration )
+            {
+            return constructorDeclaration.getBody() ;
+            }
+
+        throw new IllegalStateException( String.format( "unexpected type of %s",
+                                                        callableDeclaration.getClass().getSimpleName() ) ) ;
+
+        }   // end bodyOf()
+
+
+    private static List<PropertyMetaModel> structuralProperties( final Node node )
+        {
+
+        return STRUCTURAL_PROPERTIES.computeIfAbsent( node.getClass(),
+                                                      type -> node.getMetaModel()
+                                                                  .getAllPropertyMetaModels()
+                                                                  .stream()
+                                                                  .filter( property -> ! "comment".equals( property.getName() ) )
+                                                                  .toList() ) ;
+
+        }   // end structuralProperties()
+
+
+    private static boolean structurallyEqual( final Node first,
+                                              final Node second )
+        {
+
+        if ( ( first == null ) || ( second == null ) )
+            {
+            return first == second ;
+            }
+
+        if ( first.getClass() != second.getClass() )
+            {
+            return false ;
+            }
+
+        for ( final PropertyMetaModel property : structuralProperties( first ) )
+            {
+            final Object firstValue = property.getValue( first ) ;
+            final Object secondValue = property.getValue( second ) ;
+
+            if ( property.isNodeList() )
+                {
+
+                if ( ( firstValue == null ) || ( secondValue == null ) )
+                    {
+
+                    if ( firstValue != secondValue )
+                        {
+                        return false ;
+                        }
+
+                    continue ;
+                    }
+
+                final NodeList<?> firstNodes = (NodeList<?>) firstValue ;
+                final NodeList<?> secondNodes = (NodeList<?>) secondValue ;
+
+                if ( firstNodes.size() != secondNodes.size() )
+                    {
+                    return false ;
+                    }
+
+                for ( int i = 0 ; i < firstNodes.size() ; i++ )
+                    {
+
+                    if ( ! structurallyEqual( firstNodes.get( i ), secondNodes.get( i ) ) )
+                        {
+                        return false ;
+                        }
+
+                    }
+
+                }
+            else if ( property.isNode() )
+                {
+
+                if ( ! structurallyEqual( (Node) firstValue, (Node) secondValue ) )
+                    {
+                    return false ;
+                    }
+
+                }
+            else if ( ! Objects.equals( firstValue, secondValue ) )
+                {
+                return false ;
+                }
+
+            }
+
+        return true ;
+
+        }   // end structurallyEqual()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * accumulates two independently mixed 64-bit lanes over a depth-first walk of the structure
+     */
+    private static final class StructuralHasher
+        {
+
+        private static final long C1 = 0x87C3_7B91_1142_53D5L ;
+        private static final long C2 = 0x4CF5_AD43_2745_937FL ;
+
+        private static final long NULL_MARKER = 0x9E37_79B9_7F4A_7C15L ;
+
+        private long h1 = 0x243F_6A88_85A3_08D3L ;
+        private long h2 = 0x1319_8A2E_0370_7344L ;
+
+
+        void add( final Node node )
+            {
+
+            if ( node == null )
+                {
+                mix( NULL_MARKER ) ;
+
+                return ;
+                }
+
+            // the class name's hash is cached by String - stable across runs
+            mix( node.getClass().getName().hashCode() ) ;
+
+            for ( final PropertyMetaModel property : structuralProperties( node ) )
+                {
+                final Object value = property.getValue( node ) ;
+
+                if ( value == null )
+                    {
+                    mix( NULL_MARKER ) ;
+                    }
+                else if ( property.isNodeList() )
+                    {
+                    final NodeList<?> nodes = (NodeList<?>) value ;
+                    mix( nodes.size() ) ;
+
+                    for ( final Node element : nodes )
+                        {
+                        add( element ) ;
+                        }
+
+                    }
+                else if ( property.isNode() )
+                    {
+                    add( (Node) value ) ;
+                    }
+                else if ( value instanceof final String text )
+                    {
+                    mix( text.length() ) ;
+
+                    for ( int i = 0 ; i < text.length() ; i++ )
+                        {
+                        mix( text.charAt( i ) ) ;
+                        }
+
+                    }
+                else if ( value instanceof final Boolean flag )
+                    {
+                    mix( flag
+                            ? 1
+                            : 2 ) ;
+                    }
+                else if ( value instanceof final Enum<?> constant )
+                    {
+                    mix( constant.ordinal() + 3 ) ;
+                    }
+                else
+                    {
+                    mix( value.hashCode() ) ;
+                    }
+
+                }
+
+            }   // end add()
+
+
+        Fingerprint finish()
+            {
+
+            this.h1 += this.h2 ;
+            this.h2 += this.h1 ;
+
+            return new Fingerprint( avalanche( this.h1 ), avalanche( this.h2 ) ) ;
+
+            }   // end finish()
+
+
+        private void mix( final long value )
+            {
+
+            this.h1 = ( Long.rotateLeft( this.h1 ^ ( value * C1 ), 31 ) * C2 ) + this.h2 ;
+            this.h2 = ( Long.rotateLeft( this.h2 + ( value * C2 ), 33 ) * C1 ) ^ this.h1 ;
+
+            }   // end mix()
+
+
+        private static long avalanche( final long value )
+            {
+
+            long mixed = value ;
+            mixed ^= mixed >>> 33 ;
+            mixed *= 0xFF51_AFD7_ED55_8CCDL ;
+            mixed ^= mixed >>> 33 ;
+            mixed *= 0xC4CE_B9FE_1A85_EC53L ;
+            mixed ^= mixed >>> 33 ;
+
+            return mixed ;
+
+            }   // end avalanche()
+
+        }   // end class StructuralHasher
+
     }   // end class MethodNormalizer
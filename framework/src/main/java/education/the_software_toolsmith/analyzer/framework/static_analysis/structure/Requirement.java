@@ -61,6 +61,11 @@ import java.util.Objects ;
  *     <li>add remaining getters
  *     </ul>
  * @version 2.1.1 2026-04-19 fix typos in Javadoc comments
+ * @version 2.2 2026-10-16 add {@code describe()} so a shared requirement can be reported with a
+ *     compliance determined by an analysis
+ * @version 3.0 2026-10-16 replace the static {@code toString()} flags with a {@link RequirementFormat}
+ *     supplied to {@code describe()}
+ * @version 3.1 2026-10-16 restore the static {@code toString()} flags as deprecated
  */
 public class Requirement
     {
@@ -119,18 +124,11 @@ public class Requirement
     /*
      * static fields
      */
-    
+
     /** flag to control whether {@code toString()} includes the compliance */
-    private static boolean includeComplianceInToString ;
+    private static boolean includeComplianceInToString = true ;
     /** flag to control whether {@code toString()} includes indentation */
-    private static boolean indentInToString ;
-
-    /** set the flags to their initial/default setting */
-    static
-        {
-        includeComplianceInToString = true ;
-        indentInToString = true ;
-        }   // end static initializer
+    private static boolean indentInToString = true ;
 
 
     /*
@@ -431,7 +429,8 @@ public class Requirement
 
 
     /**
-     * @return the compliance
+     * @return the compliance as of the last analysis which compiled its own plan from this requirement - an
+     *     analysis given a shared {@link RequirementPlan} records compliance only in its {@link Result}
      */
     public ComplianceStatus getCompliance()
         {
@@ -573,8 +572,44 @@ public class Requirement
     public String toString()
         {
 
+        return describe( this.complianceStatus,
+                         new RequirementFormat( indentInToString, includeComplianceInToString ) ) ;
+
+        }   // end toString()
+
+
+    /**
+     * describe this requirement as {@code toString()} does but with a specified compliance
+     *
+     * @param compliance
+     *     the compliance to report - e.g., from one student's analysis
+     *
+     * @return the description
+     */
+    public String describe( final ComplianceStatus compliance )
+        {
+
+        return describe( compliance, RequirementFormat.DEFAULT ) ;
+
+        }   // end describe() with format with default format
+
+
+    /**
+     * describe this requirement with a specified compliance and format
+     *
+     * @param compliance
+     *     the compliance to report - e.g., from one student's analysis
+     * @param format
+     *     what to include - e.g., the analysis' format
+     *
+     * @return the description
+     */
+    public String describe( final ComplianceStatus compliance,
+                            final RequirementFormat format )
+        {
+
         return String.format( "%s%s %s%s%s",
-                              indentInToString
+                              format.indent()
                                       ? "  "
                                       : "",
                               this.behavior,
@@ -582,12 +617,12 @@ public class Requirement
                               this.target == null
                                       ? ""
                                       : " " + this.target,
-                              includeComplianceInToString
+                              format.includeCompliance()
                                       ? String.format( " -> %s",
-                                                       this.complianceStatus )
+                                                       compliance )
                                       : "" ) ;
 
-        }   // end toString()
+        }   // end describe()
 
 
     /*
@@ -596,24 +631,26 @@ public class Requirement
 
 
     /*
-     * configure toString() behavior
+     * configure toString() behavior - an analysis describes requirements with its own
+     * RequirementFormat instead
      */
 
 
     // include compliance in toString() output
+
+
     /**
      * flip the switch to exclude the compliance description in the output from {@code toString()}
      *
      * @return the prior setting where {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean excludeComplianceInToString()
         {
 
-        final boolean savedIncludeComplianceInToString = includeComplianceInToString ;
-
-        includeComplianceInToString = false ;
-
-        return savedIncludeComplianceInToString ;
+        return setComplianceInToString( false ) ;
 
         }   // end excludeComplianceInToString()
 
@@ -622,15 +659,14 @@ public class Requirement
      * flip the switch to include the compliance description in the output from {@code toString()}
      *
      * @return the prior setting where {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean includeComplianceInToString()
         {
 
-        final boolean savedIncludeComplianceInToString = includeComplianceInToString ;
-
-        includeComplianceInToString = true ;
-
-        return savedIncludeComplianceInToString ;
+        return setComplianceInToString( true ) ;
 
         }   // end includeComplianceInToString()
 
@@ -639,7 +675,10 @@ public class Requirement
      * determine the current setting for inclusion of compliance in the output from {@code toString()}
      *
      * @return {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean includingComplianceInToString()
         {
 
@@ -655,7 +694,10 @@ public class Requirement
      *     {@code true} indicates include it and {@code false} exclude it
      *
      * @return the prior setting
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean setComplianceInToString( final boolean includeIt )
         {
 
@@ -668,39 +710,37 @@ public class Requirement
         }   // end setComplianceInToString()
 
 
-// include indentation in toString() output
+    // include indentation in toString() output
 
 
     /**
-     * flip the switch to exclude the compliance description in the output from {@code toString()}
+     * flip the switch to exclude indentation in the output from {@code toString()}
      *
      * @return the prior setting where {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean excludeIndentInToString()
         {
 
-        final boolean savedIndentInToString = indentInToString ;
-
-        indentInToString = false ;
-
-        return savedIndentInToString ;
+        return setIndentInToString( false ) ;
 
-        }   // end excludeIndentationInToString()
+        }   // end excludeIndentInToString()
 
 
     /**
-     * flip the switch to include the compliance description in the output from {@code toString()}
+     * flip the switch to include indentation in the output from {@code toString()}
      *
      * @return the prior setting where {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean includeIndentInToString()
         {
 
-        final boolean savedIndentInToString = indentInToString ;
-
-        includeComplianceInToString = true ;
-
-        return savedIndentInToString ;
+        return setIndentInToString( true ) ;
 
         }   // end includeIndentInToString()
 
@@ -709,7 +749,10 @@ public class Requirement
      * determine the current setting for indentation in the output from {@code toString()}
      *
      * @return {@code true} indicates include it and {@code false} exclude it
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean includingIndentInToString()
         {
 
@@ -725,7 +768,10 @@ public class Requirement
      *     {@code true} indicates include it and {@code false} exclude it
      *
      * @return the prior setting
+     *
+     * @deprecated use {@link #describe(ComplianceStatus, RequirementFormat)}
      */
+    @Deprecated( since = "3.0", forRemoval = true )
     public static boolean setIndentInToString( final boolean indentIt )
         {
 
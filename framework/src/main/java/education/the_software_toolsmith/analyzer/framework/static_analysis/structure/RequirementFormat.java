@@ -0,0 +1,77 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+
+/**
+ * how to describe a {@link Requirement} in a report
+ * <p>
+ * Each analysis holds its own format so concurrent analyses can't affect each other's reports.
+ *
+ * @param indent
+ *     {@code true} to indent the description
+ * @param includeCompliance
+ *     {@code true} to include the compliance
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation - replaces {@code Requirement}'s static
+ *     {@code toString()} flags
+ */
+public record RequirementFormat( boolean indent,
+                                 boolean includeCompliance )
+    {
+
+    /** indented with compliance - also used by {@link Requirement#toString()} */
+    public static final RequirementFormat DEFAULT = new RequirementFormat( true, true ) ;
+
+    /** just the rule */
+    public static final RequirementFormat PLAIN = new RequirementFormat( false, false ) ;
+
+
+    /**
+     * @param indentIt
+     *     {@code true} to indent the description
+     *
+     * @return this format with the specified indentation
+     */
+    public RequirementFormat withIndent( final boolean indentIt )
+        {
+
+        return new RequirementFormat( indentIt, this.includeCompliance ) ;
+
+        }   // end withIndent()
+
+
+    /**
+     * @param includeIt
+     *     {@code true} to include the compliance
+     *
+     * @return this format with or without the compliance
+     */
+    public RequirementFormat withCompliance( final boolean includeIt )
+        {
+
+        return new RequirementFormat( this.indent, includeIt ) ;
+
+        }   // end withCompliance()
+
+    }   // end record RequirementFormat
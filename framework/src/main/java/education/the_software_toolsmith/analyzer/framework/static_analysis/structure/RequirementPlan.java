@@ -0,0 +1,250 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+import java.util.ArrayList ;
+import java.util.Collections ;
+import java.util.LinkedHashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Map.Entry ;
+import java.util.Objects ;
+
+/**
+ * an assignment's requirements compiled once for every student
+ * <p>
+ * Each requirement's target is normalized when the plan is compiled and tagged with the kind of call site
+ * it's checked against, so a student's method is evaluated against all of its requirements with a single
+ * traversal (see {@link CallSiteIndex}). A plan is immutable and safe to share among concurrent analyses -
+ * each analysis records its own compliance in its {@link Result}.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public final class RequirementPlan
+    {
+
+    /** a plan with no requirements */
+    public static final RequirementPlan EMPTY = new RequirementPlan( Map.of() ) ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** compiled requirements by method signature in the order specified */
+    private final Map<String, MethodPlan> methodPlans ;
+
+    /** the original requirements by method signature - read-only */
+    private final Map<String, List<Requirement>> requirements ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private RequirementPlan( final Map<String, List<Requirement>> requirementsForEachMethod )
+        {
+
+        final Map<String, MethodPlan> plans = new LinkedHashMap<>() ;
+        final Map<String, List<Requirement>> copies = new LinkedHashMap<>() ;
+
+        for ( final Entry<String, List<Requirement>> entry : requirementsForEachMethod.entrySet() )
+            {
+            final List<Requirement> methodRequirements = List.copyOf( entry.getValue() ) ;
+            final List<CompiledRequirement> compiled = new ArrayList<>( methodRequirements.size() ) ;
+
+            for ( final Requirement requirement : methodRequirements )
+                {
+                compiled.add( compile( requirement ) ) ;
+                }
+
+            plans.put( entry.getKey(), new MethodPlan( entry.getKey(), compiled ) ) ;
+            copies.put( entry.getKey(), methodRequirements ) ;
+            }
+
+        this.methodPlans = Collections.unmodifiableMap( plans ) ;
+        this.requirements = Collections.unmodifiableMap( copies ) ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * API methods
+     */
+
+
+    /**
+     * compile a set of requirements - e.g., as loaded by {@code ImplementationComplianceStore}
+     *
+     * @param requirementsForEachMethod
+     *     map of method signature -> list of implementation requirements - copied, later changes don't
+     *     affect the plan
+     *
+     * @return the plan
+     */
+    public static RequirementPlan compile( final Map<String, List<Requirement>> requirementsForEachMethod )
+        {
+
+        Objects.requireNonNull( requirementsForEachMethod, "requirementsForEachMethod" ) ;
+
+        return new RequirementPlan( requirementsForEachMethod ) ;
+
+        }   // end compile() for a set of requirements
+
+
+    /**
+     * compile a single requirement
+     *
+     * @param requirement
+     *     the requirement
+     *
+     * @return the compiled requirement
+     */
+    public static CompiledRequirement compile( final Requirement requirement )
+        {
+
+        Objects.requireNonNull( requirement, "requirement" ) ;
+
+        final CallSiteKind callSiteKind = switch ( requirement.behavior.action )
+            {
+            case CALL -> requirement.targetType == TargetType.CONSTRUCTOR
+                    ? CallSiteKind.CONSTRUCTOR_INVOCATION
+                    : CallSiteKind.METHOD_CALL ;
+            case INSTANTIATE -> CallSiteKind.OBJECT_CREATION ;
+            default -> CallSiteKind.NONE ;
+            } ;
+
+        return new CompiledRequirement( requirement,
+                                        Heuristics.normalize( requirement.target ),
+                                        callSiteKind ) ;
+
+        }   // end compile() for a requirement
+
+
+    /**
+     * @param methodSignature
+     *     identifies the method
+     *
+     * @return the compiled requirements for the method or {@code null} if there aren't any rules for it
+     */
+    public MethodPlan forMethod( final String methodSignature )
+        {
+
+        return this.methodPlans.get( methodSignature ) ;
+
+        }   // end forMethod()
+
+
+    /**
+     * @return the requirements by method signature in the order specified - read-only
+     */
+    public Map<String, List<Requirement>> requirements()
+        {
+
+        return this.requirements ;
+
+        }   // end requirements()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%,d methods, %,d requirements",
+                              this.methodPlans.size(),
+                              this.methodPlans.values()
+                                              .stream()
+                                              .mapToInt( plan -> plan.requirements().size() )
+                                              .sum() ) ;
+
+        }   // end toString()
+
+
+    /*
+     * nested types
+     */
+
+
+    /**
+     * the kind of AST node a requirement is checked against
+     */
+    public enum CallSiteKind
+        {
+        /** checked against the starter/student change lists - no traversal needed */
+        NONE,
+        /** method calls */
+        METHOD_CALL,
+        /** instantiations */
+        OBJECT_CREATION,
+        /** chained constructor calls */
+        CONSTRUCTOR_INVOCATION
+        }   // end enum CallSiteKind
+
+
+    /**
+     * a requirement ready to evaluate
+     *
+     * @param requirement
+     *     the original requirement - for its behavior and reporting
+     * @param normalizedTarget
+     *     the target normalized for signature matching or {@code null} if it has no target
+     * @param callSiteKind
+     *     what it's checked against
+     */
+    public record CompiledRequirement( Requirement requirement,
+                                       String normalizedTarget,
+                                       CallSiteKind callSiteKind )
+        {}  // end record CompiledRequirement
+
+
+    /**
+     * the compiled requirements for one method
+     *
+     * @param methodSignature
+     *     identifies the method
+     * @param requirements
+     *     the compiled requirements in the order specified
+     * @param needsCallSites
+     *     whether any requirement is checked against the method's call sites
+     */
+    public record MethodPlan( String methodSignature,
+                              List<CompiledRequirement> requirements,
+                              boolean needsCallSites )
+        {
+
+        MethodPlan( final String methodSignature,
+                    final List<CompiledRequirement> requirements )
+            {
+
+            this( methodSignature,
+                  List.copyOf( requirements ),
+                  requirements.stream()
+                              .anyMatch( requirement -> requirement.callSiteKind() != CallSiteKind.NONE ) ) ;
+
+            }   // end 2-arg constructor
+
+        }   // end record MethodPlan
+
+    }   // end class RequirementPlan
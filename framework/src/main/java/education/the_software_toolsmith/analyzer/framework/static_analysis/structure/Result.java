@@ -20,8 +20,19 @@
 
 package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
 
+import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus ;
+
+import static education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus.FAILED ;
+import static education.the_software_toolsmith.analyzer.framework.compliance.ComplianceStatus.PASSED ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.CodeSourceCategory.TO_EVALUATE ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.OriginalSource.getOriginalMethodSource ;
+
+import java.io.IOException ;
 import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.Formatter ;
 import java.util.HashMap ;
+import java.util.LinkedHashMap ;
 import java.util.LinkedList ;
 import java.util.List ;
 import java.util.Map ;
@@ -38,6 +49,11 @@ import java.util.Map ;
  *     for an end-user</li>
  *     <li>capture any exception for later reporting</li>
  *     </ul>
+ * @version 1.2 2026-10-16 record each requirement's compliance here rather than in the shared
+ *     {@link Requirement}
+ * @version 1.3 2026-10-16 keep each {@link MethodAssessment} and render the report from them on demand
+ *     rather than building it during the analysis
+ * @version 1.4 2026-10-16 restore the {@code report} field as deprecated
  */
 public class Result
     {
@@ -67,13 +83,24 @@ public class Result
     /** signatures of methods that weren't inspected */
     public final List<String> notInspected ;
 
+    /** the compliance of each method's requirements in the order specified - keyed by method signature */
+    public final Map<String, List<ComplianceStatus>> requirementCompliance ;
+
     /** number of tests executed */
     public int testCount ;
     /** number of tests that succeeded */
     public int testsPassed ;
 
-    /** textual report contents */
-    public StringBuilder report ;
+    /** each method's assessment in the order assessed - the report is rendered from these */
+    public final List<MethodAssessment> methodAssessments ;
+
+    /**
+     * textual report contents
+     *
+     * @deprecated use {@link #report()} - this is only filled for analyses which compiled their own plan
+     */
+    @Deprecated( since = "1.3", forRemoval = true )
+    public final StringBuilder report ;
     
     /** if an exception occurs during processing, track it */
     public Throwable thrown ;
@@ -111,9 +138,12 @@ public class Result
         this.failedInspection = new LinkedList<>() ;
         this.notInspected = new LinkedList<>() ;
 
+        this.requirementCompliance = new LinkedHashMap<>() ;
+
         this.testCount = 0 ;
         this.testsPassed = 0 ;
 
+        this.methodAssessments = new ArrayList<>() ;
         this.report = new StringBuilder() ;
         
         this.thrown = null ;
@@ -121,6 +151,56 @@ public class Result
         }   // end constructor
 
 
+    /**
+     * @return the detailed assessment of each method
+     */
+    public String report()
+        {
+
+        final StringBuilder report = new StringBuilder() ;
+
+        render( new Formatter( report ) ) ;
+
+        return report.toString() ;
+
+        }   // end report()
+
+
+    /**
+     * fill the deprecated {@link #report} for callers which still read it
+     */
+    void fillReport()
+        {
+
+        render( new Formatter( this.report ) ) ;
+
+        }   // end fillReport()
+
+
+    /**
+     * write the detailed assessment of each method
+     *
+     * @param out
+     *     destination
+     *
+     * @throws IOException
+     *     if {@code out} can't be written
+     */
+    public void writeReport( final Appendable out ) throws IOException
+        {
+
+        final Formatter formatter = new Formatter( out ) ;
+
+        render( formatter ) ;
+
+        if ( formatter.ioException() != null )
+            {
+            throw formatter.ioException() ;
+            }
+
+        }   // end writeReport()
+
+
     @Override
     public String toString()
         {
@@ -168,7 +248,7 @@ public class Result
                               "-".repeat( 25 ),
                               this.checker.classToAssess,
                               this.checker.studentCodePath,
-                              this.report,
+                              report(),
                               this.thrown == null
                                       ? ""
                                       : String.format( "%n%s%n",
@@ -191,4 +271,77 @@ public class Result
 
         }   // end toString()
 
+
+    /**
+     * @param isCompliant
+     *     whether a check passed
+     *
+     * @return how a check's compliance appears in the report
+     */
+    static String complianceMark( final boolean isCompliant )
+        {
+
+        return isCompliant
+                ? "✓ compliant"
+                : "✗ non-compliant" ;
+
+        }   // end complianceMark()
+
+
+    /**
+     * format the report - the formatter suppresses any I/O failure for the caller to check
+     *
+     * @param out
+     *     destination
+     */
+    private void render( final Formatter out )
+        {
+
+        out.format( "%n%s%n", "-".repeat( 5 ) ) ;
+
+        for ( final MethodAssessment assessment : this.methodAssessments )
+            {
+            out.format( "%n%s%n%n", assessment.signature() ) ;
+
+            if ( ! assessment.hasRules() )
+                {
+                out.format( "[no implementation compliance rules available]%n" ) ;
+                }
+            else
+                {
+
+                for ( int i = 0 ; i < assessment.requirements().size() ; i++ )
+                    {
+                    final ComplianceStatus status = assessment.compliance().get( i ) ;
+
+                    out.format( assessment.complianceFormat(),
+                                assessment.requirements()
+                                          .get( i )
+                                          .describe( status, assessment.requirementFormat() ),
+                                complianceMark( status == PASSED ) ) ;
+                    }
+
+                }
+
+            out.format( "%nPassed %,d of %,d check%s%n",
+                        assessment.checksPassed(),
+                        assessment.checkCount(),
+                        assessment.checkCount() == 1
+                                ? ""
+                                : "s" ) ;
+
+            // if the method didn't pass all compliance tests, include the original method code
+            final MethodKey methodKey = assessment.methodKey() ;
+
+            if ( ( methodKey != null ) && ( methodKey.getMethodInfo() != null )
+                 && ( methodKey.getMethodInfo().getCompliance() == FAILED ) )
+                {
+                out.format( "%s%n", getOriginalMethodSource( this, methodKey, TO_EVALUATE ) ) ;
+                }
+
+            out.format( "%n%s%n", "-".repeat( 5 ) ) ;
+            }
+
+        }   // end render()
+
     }   // end class Result
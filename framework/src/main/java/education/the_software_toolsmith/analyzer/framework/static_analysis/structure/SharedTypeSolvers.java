@@ -0,0 +1,347 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+
+import com.github.javaparser.JavaParser ;
+import com.github.javaparser.ParserConfiguration ;
+import com.github.javaparser.resolution.TypeSolver ;
+import com.github.javaparser.resolution.cache.Cache ;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration ;
+import com.github.javaparser.resolution.model.SymbolReference ;
+import com.github.javaparser.symbolsolver.cache.GuavaCache ;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver ;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver ;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver ;
+import com.google.common.cache.CacheBuilder ;
+
+import java.io.IOException ;
+import java.io.UncheckedIOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.HashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.atomic.AtomicLong ;
+import java.util.stream.Stream ;
+
+
+/**
+ * layered type solvers for the symbol solver
+ * <p>
+ * The shared layer resolves the JDK and the starter/interface sources (e.g., {@code BagInterface}) which are
+ * the same for every student. It's built once per set of source roots and pre-warmed, so its resolution
+ * caches survive for the whole batch. Each student gets a thin overlay for just their own sources which is
+ * consulted before the shared layer - the student's version of a type always wins.
+ * <p>
+ * A shared layer is <em>not</em> thread-safe: the declarations it produces are bound to it and resolve
+ * through its {@code JavaParserFacade}, whose caches are unsynchronized. Each thread therefore gets its own
+ * shared layer - analyses which run one after another on a thread (e.g., in a warm grading worker or a
+ * pooled thread) share it; analyses on different threads never do.
+ * <p>
+ * The shared layer resolves only against itself, never against a student's overlay, so nothing one student
+ * submitted can leak into another student's analysis.
+ * <p>
+ * This class holds only JDK and JavaParser types so a grading worker can load it once for all of its jobs.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 one set of shared layers per thread - a layer can't be used concurrently
+ */
+public final class SharedTypeSolvers
+    {
+
+    /** JDK types nearly every assignment resolves - resolved when a shared layer is built */
+    private static final List<String> COMMON_JDK_TYPES = List.of( "java.lang.Object",
+                                                                  "java.lang.String",
+                                                                  "java.lang.Integer",
+                                                                  "java.lang.Comparable",
+                                                                  "java.lang.Iterable",
+                                                                  "java.lang.Math",
+                                                                  "java.lang.System",
+                                                                  "java.lang.Record",
+                                                                  "java.lang.Enum",
+                                                                  "java.util.Arrays",
+                                                                  "java.util.Iterator",
+                                                                  "java.util.List",
+                                                                  "java.util.Objects" ) ;
+
+    /** each thread's shared layers */
+    private static final ThreadLocal<ThreadLayers> SHARED_LAYERS = ThreadLocal.withInitial( ThreadLayers::new ) ;
+
+    /** incremented by {@link #clear()} - a thread's layers from an earlier generation are discarded */
+    private static final AtomicLong GENERATION = new AtomicLong() ;
+
+
+    /**
+     * Utility class - prevent instantiation
+     */
+    private SharedTypeSolvers()
+        {
+
+        // Utility class - prevent instantiation
+
+        }   // end no-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * retrieve - building on first use - the calling thread's shared layer for a set of source roots
+     *
+     * @param sourceRoots
+     *     base folders of the sources shared by every student (e.g., {@code src/main/java} in the starter
+     *     project) - none for just the JDK
+     *
+     * @return the shared layer - use it only on the calling thread
+     */
+    public static TypeSolver sharedLayer( final Path... sourceRoots )
+        {
+
+        final List<Path> key = Arrays.stream( sourceRoots )
+                                     .map( root -> root.toAbsolutePath().normalize() )
+                                     .distinct()
+                                     .toList() ;
+
+        final ThreadLayers threadLayers = SHARED_LAYERS.get() ;
+        final long generation = GENERATION.get() ;
+
+        if ( threadLayers.generation != generation )
+            {
+            threadLayers.layers.clear() ;
+            threadLayers.generation = generation ;
+            }
+
+        return threadLayers.layers.computeIfAbsent( key, SharedTypeSolvers::buildSharedLayer ) ;
+
+        }   // end sharedLayer()
+
+
+    /**
+     * build a student's overlay on top of a shared layer
+     *
+     * @param sharedLayer
+     *     from {@link #sharedLayer(Path...)}
+     * @param studentSourceRoots
+     *     base folders of the student's sources - consulted in order before the shared layer
+     *
+     * @return the combined solver for the student
+     */
+    public static TypeSolver studentOverlay( final TypeSolver sharedLayer,
+                                             final List<Path> studentSourceRoots )
+        {
+
+        final CombinedTypeSolver overlay = new CombinedTypeSolver() ;
+
+        for ( final Path root : studentSourceRoots )
+            {
+            overlay.add( new JavaParserTypeSolver( root ) ) ;
+            }
+
+        overlay.add( new SharedLayerView( sharedLayer ) ) ;
+
+        return overlay ;
+
+        }   // end studentOverlay()
+
+
+    /**
+     * discard all shared layers - e.g., after the starter code changes - each thread rebuilds its layers
+     * when it next asks for one
+     */
+    public static void clear()
+        {
+
+        GENERATION.incrementAndGet() ;
+
+        }   // end clear()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static TypeSolver buildSharedLayer( final List<Path> sourceRoots )
+        {
+
+        final ParserConfiguration parserConfiguration
+                = new ParserConfiguration().setLanguageLevel( ParserConfiguration.LanguageLevel.JAVA_21 ) ;
+
+        final List<TypeSolver> layers = new ArrayList<>() ;
+
+        // JDK
+        layers.add( new ReflectionTypeSolver() ) ;
+
+        // starter/interface sources
+        for ( final Path root : sourceRoots )
+            {
+            layers.add( new JavaParserTypeSolver( root,
+                                                  new JavaParser( parserConfiguration ),
+                                                  softCache(),
+                                                  softCache(),
+                                                  softCache() ) ) ;
+            }
+
+        final CombinedTypeSolver shared = new CombinedTypeSolver( CombinedTypeSolver.ExceptionHandlers.IGNORE_NONE,
+                                                                  layers,
+                                                                  softCache() ) ;
+
+        prewarm( shared, sourceRoots ) ;
+
+        return shared ;
+
+        }   // end buildSharedLayer()
+
+
+    /**
+     * a resolution cache which gives up entries under memory pressure
+     */
+    private static <K, V> Cache<K, V> softCache()
+        {
+
+        return GuavaCache.create( CacheBuilder.newBuilder().softValues().<K, V> build() ) ;
+
+        }   // end softCache()
+
+
+    /**
+     * resolve the common JDK types and every type in the shared sources so students don't pay for it
+     */
+    private static void prewarm( final TypeSolver shared,
+                                 final List<Path> sourceRoots )
+        {
+
+        COMMON_JDK_TYPES.forEach( shared::tryToSolveType ) ;
+
+        for ( final Path root : sourceRoots )
+            {
+
+            if ( ! Files.isDirectory( root ) )
+                {
+                continue ;
+                }
+
+            try ( Stream<Path> walk = Files.walk( root ) )
+                {
+                walk.filter( path -> path.getFileName().toString().endsWith( ".java" ) )
+                    .map( path -> typeNameFor( root, path ) )
+                    .filter( name -> ! name.endsWith( "-info" ) )
+                    .forEach( shared::tryToSolveType ) ;
+                }
+            catch ( final IOException e )
+                {
+                throw new UncheckedIOException( "unable to pre-warm shared sources in " + root, e ) ;
+                }
+
+            }
+
+        }   // end prewarm()
+
+
+    /**
+     * @return the fully qualified name of the top-level type declared in a source file
+     */
+    private static String typeNameFor( final Path root,
+                                       final Path sourceFile )
+        {
+
+        final String relative = root.relativize( sourceFile ).toString() ;
+
+        return relative.substring( 0, relative.length() - ".java".length() )
+                       .replace( root.getFileSystem().getSeparator(), "." ) ;
+
+        }   // end typeNameFor()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * one thread's shared layers keyed by their normalized source roots
+     */
+    private static final class ThreadLayers
+        {
+
+        private final Map<List<Path>, TypeSolver> layers = new HashMap<>() ;
+        private long generation = GENERATION.get() ;
+
+        }   // end class ThreadLayers
+
+
+    /**
+     * a student's view of a shared layer
+     * <p>
+     * Adding a solver to a {@link CombinedTypeSolver} sets its parent. This view takes the student-specific
+     * parent so the shared layer itself is never re-parented.
+     */
+    private static final class SharedLayerView implements TypeSolver
+        {
+
+        private final TypeSolver sharedLayer ;
+        private TypeSolver parent ;
+
+
+        SharedLayerView( final TypeSolver sharedLayer )
+            {
+
+            this.sharedLayer = sharedLayer ;
+
+            }   // end 1-arg constructor
+
+
+        @Override
+        public TypeSolver getParent()
+            {
+
+            return this.parent ;
+
+            }   // end getParent()
+
+
+        @Override
+        public void setParent( final TypeSolver parent )
+            {
+
+            this.parent = parent ;
+
+            }   // end setParent()
+
+
+        @Override
+        public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType( final String name )
+            {
+
+            return this.sharedLayer.tryToSolveType( name ) ;
+
+            }   // end tryToSolveType()
+
+        }   // end class SharedLayerView
+
+    }   // end class SharedTypeSolvers
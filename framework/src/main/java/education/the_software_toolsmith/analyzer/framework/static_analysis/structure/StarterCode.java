@@ -0,0 +1,269 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+
+import com.github.javaparser.JavaParser ;
+import com.github.javaparser.ParseProblemException ;
+import com.github.javaparser.ParseResult ;
+import com.github.javaparser.ParserConfiguration ;
+import com.github.javaparser.ast.CompilationUnit ;
+import com.github.javaparser.ast.body.CallableDeclaration ;
+
+import java.io.IOException ;
+import java.io.UncheckedIOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.attribute.FileTime ;
+import java.util.Collections ;
+import java.util.LinkedHashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.ConcurrentHashMap ;
+
+
+/**
+ * the starter code for an assignment - parsed, broken into methods, and fingerprinted once then shared
+ * read-only by every analysis in a batch
+ * <p>
+ * Each starter file is cached by its path and reparsed only if it's modified. The AST is parsed without a
+ * symbol resolver - only its signatures and fingerprints are used - so sharing it among threads never
+ * shares a type solver.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 precompute body fingerprints rather than normalized text
+ * @version 1.2 2026-10-16 parse without a symbol resolver - the shared type solver layers are per thread
+ */
+public final class StarterCode
+    {
+
+    /** parsed starter code keyed by normalized absolute path */
+    private static final Map<Path, StarterCode> CACHE = new ConcurrentHashMap<>() ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final Path path ;
+    private final FileTime lastModified ;
+
+    private final List<String> sourceLines ;
+    private final CompilationUnit compilationUnit ;
+    private final Map<MethodKey, MethodInfo> methods ;
+    private final Map<String, MethodKey> methodKeys ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private StarterCode( final Path path,
+                         final FileTime lastModified,
+                         final List<String> sourceLines,
+                         final CompilationUnit compilationUnit )
+        {
+
+        this.path = path ;
+        this.lastModified = lastModified ;
+        this.sourceLines = List.copyOf( sourceLines ) ;
+        this.compilationUnit = compilationUnit ;
+
+        final String sourceClassName = compilationUnit.getPrimaryTypeName().orElse( null ) ;
+
+        final Map<MethodKey, MethodInfo> methodsFound = new LinkedHashMap<>() ;
+        final Map<String, MethodKey> methodKeysFound = new LinkedHashMap<>() ;
+
+        for ( final CallableDeclaration<?> callableDeclaration
+                : compilationUnit.findAll( CallableDeclaration.class ) )
+            {
+            final MethodInfo methodInfo = MethodInfo.from( sourceClassName, callableDeclaration ) ;
+            final MethodKey methodKey = MethodKey.from( methodInfo ) ;
+
+            methodsFound.put( methodKey, methodInfo ) ;
+            methodKeysFound.put( methodInfo.getMethodSignature(), methodKey ) ;
+
+            // computed now so the shared methods are never modified
+            methodInfo.getBodyFingerprint() ;
+            }
+
+        this.methods = Collections.unmodifiableMap( methodsFound ) ;
+        this.methodKeys = Collections.unmodifiableMap( methodKeysFound ) ;
+
+        }   // end 4-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * retrieve the parsed starter code, parsing it if it isn't cached or has been modified
+     *
+     * @param starterCodePath
+     *     the starter source file
+     *
+     * @return the parsed starter code
+     *
+     * @throws IOException
+     *     if the file can't be read
+     * @throws ParseProblemException
+     *     if the file doesn't parse
+     */
+    public static StarterCode of( final Path starterCodePath ) throws IOException
+        {
+
+        final Path key = starterCodePath.toAbsolutePath().normalize() ;
+        final FileTime lastModified = Files.getLastModifiedTime( key ) ;
+
+        try
+            {
+            return CACHE.compute( key, ( path, cached ) ->
+                {
+
+                if ( ( cached != null ) && cached.lastModified.equals( lastModified ) )
+                    {
+                    return cached ;
+                    }
+
+                return parse( path, lastModified ) ;
+                } ) ;
+            }
+        catch ( final UncheckedIOException e )
+            {
+            throw e.getCause() ;
+            }
+
+        }   // end of()
+
+
+    /**
+     * discard all cached starter code
+     */
+    public static void clear()
+        {
+
+        CACHE.clear() ;
+
+        }   // end clear()
+
+
+    /**
+     * @return the AST - shared, don't modify it; it has no symbol resolver, so don't resolve its nodes
+     */
+    public CompilationUnit compilationUnit()
+        {
+
+        return this.compilationUnit ;
+
+        }   // end compilationUnit()
+
+
+    /**
+     * @return the methods and constructors in declaration order
+     */
+    public Map<MethodKey, MethodInfo> methods()
+        {
+
+        return this.methods ;
+
+        }   // end methods()
+
+
+    /**
+     * @return the method keys by method signature in declaration order
+     */
+    public Map<String, MethodKey> methodKeys()
+        {
+
+        return this.methodKeys ;
+
+        }   // end methodKeys()
+
+
+    /**
+     * @return the starter source file
+     */
+    public Path path()
+        {
+
+        return this.path ;
+
+        }   // end path()
+
+
+    /**
+     * @return the source code's lines
+     */
+    public List<String> sourceLines()
+        {
+
+        return this.sourceLines ;
+
+        }   // end sourceLines()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s: %,d methods", this.path, this.methods.size() ) ;
+
+        }   // end toString()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static StarterCode parse( final Path path,
+                                      final FileTime lastModified )
+        {
+
+        // nothing resolves starter nodes - a resolver would tie the shared AST to the parsing thread's solver
+        final ParserConfiguration configuration
+                = new ParserConfiguration().setLanguageLevel( ParserConfiguration.LanguageLevel.JAVA_21 ) ;
+
+        try
+            {
+            final ParseResult<CompilationUnit> parsed = new JavaParser( configuration ).parse( path ) ;
+
+            if ( ! parsed.isSuccessful() || parsed.getResult().isEmpty() )
+                {
+                throw new ParseProblemException( parsed.getProblems() ) ;
+                }
+
+            return new StarterCode( path, lastModified, Files.readAllLines( path ), parsed.getResult().get() ) ;
+            }
+        catch ( final IOException e )
+            {
+            throw new UncheckedIOException( e ) ;
+            }
+
+        }   // end parse()
+
+    }   // end class StarterCode
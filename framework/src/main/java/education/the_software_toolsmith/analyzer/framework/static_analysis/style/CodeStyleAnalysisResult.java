@@ -23,8 +23,10 @@ package education.the_software_toolsmith.analyzer.framework.static_analysis.styl
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel ;
 import com.puppycrawl.tools.checkstyle.api.Violation ;
 
+import java.io.IOException ;
+import java.io.UncheckedIOException ;
+import java.util.ArrayList ;
 import java.util.Arrays ;
-import java.util.LinkedList ;
 import java.util.List ;
 import java.util.Map ;
 import java.util.TreeMap ;
@@ -41,6 +43,9 @@ import java.util.TreeMap ;
  *     <li>rename from {@code Result} to {@code CodeStyleAnalysisResult} to distinguish it from other
  *     similarly named classes
  *     </ul>
+ * @version 2.1 2026-10-16 hold the events in an {@code ArrayList} - they're only appended and iterated
+ * @version 2.2 2026-10-16 render the report and summary from the events on demand rather than building
+ *     them during the analysis
  */
 public class CodeStyleAnalysisResult
     {
@@ -59,15 +64,12 @@ public class CodeStyleAnalysisResult
     /** all violations organized by key */
     public final Map<String, List<Violation>> keyedViolations ;
 
-    /** full text description of the analysis */
-    public final StringBuilder report ;
-    
-    /** brief description of analysis */
-    public final StringBuilder summary ;
-    
     /** base directory - enables shortening file names in violation display */
     public String baseDirectory = null ;
 
+    /** {@code true} if these are the results for the complete analysis rather than one file or category */
+    private final boolean isOverall ;
+
 
     /**
      * set initial state to no events
@@ -75,23 +77,116 @@ public class CodeStyleAnalysisResult
     public CodeStyleAnalysisResult()
         {
 
+        this( false ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * set initial state to no events
+     *
+     * @param overall
+     *     {@code true} if these are the results for the complete analysis
+     */
+    CodeStyleAnalysisResult( final boolean overall )
+        {
+
         this.isCompliant = true ;
-        this.codeStyleAnalysisEvents = new LinkedList<>() ;
+        this.codeStyleAnalysisEvents = new ArrayList<>() ;
         this.violationSeverityLevelCounters = new int[ SeverityLevel.values().length ] ;    // all -> 0
         
         this.keyedViolations = new TreeMap<>() ;
-        
-        this.report = new StringBuilder() ;
-        this.summary = new StringBuilder() ;
 
-        }   // end constructor
+        this.isOverall = overall ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * @return full text description of the analysis
+     */
+    public String report()
+        {
+
+        final StringBuilder report = new StringBuilder() ;
+
+        render( report, true ) ;
+
+        return report.toString() ;
+
+        }   // end report()
+
+
+    /**
+     * @return brief description of the analysis
+     */
+    public String summary()
+        {
+
+        final StringBuilder summary = new StringBuilder() ;
+
+        render( summary, false ) ;
+
+        return summary.toString() ;
+
+        }   // end summary()
+
+
+    /**
+     * write the full text description of the analysis
+     *
+     * @param out
+     *     destination
+     *
+     * @throws IOException
+     *     if {@code out} can't be written
+     */
+    public void writeReport( final Appendable out ) throws IOException
+        {
+
+        write( out, true ) ;
+
+        }   // end writeReport()
+
+
+    /**
+     * write the brief description of the analysis
+     *
+     * @param out
+     *     destination
+     *
+     * @throws IOException
+     *     if {@code out} can't be written
+     */
+    public void writeSummary( final Appendable out ) throws IOException
+        {
+
+        write( out, false ) ;
+
+        }   // end writeSummary()
+
+
+    /**
+     * @return the number of violations found
+     */
+    public int violationCount()
+        {
+
+        return Arrays.stream( this.violationSeverityLevelCounters ).sum() ;
+
+        }   // end violationCount()
 
 
     @Override
     public String toString()
         {
 
-        return this.report.toString() ;
+        return report() ;
 ///* DEBUG */ return resultsToText() ;
 
         }   // end toString()
@@ -118,10 +213,150 @@ public class CodeStyleAnalysisResult
                               this.baseDirectory,
                               this.codeStyleAnalysisEvents,
                               this.isCompliant,
-                              this.report,
-                              this.summary,
+                              report(),
+                              summary(),
                               Arrays.toString( this.violationSeverityLevelCounters ) ) ;
 
         }   // end eventToText()
 
+
+    /*
+     * utility methods
+     */
+
+
+    private void write( final Appendable out,
+                        final boolean fullReport ) throws IOException
+        {
+
+        try
+            {
+            render( out, fullReport ) ;
+            }
+        catch ( final UncheckedIOException e )
+            {
+            throw e.getCause() ;
+            }
+
+        }   // end write()
+
+
+    /**
+     * @throws UncheckedIOException
+     *     if {@code out} can't be written
+     */
+    private void render( final Appendable out,
+                         final boolean fullReport )
+        {
+
+        if ( this.isOverall )
+            {
+            renderOverall( out, fullReport ) ;
+
+            return ;
+            }
+
+        final String lineSeparator = System.lineSeparator() ;
+
+        for ( final CodeStyleAnalysisEvent event : this.codeStyleAnalysisEvents )
+            {
+
+            if ( ( event instanceof CodeStyleAnalysisEventError )
+                 || ( event instanceof CodeStyleAnalysisEventException ) )
+                {
+
+                if ( fullReport )
+                    {
+                    append( out, event, lineSeparator ) ;
+                    }
+
+                }
+            else if ( event instanceof CodeStyleAnalysisEventAudit )
+                {
+                append( out, lineSeparator, event, lineSeparator ) ;
+                }
+            else
+                {
+                append( out, lineSeparator, event, lineSeparator, lineSeparator ) ;
+                }
+
+            }
+
+        }   // end render()
+
+
+    private void renderOverall( final Appendable out,
+                                final boolean fullReport )
+        {
+
+        final String lineSeparator = System.lineSeparator() ;
+
+        append( out, "Code Style Analysis:", lineSeparator, lineSeparator ) ;
+
+        // if everything is compliant, indicate so and we're done
+        if ( this.isCompliant )
+            {
+            append( out, "  ✔ No style violations.", lineSeparator ) ;
+
+            return ;
+            }
+
+        // there is/are compliance issues - list them
+        if ( fullReport )
+            {
+
+            for ( final CodeStyleAnalysisEvent event : this.codeStyleAnalysisEvents )
+                {
+                append( out, "  ", event, lineSeparator ) ;
+                }
+
+            }
+
+        final int violationCount = violationCount() ;
+
+        append( out,
+                String.format( "%n  %,d style violation%s:%n",
+                               violationCount,
+                               violationCount == 1
+                                       ? ""
+                                       : "s" ) ) ;
+
+        for ( final SeverityLevel severityLevel : SeverityLevel.values() )
+            {
+            final int count = this.violationSeverityLevelCounters[ severityLevel.ordinal() ] ;
+
+            append( out,
+                    String.format( "\t%5s %s violation%s%n",
+                                   count == 0
+                                           ? "no"
+                                           : String.format( "%,5d", count ),
+                                   severityLevel,
+                                   count == 1
+                                           ? ""
+                                           : "s" ) ) ;
+            }
+
+        }   // end renderOverall()
+
+
+    private static void append( final Appendable out,
+                                final Object... pieces )
+        {
+
+        try
+            {
+
+            for ( final Object piece : pieces )
+                {
+                out.append( String.valueOf( piece ) ) ;
+                }
+
+            }
+        catch ( final IOException e )
+            {
+            throw new UncheckedIOException( e ) ;
+            }
+
+        }   // end append()
+
     }   // end class CodeStyleAnalysisResult
@@ -27,27 +27,30 @@ import education.the_software_toolsmith.analyzer.framework.utilities.SharedState
 
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalysisEventPaired.StartOrFinish.* ;
 
-import com.puppycrawl.tools.checkstyle.Checker ;
-import com.puppycrawl.tools.checkstyle.ConfigurationLoader ;
-import com.puppycrawl.tools.checkstyle.ConfigurationLoader.IgnoredModulesOptions ;
-import com.puppycrawl.tools.checkstyle.PropertiesExpander ;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent ;
 import com.puppycrawl.tools.checkstyle.api.AuditListener ;
-import com.puppycrawl.tools.checkstyle.api.Configuration ;
-import com.puppycrawl.tools.checkstyle.api.SeverityLevel ;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException ;
 import com.puppycrawl.tools.checkstyle.api.Violation ;
-
-import org.xml.sax.InputSource ;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil ;
 
 import java.io.File ;
+import java.io.IOException ;
+import java.nio.file.FileSystems ;
+import java.nio.file.Files ;
 import java.nio.file.Path ;
+import java.util.Comparator ;
 import java.util.ArrayList ;
-import java.util.Arrays ;
+import java.util.HashMap ;
 import java.util.LinkedHashMap ;
-import java.util.LinkedList ;
 import java.util.List ;
 import java.util.Map ;
 import java.util.Map.Entry ;
+import java.util.Optional ;
+import java.util.concurrent.ExecutionException ;
+import java.util.concurrent.ExecutorService ;
+import java.util.concurrent.Executors ;
+import java.util.concurrent.Future ;
+import java.util.function.Consumer ;
 
 
 /**
@@ -73,6 +76,16 @@ import java.util.Map.Entry ;
  *     <li>rename from {@code CodingStyleAnalyzer} to {@code CodeStyleAnalyzer}
  *     <li>rename {@code runCheckstyle()} to {@code analyze()} for consistency with other analyzers
  *     </ul>
+ * @version 2.1 2026-10-16 accept paths on any file system (e.g., a mounted submission zip) - Checkstyle only
+ *     reads {@code java.io.File}s so they're staged in a temporary folder
+ * @version 2.2 2026-10-16 run on a {@link CodeStyleEngine} so the configuration is loaded and its modules
+ *     instantiated once rather than for every analysis
+ * @version 2.3 2026-10-16 add {@code analyzeBatch()} to analyze a whole section's submissions on one engine
+ * @version 2.4 2026-10-16 optionally reuse prior results for unchanged files from a {@link CodeStyleCache}
+ * @version 2.5 2026-10-16 route each event into its file's results as it's reported and render the reports
+ *     once afterward; the overall results now tally the violations in every file
+ * @version 2.6 2026-10-16 leave the reports to be rendered on demand by {@link CodeStyleAnalysisResult}
+ * @version 2.7 2026-10-16 document when to use {@code analyzeBatch()} rather than per-submission engines
  */
 public final class CodeStyleAnalyzer extends SharedState
     {
@@ -127,6 +140,56 @@ public final class CodeStyleAnalyzer extends SharedState
                                                                 List<Path> javaFiles ) throws Exception
         {
 
+        // the configuration is loaded once and reused until it's modified
+        return analyze( CodeStyleEngine.of( checkstyleXml ), javaFiles ) ;
+
+        }   // end analyze() with a configuration file
+
+
+    /**
+     * Run Checkstyle against the given Java source files on a pre-configured engine.
+     *
+     * @param engine
+     *     the loaded Checkstyle configuration - may be shared by concurrent analyses
+     * @param javaFiles
+     *     list of .java files to analyze
+     *
+     * @return results as described for {@link #analyze(Path, List)}
+     *
+     * @throws Exception
+     *     if checkstyle or our analyzer fails catastrophically
+     */
+    public static Map<String, CodeStyleAnalysisResult> analyze( CodeStyleEngine engine,
+                                                                List<Path> javaFiles ) throws Exception
+        {
+
+        return analyze( engine, null, javaFiles ) ;
+
+        }   // end analyze() with an engine
+
+
+    /**
+     * Run Checkstyle against the given Java source files on a pre-configured engine, reusing the results
+     * for any file which the cache holds for the engine's configuration. Only the remaining files are
+     * checked; their results are added to the cache.
+     *
+     * @param engine
+     *     the loaded Checkstyle configuration - may be shared by concurrent analyses
+     * @param cache
+     *     results of prior analyses - {@code null} to check every file
+     * @param javaFiles
+     *     list of .java files to analyze
+     *
+     * @return results as described for {@link #analyze(Path, List)}
+     *
+     * @throws Exception
+     *     if checkstyle or our analyzer fails catastrophically
+     */
+    public static Map<String, CodeStyleAnalysisResult> analyze( CodeStyleEngine engine,
+                                                                CodeStyleCache cache,
+                                                                List<Path> javaFiles ) throws Exception
+        {
+
         // do we have anything to do?
         if ( javaFiles.size() == 0 )
             {
@@ -134,345 +197,631 @@ public final class CodeStyleAnalyzer extends SharedState
             }
 
         // assertion: there's at least one source file to analyze
-        
-        // load Checkstyle configuration
-        InputSource inputSource = new InputSource( checkstyleXml.toUri().toString() ) ;
-        Configuration configuration =
-                ConfigurationLoader.loadConfiguration( inputSource,
-                                                       new PropertiesExpander( System.getProperties() ),
-                                                       IgnoredModulesOptions.OMIT ) ;
+
+        // Checkstyle only reads java.io.Files - stage anything that isn't on the default file system
+        if ( ! javaFiles.stream().allMatch( path -> path.getFileSystem() == FileSystems.getDefault() ) )
+            {
+            final Path stagingFolder = Files.createTempDirectory( "checkstyle-" ) ;
+
+            try
+                {
+                return analyze( engine, cache, stage( javaFiles, stagingFolder ) ) ;
+                }
+            finally
+                {
+                deleteStaged( stagingFolder ) ;
+                }
+
+            }
 
         
-        // create structures to collect audit information
-        
-        // split the audit information by source
+        // split the audit information by source as it's reported
         final Map<String, CodeStyleAnalysisResult> allAuditResults = new LinkedHashMap<>() ;
+        final EventRouter router = new EventRouter( allAuditResults ) ;
         
-        // create 'standard' results structures
-        final CodeStyleAnalysisResult everythingResults = new CodeStyleAnalysisResult() ;
-        allAuditResults.put( EVERYTHING_KEY, everythingResults ) ;
-        
-        final CodeStyleAnalysisResult auditResults = new CodeStyleAnalysisResult() ;
-        allAuditResults.put( AUDIT_KEY, auditResults ) ;
-        
-        final CodeStyleAnalysisResult exceptionsResults = new CodeStyleAnalysisResult() ;
-        allAuditResults.put( EXCEPTIONS_KEY, exceptionsResults ) ;
-        
-        
-        // shorthand references
-        StringBuilder report = everythingResults.report ;
-        StringBuilder summary = everythingResults.summary ;
-        
-        List<CodeStyleAnalysisEvent> eventsFound = everythingResults.codeStyleAnalysisEvents ;
+
+        // set up to check the file(s)
+        final String baseDirectory = PathUtils.computeBaseDirFor( javaFiles ) ;
+        router.everythingResults.baseDirectory = baseDirectory ;
         
 
-        // record all auditable events
-        AuditListener listener = new AuditListener()
+        // check them
+        try
             {
 
-            @Override
-            public void auditStarted( AuditEvent auditEvent )
+            if ( cache == null )
                 {
-                eventsFound.add( new CodeStyleAnalysisEventAudit( auditEvent, START ) ) ;
+                check( engine, javaFiles, baseDirectory, router::route ) ;
+                }
+            else
+                {
+                checkCached( engine, cache, javaFiles, baseDirectory ).forEach( router::route ) ;
                 }
 
+            }
+        catch ( Exception e )
+            {
+            // wrap and re-thow the exception
+            throw new ComplianceException( "catastrophic failure running Checkstyle analysis", e ) ;
+            }
+        
+        // assertion: Checkstyle analysis completed successfully - the reports are rendered on demand
 
-            @Override
-            public void auditFinished( AuditEvent auditEvent )
-                {
+        return allAuditResults ;
 
-                eventsFound.add( new CodeStyleAnalysisEventAudit( auditEvent, FINISH ) ) ;
+        }   // end analyze() with an engine and cache
 
-                }
 
+    /**
+     * Run Checkstyle against every submission in a batch on one pre-configured engine. Submissions are
+     * analyzed concurrently - each on its own checker from the engine's pool - and each gets its own
+     * results keyed exactly as {@link #analyze(Path, List)} keys them.
+     * <p>
+     * This is for a section whose sources are all on hand, e.g., {@code AnalyzeCodeStyle}. A batch grading
+     * run checks each submission's style in the worker JVM grading it, as the submission is scheduled and
+     * possibly straight from its zip - {@link CodeStyleEngine#of(Path)} already loads the configuration
+     * once per worker, so checking the section up front would only add extracting every submission before
+     * any is graded.
+     *
+     * @param <K>
+     *     identifies a submission - e.g., its folder
+     * @param engine
+     *     the loaded Checkstyle configuration
+     * @param submissions
+     *     the .java files to analyze for each submission
+     * @param parallelism
+     *     the maximum number of submissions to analyze concurrently
+     *
+     * @return each submission's results in the same order as {@code submissions} - {@code null} for a
+     *     submission with no source files
+     *
+     * @throws Exception
+     *     if checkstyle or our analyzer fails catastrophically for any submission - the remaining
+     *     submissions are still analyzed
+     */
+    public static <K> Map<K, Map<String, CodeStyleAnalysisResult>>
+            analyzeBatch( CodeStyleEngine engine,
+                          Map<K, List<Path>> submissions,
+                          int parallelism ) throws Exception
+        {
 
-            @Override
-            public void fileStarted( AuditEvent auditEvent )
-                {
-                
-                eventsFound.add( new CodeStyleAnalysisEventFile( auditEvent, START ) ) ;
+        return analyzeBatch( engine, null, submissions, parallelism ) ;
 
-                }
-            
+        }   // end analyzeBatch()
 
-            @Override
-            public void fileFinished( AuditEvent auditEvent )
-                {
 
-                eventsFound.add( new CodeStyleAnalysisEventFile( auditEvent, FINISH ) ) ;
+    /**
+     * Run Checkstyle against every submission in a batch on one pre-configured engine as described for
+     * {@link #analyzeBatch(CodeStyleEngine, Map, int)}, reusing cached results for unchanged files - e.g.,
+     * starter code every submission shares or a resubmission.
+     *
+     * @param <K>
+     *     identifies a submission - e.g., its folder
+     * @param engine
+     *     the loaded Checkstyle configuration
+     * @param cache
+     *     results of prior analyses - {@code null} to check every file
+     * @param submissions
+     *     the .java files to analyze for each submission
+     * @param parallelism
+     *     the maximum number of submissions to analyze concurrently
+     *
+     * @return each submission's results in the same order as {@code submissions} - {@code null} for a
+     *     submission with no source files
+     *
+     * @throws Exception
+     *     if checkstyle or our analyzer fails catastrophically for any submission - the remaining
+     *     submissions are still analyzed
+     */
+    public static <K> Map<K, Map<String, CodeStyleAnalysisResult>>
+            analyzeBatch( CodeStyleEngine engine,
+                          CodeStyleCache cache,
+                          Map<K, List<Path>> submissions,
+                          int parallelism ) throws Exception
+        {
+
+        final Map<K, Future<Map<String, CodeStyleAnalysisResult>>> analyses = new LinkedHashMap<>() ;
+        final int threads = Math.max( 1, Math.min( parallelism, submissions.size() ) ) ;
+        final ExecutorService executor = Executors.newFixedThreadPool( threads ) ;
+
+        try
+            {
 
+            for ( final Entry<K, List<Path>> submission : submissions.entrySet() )
+                {
+                analyses.put( submission.getKey(),
+                              executor.submit( () -> analyze( engine, cache, submission.getValue() ) ) ) ;
                 }
 
+            final Map<K, Map<String, CodeStyleAnalysisResult>> results = new LinkedHashMap<>() ;
+            Exception failure = null ;
 
-            @Override
-            public void addError( AuditEvent auditEvent )
+            for ( final Entry<K, Future<Map<String, CodeStyleAnalysisResult>>> analysis : analyses.entrySet() )
                 {
 
-                eventsFound.add( new CodeStyleAnalysisEventError( auditEvent ) ) ;
+                try
+                    {
+                    results.put( analysis.getKey(), analysis.getValue().get() ) ;
+                    }
+                catch ( final ExecutionException e )
+                    {
 
-                }
+                    if ( failure == null )
+                        {
+                        failure = e.getCause() instanceof final Exception cause
+                                ? cause
+                                : e ;
+                        }
+
+                    }
 
+                }
 
-            @Override
-            public void addException( AuditEvent auditEvent,
-                                      Throwable throwable )
+            if ( failure != null )
                 {
+                throw failure ;
+                }
 
-                eventsFound.add( new CodeStyleAnalysisEventException( auditEvent, throwable ) ) ;
+            return results ;
+            }
+        finally
+            {
+            executor.shutdownNow() ;
+            }
 
-                }
+        }   // end analyzeBatch() with a cache
+    
 
-            } ; // end AuditListener listener
+    /**
+     * debugging aid: dumps audit event to text
+     * 
+     * @param auditEvent
+     *     the audit event to display
+     * 
+     * @return a printable version of the supplied event
+     */
+    public static String eventToText( AuditEvent auditEvent )
+        {
 
+        return String.format( "\t%s:%n\tsource: %s%n\tfilename: %s%n\tviolation: %s%n",
+                              auditEvent.getClass().getSimpleName(),
+                              auditEvent.getSource(),
+                              auditEvent.getFileName(),
+                              auditEvent.getViolation() ) ;
 
-        // set up to check the file(s)
-        Checker checker = new Checker() ;
+        }   // end eventToText()
 
-        everythingResults.baseDirectory = PathUtils.computeBaseDirFor( javaFiles ) ;
 
-        checker.setBasedir( everythingResults.baseDirectory ) ;
-        
+    /*
+     * utility methods
+     */
 
-        // check them
-        try
+
+    /**
+     * run Checkstyle on every file delivering each event as it's reported
+     */
+    private static void check( final CodeStyleEngine engine,
+                               final List<Path> javaFiles,
+                               final String baseDirectory,
+                               final Consumer<CodeStyleAnalysisEvent> sink ) throws CheckstyleException
+        {
+
+        engine.process( toFiles( javaFiles ), baseDirectory, new EventRecorder( sink ) ) ;
+
+        }   // end check()
+
+
+    /**
+     * run Checkstyle on the files which aren't cached and replay the cached results for the rest
+     *
+     * @return the events as they would have been reported had every file been checked
+     */
+    private static List<CodeStyleAnalysisEvent> checkCached( final CodeStyleEngine engine,
+                                                             final CodeStyleCache cache,
+                                                             final List<Path> javaFiles,
+                                                             final String baseDirectory )
+            throws CheckstyleException, IOException
+        {
+
+        final Map<Path, String> keys = new HashMap<>() ;
+        final Map<Path, List<Violation>> cached = new HashMap<>() ;
+        final List<Path> uncached = new ArrayList<>() ;
+
+        for ( final Path path : javaFiles )
             {
-            checker.setModuleClassLoader( Checker.class.getClassLoader() ) ;
-            checker.addListener( listener ) ;
-            checker.configure( configuration ) ;
+            final String key = cache.keyFor( engine, path ) ;
+            keys.put( path, key ) ;
 
-            List<File> fileNames = new ArrayList<>( javaFiles.size() ) ;
+            final Optional<List<Violation>> violations = cache.lookup( key ) ;
 
-            for ( Path path : javaFiles )
+            if ( violations.isPresent() )
+                {
+                cached.put( path, violations.get() ) ;
+                }
+            else
                 {
-                fileNames.add( path.toAbsolutePath().toFile() ) ;
+                uncached.add( path ) ;
                 }
 
-            
-            // do the analysis
-            checker.process( fileNames ) ;
+            }
+
+        final List<CodeStyleAnalysisEvent> reported = new ArrayList<>() ;
 
+        if ( ! uncached.isEmpty() )
+            {
+            engine.process( toFiles( uncached ), baseDirectory, new EventRecorder( reported::add ) ) ;
             }
-        catch ( Exception e )
+
+        // separate the audit events from each file's events
+        final List<CodeStyleAnalysisEvent> auditEvents = new ArrayList<>() ;
+        final Map<String, List<CodeStyleAnalysisEvent>> fileEvents = new LinkedHashMap<>() ;
+
+        for ( final CodeStyleAnalysisEvent event : reported )
             {
-            // wrap and re-thow the exception
-            throw new ComplianceException( "catastrophic failure running Checkstyle analysis", e ) ;
+
+            if ( event instanceof final CodeStyleAnalysisEventFile fileEvent )
+                {
+                fileEvents.computeIfAbsent( fileEvent.getFilename(), filename -> new ArrayList<>() )
+                          .add( fileEvent ) ;
+                }
+            else
+                {
+                auditEvents.add( event ) ;
+                }
+
             }
-/* DEBUG */System.out.printf( "allAuditResults:%n%s%n%n", allAuditResults ) ;
-/* DEBUG */System.out.printf( "everythingResults:%n%s%n%n", everythingResults ) ;
-/* DEBUG */System.out.printf( "auditResults:%n%s%n%n", auditResults ) ;
-/* DEBUG */System.out.printf( "exceptionResults:%n%s%n%n", exceptionsResults ) ;
-        
-        // assertion: Checkstyle analysis completed successfully
-        
-        
-        // split the events by file or category
-        for ( CodeStyleAnalysisEvent event : eventsFound )
+
+        if ( auditEvents.isEmpty() )
             {
-            switch ( event )
+            // nothing was checked
+            auditEvents.add( new CodeStyleAnalysisEventAudit( new AuditEvent( engine ), START ) ) ;
+            auditEvents.add( new CodeStyleAnalysisEventAudit( new AuditEvent( engine ), FINISH ) ) ;
+            }
+
+        // reassemble the events in the original file order
+        final List<CodeStyleAnalysisEvent> events = new ArrayList<>() ;
+        events.add( auditEvents.getFirst() ) ;
+
+        for ( final Path path : javaFiles )
+            {
+            // named as Checkstyle names it
+            final String filename
+                    = CommonUtil.relativizePath( baseDirectory, path.toAbsolutePath().toFile().getAbsolutePath() ) ;
+
+            final List<Violation> violations = cached.get( path ) ;
+
+            if ( violations != null )
                 {
-                case CodeStyleAnalysisEventException exceptionEvent ->
+                events.add( new CodeStyleAnalysisEventFile( new AuditEvent( engine, filename ), START ) ) ;
+
+                for ( final Violation violation : violations )
                     {
-                    // use the local reference to the results structure for exceptions
-                    
-                    exceptionsResults.codeStyleAnalysisEvents.add( exceptionEvent ) ;
-                    
-                    final String entry = String.format( "%s%n", exceptionEvent.toString() ) ;
-                    
-                    exceptionsResults.report.append( entry ) ;
+                    events.add( new CodeStyleAnalysisEventError( new AuditEvent( engine,
+                                                                                 filename,
+                                                                                 violation ) ) ) ;
                     }
 
-                case CodeStyleAnalysisEventError errorEvent ->
+                events.add( new CodeStyleAnalysisEventFile( new AuditEvent( engine, filename ), FINISH ) ) ;
+
+                continue ;
+                }
+
+            final List<CodeStyleAnalysisEvent> checked = fileEvents.remove( filename ) ;
+
+            if ( checked == null )
+                {
+                continue ;
+                }
+
+            events.addAll( checked ) ;
+
+            if ( isComplete( checked ) )
+                {
+                final List<Violation> found = new ArrayList<>() ;
+
+                for ( final CodeStyleAnalysisEvent event : checked )
                     {
-                    final String filename = errorEvent.getFilename() ;
-                    
-                    // retrieve the results structure for this file (should have handled fileStarted)
-                    final CodeStyleAnalysisResult result = allAuditResults.get( filename ) ;
-                    if ( result == null )
+
+                    if ( event instanceof final CodeStyleAnalysisEventError errorEvent )
                         {
-                        throw new AnalysisException( String.format( "failed to retrieve result structure for %s",
-                                                                    filename ) ) ;
+                        found.add( errorEvent.getViolation() ) ;
                         }
-                    
-                    result.codeStyleAnalysisEvents.add( errorEvent ) ;
-                    
-                    // add the violation to the map by key
-                    final String key = errorEvent.getKey() ;
-                    List<Violation> violations = result.keyedViolations.getOrDefault( key, new LinkedList<>() ) ;
-                    violations.add( errorEvent.getViolation() ) ;
-                    result.keyedViolations.put( key, violations ) ;
-                    
-                    
-                    final String entry = String.format( "%s%n", errorEvent.toString() ) ;
-
-                    result.report.append( entry ) ;
-                    
-                    result.violationSeverityLevelCounters[ errorEvent.getSeverity().ordinal() ]++ ;
-                    
-                    result.isCompliant = false ;
-                    
-                    allAuditResults.put( filename, result ) ;
 
                     }
-                
-                case CodeStyleAnalysisEventFile fileEvent ->
-                    {
-                    final String filename = fileEvent.getFilename() ;
-                    
-                    // create or retrieve the results structure for this file
-                    final CodeStyleAnalysisResult result
-                            = allAuditResults.getOrDefault( filename,
-                                                        new CodeStyleAnalysisResult() ) ;
-                    
-                    result.codeStyleAnalysisEvents.add( fileEvent ) ;
-                    
-                    final String entry = String.format( "%n%s%n%n",  fileEvent.toString() ) ;
-                    
-                    result.report.append( entry ) ;
-                    result.summary.append( entry ) ;
-                    
-                    allAuditResults.put( filename, result ) ;
-                    }
-                
-                case CodeStyleAnalysisEventAudit auditEvent ->
-                    {
-                    // use the local reference to the results structure for the overall audit
-                    
-                    auditResults.codeStyleAnalysisEvents.add( auditEvent ) ;
-                    
-                    final String entry = String.format( "%n%s%n", auditEvent.toString() ) ;
-                    
-                    auditResults.report.append( entry ) ;
-                    auditResults.summary.append( entry ) ;
-                    }
 
-                default -> throw new ComplianceException( String.format( "unexpected event type: '%s'",
-                                                                         event.getClass()
-                                                                              .getSimpleName() ) ) ;
-                
-                }   // end switch
-            }   // end for all events found
-        
-        
-        // display all violations grouped by key
-/* DEBUG */ System.err.printf( "%n... 1 ...%n" ) ;
-//        for ( )
-        System.out.printf( "%n----------%nViolations by key for %s:%n%n", "???" ) ;
-        for ( Entry<String, List<Violation>> entry : everythingResults.keyedViolations.entrySet() )
+                cache.store( keys.get( path ), found ) ;
+                }
+
+            }
+
+        // anything Checkstyle reported under a name we didn't expect
+        fileEvents.values().forEach( events::addAll ) ;
+
+        events.add( auditEvents.getLast() ) ;
+
+        return events ;
+
+        }   // end checkCached()
+
+
+    /**
+     * @return {@code true} if the file was checked from start to finish without an exception
+     */
+    private static boolean isComplete( final List<CodeStyleAnalysisEvent> fileEvents )
+        {
+
+        boolean started = false ;
+        boolean finished = false ;
+
+        for ( final CodeStyleAnalysisEvent event : fileEvents )
             {
-            System.out.printf( "%s: %s%n", entry.getKey(), Arrays.toString( entry.getValue().toArray() ) ) ;
+
+            if ( event instanceof CodeStyleAnalysisEventException )
+                {
+                return false ;
+                }
+
+            if ( ( event instanceof final CodeStyleAnalysisEventFile fileEvent )
+                 && ! ( event instanceof CodeStyleAnalysisEventError ) )
+                {
+                started |= fileEvent.getStartingOrFinished() == START ;
+                finished |= fileEvent.getStartingOrFinished() == FINISH ;
+                }
+
             }
-        System.out.printf( "%n----------%n%n" ) ;
-        
-        /*
-         * generate the report(s) and summary(s) - IN_PROCESS DMR should the report be all encompassing? probably
-         * make it configurable - for now caller has control by giving us a single source file or potentially
-         * multiple
-         */
-        
 
-        // put the pieces together
-        for ( String key : allAuditResults.keySet() )
+        return started && finished ;
+
+        }   // end isComplete()
+
+
+    private static List<File> toFiles( final List<Path> javaFiles )
+        {
+
+        final List<File> files = new ArrayList<>( javaFiles.size() ) ;
+
+        for ( final Path path : javaFiles )
             {
-/* DEBUG */ System.err.printf( "%n... 2 ...%n" ) ;
-            final CodeStyleAnalysisResult result = allAuditResults.get( key ) ;
-            
-/* DEBUG */ System.out.printf( "%n----------%n%s:%n%s%n----------%n%n", key, result ) ;
+            files.add( path.toAbsolutePath().toFile() ) ;
             }
-        
-//        for ( String key : )
-        
 
-/* DEBUG */ System.err.printf( "%n... 3 ...%n" ) ;
-        final String reportHeader = String.format( "Code Style Analysis:%n%n" ) ;
-        final String noViolationsText = String.format( "  ✔ No style violations.%n" ) ;
+        return files ;
 
-        report.append( reportHeader ) ;
-        summary.append( reportHeader ) ;
+        }   // end toFiles()
 
-        
-        // if everything is compliant, indicate so and we're done
-        if ( everythingResults.isCompliant )
+
+    /**
+     * copy source files onto the default file system keeping their relative locations
+     *
+     * @param javaFiles
+     *     the files to copy
+     * @param stagingFolder
+     *     where to put the copies
+     *
+     * @return the copies in the same order as {@code javaFiles}
+     *
+     * @throws IOException
+     *     if a file can't be copied
+     */
+    private static List<Path> stage( final List<Path> javaFiles,
+                                     final Path stagingFolder ) throws IOException
+        {
+
+        final List<Path> staged = new ArrayList<>( javaFiles.size() ) ;
+
+        for ( final Path path : javaFiles )
             {
+            final Path absolute = path.toAbsolutePath() ;
+            final Path relative = absolute.getRoot() == null
+                    ? absolute
+                    : absolute.getRoot().relativize( absolute ) ;
 
-/* DEBUG */ System.err.printf( "%n... 4 ...%n" ) ;
-            report.append( noViolationsText ) ;
-            summary.append( noViolationsText ) ;
+            final Path copy = stagingFolder.resolve( relative.toString() ) ;
+            Files.createDirectories( copy.getParent() ) ;
+            Files.copy( path, copy ) ;
 
-            return allAuditResults ;
+            staged.add( copy ) ;
             }
 
+        return staged ;
 
-/* DEBUG */ System.err.printf( "%n... 5 ...%n" ) ;
-        // there is/are compliance issues - build a report of them
-        for ( CodeStyleAnalysisEvent codeStyleAnalysisEvents : eventsFound )
+        }   // end stage()
+
+
+    /**
+     * best effort removal of staged copies
+     *
+     * @param stagingFolder
+     *     the folder holding the copies
+     */
+    private static void deleteStaged( final Path stagingFolder )
+        {
+
+        try ( var walk = Files.walk( stagingFolder ) )
+            {
+            walk.sorted( Comparator.reverseOrder() ).forEach( path -> path.toFile().delete() ) ;
+            }
+        catch ( final IOException e )
+            {
+            // leave it for the OS to clean up
+            }
+
+        }   // end deleteStaged()
+
+
+    /*
+     * inner classes
+     */
+
+
+    /**
+     * delivers every audit event in the order it's reported
+     */
+    private static final class EventRecorder implements AuditListener
+        {
+
+        private final Consumer<CodeStyleAnalysisEvent> sink ;
+
+
+        EventRecorder( final Consumer<CodeStyleAnalysisEvent> sink )
             {
-            report.append( String.format( "  %s%n", codeStyleAnalysisEvents ) ) ;
 
-            everythingResults.violationSeverityLevelCounters[ codeStyleAnalysisEvents.getSeverity().ordinal() ]++ ;
+            this.sink = sink ;
+
+            }   // end constructor
+
+
+
+        @Override
+        public void auditStarted( AuditEvent auditEvent )
+            {
+            this.sink.accept( new CodeStyleAnalysisEventAudit( auditEvent, START ) ) ;
             }
 
 
-/* DEBUG */ System.err.printf( "%n... 6 ...%n" ) ;        
-        final String violationsHeader = String.format( "%n  %,d style violation%s:%n",
-                                                       eventsFound.size(),
-                                                       eventsFound.size() == 1
-                                                               ? ""
-                                                               : "s" ) ;
-        report.append( violationsHeader ) ;
-        summary.append( violationsHeader ) ;
+        @Override
+        public void auditFinished( AuditEvent auditEvent )
+            {
+
+            this.sink.accept( new CodeStyleAnalysisEventAudit( auditEvent, FINISH ) ) ;
 
+            }
 
-        final StringBuilder tallies = new StringBuilder() ;
 
-        for ( SeverityLevel severityLevel : SeverityLevel.values() )
+        @Override
+        public void fileStarted( AuditEvent auditEvent )
             {
 
-/* DEBUG */ System.err.printf( "%n... 7 ...%n" ) ;
-            int index = severityLevel.ordinal() ;
-            tallies.append( String.format( "\t%5s %s violation%s%n",
-                                           everythingResults.violationSeverityLevelCounters[ index ]
-                                                                     == 0
-                                                                             ? "no"
-                                                                             : String.format( "%,5d",
-                                                                                              everythingResults.violationSeverityLevelCounters[ index ] ),
-                                           severityLevel,
-                                           everythingResults.violationSeverityLevelCounters[ index ]
-                                                          == 1
-                                                                  ? ""
-                                                                  : "s" ) ) ;
+            this.sink.accept( new CodeStyleAnalysisEventFile( auditEvent, START ) ) ;
+
             }
 
-        report.append( tallies ) ;
-        summary.append( tallies ) ;
 
-        return allAuditResults ;
+        @Override
+        public void fileFinished( AuditEvent auditEvent )
+            {
+
+            this.sink.accept( new CodeStyleAnalysisEventFile( auditEvent, FINISH ) ) ;
+
+            }
+
+
+        @Override
+        public void addError( AuditEvent auditEvent )
+            {
+
+            this.sink.accept( new CodeStyleAnalysisEventError( auditEvent ) ) ;
+
+            }
+
+
+        @Override
+        public void addException( AuditEvent auditEvent,
+                                  Throwable throwable )
+            {
+
+            this.sink.accept( new CodeStyleAnalysisEventException( auditEvent, throwable ) ) ;
+
+            }
+
+        }   // end class EventRecorder
 
-        }   // end analyze()
-    
 
     /**
-     * debugging aid: dumps audit event to text
-     * 
-     * @param auditEvent
-     *     the audit event to display
-     * 
-     * @return a printable version of the supplied event
+     * routes each event into the results for its file or category as it's reported
      */
-    public static String eventToText( AuditEvent auditEvent )
+    private static final class EventRouter
         {
 
-        return String.format( "\t%s:%n\tsource: %s%n\tfilename: %s%n\tviolation: %s%n",
-                              auditEvent.getClass().getSimpleName(),
-                              auditEvent.getSource(),
-                              auditEvent.getFileName(),
-                              auditEvent.getViolation() ) ;
+        private final Map<String, CodeStyleAnalysisResult> allAuditResults ;
 
-        }   // end eventToText()
+        final CodeStyleAnalysisResult everythingResults = new CodeStyleAnalysisResult( true ) ;
+        private final CodeStyleAnalysisResult auditResults = new CodeStyleAnalysisResult() ;
+        private final CodeStyleAnalysisResult exceptionsResults = new CodeStyleAnalysisResult() ;
 
 
-    /*
-     * inner classes
-     */
-    // none
+        EventRouter( final Map<String, CodeStyleAnalysisResult> allAuditResults )
+            {
+
+            this.allAuditResults = allAuditResults ;
+
+            // 'standard' results structures
+            allAuditResults.put( EVERYTHING_KEY, this.everythingResults ) ;
+            allAuditResults.put( AUDIT_KEY, this.auditResults ) ;
+            allAuditResults.put( EXCEPTIONS_KEY, this.exceptionsResults ) ;
+
+            }   // end constructor
+
+
+        /**
+         * add an event to the overall results and the results for its file or category
+         *
+         * @param event
+         *     the event
+         */
+        void route( final CodeStyleAnalysisEvent event )
+            {
+
+            this.everythingResults.codeStyleAnalysisEvents.add( event ) ;
+
+            switch ( event )
+                {
+                case CodeStyleAnalysisEventException exceptionEvent ->
+                    this.exceptionsResults.codeStyleAnalysisEvents.add( exceptionEvent ) ;
+
+                case CodeStyleAnalysisEventError errorEvent ->
+                    {
+                    final String filename = errorEvent.getFilename() ;
+
+                    // retrieve the results structure for this file (should have handled fileStarted)
+                    final CodeStyleAnalysisResult result = this.allAuditResults.get( filename ) ;
+
+                    if ( result == null )
+                        {
+                        throw new AnalysisException( String.format( "failed to retrieve result structure for %s",
+                                                                    filename ) ) ;
+                        }
+
+                    result.codeStyleAnalysisEvents.add( errorEvent ) ;
+
+                    tally( result, errorEvent ) ;
+                    tally( this.everythingResults, errorEvent ) ;
+                    }
+
+                case CodeStyleAnalysisEventFile fileEvent ->
+                    // create or retrieve the results structure for this file
+                    this.allAuditResults.computeIfAbsent( fileEvent.getFilename(),
+                                                          filename -> new CodeStyleAnalysisResult() )
+                                        .codeStyleAnalysisEvents.add( fileEvent ) ;
+
+                case CodeStyleAnalysisEventAudit auditEvent ->
+                    this.auditResults.codeStyleAnalysisEvents.add( auditEvent ) ;
+
+                default -> throw new ComplianceException( String.format( "unexpected event type: '%s'",
+                                                                         event.getClass()
+                                                                              .getSimpleName() ) ) ;
+
+                }   // end switch
+
+            }   // end route()
+
+
+        /**
+         * count a violation
+         */
+        private static void tally( final CodeStyleAnalysisResult result,
+                                   final CodeStyleAnalysisEventError errorEvent )
+            {
+
+            result.keyedViolations.computeIfAbsent( errorEvent.getKey(), key -> new ArrayList<>() )
+                                  .add( errorEvent.getViolation() ) ;
+
+            result.violationSeverityLevelCounters[ errorEvent.getSeverity().ordinal() ]++ ;
+
+            result.isCompliant = false ;
+
+            }   // end tally()
+
+        }   // end class EventRouter
 
     }   // end class CodeStyleAnalyzer
@@ -0,0 +1,405 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.style ;
+
+import education.the_software_toolsmith.analyzer.framework.utilities.Hashing ;
+
+import com.puppycrawl.tools.checkstyle.Checker ;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel ;
+import com.puppycrawl.tools.checkstyle.api.Violation ;
+
+import java.io.IOException ;
+import java.io.InputStream ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.AtomicMoveNotSupportedException ;
+import java.nio.file.FileAlreadyExistsException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardCopyOption ;
+import java.security.MessageDigest ;
+import java.util.ArrayList ;
+import java.util.List ;
+import java.util.Optional ;
+import java.util.concurrent.atomic.AtomicLong ;
+
+
+/**
+ * persistent per-file store of prior Checkstyle results
+ * <p>
+ * A file's key is the SHA-256 of its content and name combined with its engine's
+ * {@link CodeStyleEngine#fingerprint() fingerprint} - the effective configuration and the Checkstyle
+ * version. Changing any rule therefore invalidates every entry, while an unchanged file is reported
+ * without running Checkstyle. Files named by the configuration (e.g., a suppressions file) are identified
+ * by their path only.
+ * <p>
+ * Each entry is a file named by the key holding one line per violation. Entries are written to a
+ * temporary file and renamed into place - atomically where the file system supports it - so concurrent
+ * analyses never see a partial entry. Files which caused Checkstyle exceptions aren't cached.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 fall back to a plain rename where an atomic one isn't supported
+ * @version 1.2 2026-10-16 hash with {@link Hashing}
+ */
+public final class CodeStyleCache
+    {
+
+    /** file type of an entry */
+    private static final String ENTRY_SUFFIX = ".violations" ;
+
+    /** separates the fields of a violation */
+    private static final char FIELD_SEPARATOR = '\t' ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final Path cacheRoot ;
+
+    private final AtomicLong hits = new AtomicLong() ;
+    private final AtomicLong misses = new AtomicLong() ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private CodeStyleCache( final Path cacheRoot )
+        {
+
+        this.cacheRoot = cacheRoot ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * prepare the cache folder
+     *
+     * @param cacheRoot
+     *     folder which holds the cache entries - shared by every configuration
+     *
+     * @return the cache
+     *
+     * @throws IOException
+     *     if the cache folder can't be created
+     */
+    public static CodeStyleCache open( final Path cacheRoot ) throws IOException
+        {
+
+        Files.createDirectories( cacheRoot ) ;
+
+        return new CodeStyleCache( cacheRoot ) ;
+
+        }   // end open()
+
+
+    /**
+     * compute the cache key for a source file
+     *
+     * @param engine
+     *     the engine which would check the file
+     * @param javaFile
+     *     the file
+     *
+     * @return the key
+     *
+     * @throws IOException
+     *     if the file can't be read
+     */
+    public String keyFor( final CodeStyleEngine engine,
+                          final Path javaFile ) throws IOException
+        {
+
+        final MessageDigest digest = Hashing.newDigest() ;
+
+        Hashing.update( digest, engine.fingerprint() ) ;
+        // some checks depend on the file name - e.g., the outer type must match it
+        Hashing.update( digest, javaFile.getFileName().toString() ) ;
+
+        try ( InputStream in = Files.newInputStream( javaFile ) )
+            {
+            Hashing.update( digest, in ) ;
+            }
+
+        return Hashing.toHex( digest ) ;
+
+        }   // end keyFor()
+
+
+    /**
+     * retrieve a file's prior violations
+     *
+     * @param key
+     *     from {@link #keyFor(CodeStyleEngine, Path)}
+     *
+     * @return the violations - empty if the file was clean - or empty if there is no usable entry for the key
+     *
+     * @throws IOException
+     *     if the entry can't be read
+     */
+    public Optional<List<Violation>> lookup( final String key ) throws IOException
+        {
+
+        final Path entry = this.cacheRoot.resolve( key + ENTRY_SUFFIX ) ;
+
+        if ( ! Files.isRegularFile( entry ) )
+            {
+            this.misses.incrementAndGet() ;
+
+            return Optional.empty() ;
+            }
+
+        final List<Violation> violations = new ArrayList<>() ;
+
+        try
+            {
+
+            for ( final String line : Files.readAllLines( entry, StandardCharsets.UTF_8 ) )
+                {
+                violations.add( decode( line ) ) ;
+                }
+
+            }
+        catch ( final ClassNotFoundException | IllegalArgumentException | IndexOutOfBoundsException e )
+            {
+            // written by a different Checkstyle or damaged - check the file again
+            this.misses.incrementAndGet() ;
+
+            return Optional.empty() ;
+            }
+
+        this.hits.incrementAndGet() ;
+
+        return Optional.of( violations ) ;
+
+        }   // end lookup()
+
+
+    /**
+     * record a file's violations
+     *
+     * @param key
+     *     from {@link #keyFor(CodeStyleEngine, Path)}
+     * @param violations
+     *     every violation reported for the file - empty if it was clean
+     *
+     * @throws IOException
+     *     if the entry can't be written
+     */
+    public void store( final String key,
+                       final List<Violation> violations ) throws IOException
+        {
+
+        final Path entry = this.cacheRoot.resolve( key + ENTRY_SUFFIX ) ;
+
+        if ( Files.isRegularFile( entry ) )
+            {
+            return ;
+            }
+
+        final List<String> lines = new ArrayList<>( violations.size() ) ;
+
+        for ( final Violation violation : violations )
+            {
+            lines.add( encode( violation ) ) ;
+            }
+
+        final Path staging = Files.createTempFile( this.cacheRoot, key + "-", ".tmp" ) ;
+
+        try
+            {
+            Files.write( staging, lines, StandardCharsets.UTF_8 ) ;
+
+            try
+                {
+                Files.move( staging, entry, StandardCopyOption.ATOMIC_MOVE ) ;
+                }
+            catch ( final AtomicMoveNotSupportedException e )
+                {
+                // a plain rename within the cache folder is still all-or-nothing on most file systems
+                Files.move( staging, entry ) ;
+                }
+
+            }
+        catch ( final FileAlreadyExistsException e )
+            {
+            // another analysis stored the same content first
+            Files.deleteIfExists( staging ) ;
+            }
+        catch ( final IOException e )
+            {
+            Files.deleteIfExists( staging ) ;
+
+            throw e ;
+            }
+
+        }   // end store()
+
+
+    /**
+     * @return the number of files whose results were reused
+     */
+    public long hits()
+        {
+
+        return this.hits.get() ;
+
+        }   // end hits()
+
+
+    /**
+     * @return the number of files which had to be checked
+     */
+    public long misses()
+        {
+
+        return this.misses.get() ;
+
+        }   // end misses()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s: %,d style cache hits, %,d misses",
+                              this.cacheRoot,
+                              this.hits.get(),
+                              this.misses.get() ) ;
+
+        }   // end toString()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static String encode( final Violation violation )
+        {
+
+        return String.join( String.valueOf( FIELD_SEPARATOR ),
+                            Integer.toString( violation.getLineNo() ),
+                            Integer.toString( violation.getColumnNo() ),
+                            Integer.toString( violation.getColumnCharIndex() ),
+                            Integer.toString( violation.getTokenType() ),
+                            violation.getSeverityLevel().name(),
+                            escape( violation.getKey() ),
+                            escape( violation.getModuleId() ),
+                            escape( violation.getSourceName() ),
+                            escape( violation.getViolation() ) ) ;
+
+        }   // end encode()
+
+
+    private static Violation decode( final String line ) throws ClassNotFoundException
+        {
+
+        final String[] fields = line.split( String.valueOf( FIELD_SEPARATOR ), -1 ) ;
+
+        if ( fields.length != 9 )
+            {
+            throw new IllegalArgumentException( "malformed entry: " + line ) ;
+            }
+
+        final Class<?> sourceClass
+                = Class.forName( unescape( fields[ 7 ] ), false, Checker.class.getClassLoader() ) ;
+
+        // the message is already rendered - quote it so it isn't reformatted
+        final String message = "'" + unescape( fields[ 8 ] ).replace( "'", "''" ) + "'" ;
+
+        return new Violation( Integer.parseInt( fields[ 0 ] ),
+                              Integer.parseInt( fields[ 1 ] ),
+                              Integer.parseInt( fields[ 2 ] ),
+                              Integer.parseInt( fields[ 3 ] ),
+                              null,
+                              unescape( fields[ 5 ] ),
+                              new Object[ 0 ],
+                              SeverityLevel.valueOf( fields[ 4 ] ),
+                              unescape( fields[ 6 ] ),
+                              sourceClass,
+                              message ) ;
+
+        }   // end decode()
+
+
+    /**
+     * @return the text with backslashes, tabs, and line breaks escaped - {@code null} becomes {@code \0}
+     */
+    private static String escape( final String text )
+        {
+
+        if ( text == null )
+            {
+            return "\\0" ;
+            }
+
+        return text.replace( "\\", "\\\\" )
+                   .replace( "\t", "\\t" )
+                   .replace( "\n", "\\n" )
+                   .replace( "\r", "\\r" ) ;
+
+        }   // end escape()
+
+
+    private static String unescape( final String text )
+        {
+
+        if ( "\\0".equals( text ) )
+            {
+            return null ;
+            }
+
+        final StringBuilder unescaped = new StringBuilder( text.length() ) ;
+
+        for ( int i = 0 ; i < text.length() ; i++ )
+            {
+            char c = text.charAt( i ) ;
+
+            if ( ( c == '\\' ) && ( ( i + 1 ) < text.length() ) )
+                {
+                i++ ;
+                c = switch ( text.charAt( i ) )
+                    {
+                    case 't' -> '\t' ;
+                    case 'n' -> '\n' ;
+                    case 'r' -> '\r' ;
+                    default -> text.charAt( i ) ;
+                    } ;
+                }
+
+            unescaped.append( c ) ;
+            }
+
+        return unescaped.toString() ;
+
+        }   // end unescape()
+
+    }   // end class CodeStyleCache
@@ -0,0 +1,412 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.style ;
+
+import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceException ;
+import education.the_software_toolsmith.analyzer.framework.utilities.Hashing ;
+
+import com.puppycrawl.tools.checkstyle.Checker ;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader ;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader.IgnoredModulesOptions ;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander ;
+import com.puppycrawl.tools.checkstyle.api.AuditListener ;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException ;
+import com.puppycrawl.tools.checkstyle.api.Configuration ;
+
+import org.xml.sax.InputSource ;
+
+import java.io.File ;
+import java.io.IOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.attribute.FileTime ;
+import java.security.MessageDigest ;
+import java.util.Arrays ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Queue ;
+import java.util.TreeMap ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.concurrent.ConcurrentLinkedQueue ;
+import java.util.concurrent.atomic.AtomicInteger ;
+
+
+/**
+ * a Checkstyle configuration loaded once and a pool of {@link Checker}s configured with it
+ * <p>
+ * Loading checkstyle.xml and instantiating its modules is paid once per configuration rather than once
+ * per analysis. A {@code Checker} isn't thread-safe so each run borrows one from the pool - creating one if
+ * none is idle - and returns it afterward, so the pool never holds more checkers than the number of
+ * threads which have used it concurrently.
+ * <p>
+ * Engines are cached by the configuration's path and reloaded only if it's modified. Properties in the
+ * configuration are expanded from the system properties when it's loaded.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 fingerprint the effective configuration for {@link CodeStyleCache}
+ * @version 1.2 2026-10-16 hash with {@link Hashing}
+ */
+public final class CodeStyleEngine implements AutoCloseable
+    {
+
+    /** loaded engines keyed by normalized absolute path */
+    private static final Map<Path, CodeStyleEngine> ENGINES = new ConcurrentHashMap<>() ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final Path checkstyleXml ;
+    private final FileTime lastModified ;
+    private final Configuration configuration ;
+    private final String fingerprint ;
+
+    private final Queue<Checker> idle = new ConcurrentLinkedQueue<>() ;
+    private final AtomicInteger checkersCreated = new AtomicInteger() ;
+
+    private volatile boolean closed = false ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private CodeStyleEngine( final Path checkstyleXml,
+                             final FileTime lastModified,
+                             final Configuration configuration )
+        {
+
+        this.checkstyleXml = checkstyleXml ;
+        this.lastModified = lastModified ;
+        this.configuration = configuration ;
+        this.fingerprint = fingerprint( configuration ) ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * retrieve the engine for a configuration, loading it if it isn't cached or has been modified
+     *
+     * @param checkstyleXml
+     *     path to checkstyle.xml
+     *
+     * @return the shared engine - don't close it
+     *
+     * @throws IOException
+     *     if the configuration can't be read
+     * @throws ComplianceException
+     *     if the configuration is invalid
+     */
+    public static CodeStyleEngine of( final Path checkstyleXml ) throws IOException
+        {
+
+        final Path key = checkstyleXml.toAbsolutePath().normalize() ;
+        final FileTime lastModified = Files.getLastModifiedTime( key ) ;
+
+        return ENGINES.compute( key, ( path, cached ) ->
+            {
+
+            if ( cached != null )
+                {
+
+                if ( cached.lastModified.equals( lastModified ) )
+                    {
+                    return cached ;
+                    }
+
+                // checkers in use are discarded when they're returned
+                cached.close() ;
+                }
+
+            return load( path, lastModified ) ;
+            } ) ;
+
+        }   // end of()
+
+
+    /**
+     * load a configuration into a new engine which isn't shared
+     *
+     * @param checkstyleXml
+     *     path to checkstyle.xml
+     *
+     * @return the engine - the caller is responsible for closing it
+     *
+     * @throws IOException
+     *     if the configuration can't be read
+     * @throws ComplianceException
+     *     if the configuration is invalid
+     */
+    public static CodeStyleEngine load( final Path checkstyleXml ) throws IOException
+        {
+
+        final Path path = checkstyleXml.toAbsolutePath().normalize() ;
+
+        return load( path, Files.getLastModifiedTime( path ) ) ;
+
+        }   // end load()
+
+
+    /**
+     * discard all cached engines
+     */
+    public static void clear()
+        {
+
+        ENGINES.values().forEach( CodeStyleEngine::close ) ;
+        ENGINES.clear() ;
+
+        }   // end clear()
+
+
+    /**
+     * run Checkstyle on a set of files
+     *
+     * @param files
+     *     the files to check
+     * @param baseDirectory
+     *     file names are reported relative to this
+     * @param listener
+     *     receives the audit events for this run only
+     *
+     * @return the number of errors found
+     *
+     * @throws CheckstyleException
+     *     if Checkstyle fails - the checker is discarded
+     */
+    public int process( final List<File> files,
+                        final String baseDirectory,
+                        final AuditListener listener ) throws CheckstyleException
+        {
+
+        Checker checker = this.idle.poll() ;
+
+        if ( checker == null )
+            {
+            checker = newChecker() ;
+            }
+
+        boolean reusable = false ;
+
+        try
+            {
+            checker.setBasedir( baseDirectory ) ;
+            checker.addListener( listener ) ;
+
+            try
+                {
+                final int errorCount = checker.process( files ) ;
+                reusable = true ;
+
+                return errorCount ;
+                }
+            finally
+                {
+                checker.removeListener( listener ) ;
+                }
+
+            }
+        finally
+            {
+
+            if ( reusable && ! this.closed )
+                {
+                this.idle.offer( checker ) ;
+                }
+            else
+                {
+                checker.destroy() ;
+                }
+
+            }
+
+        }   // end process()
+
+
+    /**
+     * @return the number of checkers configured so far
+     */
+    public int checkersCreated()
+        {
+
+        return this.checkersCreated.get() ;
+
+        }   // end checkersCreated()
+
+
+    /**
+     * @return a hash of the effective configuration - after property expansion - and the Checkstyle version;
+     *     engines with the same fingerprint report the same violations for the same file
+     */
+    public String fingerprint()
+        {
+
+        return this.fingerprint ;
+
+        }   // end fingerprint()
+
+
+    /**
+     * @return the configuration file
+     */
+    public Path checkstyleXml()
+        {
+
+        return this.checkstyleXml ;
+
+        }   // end checkstyleXml()
+
+
+    /**
+     * release the idle checkers - checkers in use are released when they're returned
+     */
+    @Override
+    public void close()
+        {
+
+        this.closed = true ;
+
+        Checker checker ;
+
+        while ( ( checker = this.idle.poll() ) != null )
+            {
+            checker.destroy() ;
+            }
+
+        }   // end close()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s: %,d checkers configured, %,d idle",
+                              this.checkstyleXml,
+                              this.checkersCreated.get(),
+                              this.idle.size() ) ;
+
+        }   // end toString()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static CodeStyleEngine load( final Path path,
+                                         final FileTime lastModified )
+        {
+
+        try
+            {
+            final Configuration configuration
+                    = ConfigurationLoader.loadConfiguration( new InputSource( path.toUri().toString() ),
+                                                             new PropertiesExpander( System.getProperties() ),
+                                                             IgnoredModulesOptions.OMIT ) ;
+
+            return new CodeStyleEngine( path, lastModified, configuration ) ;
+            }
+        catch ( final CheckstyleException e )
+            {
+            throw new ComplianceException( "can't load Checkstyle configuration " + path, e ) ;
+            }
+
+        }   // end load() for a path and timestamp
+
+
+    private static String fingerprint( final Configuration configuration )
+        {
+
+        try
+            {
+            final MessageDigest digest = Hashing.newDigest() ;
+
+            Hashing.update( digest, String.valueOf( Checker.class.getPackage().getImplementationVersion() ) ) ;
+            update( digest, configuration ) ;
+
+            return Hashing.toHex( digest ) ;
+            }
+        catch ( final CheckstyleException e )
+            {
+            // the properties were all read when the configuration was loaded
+            throw new IllegalStateException( e ) ;
+            }
+
+        }   // end fingerprint()
+
+
+    private static void update( final MessageDigest digest,
+                                final Configuration module ) throws CheckstyleException
+        {
+
+        Hashing.update( digest, module.getName() ) ;
+
+        final String[] propertyNames = module.getPropertyNames().clone() ;
+        Arrays.sort( propertyNames ) ;
+
+        for ( final String propertyName : propertyNames )
+            {
+            Hashing.update( digest, propertyName ) ;
+            Hashing.update( digest, module.getProperty( propertyName ) ) ;
+            }
+
+        for ( final Map.Entry<String, String> message : new TreeMap<>( module.getMessages() ).entrySet() )
+            {
+            Hashing.update( digest, message.getKey() ) ;
+            Hashing.update( digest, message.getValue() ) ;
+            }
+
+        // children in order - a module's checks are applied in declaration order
+        for ( final Configuration child : module.getChildren() )
+            {
+            update( digest, child ) ;
+            }
+
+        Hashing.update( digest, "end " + module.getName() ) ;
+
+        }   // end update() for a module
+
+
+    private Checker newChecker() throws CheckstyleException
+        {
+
+        final Checker checker = new Checker() ;
+
+        checker.setModuleClassLoader( Checker.class.getClassLoader() ) ;
+        checker.configure( this.configuration ) ;
+
+        this.checkersCreated.incrementAndGet() ;
+
+        return checker ;
+
+        }   // end newChecker()
+
+    }   // end class CodeStyleEngine
@@ -22,6 +22,7 @@ package education.the_software_toolsmith.analyzer.framework.static_analysis.tool
 
 
 import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Requirement ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan ;
 
 import com.fasterxml.jackson.core.JsonProcessingException ;
 import com.fasterxml.jackson.core.type.TypeReference ;
@@ -42,6 +43,7 @@ import java.util.Map ;
  * @author David M Rosenberg
  *
  * @version 1.0 2025-12-24 initial implementation based on AstStore and code from ChatGPT 5.2
+ * @version 1.1 2026-10-16 add {@code loadPlan()} to load and compile requirements once per assignment
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class ImplementationComplianceStore
@@ -85,6 +87,26 @@ public final class ImplementationComplianceStore
         }   // end load() with String
 
 
+    /**
+     * load an assignment's requirements and compile them into a plan which can be shared by every
+     * student's analysis
+     *
+     * @param file
+     *     the stored requirements
+     *
+     * @return the compiled requirements
+     *
+     * @throws IOException
+     *     if the file can't be read or parsed
+     */
+    public static RequirementPlan loadPlan( final Path file ) throws IOException
+        {
+
+        return RequirementPlan.compile( load( file ) ) ;
+
+        }   // end loadPlan()
+
+
     public static void save( final Map<String, List<Requirement>> mapOfRequirements,
                              final File file ) throws IOException
         {
@@ -0,0 +1,213 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.utilities ;
+
+import java.util.List ;
+import java.util.Objects ;
+
+/**
+ * identifies the assignment a grading job is for - the class the students write and where it lives
+ * <p>
+ * A context is immutable and passed along with each job so one JVM can grade submissions for several
+ * assignments concurrently. {@link SharedState} remains as the default for tools which only ever grade
+ * one assignment.
+ *
+ * @param className
+ *     name without file type - e.g., {@code LinkedBag}
+ * @param adtPathSegment
+ *     type and optionally category (adt|app) as a path - e.g., {@code stacks/adt}
+ * @param adtPackageSegment
+ *     type and optionally category (adt|app) as a package - e.g., {@code stacks.adt}
+ * @param longAssignmentId
+ *     typically {lab|proj|project}-##[-#] where ## is a 2-digit assignment number with leading 0-fill and
+ *     -# is an optional deliverable identifier
+ * @param shortAssignmentId
+ *     typically {l|p}-##[-#] where ## is a 2-digit assignment number with leading 0-fill and -# is an
+ *     optional deliverable identifier
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public record AssignmentContext( String className,
+                                 String adtPathSegment,
+                                 String adtPackageSegment,
+                                 String longAssignmentId,
+                                 String shortAssignmentId )
+    {
+
+    /** separates the fields of an encoded context */
+    private static final String FIELD_SEPARATOR = "," ;
+
+    /** root package of the students' code and the tests */
+    private static final String BASE_PACKAGE_PATH = "edu/wit/scds/ds/" ;
+
+
+    /**
+     * validate the fields
+     *
+     * @param className
+     *     name without file type
+     * @param adtPathSegment
+     *     type and optionally category as a path
+     * @param adtPackageSegment
+     *     type and optionally category as a package
+     * @param longAssignmentId
+     *     the long form of the assignment id
+     * @param shortAssignmentId
+     *     the short form of the assignment id
+     *
+     * @throws NullPointerException
+     *     if any field is {@code null}
+     * @throws IllegalArgumentException
+     *     if any field is blank or contains a separator or whitespace
+     */
+    public AssignmentContext
+        {
+
+        for ( final String field : List.of( Objects.requireNonNull( className, "className" ),
+                                            Objects.requireNonNull( adtPathSegment, "adtPathSegment" ),
+                                            Objects.requireNonNull( adtPackageSegment, "adtPackageSegment" ),
+                                            Objects.requireNonNull( longAssignmentId, "longAssignmentId" ),
+                                            Objects.requireNonNull( shortAssignmentId, "shortAssignmentId" ) ) )
+            {
+
+            // the context travels on command lines and in worker requests
+            if ( field.isBlank() || field.contains( FIELD_SEPARATOR )
+                 || field.chars().anyMatch( Character::isWhitespace ) )
+                {
+                throw new IllegalArgumentException( String.format( "invalid assignment field: '%s'", field ) ) ;
+                }
+
+            }
+
+        }   // end compact constructor
+
+
+    /**
+     * reconstruct a context from {@link #encode()}
+     *
+     * @param encoded
+     *     the encoded context
+     *
+     * @return the context
+     *
+     * @throws IllegalArgumentException
+     *     if {@code encoded} isn't an encoded context
+     */
+    public static AssignmentContext decode( final String encoded )
+        {
+
+        final String[] fields = encoded.split( FIELD_SEPARATOR, -1 ) ;
+
+        if ( fields.length != 5 )
+            {
+            throw new IllegalArgumentException( String.format( "not an assignment context: '%s'", encoded ) ) ;
+            }
+
+        return new AssignmentContext( fields[ 0 ], fields[ 1 ], fields[ 2 ], fields[ 3 ], fields[ 4 ] ) ;
+
+        }   // end decode()
+
+
+    /**
+     * @return this context as a single token for a command line or worker request - see
+     *     {@link #decode(String)}
+     */
+    public String encode()
+        {
+
+        return String.join( FIELD_SEPARATOR,
+                            this.className,
+                            this.adtPathSegment,
+                            this.adtPackageSegment,
+                            this.longAssignmentId,
+                            this.shortAssignmentId ) ;
+
+        }   // end encode()
+
+
+    /**
+     * @return the students' source file name - e.g., {@code LinkedBag.java}
+     */
+    public String sourceFileName()
+        {
+
+        return this.className + ".java" ;
+
+        }   // end sourceFileName()
+
+
+    /**
+     * @return the students' source file relative to the source root - e.g.,
+     *     {@code edu/wit/scds/ds/bags/LinkedBag.java}
+     */
+    public String sourceRelativePath()
+        {
+
+        return BASE_PACKAGE_PATH + this.adtPathSegment + "/" + sourceFileName() ;
+
+        }   // end sourceRelativePath()
+
+
+    /**
+     * @return the compiled class relative to the output folder - e.g.,
+     *     {@code edu/wit/scds/ds/bags/LinkedBag.class}
+     */
+    public String classFileRelativePath()
+        {
+
+        return BASE_PACKAGE_PATH + this.adtPathSegment + "/" + this.className + ".class" ;
+
+        }   // end classFileRelativePath()
+
+
+    /**
+     * @return the end of the path to the students' source file in a correctly structured submission
+     */
+    public String expectedSourceSuffix()
+        {
+
+        return "/src/main/java/" + sourceRelativePath() ;
+
+        }   // end expectedSourceSuffix()
+
+
+    /**
+     * @return the fully qualified name of the JUnit test class
+     */
+    public String testClassName()
+        {
+
+        return "edu.wit.scds.ds.tests." + this.adtPackageSegment + ".tests." + this.className + "DMRTests" ;
+
+        }   // end testClassName()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s %s (%s)", this.longAssignmentId, this.className, this.adtPackageSegment ) ;
+
+        }   // end toString()
+
+    }   // end record AssignmentContext
@@ -0,0 +1,128 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.utilities ;
+
+import java.io.IOException ;
+import java.io.InputStream ;
+import java.nio.charset.StandardCharsets ;
+import java.security.MessageDigest ;
+import java.security.NoSuchAlgorithmException ;
+import java.util.HexFormat ;
+
+/**
+ * content hashing for cache keys and fingerprints
+ * <p>
+ * Each value fed to a digest is followed by a separator so adjacent values can't collide by shifting
+ * bytes from one to the next.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation - consolidates the hashing in {@code ResultCache},
+ *     {@code CodeStyleEngine}, and {@code CodeStyleCache}
+ */
+public final class Hashing
+    {
+
+    /** prevent instantiation */
+    private Hashing()
+        {}
+
+
+    /**
+     * @return a new SHA-256 digest
+     */
+    public static MessageDigest newDigest()
+        {
+
+        try
+            {
+            return MessageDigest.getInstance( "SHA-256" ) ;
+            }
+        catch ( final NoSuchAlgorithmException e )
+            {
+            throw new IllegalStateException( "SHA-256 is required of every Java platform", e ) ;
+            }
+
+        }   // end newDigest()
+
+
+    /**
+     * add text to a digest
+     *
+     * @param digest
+     *     the digest to update
+     * @param text
+     *     the text - {@code null} is hashed as {@code "null"}
+     */
+    public static void update( final MessageDigest digest,
+                               final String text )
+        {
+
+        digest.update( String.valueOf( text ).getBytes( StandardCharsets.UTF_8 ) ) ;
+        digest.update( (byte) 0 ) ;
+
+        }   // end update() for strings
+
+
+    /**
+     * add the rest of a stream's content to a digest
+     *
+     * @param digest
+     *     the digest to update
+     * @param in
+     *     the content - read to its end but not closed
+     *
+     * @throws IOException
+     *     if the stream can't be read
+     */
+    public static void update( final MessageDigest digest,
+                               final InputStream in ) throws IOException
+        {
+
+        final byte[] buffer = new byte[ 8_192 ] ;
+        int count ;
+
+        while ( ( count = in.read( buffer ) ) != -1 )
+            {
+            digest.update( buffer, 0, count ) ;
+            }
+
+        digest.update( (byte) 0 ) ;
+
+        }   // end update() for streams
+
+
+    /**
+     * complete a digest
+     *
+     * @param digest
+     *     the digest - reset for reuse
+     *
+     * @return the hash in lowercase hexadecimal
+     */
+    public static String toHex( final MessageDigest digest )
+        {
+
+        return HexFormat.of().formatHex( digest.digest() ) ;
+
+        }   // end toHex()
+
+    }   // end class Hashing
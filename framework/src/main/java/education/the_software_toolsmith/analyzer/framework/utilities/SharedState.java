@@ -27,6 +27,8 @@ package education.the_software_toolsmith.analyzer.framework.utilities ;
  * @author David M Rosenberg
  *
  * @version 1.0 2025-12-17 Initial implementation (embarrassing)
+ * @version 1.1 2026-10-16 snapshot the strings as an {@link AssignmentContext} - the grading pipeline
+ *     passes that along rather than reading these fields
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public abstract class SharedState
@@ -92,6 +94,21 @@ public abstract class SharedState
         
         }   // end setStrings()
 
+    /**
+     * @return the current strings as an immutable context for a grading job
+     */
+    public static AssignmentContext assignmentContext()
+        {
+
+        return new AssignmentContext( className,
+                                      ADTPathSegment,
+                                      ADTPackageSegment,
+                                      longAssignmentId,
+                                      shortAssignmentId ) ;
+
+        }   // end assignmentContext()
+
+
     public static String output()
         {
         
@@ -0,0 +1,178 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.utilities ;
+
+import java.io.IOException ;
+import java.nio.file.FileSystem ;
+import java.nio.file.FileSystems ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.function.Predicate ;
+import java.util.stream.Stream ;
+
+
+/**
+ * a submission zip mounted as a read-only {@link FileSystem} so its contents can be used in place
+ * <p>
+ * Paths from {@link #root()} work with {@link Files}, JavaParser, the JavaParser symbol solver, and
+ * {@code javax.tools} - nothing is extracted to disk. They are not default file system paths, so
+ * {@link Path#toFile()} is not supported.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public final class SubmissionFileSystem implements AutoCloseable
+    {
+
+    /*
+     * data fields
+     */
+
+
+    private final Path zip ;
+    private final FileSystem fileSystem ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private SubmissionFileSystem( final Path zip,
+                                  final FileSystem fileSystem )
+        {
+
+        this.zip = zip ;
+        this.fileSystem = fileSystem ;
+
+        }   // end 2-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * mount a submission zip
+     *
+     * @param zip
+     *     the submission
+     *
+     * @return the mounted submission - close it when done
+     *
+     * @throws IOException
+     *     if the zip can't be opened
+     */
+    public static SubmissionFileSystem mount( final Path zip ) throws IOException
+        {
+
+        return new SubmissionFileSystem( zip, FileSystems.newFileSystem( zip ) ) ;
+
+        }   // end mount()
+
+
+    @Override
+    public void close() throws IOException
+        {
+
+        this.fileSystem.close() ;
+
+        }   // end close()
+
+
+    /**
+     * find files by name, ignoring build output and OS clutter
+     *
+     * @param fileName
+     *     the simple file name to look for (e.g., {@code LinkedBag.java})
+     *
+     * @return the matching files sorted by path
+     *
+     * @throws IOException
+     *     if the zip can't be read
+     */
+    public List<Path> findFiles( final String fileName ) throws IOException
+        {
+
+        return find( path -> fileName.equals( String.valueOf( path.getFileName() ) ) ) ;
+
+        }   // end findFiles()
+
+
+    /**
+     * find all Java source files, ignoring build output and OS clutter
+     *
+     * @return the source files sorted by path
+     *
+     * @throws IOException
+     *     if the zip can't be read
+     */
+    public List<Path> javaSources() throws IOException
+        {
+
+        return find( path -> String.valueOf( path.getFileName() ).endsWith( ".java" ) ) ;
+
+        }   // end javaSources()
+
+
+    /**
+     * @return the root of the mounted zip
+     */
+    public Path root()
+        {
+
+        return this.fileSystem.getPath( "/" ) ;
+
+        }   // end root()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.zip.toString() ;
+
+        }   // end toString()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private List<Path> find( final Predicate<Path> wanted ) throws IOException
+        {
+
+        try ( Stream<Path> walk = Files.walk( root() ) )
+            {
+            return walk.filter( Files::isRegularFile )
+                       .filter( path -> ! ZipUtils.isNoiseZipPath( root().relativize( path ).toString() ) )
+                       .filter( wanted )
+                       .sorted()
+                       .toList() ;
+            }
+
+        }   // end find()
+
+    }   // end class SubmissionFileSystem
@@ -20,21 +20,22 @@
 
 package education.the_software_toolsmith.analyzer.framework.utilities ;
 
-import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.ADTPathSegment ;
-import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.className ;
-
 import java.io.FileNotFoundException ;
 import java.io.IOException ;
 import java.io.InputStream ;
+import java.nio.file.FileSystems ;
 import java.nio.file.Files ;
+import java.nio.file.InvalidPathException ;
 import java.nio.file.Path ;
+import java.nio.file.PathMatcher ;
 import java.nio.file.StandardCopyOption ;
+import java.util.ArrayList ;
 import java.util.Enumeration ;
+import java.util.List ;
 import java.util.Locale ;
 import java.util.Optional ;
 import java.util.zip.ZipEntry ;
 import java.util.zip.ZipFile ;
-import java.util.zip.ZipInputStream ;
 
 /**
  * zip file utility methods
@@ -43,6 +44,12 @@ import java.util.zip.ZipInputStream ;
  *
  * @version 1.0 2025-12-16 Initial implementation based on code from ChatGPT 5.2
  * @version 2.0 2025-12-17 first pass quick and dirty mods to handle any adt
+ * @version 2.1 2026-10-16 expose {@code isNoiseZipPath()} for submission content hashing
+ * @version 2.2 2026-10-16 add selective extraction driven by include globs
+ * @version 2.3 2026-10-16 extract the source file named by an {@link AssignmentContext}
+ * @version 2.4 2026-10-16 {@code unzip()} without globs delegates to the selective version; an entry name
+ *     that isn't a valid local path doesn't match an include glob
+ * @version 2.5 2026-10-16 {@code unzip()} without globs creates the zip's folder entries again
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class ZipUtils
@@ -66,73 +73,183 @@ public final class ZipUtils
                               final Path destDir ) throws IOException
         {
 
+        unzip( zipFile, destDir, List.of() ) ;
+
+        }   // end unzip()
+
+
+    /**
+     * extract only the entries of a zip which match at least one include glob
+     * <p>
+     * The zip's central directory is read once; entries which don't match are skipped without being
+     * inflated. A glob matches an entry if it matches the entry's full path or any trailing portion
+     * starting at a folder boundary, so {@code *.java} selects every Java source and
+     * {@code src/main/java/**.java} selects Maven-layout sources regardless of the folder the student zipped.
+     * Build output and OS clutter (see {@link #isNoiseZipPath(String)}) is never extracted.
+     *
+     * @param zipFile
+     *     the zip to extract
+     * @param destDir
+     *     destination folder - created if necessary
+     * @param includeGlobs
+     *     {@link java.nio.file.FileSystem#getPathMatcher(String) glob} patterns using forward slashes - if
+     *     empty, every entry is extracted including empty folders (e.g., an empty {@code src/test/java})
+     *
+     * @return the number of files extracted
+     *
+     * @throws IOException
+     *     if the zip can't be read, an entry escapes {@code destDir}, or a Java source can't be written
+     */
+    public static int unzip( final Path zipFile,
+                             final Path destDir,
+                             final List<String> includeGlobs ) throws IOException
+        {
+
+        final List<PathMatcher> includes = new ArrayList<>( includeGlobs.size() ) ;
+
+        for ( final String glob : includeGlobs )
+            {
+            includes.add( FileSystems.getDefault().getPathMatcher( "glob:" + glob ) ) ;
+            }
+
         Files.createDirectories( destDir ) ;
 
-        try ( ZipInputStream zis = new ZipInputStream( Files.newInputStream( zipFile ) ) )
+        final Path normalizedDestDir = destDir.normalize() ;
+        int extractedCount = 0 ;
+
+        try ( ZipFile zip = new ZipFile( zipFile.toFile() ) )
             {
-            ZipEntry e ;
+            final Enumeration<? extends ZipEntry> entries = zip.entries() ;
 
-            while ( ( e = zis.getNextEntry() ) != null )
+            while ( entries.hasMoreElements() )
                 {
-                final String name = e.getName().replace( '\\', '/' ) ;
+                final ZipEntry entry = entries.nextElement() ;
+                final String name = entry.getName().replace( '\\', '/' ) ;
 
-                if ( isNoiseZipPath( name ) )
+                if ( isNoiseZipPath( name ) || ! isIncluded( name, includes ) )
                     {
-                    zis.closeEntry() ;
                     continue ;
                     }
 
                 // basic zip-slip guard
                 final Path out = destDir.resolve( name ).normalize() ;
 
-                if ( ! out.startsWith( destDir.normalize() ) )
+                if ( ! out.startsWith( normalizedDestDir ) )
                     {
                     throw new IOException( "Zip entry escapes dest dir: " + name ) ;
                     }
 
-                if ( e.isDirectory() )
+                // a full extraction keeps empty folders - otherwise folders are created for the files they contain
+                if ( entry.isDirectory() )
                     {
-                    Files.createDirectories( out ) ;
+
+                    if ( includes.isEmpty() )
+                        {
+                        Files.createDirectories( out ) ;
+                        }
+
+                    continue ;
                     }
-                else
+
+                Files.createDirectories( out.getParent() ) ;
+
+                try ( InputStream in = zip.getInputStream( entry ) )
+                    {
+                    Files.copy( in, out, StandardCopyOption.REPLACE_EXISTING ) ;
+                    extractedCount++ ;
+                    }
+                catch ( final IOException ioe )
                     {
-                    Files.createDirectories( out.getParent() ) ;
 
-                    try
+                    if ( ( out.toString().length() <= 240 ) || out.toString().endsWith( ".java" ) )
                         {
-                        Files.copy( zis, out, StandardCopyOption.REPLACE_EXISTING ) ;
+                        throw ioe ; // important file or unknown failure
                         }
-                    catch ( final IOException ioe )
-                        {
 
-                        if ( ( out.toString().length() <= 240 ) || out.toString().endsWith( ".java" ) )
-                            {
-                            throw ioe ; // important file or unknown failure
-                            }
+                    /* DMR FIXME */ System.out.printf( "WARNING: skipped long path: %s%n", out ) ;
+                    // keep going
+                    }
+
+                }
+
+            }
+
+        return extractedCount ;
+
+        }   // end unzip() with include globs
+
+
+    /**
+     * determine whether a zip entry matches any include glob
+     *
+     * @param name
+     *     the entry name with forward slash separators
+     * @param includes
+     *     the include globs - if empty, everything is included
+     *
+     * @return {@code true} if the entry should be extracted; {@code false} otherwise
+     */
+    private static boolean isIncluded( final String name,
+                                       final List<PathMatcher> includes )
+        {
+
+        if ( includes.isEmpty() )
+            {
+            return true ;
+            }
+
+        // try the full name then each suffix which starts at a folder boundary
+        int start = 0 ;
+
+        while ( start >= 0 )
+            {
+            Path candidate ;
+
+            try
+                {
+                candidate = Path.of( name.substring( start ) ) ;
+                }
+            catch ( final InvalidPathException e )
+                {
+                // legal in a zip but not here (e.g., ':' on Windows) - can't match
+                candidate = null ;
+                }
+
+            if ( candidate != null )
+                {
+
+                for ( final PathMatcher include : includes )
+                    {
 
-                        // log.printf("WARNING: skipped long path: %s%n", out);
-                        /* DMR FIXME */ System.out.printf( "WARNING: skipped long path: %s%n", out ) ;
-                        // keep going
+                    if ( include.matches( candidate ) )
+                        {
+                        return true ;
                         }
 
                     }
 
-                zis.closeEntry() ;
                 }
 
+            final int slash = name.indexOf( '/', start ) ;
+            start = ( slash < 0 )
+                    ? -1
+                    : slash + 1 ;
             }
 
-        }   // end unzip()
+        return false ;
+
+        }   // end isIncluded()
 
 
     /**
-     * PLACEHOLDER
+     * determine whether a zip entry is build output or OS clutter rather than part of the student's project
      *
      * @param name
+     *     the entry name with forward slash separators
      *
-     * @return
+     * @return {@code true} if the entry should be ignored; {@code false} otherwise
      */
-    private static boolean isNoiseZipPath( final String name )
+    public static boolean isNoiseZipPath( final String name )
         {
 
         // name is already normalized to forward slashes
@@ -158,14 +275,38 @@ public final class ZipUtils
                                                 final Path tempDir ) throws IOException
         {
 
+        return extractSourceFromZip( SharedState.assignmentContext(), zipPath, tempDir ) ;
+
+        }   // end extractLinkedBagFromZip()
+
+
+    /**
+     * extract the assignment's source file from a submission zip
+     *
+     * @param assignment
+     *     identifies the source file
+     * @param zipPath
+     *     the submission zip
+     * @param tempDir
+     *     destination folder
+     *
+     * @return the extracted file
+     *
+     * @throws IOException
+     *     if the zip can't be read, it doesn't contain the file, or the file can't be written
+     */
+    public static Path extractSourceFromZip( final AssignmentContext assignment,
+                                             final Path zipPath,
+                                             final Path tempDir ) throws IOException
+        {
+
         Files.createDirectories( tempDir ) ;
 
         try ( ZipFile zip = new ZipFile( zipPath.toFile() ) )
             {
             // Adjust if your path differs
 //            final String wantedSuffix = "/src/main/java/edu/wit/scds/ds/bags/LinkedBag.java" ;
-            final String wantedSuffix
-                    = "/src/main/java/edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".java" ;
+            final String wantedSuffix = assignment.expectedSourceSuffix() ;
 
             ZipEntry match = null ;
             final Enumeration<? extends ZipEntry> e = zip.entries() ;
@@ -185,10 +326,10 @@ public final class ZipUtils
 
             if ( match == null )
                 {
-                throw new FileNotFoundException( className + ".java not found in " + zipPath ) ;
+                throw new FileNotFoundException( assignment.sourceFileName() + " not found in " + zipPath ) ;
                 }
 
-            final Path out = tempDir.resolve( className + ".java" ) ;
+            final Path out = tempDir.resolve( assignment.sourceFileName() ) ;
 
             try ( InputStream in = zip.getInputStream( match ) )
                 {
@@ -198,7 +339,7 @@ public final class ZipUtils
             return out ;
             }
 
-        }   // end extractLinkedBagFromZip()
+        }   // end extractSourceFromZip()
 
 
     /**
@@ -21,8 +21,8 @@
 package education.the_software_toolsmith.analyzer.framework.utilities.lms.brightspace ;
 
 import education.the_software_toolsmith.analyzer.framework.static_analysis.tools.ExtractedSource ;
-
-import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.* ;
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
+import education.the_software_toolsmith.analyzer.framework.utilities.SharedState ;
 
 import java.io.FileNotFoundException ;
 import java.io.IOException ;
@@ -47,15 +47,13 @@ import java.util.zip.ZipFile ;
  *
  * @version 1.0 2025-12-16 Initial implementation based on code from ChatGPT 5.2
  * @version 2.0 2025-12-17 first pass quick and dirty mods to handle any adt
+ * @version 2.1 2026-10-16 locate the file named by an {@link AssignmentContext} rather than a suffix fixed
+ *     when the class is loaded
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class BrightspaceZipExtract
     {
 
-    // What you *want* them to have
-    private static final String EXPECTED_SUFFIX = "/src/main/java/edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".java" ;
-
-
     private BrightspaceZipExtract()
         {}
 
@@ -63,6 +61,16 @@ public final class BrightspaceZipExtract
     public static ExtractedSource extractADTFile(Path submissionFolder, Path tempDir)
             throws IOException
     {
+        return extractADTFile(SharedState.assignmentContext(), submissionFolder, tempDir);
+    }
+
+
+    public static ExtractedSource extractADTFile(AssignmentContext assignment,
+                                                 Path submissionFolder,
+                                                 Path tempDir)
+            throws IOException
+    {
+        Objects.requireNonNull(assignment);
         Objects.requireNonNull(submissionFolder);
         Objects.requireNonNull(tempDir);
 
@@ -73,18 +81,20 @@ public final class BrightspaceZipExtract
 
         try (ZipFile zip = new ZipFile(zipPath.toFile()))
         {
-            // 1) exact expected location
-            ZipEntry exact = findFirst(zip, name -> name.endsWith(EXPECTED_SUFFIX));
+            final String fileName = assignment.sourceFileName();
+
+            // 1) exact expected location - what you *want* them to have
+            ZipEntry exact = findFirst(zip, name -> name.endsWith(assignment.expectedSourceSuffix()));
             if (exact != null)
             {
-                return extractEntry(zip, exact, tempDir.resolve( className + ".java"));
+                return extractEntry(zip, exact, tempDir.resolve(fileName));
             }
 
             // 2) fallback: any 'className'.java
-            List<ZipEntry> matches = findAll(zip, name -> name.endsWith( "/" + className + ".java"));
+            List<ZipEntry> matches = findAll(zip, name -> name.endsWith("/" + fileName));
             if (matches.isEmpty())
             {
-                throw new FileNotFoundException( className + ".java not found inside " + zipPath);
+                throw new FileNotFoundException(fileName + " not found inside " + zipPath);
             }
 
             List<ZipEntry> underMain = matches.stream()
@@ -93,12 +103,12 @@ public final class BrightspaceZipExtract
 
             if (underMain.size() == 1)
             {
-                return extractEntry(zip, underMain.get(0), tempDir.resolve( className + ".java"));
+                return extractEntry(zip, underMain.get(0), tempDir.resolve(fileName));
             }
 
             // 3) ambiguous
             StringBuilder sb = new StringBuilder();
-            sb.append("Ambiguous " + className + ".java in ").append(zipPath).append(System.lineSeparator());
+            sb.append("Ambiguous " + fileName + " in ").append(zipPath).append(System.lineSeparator());
             sb.append("Candidates:").append(System.lineSeparator());
             for (ZipEntry e : (underMain.isEmpty() ? matches : underMain))
             {
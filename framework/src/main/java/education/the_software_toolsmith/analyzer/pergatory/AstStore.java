@@ -23,11 +23,15 @@ package education.the_software_toolsmith.analyzer.pergatory ;
 
 import com.github.javaparser.ast.CompilationUnit ;
 import com.github.javaparser.ast.Node ;
+import com.github.javaparser.resolution.SymbolResolver ;
 import com.github.javaparser.serialization.JavaParserJsonDeserializer ;
 import com.github.javaparser.serialization.JavaParserJsonSerializer ;
 
+import java.io.BufferedInputStream ;
 import java.io.File ;
 import java.io.IOException ;
+import java.io.InputStream ;
+import java.io.OutputStream ;
 import java.io.StringReader ;
 import java.io.StringWriter ;
 import java.nio.charset.StandardCharsets ;
@@ -46,6 +50,8 @@ import jakarta.json.stream.JsonGeneratorFactory ;
  * @author David M Rosenberg
  *
  * @version 1.0 2025-12-14 Initial implementation based on code from ChatGPT 5.2
+ * @version 1.1 2026-10-16 save in the compact {@link BinaryAstCodec} format; load either format
+ * @version 1.2 2026-10-16 document {@code saveJson()}
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class AstStore
@@ -77,8 +83,41 @@ public final class AstStore
     public static CompilationUnit load( final Path file ) throws IOException
         {
 
-        final String json = Files.readString( file, StandardCharsets.UTF_8 ) ;
-        return fromJsonString( json ) ;
+        return load( file, null ) ;
+
+        }
+
+
+    /**
+     * load an AST saved in either the binary or the JSON format
+     *
+     * @param file
+     *     the saved AST
+     * @param symbolResolver
+     *     to attach to a binary AST so it can be resolved - may be {@code null}
+     *
+     * @return the AST
+     *
+     * @throws IOException
+     *     if the file can't be read or decoded
+     */
+    public static CompilationUnit load( final Path file,
+                                        final SymbolResolver symbolResolver ) throws IOException
+        {
+
+        try ( InputStream in = new BufferedInputStream( Files.newInputStream( file ) ) )
+            {
+            in.mark( 4 ) ;
+            final byte[] firstBytes = in.readNBytes( 4 ) ;
+            in.reset() ;
+
+            if ( BinaryAstCodec.isBinaryAst( firstBytes ) )
+                {
+                return BinaryAstCodec.read( in, symbolResolver ) ;
+                }
+
+            return fromJsonString( new String( in.readAllBytes(), StandardCharsets.UTF_8 ) ) ;
+            }
 
         }
 
@@ -104,7 +143,33 @@ public final class AstStore
                              final Path file ) throws IOException
         {
 
-        Files.createDirectories( file.getParent() ) ;
+        Files.createDirectories( file.toAbsolutePath().getParent() ) ;
+
+        try ( OutputStream out = Files.newOutputStream( file ) )
+            {
+            BinaryAstCodec.write( cu, out, true ) ;
+            }
+
+        }
+
+
+    /**
+     * save an AST in JavaParser's JSON format - {@link #load(Path)} reads it, but it's larger and slower
+     * to load than the binary format written by {@link #save(CompilationUnit, Path)}
+     *
+     * @param cu
+     *     the AST
+     * @param file
+     *     destination - its folders are created if necessary
+     *
+     * @throws IOException
+     *     if the file can't be written
+     */
+    public static void saveJson( final CompilationUnit cu,
+                                 final Path file ) throws IOException
+        {
+
+        Files.createDirectories( file.toAbsolutePath().getParent() ) ;
         Files.writeString( file, serializeCu( cu ), StandardCharsets.UTF_8 ) ;
 
         }
@@ -0,0 +1,671 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.pergatory ;
+
+
+import com.github.javaparser.Position ;
+import com.github.javaparser.Range ;
+import com.github.javaparser.ast.CompilationUnit ;
+import com.github.javaparser.ast.Node ;
+import com.github.javaparser.ast.NodeList ;
+import com.github.javaparser.ast.comments.Comment ;
+import com.github.javaparser.metamodel.BaseNodeMetaModel ;
+import com.github.javaparser.metamodel.JavaParserMetaModel ;
+import com.github.javaparser.metamodel.PropertyMetaModel ;
+import com.github.javaparser.resolution.SymbolResolver ;
+
+import java.io.BufferedInputStream ;
+import java.io.BufferedOutputStream ;
+import java.io.DataInputStream ;
+import java.io.DataOutputStream ;
+import java.io.EOFException ;
+import java.io.IOException ;
+import java.io.InputStream ;
+import java.io.OutputStream ;
+import java.io.StreamCorruptedException ;
+import java.nio.charset.StandardCharsets ;
+import java.util.ArrayList ;
+import java.util.Comparator ;
+import java.util.HashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.zip.Deflater ;
+import java.util.zip.DeflaterOutputStream ;
+import java.util.zip.InflaterInputStream ;
+
+
+/**
+ * compact binary encoding of JavaParser ASTs
+ * <p>
+ * Like {@code JavaParserJsonSerializer}, the encoding is driven by JavaParser's metamodel: each node is
+ * its type followed by its properties in metamodel order, its orphan comments, then its range. Unlike JSON,
+ * nothing is named:
+ * <ul>
+ * <li>a node's type is a varint tag - its index in the metamodel's node types sorted by name, plus 1 (0 is
+ * {@code null})
+ * <li>strings are interned as they're written - the first occurrence is written in full and every later
+ * one is a varint reference to it
+ * <li>list sizes, enum ordinals, and positions are varints
+ * </ul>
+ * The header holds a magic number, the format version, flags, and a fingerprint of the metamodel so an AST
+ * written by a different JavaParser version is rejected rather than misread. The body may be deflated.
+ * Reading streams the body - no intermediate text or tree is built.
+ * <p>
+ * Tokens aren't stored, so lexical-preserving printing isn't supported on a loaded AST.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 reject out-of-range string references and enum ordinals as corrupt
+ */
+public final class BinaryAstCodec
+    {
+
+    /** identifies the format - "JAST" */
+    static final int MAGIC = 0x4A41_5354 ;
+
+    /** the format version */
+    private static final int FORMAT_VERSION = 1 ;
+
+    /** header flag: the body is deflated */
+    private static final int FLAG_COMPRESSED = 0x01 ;
+
+    /** node tag for {@code null} */
+    private static final int NULL_TAG = 0 ;
+
+    /** interned string reference for {@code null} */
+    private static final int NULL_STRING = 0 ;
+    /** interned string reference for a string written in full */
+    private static final int NEW_STRING = 1 ;
+    /** interned string references to earlier strings are offset by this */
+    private static final int STRING_REFERENCE_BASE = 2 ;
+
+    /** the node types in tag order */
+    private static final List<BaseNodeMetaModel> NODE_TYPES ;
+    /** tags by node type */
+    private static final Map<Class<? extends Node>, Integer> TAGS = new HashMap<>() ;
+    /** detects a metamodel different than the one that wrote an AST */
+    private static final int METAMODEL_FINGERPRINT ;
+
+    static
+        {
+        final Comparator<BaseNodeMetaModel> byName = Comparator.comparing( BaseNodeMetaModel::getQualifiedClassName ) ;
+
+        NODE_TYPES = JavaParserMetaModel.getNodeMetaModels()
+                                        .stream()
+                                        .filter( metaModel -> ! metaModel.isAbstract() )
+                                        .sorted( byName )
+                                        .toList() ;
+
+        int fingerprint = 1 ;
+
+        for ( int i = 0 ; i < NODE_TYPES.size() ; i++ )
+            {
+            final BaseNodeMetaModel metaModel = NODE_TYPES.get( i ) ;
+            TAGS.put( metaModel.getType(), i + 1 ) ;
+
+            fingerprint = ( 31 * fingerprint ) + metaModel.getQualifiedClassName().hashCode() ;
+
+            for ( final PropertyMetaModel property : metaModel.getAllPropertyMetaModels() )
+                {
+                fingerprint = ( 31 * fingerprint ) + property.getName().hashCode() ;
+                }
+
+            }
+
+        METAMODEL_FINGERPRINT = fingerprint ;
+        }
+
+
+    /**
+     * Utility class - prevent instantiation
+     */
+    private BinaryAstCodec()
+        {
+
+        // Utility class - prevent instantiation
+
+        }   // end no-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * encode an AST
+     *
+     * @param compilationUnit
+     *     the AST
+     * @param out
+     *     where to write it - not closed
+     * @param compress
+     *     {@code true} to deflate the body
+     *
+     * @throws IOException
+     *     if the AST can't be written
+     */
+    public static void write( final CompilationUnit compilationUnit,
+                              final OutputStream out,
+                              final boolean compress ) throws IOException
+        {
+
+        final DataOutputStream header = new DataOutputStream( out ) ;
+        header.writeInt( MAGIC ) ;
+        header.writeByte( FORMAT_VERSION ) ;
+        header.writeByte( compress
+                ? FLAG_COMPRESSED
+                : 0 ) ;
+        header.writeInt( METAMODEL_FINGERPRINT ) ;
+        header.flush() ;
+
+        if ( ! compress )
+            {
+            final Writer writer = new Writer( new DataOutputStream( new BufferedOutputStream( out ) ) ) ;
+            writer.writeNode( compilationUnit ) ;
+            writer.out.flush() ;
+
+            return ;
+            }
+
+        final Deflater deflater = new Deflater( Deflater.BEST_SPEED ) ;
+
+        try
+            {
+            final DeflaterOutputStream deflated = new DeflaterOutputStream( out, deflater, 8_192 ) ;
+
+            final Writer writer = new Writer( new DataOutputStream( new BufferedOutputStream( deflated ) ) ) ;
+            writer.writeNode( compilationUnit ) ;
+            writer.out.flush() ;
+
+            deflated.finish() ;
+            }
+        finally
+            {
+            deflater.end() ;
+            }
+
+        }   // end write()
+
+
+    /**
+     * decode an AST
+     *
+     * @param in
+     *     where to read it - not closed
+     * @param symbolResolver
+     *     to attach to the AST so it can be resolved - may be {@code null}
+     *
+     * @return the AST
+     *
+     * @throws IOException
+     *     if the AST can't be read, isn't in this format, or was written by a different JavaParser version
+     */
+    public static CompilationUnit read( final InputStream in,
+                                        final SymbolResolver symbolResolver ) throws IOException
+        {
+
+        final DataInputStream header = new DataInputStream( in ) ;
+
+        if ( header.readInt() != MAGIC )
+            {
+            throw new StreamCorruptedException( "not a binary AST" ) ;
+            }
+
+        final int version = header.readUnsignedByte() ;
+
+        if ( version != FORMAT_VERSION )
+            {
+            throw new StreamCorruptedException( "unsupported binary AST version " + version ) ;
+            }
+
+        final int flags = header.readUnsignedByte() ;
+
+        if ( header.readInt() != METAMODEL_FINGERPRINT )
+            {
+            throw new StreamCorruptedException( "binary AST was written by a different JavaParser version" ) ;
+            }
+
+        final InputStream body = ( flags & FLAG_COMPRESSED ) != 0
+                ? new InflaterInputStream( in )
+                : in ;
+
+        final Node node = new Reader( new DataInputStream( new BufferedInputStream( body ) ) ).readNode() ;
+
+        if ( ! ( node instanceof final CompilationUnit compilationUnit ) )
+            {
+            throw new StreamCorruptedException( "binary AST doesn't hold a CompilationUnit" ) ;
+            }
+
+        if ( symbolResolver != null )
+            {
+            compilationUnit.setData( Node.SYMBOL_RESOLVER_KEY, symbolResolver ) ;
+            }
+
+        return compilationUnit ;
+
+        }   // end read()
+
+
+    /**
+     * determine whether a stream starts with this format's magic number
+     *
+     * @param firstBytes
+     *     at least the first 4 bytes of the stream
+     *
+     * @return {@code true} if they identify a binary AST
+     */
+    public static boolean isBinaryAst( final byte[] firstBytes )
+        {
+
+        return ( firstBytes.length >= 4 )
+               && ( ( ( ( firstBytes[ 0 ] & 0xFF ) << 24 )
+                      | ( ( firstBytes[ 1 ] & 0xFF ) << 16 )
+                      | ( ( firstBytes[ 2 ] & 0xFF ) << 8 )
+                      | ( firstBytes[ 3 ] & 0xFF ) ) == MAGIC ) ;
+
+        }   // end isBinaryAst()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * encodes nodes with its own string table
+     */
+    private static final class Writer
+        {
+
+        private final DataOutputStream out ;
+        private final Map<String, Integer> strings = new HashMap<>() ;
+
+
+        Writer( final DataOutputStream out )
+            {
+
+            this.out = out ;
+
+            }   // end 1-arg constructor
+
+
+        void writeNode( final Node node ) throws IOException
+            {
+
+            if ( node == null )
+                {
+                writeVarint( NULL_TAG ) ;
+
+                return ;
+                }
+
+            final Integer tag = TAGS.get( node.getClass() ) ;
+
+            if ( tag == null )
+                {
+                throw new IOException( "no metamodel for " + node.getClass().getName() ) ;
+                }
+
+            writeVarint( tag ) ;
+
+            for ( final PropertyMetaModel property : NODE_TYPES.get( tag - 1 ).getAllPropertyMetaModels() )
+                {
+                writeProperty( property, property.getValue( node ) ) ;
+                }
+
+            // comments which aren't attached to a node - e.g., section separators
+            final List<Comment> orphanComments = node.getOrphanComments() ;
+            writeVarint( orphanComments.size() ) ;
+
+            for ( final Comment orphanComment : orphanComments )
+                {
+                writeNode( orphanComment ) ;
+                }
+
+            final Range range = node.getRange().orElse( null ) ;
+
+            if ( range == null )
+                {
+                this.out.writeBoolean( false ) ;
+                }
+            else
+                {
+                this.out.writeBoolean( true ) ;
+                writeVarint( range.begin.line ) ;
+                writeVarint( range.begin.column ) ;
+                // the end is almost always near the beginning
+                writeVarint( range.end.line - range.begin.line ) ;
+                writeVarint( range.end.column ) ;
+                }
+
+            }   // end writeNode()
+
+
+        private void writeProperty( final PropertyMetaModel property,
+                                    final Object value ) throws IOException
+            {
+
+            if ( property.isNodeList() )
+                {
+
+                if ( value == null )
+                    {
+                    writeVarint( 0 ) ;
+
+                    return ;
+                    }
+
+                final NodeList<?> nodes = (NodeList<?>) value ;
+                writeVarint( nodes.size() + 1 ) ;
+
+                for ( final Node element : nodes )
+                    {
+                    writeNode( element ) ;
+                    }
+
+                }
+            else if ( property.isNode() )
+                {
+                writeNode( (Node) value ) ;
+                }
+            else if ( property.getType() == String.class )
+                {
+                writeString( (String) value ) ;
+                }
+            else if ( property.getType() == boolean.class )
+                {
+                this.out.writeBoolean( (Boolean) value ) ;
+                }
+            else if ( property.getType().isEnum() )
+                {
+                writeVarint( value == null
+                        ? 0
+                        : ( (Enum<?>) value ).ordinal() + 1 ) ;
+                }
+            else
+                {
+                throw new IOException( String.format( "can't encode %s.%s of type %s",
+                                                      property.getContainingNodeMetaModel().getTypeName(),
+                                                      property.getName(),
+                                                      property.getType().getName() ) ) ;
+                }
+
+            }   // end writeProperty()
+
+
+        private void writeString( final String value ) throws IOException
+            {
+
+            if ( value == null )
+                {
+                writeVarint( NULL_STRING ) ;
+
+                return ;
+                }
+
+            final Integer index = this.strings.get( value ) ;
+
+            if ( index != null )
+                {
+                writeVarint( index + STRING_REFERENCE_BASE ) ;
+
+                return ;
+                }
+
+            this.strings.put( value, this.strings.size() ) ;
+
+            final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 ) ;
+            writeVarint( NEW_STRING ) ;
+            writeVarint( bytes.length ) ;
+            this.out.write( bytes ) ;
+
+            }   // end writeString()
+
+
+        private void writeVarint( final int value ) throws IOException
+            {
+
+            int remaining = value ;
+
+            while ( ( remaining & ~0x7F ) != 0 )
+                {
+                this.out.writeByte( ( remaining & 0x7F ) | 0x80 ) ;
+                remaining >>>= 7 ;
+                }
+
+            this.out.writeByte( remaining ) ;
+
+            }   // end writeVarint()
+
+        }   // end class Writer
+
+
+    /**
+     * decodes nodes with its own string table
+     */
+    private static final class Reader
+        {
+
+        private final DataInputStream in ;
+        private final List<String> strings = new ArrayList<>() ;
+
+
+        Reader( final DataInputStream in )
+            {
+
+            this.in = in ;
+
+            }   // end 1-arg constructor
+
+
+        Node readNode() throws IOException
+            {
+
+            final int tag = readVarint() ;
+
+            if ( tag == NULL_TAG )
+                {
+                return null ;
+                }
+
+            if ( tag > NODE_TYPES.size() )
+                {
+                throw new StreamCorruptedException( "unknown node tag " + tag ) ;
+                }
+
+            final BaseNodeMetaModel metaModel = NODE_TYPES.get( tag - 1 ) ;
+
+            final Map<String, Object> properties = new HashMap<>() ;
+
+            for ( final PropertyMetaModel property : metaModel.getAllPropertyMetaModels() )
+                {
+                properties.put( property.getName(), readProperty( property ) ) ;
+                }
+
+            final Node node = metaModel.construct( properties ) ;
+
+            // the comment isn't a constructor parameter
+            if ( properties.get( "comment" ) instanceof final Comment comment )
+                {
+                node.setComment( comment ) ;
+                }
+
+            for ( int i = readVarint() ; i > 0 ; i-- )
+                {
+                node.addOrphanComment( (Comment) readNode() ) ;
+                }
+
+            if ( this.in.readBoolean() )
+                {
+                final int beginLine = readVarint() ;
+                final int beginColumn = readVarint() ;
+                final int endLine = beginLine + readVarint() ;
+                final int endColumn = readVarint() ;
+
+                node.setRange( new Range( new Position( beginLine, beginColumn ),
+                                          new Position( endLine, endColumn ) ) ) ;
+                }
+
+            return node ;
+
+            }   // end readNode()
+
+
+        private Object readProperty( final PropertyMetaModel property ) throws IOException
+            {
+
+            if ( property.isNodeList() )
+                {
+                final int sizePlusOne = readVarint() ;
+
+                if ( sizePlusOne == 0 )
+                    {
+                    return null ;
+                    }
+
+                final NodeList<Node> nodes = new NodeList<>() ;
+
+                for ( int i = 1 ; i < sizePlusOne ; i++ )
+                    {
+                    nodes.add( readNode() ) ;
+                    }
+
+                return nodes ;
+                }
+
+            if ( property.isNode() )
+                {
+                return readNode() ;
+                }
+
+            if ( property.getType() == String.class )
+                {
+                return readString() ;
+                }
+
+            if ( property.getType() == boolean.class )
+                {
+                return this.in.readBoolean() ;
+                }
+
+            if ( property.getType().isEnum() )
+                {
+                final int ordinalPlusOne = readVarint() ;
+
+                if ( ( ordinalPlusOne < 0 ) || ( ordinalPlusOne > property.getType().getEnumConstants().length ) )
+                    {
+                    throw new StreamCorruptedException( String.format( "invalid %s ordinal %d",
+                                                                       property.getType().getName(),
+                                                                       ordinalPlusOne - 1 ) ) ;
+                    }
+
+                return ordinalPlusOne == 0
+                        ? null
+                        : property.getType().getEnumConstants()[ ordinalPlusOne - 1 ] ;
+                }
+
+            throw new StreamCorruptedException( String.format( "can't decode %s.%s of type %s",
+                                                               property.getContainingNodeMetaModel()
+                                                                       .getTypeName(),
+                                                               property.getName(),
+                                                               property.getType().getName() ) ) ;
+
+            }   // end readProperty()
+
+
+        private String readString() throws IOException
+            {
+
+            final int reference = readVarint() ;
+
+            if ( reference == NULL_STRING )
+                {
+                return null ;
+                }
+
+            if ( reference >= STRING_REFERENCE_BASE )
+                {
+                final int index = reference - STRING_REFERENCE_BASE ;
+
+                // only strings already read can be referenced
+                if ( index >= this.strings.size() )
+                    {
+                    throw new StreamCorruptedException( "unknown string reference " + reference ) ;
+                    }
+
+                return this.strings.get( index ) ;
+                }
+
+            if ( reference != NEW_STRING )
+                {
+                throw new StreamCorruptedException( "invalid string reference " + reference ) ;
+                }
+
+            final int length = readVarint() ;
+
+            if ( length < 0 )
+                {
+                throw new StreamCorruptedException( "invalid string length " + length ) ;
+                }
+
+            final byte[] bytes = new byte[ length ] ;
+            this.in.readFully( bytes ) ;
+
+            final String value = new String( bytes, StandardCharsets.UTF_8 ) ;
+            this.strings.add( value ) ;
+
+            return value ;
+
+            }   // end readString()
+
+
+        private int readVarint() throws IOException
+            {
+
+            int value = 0 ;
+
+            for ( int shift = 0 ; shift < 35 ; shift += 7 )
+                {
+                final int b = this.in.read() ;
+
+                if ( b < 0 )
+                    {
+                    throw new EOFException( "truncated binary AST" ) ;
+                    }
+
+                value |= ( b & 0x7F ) << shift ;
+
+                if ( ( b & 0x80 ) == 0 )
+                    {
+                    return value ;
+                    }
+
+                }
+
+            throw new StreamCorruptedException( "malformed varint" ) ;
+
+            }   // end readVarint()
+
+        }   // end class Reader
+
+    }   // end class BinaryAstCodec
@@ -0,0 +1,341 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Action.CALL ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Action.INSTANTIATE ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementType.MUST ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementType.MUST_NOT ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementType.OPTIONALLY ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.TargetType.CONSTRUCTOR ;
+import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.TargetType.METHOD ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertSame ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan.CallSiteKind ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan.MethodPlan ;
+
+import com.github.javaparser.JavaParser ;
+import com.github.javaparser.ParserConfiguration ;
+import com.github.javaparser.ast.CompilationUnit ;
+import com.github.javaparser.ast.Node ;
+import com.github.javaparser.ast.body.CallableDeclaration ;
+import com.github.javaparser.ast.expr.MethodCallExpr ;
+import com.github.javaparser.ast.expr.ObjectCreationExpr ;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt ;
+import com.github.javaparser.resolution.Resolvable ;
+import com.github.javaparser.resolution.declarations.ResolvedMethodLikeDeclaration ;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver ;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver ;
+
+import org.junit.jupiter.api.BeforeEach ;
+import org.junit.jupiter.api.Test ;
+
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.Map ;
+
+
+/**
+ * answers from the {@link CallSiteIndex} behind {@link CodeStructureAnalyzer}'s public checks and
+ * {@link RequirementPlan}s
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class CallSiteIndexTests
+    {
+
+    private static final String SOURCE = """
+            package bags ;
+
+            import java.util.ArrayList ;
+
+            public class Bag<T>
+                {
+                private final ArrayList<T> entries ;
+
+                public Bag() { this( 10 ) ; }
+                public Bag( int capacity ) { this.entries = new ArrayList<>( capacity ) ; }
+                public Bag( T[] initial ) { this( initial.length ) ; add( initial ) ; }
+
+                public void add( T entry ) { this.entries.add( entry ) ; }
+                public void add( T[] newEntries ) { for ( T entry : newEntries ) { add( entry ) ; add( entry ) ; } }
+
+                public Bag<T> copy()
+                    {
+                    final Bag<T> copy = new Bag<>( this.entries.size() ) ;
+                    copy.add( toArray() ) ;
+                    return copy ;
+                    }
+
+                @SuppressWarnings( "unchecked" )
+                public T[] toArray() { return (T[]) this.entries.toArray() ; }
+
+                public void unresolved() { missing( 1 ) ; }
+                }
+            """ ;
+
+    /** every call and instantiation target the tests ask about */
+    private static final List<String> TARGETS = List.of( "add(T)",
+                                                         "add(T[])",
+                                                         "toArray()",
+                                                         "size()",
+                                                         "missing(int)",
+                                                         "Bag(int)",
+                                                         "Bag(T[])",
+                                                         "Bag()",
+                                                         "ArrayList(int)" ) ;
+
+    private CompilationUnit bag ;
+
+    private CodeStructureAnalyzer analyzer ;
+
+
+    @BeforeEach
+    void parse()
+        {
+
+        final ParserConfiguration configuration
+                = new ParserConfiguration().setSymbolResolver( new JavaSymbolSolver( new ReflectionTypeSolver() ) ) ;
+
+        this.bag = new JavaParser( configuration ).parse( SOURCE ).getResult().orElseThrow() ;
+
+        // the checks don't read the source files
+        this.analyzer = new CodeStructureAnalyzer( "Bag",
+                                                   Path.of( "starter/bags/Bag.java" ),
+                                                   Path.of( "student/bags/Bag.java" ),
+                                                   Map.of() ) ;
+
+        }   // end parse()
+
+
+    @Test
+    void callChecksDistinguishOverloads()
+        {
+
+        final CallableDeclaration<?> copy = callable( "copy()" ) ;
+
+        assertTrue( calls( MUST, METHOD, "add(T[])", copy ) ) ;
+        assertFalse( calls( MUST, METHOD, "add(T)", copy ) ) ;
+        assertTrue( calls( MUST_NOT, METHOD, "add(T)", copy ) ) ;
+        assertTrue( calls( MUST, METHOD, "toArray()", copy ) ) ;
+        assertTrue( calls( MUST, METHOD, "size()", copy ) ) ;
+
+        assertTrue( instantiates( MUST, "Bag(int)", copy ) ) ;
+        assertFalse( instantiates( MUST, "Bag(T[])", copy ) ) ;
+        assertTrue( instantiates( MUST, "ArrayList(int)", callable( "Bag(int)" ) ) ) ;
+
+        assertEquals( 2, Heuristics.timesMethodWithSignatureCalled( callable( "add(T[])" ), "add(T)" ) ) ;
+
+        }   // end callChecksDistinguishOverloads()
+
+
+    @Test
+    void constructorCallChecksMatchTheChainedConstructor()
+        {
+
+        assertTrue( calls( MUST, CONSTRUCTOR, "Bag(int)", callable( "Bag()" ) ) ) ;
+        assertFalse( calls( MUST, CONSTRUCTOR, "Bag(T[])", callable( "Bag()" ) ) ) ;
+        assertTrue( calls( MUST, CONSTRUCTOR, "Bag(int)", callable( "Bag(T[])" ) ) ) ;
+
+        // no chained call
+        assertFalse( calls( MUST, CONSTRUCTOR, "Bag()", callable( "Bag(int)" ) ) ) ;
+
+        }   // end constructorCallChecksMatchTheChainedConstructor()
+
+
+    @Test
+    void unresolvedCallIsCountedByNameButMatchesNoSignature()
+        {
+
+        final CallableDeclaration<?> unresolved = callable( "unresolved()" ) ;
+
+        assertEquals( 1, Heuristics.timesMethodNamedCalled( unresolved, "missing" ) ) ;
+        assertFalse( calls( MUST, METHOD, "missing(int)", unresolved ) ) ;
+        assertTrue( calls( MUST_NOT, METHOD, "missing(int)", unresolved ) ) ;
+
+        }   // end unresolvedCallIsCountedByNameButMatchesNoSignature()
+
+
+    @Test
+    void deletedMethodCallsNothing()
+        {
+
+        assertFalse( calls( MUST, METHOD, "add(T)", null ) ) ;
+        assertTrue( calls( MUST_NOT, METHOD, "add(T)", null ) ) ;
+        assertTrue( calls( OPTIONALLY, METHOD, "add(T)", null ) ) ;
+        assertFalse( instantiates( MUST, "Bag(int)", null ) ) ;
+        assertTrue( instantiates( MUST_NOT, "Bag(int)", null ) ) ;
+
+        }   // end deletedMethodCallsNothing()
+
+
+    @Test
+    void indexAgreesWithResolvingEveryCallSite()
+        {
+
+        for ( final CallableDeclaration<?> callable : this.bag.findAll( CallableDeclaration.class ) )
+            {
+
+            for ( final String target : TARGETS )
+                {
+                final String normalized = Heuristics.normalize( target ) ;
+                final String context = callable.getSignature() + " -> " + target ;
+
+                assertEquals( occurs( callable, MethodCallExpr.class, normalized ),
+                              calls( MUST, METHOD, target, callable ),
+                              context ) ;
+                assertEquals( occurs( callable, ObjectCreationExpr.class, normalized ),
+                              instantiates( MUST, target, callable ),
+                              context ) ;
+                assertEquals( occurs( callable, ExplicitConstructorInvocationStmt.class, normalized ),
+                              calls( MUST, CONSTRUCTOR, target, callable ),
+                              context ) ;
+                }
+
+            // built once and reused
+            assertSame( CallSiteIndex.of( callable ), CallSiteIndex.of( callable ) ) ;
+            }
+
+        }   // end indexAgreesWithResolvingEveryCallSite()
+
+
+    @Test
+    void planCompilesEachRequirementForItsCallSites()
+        {
+
+        final Requirement callsAdd = new Requirement( CALL, MUST, METHOD, "Bag.add( T[] )" ) ;
+        final Requirement chains = new Requirement( CALL, MUST, CONSTRUCTOR, "Bag(int)" ) ;
+        final Requirement instantiates = new Requirement( INSTANTIATE, MUST_NOT, TargetType.CLASS, "Bag(T[])" ) ;
+
+        final RequirementPlan plan = RequirementPlan.compile( Map.of( "copy()",
+                                                                      List.of( callsAdd, instantiates ),
+                                                                      "Bag()",
+                                                                      List.of( chains ),
+                                                                      "toArray()",
+                                                                      List.of( Requirement.DO_NOT_MODIFY_METHOD ) ) ) ;
+
+        final MethodPlan copy = plan.forMethod( "copy()" ) ;
+
+        assertTrue( copy.needsCallSites() ) ;
+        assertEquals( CallSiteKind.METHOD_CALL, copy.requirements().get( 0 ).callSiteKind() ) ;
+        assertEquals( "add([])", copy.requirements().get( 0 ).normalizedTarget() ) ;
+        assertEquals( CallSiteKind.OBJECT_CREATION, copy.requirements().get( 1 ).callSiteKind() ) ;
+
+        assertEquals( CallSiteKind.CONSTRUCTOR_INVOCATION,
+                      plan.forMethod( "Bag()" ).requirements().getFirst().callSiteKind() ) ;
+
+        assertFalse( plan.forMethod( "toArray()" ).needsCallSites() ) ;
+        assertNull( plan.forMethod( "unresolved()" ) ) ;
+
+        // a qualified, spaced target matches the same call sites
+        assertTrue( this.analyzer.checkActionCall( callsAdd, null, null, callable( "copy()" ) ) ) ;
+
+        }   // end planCompilesEachRequirementForItsCallSites()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private CallableDeclaration<?> callable( final String signature )
+        {
+
+        return this.bag.findAll( CallableDeclaration.class )
+                       .stream()
+                       .filter( callable -> callable.getSignature().toString().equals( signature ) )
+                       .findFirst()
+                       .orElseThrow() ;
+
+        }   // end callable()
+
+
+    private boolean calls( final RequirementType requirementType,
+                           final TargetType targetType,
+                           final String target,
+                           final CallableDeclaration<?> callable )
+        {
+
+        return this.analyzer.checkActionCall( new Requirement( CALL, requirementType, targetType, target ),
+                                              null,
+                                              null,
+                                              callable ) ;
+
+        }   // end calls()
+
+
+    private boolean instantiates( final RequirementType requirementType,
+                                  final String target,
+                                  final CallableDeclaration<?> callable )
+        {
+
+        return this.analyzer.checkActionInstantiate( new Requirement( INSTANTIATE,
+                                                                      requirementType,
+                                                                      TargetType.CLASS,
+                                                                      target ),
+                                                     null,
+                                                     null,
+                                                     callable ) ;
+
+        }   // end instantiates()
+
+
+    /**
+     * resolve each call site of a kind without the index
+     */
+    @SuppressWarnings( "unchecked" )
+    private static <T extends Node> boolean occurs( final CallableDeclaration<?> callable,
+                                                    final Class<T> kind,
+                                                    final String normalizedSignature )
+        {
+
+        for ( final T callSite : callable.findAll( kind ) )
+            {
+
+            try
+                {
+                final ResolvedMethodLikeDeclaration resolved
+                        = ( (Resolvable<? extends ResolvedMethodLikeDeclaration>) callSite ).resolve() ;
+
+                if ( normalizedSignature.equals( Heuristics.normalize( resolved.getSignature() ) ) )
+                    {
+                    return true ;
+                    }
+
+                }
+            catch ( final RuntimeException e )
+                {
+                // unresolved - matches nothing
+                }
+
+            }
+
+        return false ;
+
+        }   // end occurs()
+
+    }   // end class CallSiteIndexTests
@@ -0,0 +1,175 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.structure ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+
+import com.github.javaparser.StaticJavaParser ;
+import com.github.javaparser.ast.body.CallableDeclaration ;
+import com.github.javaparser.ast.body.ConstructorDeclaration ;
+import com.github.javaparser.ast.body.MethodDeclaration ;
+
+import org.junit.jupiter.api.Test ;
+
+
+/**
+ * structural fingerprints computed by {@link MethodNormalizer#fingerprint(CallableDeclaration)}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class MethodNormalizerTests
+    {
+
+    private static final String PUSH = """
+            public void push( final T newEntry )
+                {
+                ensureCapacity() ;
+                this.stack[ this.topIndex + 1 ] = newEntry ;
+                this.topIndex++ ;
+                }
+            """ ;
+
+
+    @Test
+    void commentsAndFormattingDoNotChangeTheFingerprint()
+        {
+
+        final String reformatted = """
+                /** add an entry to the top */
+                public void push(final T newEntry) {
+                    // make room
+                    ensureCapacity();   /* grows by doubling */
+                    this.stack[this.topIndex+1]=newEntry;
+
+                    this.topIndex++;    // the new top
+                }
+                """ ;
+
+        assertEquals( MethodNormalizer.fingerprint( method( PUSH ) ),
+                      MethodNormalizer.fingerprint( method( reformatted ) ) ) ;
+
+        // agrees with the printed form
+        assertEquals( MethodNormalizer.normalizedBody( method( PUSH ) ),
+                      MethodNormalizer.normalizedBody( method( reformatted ) ) ) ;
+
+        }   // end commentsAndFormattingDoNotChangeTheFingerprint()
+
+
+    @Test
+    void signatureDoesNotChangeTheFingerprint()
+        {
+
+        assertEquals( MethodNormalizer.fingerprint( method( PUSH ) ),
+                      MethodNormalizer.fingerprint( method( PUSH.replace( "push( final T newEntry )",
+                                                                          "add( T newEntry )" ) ) ) ) ;
+
+        }   // end signatureDoesNotChangeTheFingerprint()
+
+
+    @Test
+    void anyChangeToTheCodeChangesTheFingerprint()
+        {
+
+        final Fingerprint push = MethodNormalizer.fingerprint( method( PUSH ) ) ;
+
+        // a different name
+        assertNotEquals( push, MethodNormalizer.fingerprint( method( PUSH.replace( "newEntry ;", "entry ;" ) ) ) ) ;
+
+        // a different literal
+        assertNotEquals( push, MethodNormalizer.fingerprint( method( PUSH.replace( "+ 1 ]", "+ 2 ]" ) ) ) ) ;
+
+        // a different operator
+        assertNotEquals( push, MethodNormalizer.fingerprint( method( PUSH.replace( "topIndex++", "topIndex--" ) ) ) ) ;
+
+        // the same statements in another order
+        assertNotEquals( push,
+                         MethodNormalizer.fingerprint( method( """
+                                 public void push( final T newEntry )
+                                     {
+                                     this.stack[ this.topIndex + 1 ] = newEntry ;
+                                     ensureCapacity() ;
+                                     this.topIndex++ ;
+                                     }
+                                 """ ) ) ) ;
+
+        // one statement's content moved into a block
+        assertNotEquals( push,
+                         MethodNormalizer.fingerprint( method( """
+                                 public void push( final T newEntry )
+                                     {
+                                     ensureCapacity() ;
+                                     this.stack[ this.topIndex + 1 ] = newEntry ;
+                                         {
+                                         this.topIndex++ ;
+                                         }
+                                     }
+                                 """ ) ) ) ;
+
+        }   // end anyChangeToTheCodeChangesTheFingerprint()
+
+
+    @Test
+    void bodilessMethodsShareAFingerprint()
+        {
+
+        assertEquals( MethodNormalizer.fingerprint( method( "abstract void push( T newEntry ) ;" ) ),
+                      MethodNormalizer.fingerprint( method( "abstract T pop() ;" ) ) ) ;
+
+        assertNotEquals( MethodNormalizer.fingerprint( method( "abstract void clear() ;" ) ),
+                         MethodNormalizer.fingerprint( method( "void clear() {}" ) ) ) ;
+
+        }   // end bodilessMethodsShareAFingerprint()
+
+
+    @Test
+    void constructorIsFingerprintedByItsBody()
+        {
+
+        final ConstructorDeclaration constructor
+                = StaticJavaParser.parseBodyDeclaration( "ArrayStack() { initialize( 10 ) ; }" )
+                                  .asConstructorDeclaration() ;
+        final ConstructorDeclaration commented
+                = StaticJavaParser.parseBodyDeclaration( "ArrayStack() { /* default */ initialize(10); }" )
+                                  .asConstructorDeclaration() ;
+
+        assertEquals( MethodNormalizer.fingerprint( constructor ), MethodNormalizer.fingerprint( commented ) ) ;
+        assertEquals( MethodNormalizer.fingerprint( method( "void reset() { initialize( 10 ) ; }" ) ),
+                      MethodNormalizer.fingerprint( constructor ) ) ;
+
+        }   // end constructorIsFingerprintedByItsBody()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static MethodDeclaration method( final String source )
+        {
+
+        return StaticJavaParser.parseMethodDeclaration( source ) ;
+
+        }   // end method()
+
+    }   // end class MethodNormalizerTests
@@ -0,0 +1,164 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.static_analysis.style ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel ;
+import com.puppycrawl.tools.checkstyle.api.Violation ;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck ;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.WhitespaceAroundCheck ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.Optional ;
+
+
+/**
+ * encode/decode round trips for {@link CodeStyleCache} entries
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class CodeStyleCacheTests
+    {
+
+    /** an entry name - any key works; real ones come from {@code keyFor()} */
+    private static final String KEY = "0123456789abcdef" ;
+
+    @TempDir
+    Path cacheRoot ;
+
+
+    @Test
+    void storedViolationsAreReportedUnchanged() throws IOException
+        {
+
+        // the message has every character the entry format escapes plus a MessageFormat quote and braces
+        final List<Violation> violations
+                = List.of( violation( 3, 1, 0, SeverityLevel.WARNING, null, FileTabCharacterCheck.class,
+                                      "it's a \\ path\twith {braces}\r\nand lines" ),
+                           violation( 17, 25, 20, SeverityLevel.ERROR, "whitespaceAround",
+                                      WhitespaceAroundCheck.class, "'=' is not followed by whitespace." ) ) ;
+
+        final CodeStyleCache cache = CodeStyleCache.open( this.cacheRoot ) ;
+        cache.store( KEY, violations ) ;
+
+        final Optional<List<Violation>> cached = cache.lookup( KEY ) ;
+
+        assertTrue( cached.isPresent() ) ;
+        assertEquals( violations.size(), cached.get().size() ) ;
+
+        for ( int i = 0 ; i < violations.size() ; i++ )
+            {
+            final Violation expected = violations.get( i ) ;
+            final Violation actual = cached.get().get( i ) ;
+
+            assertEquals( expected.getLineNo(), actual.getLineNo() ) ;
+            assertEquals( expected.getColumnNo(), actual.getColumnNo() ) ;
+            assertEquals( expected.getColumnCharIndex(), actual.getColumnCharIndex() ) ;
+            assertEquals( expected.getTokenType(), actual.getTokenType() ) ;
+            assertEquals( expected.getSeverityLevel(), actual.getSeverityLevel() ) ;
+            assertEquals( expected.getKey(), actual.getKey() ) ;
+            assertEquals( expected.getModuleId(), actual.getModuleId() ) ;
+            assertEquals( expected.getSourceName(), actual.getSourceName() ) ;
+            assertEquals( expected.getViolation(), actual.getViolation() ) ;
+            }
+
+        assertEquals( 1, cache.hits() ) ;
+
+        }   // end storedViolationsAreReportedUnchanged()
+
+
+    @Test
+    void cleanFileIsAHitWithNoViolations() throws IOException
+        {
+
+        final CodeStyleCache cache = CodeStyleCache.open( this.cacheRoot ) ;
+        cache.store( KEY, List.of() ) ;
+
+        assertEquals( Optional.of( List.of() ), cache.lookup( KEY ) ) ;
+
+        }   // end cleanFileIsAHitWithNoViolations()
+
+
+    @Test
+    void missingOrDamagedEntryIsAMiss() throws IOException
+        {
+
+        final CodeStyleCache cache = CodeStyleCache.open( this.cacheRoot ) ;
+
+        assertEquals( Optional.empty(), cache.lookup( KEY ) ) ;
+
+        // too few fields
+        Files.writeString( this.cacheRoot.resolve( KEY + ".violations" ), "12\t3\n", StandardCharsets.UTF_8 ) ;
+        assertEquals( Optional.empty(), cache.lookup( KEY ) ) ;
+
+        // a check class which doesn't exist - e.g., written by a different Checkstyle
+        Files.writeString( this.cacheRoot.resolve( KEY + ".violations" ),
+                           "12\t3\t2\t0\tWARNING\tkey\t\\0\tcom.example.NoSuchCheck\tmessage\n",
+                           StandardCharsets.UTF_8 ) ;
+        assertEquals( Optional.empty(), cache.lookup( KEY ) ) ;
+
+        assertEquals( 0, cache.hits() ) ;
+        assertEquals( 3, cache.misses() ) ;
+
+        }   // end missingOrDamagedEntryIsAMiss()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static Violation violation( final int lineNo,
+                                        final int columnNo,
+                                        final int columnCharIndex,
+                                        final SeverityLevel severityLevel,
+                                        final String moduleId,
+                                        final Class<?> sourceClass,
+                                        final String message )
+        {
+
+        // a custom message of just the argument renders the argument verbatim
+        return new Violation( lineNo,
+                              columnNo,
+                              columnCharIndex,
+                              0,
+                              null,
+                              "test.key",
+                              new Object[] { message },
+                              severityLevel,
+                              moduleId,
+                              sourceClass,
+                              "{0}" ) ;
+
+        }   // end violation()
+
+    }   // end class CodeStyleCacheTests
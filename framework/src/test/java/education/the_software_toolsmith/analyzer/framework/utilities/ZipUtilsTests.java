@@ -0,0 +1,224 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.framework.utilities ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.io.OutputStream ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.Set ;
+import java.util.stream.Collectors ;
+import java.util.stream.Stream ;
+import java.util.zip.ZipEntry ;
+import java.util.zip.ZipOutputStream ;
+
+
+/**
+ * selective extraction by {@link ZipUtils#unzip(Path, Path, List)}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class ZipUtilsTests
+    {
+
+    /** a typical submission - the student zipped the project folder */
+    private static final List<String> SUBMISSION = List.of( "Stacks/",
+                                                            "Stacks/src/main/java/",
+                                                            "Stacks/src/main/java/stacks/adt/ArrayStack.java",
+                                                            "Stacks/src/test/java/",
+                                                            "Stacks/lib/helper/Helper.java",
+                                                            "Stacks/README.txt",
+                                                            "Stacks/target/classes/stacks/adt/Old.java",
+                                                            "__MACOSX/Stacks/._README.txt" ) ;
+
+    @TempDir
+    Path folder ;
+
+
+    @Test
+    void globMatchesAnyTrailingPathAtAFolderBoundary() throws IOException
+        {
+
+        final Path destination = this.folder.resolve( "out" ) ;
+
+        final int extracted = ZipUtils.unzip( zip( SUBMISSION ), destination, List.of( "src/main/java/**.java" ) ) ;
+
+        assertEquals( 1, extracted ) ;
+        assertEquals( Set.of( "Stacks/src/main/java/stacks/adt/ArrayStack.java" ), files( destination ) ) ;
+
+        }   // end globMatchesAnyTrailingPathAtAFolderBoundary()
+
+
+    @Test
+    void globDoesNotMatchPartOfAFolderName() throws IOException
+        {
+
+        final Path destination = this.folder.resolve( "out" ) ;
+
+        // "ain/java/..." is a suffix of the name but doesn't start at a folder boundary
+        assertEquals( 0, ZipUtils.unzip( zip( SUBMISSION ), destination, List.of( "ain/java/**.java" ) ) ) ;
+        assertEquals( Set.of(), files( destination ) ) ;
+
+        }   // end globDoesNotMatchPartOfAFolderName()
+
+
+    @Test
+    void fileNameGlobSelectsEveryMatchingFileExceptBuildOutput() throws IOException
+        {
+
+        final Path destination = this.folder.resolve( "out" ) ;
+
+        ZipUtils.unzip( zip( SUBMISSION ), destination, List.of( "*.java", "README.txt" ) ) ;
+
+        assertEquals( Set.of( "Stacks/src/main/java/stacks/adt/ArrayStack.java",
+                              "Stacks/lib/helper/Helper.java",
+                              "Stacks/README.txt" ),
+                      files( destination ) ) ;
+
+        // folders are only created for the files they hold
+        assertFalse( Files.exists( destination.resolve( "Stacks/src/test/java" ) ) ) ;
+
+        }   // end fileNameGlobSelectsEveryMatchingFileExceptBuildOutput()
+
+
+    @Test
+    void noGlobsExtractsEverythingExceptNoiseIncludingEmptyFolders() throws IOException
+        {
+
+        final Path destination = this.folder.resolve( "out" ) ;
+
+        ZipUtils.unzip( zip( SUBMISSION ), destination ) ;
+
+        assertEquals( Set.of( "Stacks/src/main/java/stacks/adt/ArrayStack.java",
+                              "Stacks/lib/helper/Helper.java",
+                              "Stacks/README.txt" ),
+                      files( destination ) ) ;
+        assertTrue( Files.isDirectory( destination.resolve( "Stacks/src/test/java" ) ) ) ;
+
+        }   // end noGlobsExtractsEverythingExceptNoiseIncludingEmptyFolders()
+
+
+    @Test
+    void entryWhichEscapesTheDestinationIsRejected() throws IOException
+        {
+
+        final Path zip = zip( List.of( "Stacks/src/main/java/stacks/adt/ArrayStack.java",
+                                       "../../escaped/Evil.java" ) ) ;
+        final Path destination = this.folder.resolve( "nested/out" ) ;
+
+        assertThrows( IOException.class, () -> ZipUtils.unzip( zip, destination, List.of( "*.java" ) ) ) ;
+        assertThrows( IOException.class, () -> ZipUtils.unzip( zip, destination ) ) ;
+
+        assertFalse( Files.exists( this.folder.resolve( "escaped" ) ) ) ;
+
+        }   // end entryWhichEscapesTheDestinationIsRejected()
+
+
+    @Test
+    void escapingEntryWhichIsNotSelectedIsSkipped() throws IOException
+        {
+
+        final Path zip = zip( List.of( "Stacks/src/main/java/stacks/adt/ArrayStack.java",
+                                       "../../escaped/notes.txt" ) ) ;
+        final Path destination = this.folder.resolve( "nested/out" ) ;
+
+        assertEquals( 1, ZipUtils.unzip( zip, destination, List.of( "*.java" ) ) ) ;
+        assertFalse( Files.exists( this.folder.resolve( "escaped" ) ) ) ;
+
+        }   // end escapingEntryWhichIsNotSelectedIsSkipped()
+
+
+    /*
+     * utility methods
+     */
+
+
+    /**
+     * write a zip whose files hold their own names - names ending in '/' are folders
+     */
+    private Path zip( final List<String> names ) throws IOException
+        {
+
+        final Path zip = this.folder.resolve( "submission.zip" ) ;
+
+        try ( OutputStream file = Files.newOutputStream( zip ) ;
+              ZipOutputStream out = new ZipOutputStream( file ) )
+            {
+
+            for ( final String name : names )
+                {
+                out.putNextEntry( new ZipEntry( name ) ) ;
+
+                if ( ! name.endsWith( "/" ) )
+                    {
+                    out.write( name.getBytes( StandardCharsets.UTF_8 ) ) ;
+                    }
+
+                out.closeEntry() ;
+                }
+
+            }
+
+        return zip ;
+
+        }   // end zip()
+
+
+    /**
+     * the files under a folder as relative paths with forward slashes - each file's content is checked
+     */
+    private static Set<String> files( final Path root ) throws IOException
+        {
+
+        if ( ! Files.isDirectory( root ) )
+            {
+            return Set.of() ;
+            }
+
+        try ( Stream<Path> walk = Files.walk( root ) )
+            {
+            final Set<String> names = walk.filter( Files::isRegularFile )
+                                          .map( file -> root.relativize( file ).toString().replace( '\\', '/' ) )
+                                          .collect( Collectors.toSet() ) ;
+
+            for ( final String name : names )
+                {
+                assertEquals( name, Files.readString( root.resolve( name ) ) ) ;
+                }
+
+            return names ;
+            }
+
+        }   // end files()
+
+    }   // end class ZipUtilsTests
@@ -0,0 +1,231 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.pergatory ;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import com.github.javaparser.JavaParser ;
+import com.github.javaparser.ParseResult ;
+import com.github.javaparser.ast.CompilationUnit ;
+import com.github.javaparser.ast.Node ;
+
+import org.junit.jupiter.api.Test ;
+
+import java.io.ByteArrayInputStream ;
+import java.io.ByteArrayOutputStream ;
+import java.io.IOException ;
+import java.io.StreamCorruptedException ;
+import java.util.List ;
+import java.util.Optional ;
+
+
+/**
+ * round trips and header checks for {@link BinaryAstCodec}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class BinaryAstCodecTests
+    {
+
+    /** exercises attached, orphan, block, and Javadoc comments along with strings the codec interns */
+    private static final String SOURCE = """
+            package stacks.adt ;
+
+            import java.util.Arrays ;
+
+            /**
+             * a stack backed by an array
+             */
+            public class ArrayStack<T> implements StackInterface<T>
+                {
+
+                /*
+                 * data fields
+                 */
+
+
+                private T[] stack ;     // the entries
+                private int topIndex = -1 ;
+
+
+                // end of data fields
+
+
+                @Override
+                public void push( final T newEntry )
+                    {
+                    ensureCapacity() ;
+                    this.stack[ ++this.topIndex ] = newEntry ;
+                    }   // end push()
+
+
+                private void ensureCapacity()
+                    {
+
+                    if ( this.topIndex == this.stack.length - 1 )
+                        {
+                        this.stack = Arrays.copyOf( this.stack, 2 * this.stack.length ) ;
+                        }
+
+                    // nothing else to do
+                    }
+
+                }   // end class ArrayStack
+            """ ;
+
+    /** offset of the metamodel fingerprint in the header - after the magic number, version, and flags */
+    private static final int FINGERPRINT_OFFSET = 4 + 1 + 1 ;
+
+
+    @Test
+    void compressedRoundTripPreservesTheAst() throws IOException
+        {
+
+        assertRoundTrip( true ) ;
+
+        }   // end compressedRoundTripPreservesTheAst()
+
+
+    @Test
+    void uncompressedRoundTripPreservesTheAst() throws IOException
+        {
+
+        assertRoundTrip( false ) ;
+
+        }   // end uncompressedRoundTripPreservesTheAst()
+
+
+    @Test
+    void compressedBodyIsSmaller() throws IOException
+        {
+
+        final CompilationUnit original = parse() ;
+
+        assertTrue( encode( original, true ).length < encode( original, false ).length ) ;
+
+        }   // end compressedBodyIsSmaller()
+
+
+    @Test
+    void rejectsADifferentMagicNumber() throws IOException
+        {
+
+        final byte[] encoded = encode( parse(), false ) ;
+        encoded[ 0 ] ^= 0x01 ;
+
+        assertFalse( BinaryAstCodec.isBinaryAst( encoded ) ) ;
+        assertThrows( StreamCorruptedException.class, () -> decode( encoded ) ) ;
+
+        }   // end rejectsADifferentMagicNumber()
+
+
+    @Test
+    void rejectsADifferentMetamodelFingerprint() throws IOException
+        {
+
+        final byte[] encoded = encode( parse(), true ) ;
+        encoded[ FINGERPRINT_OFFSET ] ^= 0x01 ;
+
+        // still looks like a binary AST - it's the metamodel which doesn't match
+        assertTrue( BinaryAstCodec.isBinaryAst( encoded ) ) ;
+        assertThrows( StreamCorruptedException.class, () -> decode( encoded ) ) ;
+
+        }   // end rejectsADifferentMetamodelFingerprint()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static void assertRoundTrip( final boolean compress ) throws IOException
+        {
+
+        final CompilationUnit original = parse() ;
+        final byte[] encoded = encode( original, compress ) ;
+
+        assertTrue( BinaryAstCodec.isBinaryAst( encoded ) ) ;
+
+        final CompilationUnit decoded = decode( encoded ) ;
+
+        assertEquals( original, decoded ) ;
+        assertEquals( original.toString(), decoded.toString() ) ;
+
+        // neither equals() nor every printer compares these
+        assertEquals( original.getAllContainedComments(), decoded.getAllContainedComments() ) ;
+        assertFalse( original.getType( 0 ).getOrphanComments().isEmpty() ) ;
+
+        final List<Node> originalNodes = original.findAll( Node.class ) ;
+        final List<Node> decodedNodes = decoded.findAll( Node.class ) ;
+
+        assertEquals( originalNodes.size(), decodedNodes.size() ) ;
+
+        for ( int i = 0 ; i < originalNodes.size() ; i++ )
+            {
+            assertEquals( originalNodes.get( i ).getOrphanComments(), decodedNodes.get( i ).getOrphanComments() ) ;
+            assertEquals( originalNodes.get( i ).getRange(), decodedNodes.get( i ).getRange() ) ;
+            }
+
+        // re-encoding the decoded AST is byte for byte the same
+        assertArrayEquals( encoded, encode( decoded, compress ) ) ;
+
+        }   // end assertRoundTrip()
+
+
+    private static CompilationUnit parse()
+        {
+
+        final ParseResult<CompilationUnit> parsed = new JavaParser().parse( SOURCE ) ;
+        final Optional<CompilationUnit> compilationUnit = parsed.getResult() ;
+
+        assertTrue( parsed.isSuccessful(), () -> parsed.getProblems().toString() ) ;
+
+        return compilationUnit.orElseThrow() ;
+
+        }   // end parse()
+
+
+    private static byte[] encode( final CompilationUnit compilationUnit,
+                                  final boolean compress ) throws IOException
+        {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream() ;
+        BinaryAstCodec.write( compilationUnit, out, compress ) ;
+
+        return out.toByteArray() ;
+
+        }   // end encode()
+
+
+    private static CompilationUnit decode( final byte[] encoded ) throws IOException
+        {
+
+        return BinaryAstCodec.read( new ByteArrayInputStream( encoded ), null ) ;
+
+        }   // end decode()
+
+    }   // end class BinaryAstCodecTests
@@ -20,6 +20,7 @@
 
 package education.the_software_toolsmith.analyzer.incubator ;
 
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
 import education.the_software_toolsmith.analyzer.framework.utilities.SharedState ;
 import education.the_software_toolsmith.analyzer.framework.utilities.ZipUtils ;
 import education.the_software_toolsmith.analyzer.framework.utilities.lms.brightspace.BrightspaceUtilities ;
@@ -29,19 +30,26 @@ import static education.the_software_toolsmith.analyzer.framework.dynamic_analys
 import java.io.File ;
 import java.io.FileNotFoundException ;
 import java.io.IOException ;
+import java.io.PrintStream ;
 import java.io.UncheckedIOException ;
+import java.net.URLEncoder ;
+import java.nio.charset.StandardCharsets ;
 import java.nio.file.FileSystems ;
 import java.nio.file.Files ;
 import java.nio.file.Path ;
 import java.nio.file.PathMatcher ;
 import java.nio.file.Paths ;
+import java.nio.file.StandardOpenOption ;
+import java.time.Duration ;
 import java.time.LocalDateTime ;
 import java.util.ArrayList ;
+import java.util.Arrays ;
 import java.util.Comparator ;
 import java.util.HashMap ;
 import java.util.List ;
 import java.util.Map ;
 import java.util.Optional ;
+import java.util.concurrent.Callable ;
 import java.util.stream.Collectors ;
 import java.util.stream.Stream ;
 
@@ -53,6 +61,21 @@ import java.util.stream.Stream ;
  *
  * @version 1.0 2025-12-15 Initial implementation based on code from ChatGPT 5.2
  * @version 2.0 2025-12-17 first pass quick and dirty mods to handle any adt
+ * @version 2.1 2026-10-16 grade submissions concurrently via {@link SubmissionScheduler}
+ * @version 2.2 2026-10-16 grade on warm {@link GradingWorker} JVMs from a {@link GradingWorkerPool}
+ * @version 2.3 2026-10-16 per-submission wall-clock and CPU budgets
+ * @version 2.4 2026-10-16 reuse results for unchanged resubmissions via {@link ResultCache}
+ * @version 2.5 2026-10-16 checkpoint per-submission progress in a {@link RunJournal} and resume from it
+ * @version 2.6 2026-10-16 extract only the zip entries selected by --include
+ * @version 2.7 2026-10-16 --inMemory grades straight from the mounted zip without extracting it
+ * @version 2.8 2026-10-16 --assignment names the assignment; it's passed to every stage as an
+ *     {@link AssignmentContext} rather than read from {@link SharedState}
+ * @version 2.9 2026-10-16 stream each submission's results to graded/results.jsonl via a
+ *     {@link ResultsSink}
+ * @version 2.10 2026-10-16 export the results as graded/gradebook.csv and optionally a
+ *     {@link ColumnarGradebook}
+ * @version 2.11 2026-10-16 skip a journaled submission only if its configuration and zip are unchanged
+ * @version 2.12 2026-10-16 resume from a journaled extraction only if its zip and --include are unchanged
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class BatchRunner extends SharedState
@@ -67,11 +90,42 @@ public final class BatchRunner extends SharedState
      *   1 = glob or filename (e.g., "{className}.java" or "/{className}.java")
      *   2 = output logs folder
      *   3 = project root (the project that contains your tests/tools)
+     * Options (after the positional args):
+     *   --workers n   number of submissions to grade concurrently (default: available processors)
+     *   --queue n     number of submissions waiting for a worker (default: --workers)
+     *   --jobsPerWorker k   submissions graded by a warm worker JVM before it's replaced (default: 25)
+     *                       0 starts a fresh JVM for each submission
+     *   --heapLimit f       replace a warm worker whose heap use exceeds this fraction (default: 0.75)
+     *   --timeout s         wall-clock seconds allowed per submission, 0 for no limit (default: 300)
+     *   --cpuTimeout s      CPU seconds allowed per submission, 0 for no limit (default: --timeout)
+     *   --cache b           reuse results for unchanged resubmissions (default: true)
+     *   --include globs     comma-separated globs selecting the zip entries to extract (default: *.java)
+     *                       "" extracts everything
+     *   --resume b          skip/resume submissions recorded in graded/batch-journal.log (default: true)
+     *                       a submission is regraded if its zip or the configuration has changed
+     *                       false sets the journal aside and grades everything again
+     *   --inMemory b        compile and test straight from the submission zip - nothing is extracted
+     *                       (default: false)
+     *   --assignment a      className,ADTPathSegment,ADTPackageSegment,longAssignmentId,shortAssignmentId
+     *                       e.g., LinkedStack,stacks/adt,stacks.adt,lab-02,l2 (default: SharedState's)
+     *   --columnar b        also export the gradebook as graded/gradebook.gbk (default: false)
      *   Example: java ... BatchRunner C:\to-grade {className}.java C:\logs C:\autograder
      *   }
      * </pre>
      */
     // @formatter:on
+    /** submissions graded by a warm worker before it's replaced */
+    private static final int DEFAULT_JOBS_PER_WORKER = 25 ;
+    /** fraction of its maximum heap a warm worker may hold after grading before it's replaced */
+    private static final double DEFAULT_HEAP_LIMIT = 0.75 ;
+    /** wall-clock seconds allowed to grade one submission */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 300 ;
+    /** the run journal in the graded root */
+    private static final String JOURNAL_FILE_NAME = "batch-journal.log" ;
+    /** grading only needs the sources - students often zip their whole workspace */
+    private static final String DEFAULT_INCLUDE = "*.java" ;
+
+
     public static void main( final String[] args ) throws Exception
         {
 
@@ -86,7 +140,7 @@ public final class BatchRunner extends SharedState
 
         if ( args.length < 4 )
             {
-            System.err.println( "Usage: BatchRunner <studentRoot> <pattern> <logRoot> <projectRoot>" ) ;
+            System.err.println( "Usage: BatchRunner <studentRoot> <pattern> <logRoot> <projectRoot> [options]" ) ;
             System.exit( 2 ) ;
             }
 
@@ -131,45 +185,467 @@ public final class BatchRunner extends SharedState
 //        System.out.println( "Found " + studentFiles.size() + " student " + className + ".java files." ) ;
         System.out.println( "Found " + uniqueSubmissionCount + " distinct student submissions files." ) ;
 
-        int submissionCounter = 0 ;
+        // process in a stable order so the summary is easy to compare between runs
+        final List<Submission> submissions = new ArrayList<>( latest.values() ) ;
+        submissions.sort( Comparator.comparing( sub -> sub.folder().getFileName().toString() ) ) ;
+
+        final Map<String, String> options = parseOptions( args, 4 ) ;
+        final AssignmentContext assignment = options.containsKey( "--assignment" )
+                ? AssignmentContext.decode( options.get( "--assignment" ) )
+                : SharedState.assignmentContext() ;
+        final int workers = intOption( options, "--workers", Runtime.getRuntime().availableProcessors() ) ;
+        final int queueCapacity = intOption( options, "--queue", workers ) ;
+        final int jobsPerWorker = intOption( options, "--jobsPerWorker", DEFAULT_JOBS_PER_WORKER ) ;
+        final double heapLimit = fractionOption( options, "--heapLimit", DEFAULT_HEAP_LIMIT ) ;
+
+        final Duration wallBudget
+                = Duration.ofSeconds( intOption( options, "--timeout", DEFAULT_TIMEOUT_SECONDS ) ) ;
+        final Duration cpuBudget
+                = Duration.ofSeconds( intOption( options, "--cpuTimeout", (int) wallBudget.toSeconds() ) ) ;
+
+        System.out.printf( "assignment: %s%n", assignment ) ;
+        System.out.printf( "grading with %,d workers, queue capacity %,d%n", workers, queueCapacity ) ;
+        System.out.printf( "time budget per submission: %,ds wall-clock, %,ds CPU (0 = unlimited)%n",
+                           wallBudget.toSeconds(),
+                           cpuBudget.toSeconds() ) ;
+
+        if ( jobsPerWorker > 0 )
+            {
+            System.out.printf( "warm workers: recycled after %,d submissions or %.0f%% heap use%n",
+                               jobsPerWorker,
+                               heapLimit * 100 ) ;
+            }
+        else
+            {
+            System.out.printf( "fresh JVM per submission%n" ) ;
+            }
+
+        // identifies the rules, tests, and starter code a submission is graded against
+        final String configurationKey = ResultCache.configurationKey( assignment, projectRoot ) ;
+
+        final ResultCache cache = Boolean.parseBoolean( options.getOrDefault( "--cache", "true" ) )
+                ? ResultCache.open( gradedRoot.resolve( ".cache" ), configurationKey )
+                : null ;
+
+        System.out.printf( "result cache: %s%n",
+                           cache == null
+                                   ? "disabled"
+                                   : gradedRoot.resolve( ".cache" ) ) ;
+
+        final List<String> includeGlobs = Arrays.stream( options.getOrDefault( "--include", DEFAULT_INCLUDE )
+                                                               .split( "," ) )
+                                                .map( String::trim )
+                                                .filter( glob -> ! glob.isEmpty() )
+                                                .toList() ;
+
+        System.out.printf( "extracting: %s%n",
+                           includeGlobs.isEmpty()
+                                   ? "everything"
+                                   : includeGlobs ) ;
+
+        final boolean resume = Boolean.parseBoolean( options.getOrDefault( "--resume", "true" ) ) ;
+        final Path journalFile = gradedRoot.resolve( JOURNAL_FILE_NAME ) ;
+
+        System.out.printf( "run journal: %s (%s)%n",
+                           journalFile,
+                           resume
+                                   ? "resuming"
+                                   : "starting over" ) ;
+
+        final boolean inMemory = Boolean.parseBoolean( options.getOrDefault( "--inMemory", "false" ) ) ;
+
+        System.out.printf( "submissions: %s%n",
+                           inMemory
+                                   ? "graded in memory"
+                                   : "extracted to disk" ) ;
+
+        // results are written as each submission finishes - the sink needs to know whose they are
+        final Map<String, Submission> submissionsByLabel = new HashMap<>() ;
+
+        for ( final Submission sub : submissions )
+            {
+            submissionsByLabel.put( sub.folder().getFileName().toString(), sub ) ;
+            }
+
+        System.out.printf( "results: %s%n", gradedRoot.resolve( ResultsSink.FILE_NAME ) ) ;
+
+        final List<SubmissionOutcome> outcomes ;
+
+        try ( RunJournal journal = RunJournal.open( journalFile, resume ) ;
+              ResultsSink results = ResultsSink.open( gradedRoot ) ;
+              SubmissionScheduler scheduler = new SubmissionScheduler( workers, queueCapacity, outcome ->
+                  {
+                  try
+                      {
+                      results.append( outcome, submissionsByLabel.get( outcome.label() ) ) ;
+                      }
+                  catch ( final IOException e )
+                      {
+                      throw new UncheckedIOException( e ) ;
+                      }
+                  } ) ;
+              GradingWorkerPool pool = jobsPerWorker > 0
+                      ? new GradingWorkerPool( jobsPerWorker, heapLimit, gradedRoot.resolve( ".workers" ) )
+                      : null )
+            {
+            final GradingSetup setup = new GradingSetup( assignment,
+                                                         configurationKey,
+                                                         gradedRoot,
+                                                         projectRoot,
+                                                         pool,
+                                                         cache,
+                                                         journal,
+                                                         includeGlobs,
+                                                         inMemory,
+                                                         wallBudget,
+                                                         cpuBudget ) ;
+
+            for ( final Submission sub : submissions )
+                {
+                scheduler.submit( sub.folder().getFileName().toString(),
+                                  console -> gradeSubmission( sub, setup, console ) ) ;
+                }
+
+            outcomes = scheduler.awaitCompletion() ;
+            scheduler.printSummary( System.out ) ;
+
+            System.out.printf( "%n%s%n", results ) ;
+            }
+
+        System.out.printf( "%nfinished processing %,d of %,d submissions%n",
+                           outcomes.size(),
+                           uniqueSubmissionCount ) ;
+
+        // one row per student, one column per requirement and test group
+        final boolean columnar = Boolean.parseBoolean( options.getOrDefault( "--columnar", "false" ) ) ;
+        final Path gradebook = gradedRoot.resolve( GradebookExporter.CSV_FILE_NAME ) ;
+        final Path columnarGradebook = gradedRoot.resolve( GradebookExporter.COLUMNAR_FILE_NAME ) ;
+        final int students = GradebookExporter.export( gradedRoot.resolve( ResultsSink.FILE_NAME ),
+                                                       gradebook,
+                                                       columnar
+                                                               ? columnarGradebook
+                                                               : null ) ;
+
+        System.out.printf( "gradebook: %,d students in %s%n", students, gradebook ) ;
+
+        }   // end main()
+
 
-        for ( final Submission sub : latest.values() )
+    /**
+     * everything about a batch run which is shared by all of its submissions
+     *
+     * @param assignment
+     *     the assignment being graded
+     * @param configurationKey
+     *     hash of the assignment configuration from {@link ResultCache#configurationKey}
+     * @param gradedRoot
+     *     parent folder for all graded output
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     * @param pool
+     *     warm workers to grade with or {@code null} to start a fresh JVM
+     * @param cache
+     *     prior results or {@code null} to always grade
+     * @param journal
+     *     records each submission's progress
+     * @param includeGlobs
+     *     selects the zip entries to extract - empty extracts everything
+     * @param inMemory
+     *     {@code true} to grade straight from the zip; {@code false} to extract it first
+     * @param wallBudget
+     *     maximum elapsed time for the grading process
+     * @param cpuBudget
+     *     maximum CPU time for the grading process
+     */
+    record GradingSetup( AssignmentContext assignment,
+                         String configurationKey,
+                         Path gradedRoot,
+                         Path projectRoot,
+                         GradingWorkerPool pool,
+                         ResultCache cache,
+                         RunJournal journal,
+                         List<String> includeGlobs,
+                         boolean inMemory,
+                         Duration wallBudget,
+                         Duration cpuBudget )
+        {}
+
+
+    /**
+     * what the journal records when a submission is graded - enough to tell whether it's still current
+     *
+     * @param exitCode
+     *     the grading process' exit code
+     * @param configurationKey
+     *     the configuration it was graded against
+     * @param contentKey
+     *     the sources it was graded from - from {@link ResultCache#contentKey}
+     */
+    record GradedEntry( int exitCode,
+                        String configurationKey,
+                        String contentKey )
+        {
+
+        /**
+         * @return the journal detail for this entry
+         */
+        String toDetail()
             {
-            submissionCounter++ ;
 
-            // Progress to real console
-            System.out.println( "------------------------------------------------------------" ) ;
+            return String.join( " ", Integer.toString( this.exitCode ), this.configurationKey, this.contentKey ) ;
 
-            System.out.printf( "%,d:%n", submissionCounter ) ;
-            System.out.println( "Student: " + sub.studentId() + " " + sub.displayName() ) ;
-            System.out.println( "Picked submission: " + sub.folder().getFileName() ) ;
+            }   // end toDetail()
 
 
-            // create the graded/output folder with a folder name that matches the to-grade folder
-            Path studentOutDir ;
-            Path zip ;
-            Path extractedProjectDir ;
+        /**
+         * @param detail
+         *     a journaled {@link RunJournal.Stage#GRADE} detail
+         *
+         * @return the entry or empty if the detail wasn't written by {@link #toDetail()}
+         */
+        static Optional<GradedEntry> parse( final String detail )
+            {
+
+            final String[] fields = detail == null
+                    ? new String[ 0 ]
+                    : detail.split( " " ) ;
+
+            if ( fields.length != 3 )
+                {
+                return Optional.empty() ;
+                }
 
             try
                 {
-                studentOutDir = gradedRoot.resolve( sub.folder().getFileName().toString() ) ;
-                Files.createDirectories( studentOutDir ) ;
+                return Optional.of( new GradedEntry( Integer.parseInt( fields[ 0 ] ), fields[ 1 ], fields[ 2 ] ) ) ;
+                }
+            catch ( final NumberFormatException e )
+                {
+                return Optional.empty() ;
+                }
+
+            }   // end parse()
+
+        }   // end record GradedEntry
+
+
+    /**
+     * what the journal records when a submission is extracted or its class located - enough to tell
+     * whether the extracted project is still current
+     *
+     * @param contentKey
+     *     the zip it was extracted from - from {@link ResultCache#contentKey}
+     * @param includes
+     *     the zip entries extracted - from {@link #includesOf(List)}
+     * @param location
+     *     the extracted project or the student's class in it
+     */
+    record ExtractedEntry( String contentKey,
+                           String includes,
+                           String location )
+        {
+
+        /**
+         * @param includeGlobs
+         *     selects the zip entries to extract - empty extracts everything
+         *
+         * @return the globs as a single journal field
+         */
+        static String includesOf( final List<String> includeGlobs )
+            {
+
+            return "include=" + URLEncoder.encode( String.join( ",", includeGlobs ), StandardCharsets.UTF_8 ) ;
+
+            }   // end includesOf()
+
+
+        /**
+         * @param contentKeyNow
+         *     the zip's current content key
+         * @param includesNow
+         *     the current globs - from {@link #includesOf(List)}
+         *
+         * @return {@code true} if this was extracted from the same zip with the same globs
+         */
+        boolean matches( final String contentKeyNow,
+                         final String includesNow )
+            {
+
+            return this.contentKey.equals( contentKeyNow ) && this.includes.equals( includesNow ) ;
+
+            }   // end matches()
+
+
+        /**
+         * @return the journal detail for this entry
+         */
+        String toDetail()
+            {
+
+            return String.join( " ", this.contentKey, this.includes, this.location ) ;
+
+            }   // end toDetail()
+
+
+        /**
+         * @param detail
+         *     a journaled {@link RunJournal.Stage#EXTRACT} or {@link RunJournal.Stage#LOCATE} detail
+         *
+         * @return the entry or empty if the detail wasn't written by {@link #toDetail()}
+         */
+        static Optional<ExtractedEntry> parse( final String detail )
+            {
+
+            // the location is last - it may contain spaces
+            final String[] fields = detail == null
+                    ? new String[ 0 ]
+                    : detail.split( " ", 3 ) ;
+
+            if ( fields.length != 3 )
+                {
+                return Optional.empty() ;
+                }
+
+            return Optional.of( new ExtractedEntry( fields[ 0 ], fields[ 1 ], fields[ 2 ] ) ) ;
+
+            }   // end parse()
+
+        }   // end record ExtractedEntry
+
+
+    /**
+     * unzip, locate, and grade one submission in a child JVM - resumes after the last stage a previous run
+     * completed
+     *
+     * @param sub
+     *     the submission to grade
+     * @param setup
+     *     the batch run's configuration
+     * @param console
+     *     destination for progress messages
+     *
+     * @return the disposition of the submission
+     *
+     * @throws SubmissionTimeoutException
+     *     if the grading process exceeded its time budget and was killed
+     * @throws Exception
+     *     if any step fails - no further processing is performed for the submission
+     */
+    static SubmissionScheduler.Graded gradeSubmission( final Submission sub,
+                                                       final GradingSetup setup,
+                                                       final PrintStream console ) throws Exception
+        {
+
+        final String submission = sub.folder().getFileName().toString() ;
+        final RunJournal journal = setup.journal() ;
+
+        console.println( "Student: " + sub.studentId() + " " + sub.displayName() ) ;
+        console.println( "Picked submission: " + submission ) ;
+
+        // create the graded/output folder with a folder name that matches the to-grade folder
+        final Path studentOutDir = setup.gradedRoot().resolve( submission ) ;
+        Files.createDirectories( studentOutDir ) ;
+
+        final Path logFile = studentOutDir.resolve( ResultCache.LOG_FILE_NAME ) ;
+        final Path extractedProjectDir = studentOutDir.resolve( "_project" ) ;
+
+        // 1) locate zip
+        final Path zip = findZipInSubmissionFolder( sub.folder() ) ;
+
+        // Progress to real console
+        console.println( "Zip file used: " + zip.toString() ) ;
+
+        final String contentKey = ResultCache.contentKey( zip ) ;
+
+        final Optional<RunJournal.Completed> previously = journal.lastCompleted( submission ) ;
+        RunJournal.Stage completedStage = previously.map( RunJournal.Completed::stage ).orElse( null ) ;
+
+        if ( completedStage == RunJournal.Stage.GRADE )
+            {
+            final Optional<GradedEntry> graded = GradedEntry.parse( previously.get().detail() ) ;
+
+            if ( graded.isPresent()
+                 && graded.get().configurationKey().equals( setup.configurationKey() )
+                 && graded.get().contentKey().equals( contentKey )
+                 && Files.exists( logFile ) )
+                {
+                console.println( "Already graded by a previous run - skipped" ) ;
 
+                return new SubmissionScheduler.Graded( SubmissionStatus.SKIPPED, graded.get().exitCode() ) ;
+                }
+
+            // the zip or the configuration changed since - nothing from the earlier grading can be reused
+            console.println( "Changed since a previous run graded it - regrading" ) ;
+            completedStage = null ;
+            }
 
-                // 1) locate zip
-                zip = findZipInSubmissionFolder( sub.folder() ) ;
+        // a summary from an earlier grading must not be reported as this one's
+        Files.deleteIfExists( GradingSummary.pathFor( logFile ) ) ;
 
+        final ResultCache cache = setup.cache() ;
+        final String cacheKey = cache == null
+                ? null
+                : cache.keyFor( contentKey ) ;
 
-                // Progress to real console
-                System.out.println( "Zip file used: " + zip.toString() ) ;
+        if ( cacheKey != null )
+            {
+            final Optional<Integer> cachedExitCode = cache.restore( cacheKey, logFile ) ;
+
+            if ( cachedExitCode.isPresent() )
+                {
+                console.println( "Unchanged since last graded - reused results: " + cacheKey ) ;
+                journal.perform( submission,
+                                 RunJournal.Stage.GRADE,
+                                 () -> new GradedEntry( cachedExitCode.get(),
+                                                        setup.configurationKey(),
+                                                        contentKey ).toDetail() ) ;
+
+                return new SubmissionScheduler.Graded( SubmissionStatus.CACHED, cachedExitCode.get() ) ;
+                }
+
+            }
+
+
+        if ( setup.inMemory() )
+            {
+            // the zip stands in for both the extracted project and the student's class
+            console.println( "running student process in memory" ) ;
+
+            final int exitCode = performGrade( submission, contentKey, setup, () ->
+                {
+                return runPipeline( zip, logFile, extractedProjectDir, setup ) ;
+                } ) ;
+
+            return recordGraded( exitCode, logFile, cache, cacheKey ) ;
+            }
 
 
-                // 2) unzip whole project
-                extractedProjectDir = studentOutDir.resolve( "_project" ) ;
+        // 2) unzip whole project
+        // Progress to real console
+        console.println( "Extracted to: " + extractedProjectDir.toString() ) ;
 
+        final String includes = ExtractedEntry.includesOf( setup.includeGlobs() ) ;
 
-                // Progress to real console
-                System.out.println( "Extracted to: " + extractedProjectDir.toString() ) ;
+        // an earlier extraction is only current if it's from this zip with these globs
+        final Optional<ExtractedEntry> extracted = completedStage == null
+                ? Optional.empty()
+                : ExtractedEntry.parse( previously.get().detail() )
+                                .filter( entry -> entry.matches( contentKey, includes ) ) ;
+
+        if ( ( completedStage != null ) && extracted.isEmpty() )
+            {
+            console.println( "Changed since a previous run extracted it - extracting again" ) ;
+            completedStage = null ;
+            }
+
+        if ( ( completedStage != null ) && Files.isDirectory( extractedProjectDir ) )
+            {
+            console.println( "Resuming: already extracted by a previous run" ) ;
+            }
+        else
+            {
+            journal.perform( submission, RunJournal.Stage.EXTRACT, () ->
+                {
 
                 // delete any previously unzipped stuff - leaves test-logs
                 if ( Files.exists( extractedProjectDir ) )
@@ -177,63 +653,225 @@ public final class BatchRunner extends SharedState
                     deleteRecursively( extractedProjectDir ) ;
                     }
 
-                ZipUtils.unzip( zip, extractedProjectDir ) ;
-                }
-            catch ( final Exception e )
-                {
-                System.out.printf( "processing student failed: s%n", e.getMessage() ) ;
-                e.printStackTrace() ;
+                final int extractedCount = ZipUtils.unzip( zip, extractedProjectDir, setup.includeGlobs() ) ;
+                console.printf( "Extracted %,d files%n", extractedCount ) ;
 
-                System.out.printf( "aborting - no further processing for this submission%n" ) ;
+                return new ExtractedEntry( contentKey, includes, extractedProjectDir.toString() ).toDetail() ;
+                } ) ;
+            }
 
-                continue ;
-                }
 
-            // 3) locate {className}.java precisely (Eclipse structure)
-            Path studentClass ;
+        // 3) locate {className}.java precisely (Eclipse structure)
+        final Path studentClass ;
 
-            try
-                {
-                studentClass = findClassInExtractedProject( extractedProjectDir ) ;
-                }
-            catch ( final Exception e )
+        if ( ( completedStage == RunJournal.Stage.LOCATE )
+             && Files.isRegularFile( Paths.get( extracted.get().location() ) ) )
+            {
+            studentClass = Paths.get( extracted.get().location() ) ;
+            console.println( "Resuming: already located " + studentClass ) ;
+            }
+        else
+            {
+            final String located = journal.perform( submission, RunJournal.Stage.LOCATE, () ->
                 {
-                System.out.printf( "processing student failed: s%n", e.getMessage() ) ;
-                e.printStackTrace() ;
+                return new ExtractedEntry( contentKey,
+                                           includes,
+                                           findClassInExtractedProject( setup.assignment(),
+                                                                        extractedProjectDir ).toString() ).toDetail() ;
+                } ) ;
 
-                System.out.printf( "aborting - no further processing for this submission%n" ) ;
+            studentClass = Paths.get( ExtractedEntry.parse( located ).orElseThrow().location() ) ;
+            }
 
-                continue ;
-                }
+        // Progress to real console
+        console.println( "running student process" ) ;
 
-            // Progress to real console
-            System.out.println( "running student process" ) ;
 
+        // 4) now run the normal pipeline
+        final int exitCode = performGrade( submission, contentKey, setup, () ->
+            {
+            return runPipeline( studentClass, logFile, extractedProjectDir, setup ) ;
+            } ) ;
 
-            // 4) now run the normal pipeline
-            final Path logFile = studentOutDir.resolve( "batch.log" ) ;
+        return recordGraded( exitCode, logFile, cache, cacheKey ) ;
 
-            int exit = -1 ;
+        }   // end gradeSubmission()
 
-            try
+
+    /**
+     * run the grading stage, journaling what it was graded against with its exit code
+     */
+    private static int performGrade( final String submission,
+                                     final String contentKey,
+                                     final GradingSetup setup,
+                                     final Callable<Integer> grading ) throws Exception
+        {
+
+        final String graded = setup.journal().perform( submission, RunJournal.Stage.GRADE, () ->
+            {
+            return new GradedEntry( grading.call(), setup.configurationKey(), contentKey ).toDetail() ;
+            } ) ;
+
+        return GradedEntry.parse( graded ).orElseThrow().exitCode() ;
+
+        }   // end performGrade()
+
+
+    /**
+     * cache a freshly graded submission's results
+     */
+    private static SubmissionScheduler.Graded recordGraded( final int exitCode,
+                                                            final Path logFile,
+                                                            final ResultCache cache,
+                                                            final String cacheKey ) throws IOException
+        {
+
+        if ( cacheKey != null )
+            {
+            cache.store( cacheKey, logFile, exitCode ) ;
+            }
+
+        return SubmissionScheduler.Graded.completed( exitCode ) ;
+
+        }   // end recordGraded()
+
+
+    /**
+     * run the grading pipeline on a warm worker or in a fresh JVM
+     */
+    private static int runPipeline( final Path studentClass,
+                                    final Path logFile,
+                                    final Path extractedProjectDir,
+                                    final GradingSetup setup ) throws Exception
+        {
+
+        try
+            {
+
+            if ( setup.pool() == null )
                 {
-//                exit = runOneStudentInFreshJvm(projectRoot, studentClass, logFile, studentOutDir.resolve("_project") );
-                exit = runOneStudentInFreshJvm( projectRoot, studentClass, logFile, extractedProjectDir ) ;
+                return runOneStudentInFreshJvm( setup.assignment(),
+                                                setup.projectRoot(),
+                                                studentClass,
+                                                logFile,
+                                                extractedProjectDir,
+                                                setup.wallBudget(),
+                                                setup.cpuBudget() ) ;
                 }
-            catch ( final Exception e )
+
+            return setup.pool()
+                        .grade( setup.assignment(),
+                                setup.projectRoot(),
+                                studentClass,
+                                logFile,
+                                extractedProjectDir,
+                                classesDirFor( logFile ),
+                                setup.wallBudget(),
+                                setup.cpuBudget() ) ;
+            }
+        catch ( final SubmissionTimeoutException e )
+            {
+            // the log otherwise just stops mid-stream
+            Files.writeString( logFile,
+                               String.format( "%n*** grading killed: %s%n", e.getMessage() ),
+                               StandardOpenOption.CREATE,
+                               StandardOpenOption.APPEND ) ;
+
+            throw e ;
+            }
+
+        }   // end runPipeline()
+
+
+    /**
+     * collect {@code --name value} pairs following the positional arguments
+     *
+     * @param args
+     *     the command line arguments
+     * @param firstOption
+     *     index of the first argument after the positional arguments
+     *
+     * @return the options keyed by name (including the leading {@code --})
+     */
+    static Map<String, String> parseOptions( final String[] args,
+                                             final int firstOption )
+        {
+
+        final Map<String, String> options = new HashMap<>() ;
+
+        for ( int i = firstOption ; i < args.length ; i++ )
+            {
+            final String name = args[ i ] ;
+
+            if ( name.startsWith( "--" ) && ( ( i + 1 ) < args.length ) )
                 {
-                System.out.printf( "processing submission failed: s%n", e.getMessage() ) ;
-                e.printStackTrace() ;
+                i++ ;
+                options.put( name, args[ i ] ) ;
                 }
 
-            System.out.println( "Exit code: " + exit ) ;
             }
 
-        System.out.printf( "%nfinished processing %,d of %,d submissions%n",
-                           submissionCounter,
-                           uniqueSubmissionCount ) ;
+        return options ;
 
-        }   // end main()
+        }   // end parseOptions()
+
+
+    private static int intOption( final Map<String, String> options,
+                                  final String name,
+                                  final int defaultValue )
+        {
+
+        final String value = options.get( name ) ;
+
+        if ( value == null )
+            {
+            return defaultValue ;
+            }
+
+        try
+            {
+            return Integer.parseInt( value.trim() ) ;
+            }
+        catch ( final NumberFormatException e )
+            {
+            throw new IllegalArgumentException( String.format( "%s must be an integer: '%s'", name, value ),
+                                                e ) ;
+            }
+
+        }   // end intOption()
+
+
+    private static double fractionOption( final Map<String, String> options,
+                                          final String name,
+                                          final double defaultValue )
+        {
+
+        final String value = options.get( name ) ;
+
+        if ( value == null )
+            {
+            return defaultValue ;
+            }
+
+        final double fraction ;
+
+        try
+            {
+            fraction = Double.parseDouble( value.trim() ) ;
+            }
+        catch ( final NumberFormatException e )
+            {
+            throw new IllegalArgumentException( String.format( "%s must be a number: '%s'", name, value ), e ) ;
+            }
+
+        if ( ! ( ( fraction > 0.0 ) && ( fraction <= 1.0 ) ) )
+            {
+            throw new IllegalArgumentException( String.format( "%s must be in (0, 1]: '%s'", name, value ) ) ;
+            }
+
+        return fraction ;
+
+        }   // end fractionOption()
 
 
     record Submission( String studentId,
@@ -315,22 +953,24 @@ public final class BatchRunner extends SharedState
         }
 
 
-    static Path findClassInExtractedProject( final Path projectRoot ) throws IOException
+    static Path findClassInExtractedProject( final AssignmentContext assignment,
+                                             final Path projectRoot ) throws IOException
         {
 //            Path expected = projectRoot.resolve("src/edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".java");
 
-        final List<Path> pathsToSourceFile = findFiles( className + ".java", projectRoot.toString() ) ;
+        final String fileName = assignment.sourceFileName() ;
+        final List<Path> pathsToSourceFile = findFiles( fileName, projectRoot.toString() ) ;
 
         if ( pathsToSourceFile.isEmpty() )
             {
             throw new FileNotFoundException( String.format( "looking for '%s' in '%s'",
-                                                            className + ".java",
+                                                            fileName,
                                                             projectRoot.toString() ) ) ;
             }
 
         if ( pathsToSourceFile.size() >= 1 )
             {
-            System.out.printf( "*** found %s in %s%n", className + ".java", projectRoot ) ;
+            System.out.printf( "*** found %s in %s%n", fileName, projectRoot ) ;
             // TODO warn if found more than 1
             return pathsToSourceFile.getFirst() ;
             }
@@ -353,12 +993,12 @@ public final class BatchRunner extends SharedState
                 final String s = p.toString().replace( '\\', '/' ) ;
                 return ! s.contains( "/target/" ) && ! s.contains( "/bin/" )
                        && ! s.contains( "/test-logs/" ) ;
-                } ).filter( p -> ( className + ".java" ).equals( p.getFileName().toString() ) ).toList() ;
+                } ).filter( p -> fileName.equals( p.getFileName().toString() ) ).toList() ;
             }
 
         if ( matches.isEmpty() )
             {
-            throw new FileNotFoundException( className + ".java not found under " + projectRoot ) ;
+            throw new FileNotFoundException( fileName + " not found under " + projectRoot ) ;
             }
 
         // prefer anything under /src/
@@ -377,7 +1017,7 @@ public final class BatchRunner extends SharedState
             }
 
         final StringBuilder sb
-                = new StringBuilder( "Ambiguous " + className + ".java under " + projectRoot + "\n" ) ;
+                = new StringBuilder( "Ambiguous " + fileName + " under " + projectRoot + "\n" ) ;
 
         for ( final Path p : ( underSrc.isEmpty()
                 ? matches
@@ -438,7 +1078,8 @@ public final class BatchRunner extends SharedState
         }
 
 
-    static Path requireClass( final Path projectRoot ) throws IOException
+    static Path requireClass( final AssignmentContext assignment,
+                              final Path projectRoot ) throws IOException
         {
 //            Path lb = projectRoot.resolve("src/edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".java");
 
@@ -452,18 +1093,19 @@ public final class BatchRunner extends SharedState
 //
 //            return lb;
 
-        final List<Path> pathsToSourceFile = findFiles( className + ".java", projectRoot.toString() ) ;
+        final String fileName = assignment.sourceFileName() ;
+        final List<Path> pathsToSourceFile = findFiles( fileName, projectRoot.toString() ) ;
 
         if ( pathsToSourceFile.isEmpty() )
             {
             throw new FileNotFoundException( String.format( "looking for '%s' in '%s'",
-                                                            className + ".java",
+                                                            fileName,
                                                             projectRoot.toString() ) ) ;
             }
 
         if ( pathsToSourceFile.size() >= 1 )
             {
-            System.out.printf( "*** found %s in %s%n", className + ".java", projectRoot ) ;
+            System.out.printf( "*** found %s in %s%n", fileName, projectRoot ) ;
             // TODO warn if found more than 1
             return pathsToSourceFile.getFirst() ;
             }
@@ -490,11 +1132,26 @@ public final class BatchRunner extends SharedState
         }
 
 
-    private static int runOneStudentInFreshJvm( final Path projectRoot,
+    /**
+     * each submission compiles into its own folder so concurrent graders don't clobber each other
+     */
+    private static Path classesDirFor( final Path logFile )
+        {
+
+        return logFile.toAbsolutePath().normalize().resolveSibling( "_classes" ) ;
+
+        }   // end classesDirFor()
+
+
+    private static int runOneStudentInFreshJvm( final AssignmentContext assignment,
+                                                final Path projectRoot,
                                                 final Path studentClass,
                                                 final Path logFile,
-                                                final Path studentOutDir ) throws IOException,
-                                                                           InterruptedException
+                                                final Path studentOutDir,
+                                                final Duration wallBudget,
+                                                final Duration cpuBudget ) throws IOException,
+                                                                           InterruptedException,
+                                                                           SubmissionTimeoutException
         {
 
         final String javaExe = Paths.get( System.getProperty( "java.home" ), "bin", "java" ).toString() ;
@@ -518,14 +1175,17 @@ public final class BatchRunner extends SharedState
 
         final String parentCp = System.getProperty( "java.class.path" ) ;
 
-        final String childCp = projectRoot.resolve( "target/test-classes" ) + File.pathSeparator
-                         + projectRoot.resolve( "target/classes" ) + File.pathSeparator + parentCp ;
+        final Path classesDir = classesDirFor( logFile ) ;
+
+        final String childCp = classesDir + File.pathSeparator + projectRoot.resolve( "target/test-classes" )
+                               + File.pathSeparator + projectRoot.resolve( "target/classes" )
+                               + File.pathSeparator + parentCp ;
 
         cmd.add( "-cp" ) ;
         cmd.add( childCp ) ;
 
 //        cmd.add( classpath ) ;
-        cmd.add( "education.the_software_toolsmith.analyzer.framework.static_analysis.compliance.SingleStudentRunner" ) ;
+        cmd.add( SingleStudentRunner.class.getName() ) ;
 
 
         // Knobs/dials passed to child:
@@ -537,6 +1197,10 @@ public final class BatchRunner extends SharedState
         cmd.add( logFile.toString() ) ;
         cmd.add( "--workDir" ) ;
         cmd.add( studentOutDir.toString() ) ;
+        cmd.add( "--classesDir" ) ;
+        cmd.add( classesDir.toString() ) ;
+        cmd.add( "--assignment" ) ;
+        cmd.add( assignment.encode() ) ;
 
 
         final ProcessBuilder pb = new ProcessBuilder( cmd ) ;
@@ -553,7 +1217,22 @@ public final class BatchRunner extends SharedState
             pb.directory( workDir.toFile() ) ;
             }
 
-        return pb.start().waitFor() ;
+        final Process child = pb.start() ;
+
+        try ( ProcessWatchdog watchdog = ProcessWatchdog.watch( child, wallBudget, cpuBudget ) )
+            {
+            final int exitCode = child.waitFor() ;
+
+            watchdog.checkBudget() ;
+
+            return exitCode ;
+            }
+        catch ( final InterruptedException e )
+            {
+            ProcessWatchdog.killTree( child.toHandle() ) ;
+
+            throw e ;
+            }
 
         }
 
@@ -0,0 +1,564 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.io.BufferedOutputStream ;
+import java.io.ByteArrayInputStream ;
+import java.io.ByteArrayOutputStream ;
+import java.io.DataInputStream ;
+import java.io.DataOutputStream ;
+import java.io.IOException ;
+import java.nio.ByteBuffer ;
+import java.nio.channels.FileChannel ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardOpenOption ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.List ;
+
+
+/**
+ * a compact column-oriented gradebook file - a pivot reads just the columns it needs
+ * <p>
+ * Like Parquet, rows are buffered into row groups of up to {@value #ROW_GROUP_SIZE} rows and each row
+ * group is written column by column, so a writer holds at most one row group and a reader seeks directly to
+ * a column's chunks. All numbers are big-endian:
+ *
+ * <pre>
+ * {@code
+ * file        := MAGIC rowGroup* footer footerOffset:long MAGIC
+ * rowGroup    := chunk{columnCount}
+ * chunk       := nullBitmap:byte[ceil(rows / 8)] value{rows}     - bit set: the row has a value
+ *   INT value    := int                                           - 0 if null
+ *   STRING value := length:int utf8:byte[length]                  - length 0 if null
+ * footer      := columnCount:int ( name:UTF type:byte ){columnCount}
+ *                rowGroupCount:int ( rows:int chunkOffset:long{columnCount} ){rowGroupCount}
+ * }
+ * </pre>
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public final class ColumnarGradebook
+    {
+
+    /** identifies the format at both ends of the file */
+    private static final byte[] MAGIC = "GRADEBK1".getBytes( StandardCharsets.US_ASCII ) ;
+
+    /** rows buffered before they're written */
+    static final int ROW_GROUP_SIZE = 1_024 ;
+
+
+    /**
+     * how a column's values are stored
+     */
+    public enum ColumnType
+        {
+        /** a 32-bit integer - counts, flags, and exit codes */
+        INT,
+        /** UTF-8 text */
+        STRING
+        }
+
+
+    /**
+     * describes one column
+     *
+     * @param name
+     *     the column's heading
+     * @param type
+     *     how its values are stored
+     */
+    public record Column( String name,
+                          ColumnType type )
+        {}
+
+
+    /**
+     * the schema and row groups of a file - from {@link ColumnarGradebook#readFooter(Path)}
+     *
+     * @param columns
+     *     the schema
+     * @param rowGroups
+     *     each row group's row count and the offsets of its chunks in column order
+     */
+    public record Footer( List<Column> columns,
+                          List<RowGroup> rowGroups )
+        {
+
+        /**
+         * @return the total number of rows
+         */
+        public long rowCount()
+            {
+
+            return this.rowGroups.stream().mapToLong( RowGroup::rows ).sum() ;
+
+            }   // end rowCount()
+
+        }   // end record Footer
+
+
+    /**
+     * locates one row group's chunks
+     *
+     * @param rows
+     *     the number of rows in the group
+     * @param chunkOffsets
+     *     file offset of each column's chunk in column order
+     */
+    public record RowGroup( int rows,
+                            long[] chunkOffsets )
+        {}
+
+
+    /*
+     * constructors
+     */
+
+
+    private ColumnarGradebook()
+        {
+
+        // static methods only
+
+        }   // end no-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * start a file
+     *
+     * @param file
+     *     the destination - replaced if it exists
+     * @param columns
+     *     the schema
+     *
+     * @return the writer
+     *
+     * @throws IOException
+     *     if the file can't be created
+     */
+    public static Writer create( final Path file,
+                                 final List<Column> columns ) throws IOException
+        {
+
+        return new Writer( file, columns ) ;
+
+        }   // end create()
+
+
+    /**
+     * read a file's schema and row group index
+     *
+     * @param file
+     *     the file
+     *
+     * @return the footer
+     *
+     * @throws IOException
+     *     if the file can't be read or isn't a columnar gradebook
+     */
+    public static Footer readFooter( final Path file ) throws IOException
+        {
+
+        try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) )
+            {
+            return readFooter( channel ) ;
+            }
+
+        }   // end readFooter()
+
+
+    /**
+     * read every value of one column without reading the others
+     *
+     * @param file
+     *     the file
+     * @param columnName
+     *     the column's heading
+     *
+     * @return the values in row order - {@link Integer}s or {@link String}s, {@code null} if a row has no
+     *     value
+     *
+     * @throws IOException
+     *     if the file can't be read or isn't a columnar gradebook
+     * @throws IllegalArgumentException
+     *     if the file has no such column
+     */
+    public static List<Object> readColumn( final Path file,
+                                           final String columnName ) throws IOException
+        {
+
+        try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) )
+            {
+            final Footer footer = readFooter( channel ) ;
+
+            int index = -1 ;
+
+            for ( int i = 0 ; i < footer.columns().size() ; i++ )
+                {
+
+                if ( footer.columns().get( i ).name().equals( columnName ) )
+                    {
+                    index = i ;
+
+                    break ;
+                    }
+
+                }
+
+            if ( index < 0 )
+                {
+                throw new IllegalArgumentException( String.format( "no column '%s' in %s",
+                                                                   columnName,
+                                                                   file ) ) ;
+                }
+
+            final ColumnType type = footer.columns().get( index ).type() ;
+            final List<Object> values = new ArrayList<>() ;
+
+            for ( int group = 0 ; group < footer.rowGroups().size() ; group++ )
+                {
+                final RowGroup rowGroup = footer.rowGroups().get( group ) ;
+                final long start = rowGroup.chunkOffsets()[ index ] ;
+                final long end = index + 1 < rowGroup.chunkOffsets().length
+                        ? rowGroup.chunkOffsets()[ index + 1 ]
+                        : nextRowGroupStart( footer, group, channel ) ;
+
+                final byte[] chunk = read( channel, start, end - start ) ;
+                final DataInputStream in = new DataInputStream( new ByteArrayInputStream( chunk ) ) ;
+
+                final byte[] present = new byte[ ( rowGroup.rows() + 7 ) / 8 ] ;
+                in.readFully( present ) ;
+
+                for ( int row = 0 ; row < rowGroup.rows() ; row++ )
+                    {
+                    final Object value = switch ( type )
+                        {
+                        case INT -> in.readInt() ;
+                        case STRING ->
+                            {
+                            final byte[] utf8 = new byte[ in.readInt() ] ;
+                            in.readFully( utf8 ) ;
+
+                            yield new String( utf8, StandardCharsets.UTF_8 ) ;
+                            }
+                        } ;
+
+                    values.add( ( present[ row / 8 ] & ( 1 << ( row % 8 ) ) ) != 0
+                            ? value
+                            : null ) ;
+                    }
+
+                }
+
+            return values ;
+            }
+
+        }   // end readColumn()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static Footer readFooter( final FileChannel channel ) throws IOException
+        {
+
+        final long size = channel.size() ;
+        final ByteBuffer trailer = ByteBuffer.wrap( read( channel, size - Long.BYTES - MAGIC.length,
+                                                          Long.BYTES + MAGIC.length ) ) ;
+        final long footerOffset = trailer.getLong() ;
+        final byte[] magic = new byte[ MAGIC.length ] ;
+        trailer.get( magic ) ;
+
+        if ( ! Arrays.equals( magic, MAGIC ) || ! Arrays.equals( read( channel, 0, MAGIC.length ), MAGIC ) )
+            {
+            throw new IOException( "not a columnar gradebook" ) ;
+            }
+
+        final DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream( read( channel, footerOffset, size - Long.BYTES - MAGIC.length
+                                                                       - footerOffset ) ) ) ;
+
+        final List<Column> columns = new ArrayList<>() ;
+        final int columnCount = in.readInt() ;
+
+        for ( int i = 0 ; i < columnCount ; i++ )
+            {
+            columns.add( new Column( in.readUTF(), ColumnType.values()[ in.readByte() ] ) ) ;
+            }
+
+        final List<RowGroup> rowGroups = new ArrayList<>() ;
+        final int rowGroupCount = in.readInt() ;
+
+        for ( int i = 0 ; i < rowGroupCount ; i++ )
+            {
+            final int rows = in.readInt() ;
+            final long[] chunkOffsets = new long[ columnCount ] ;
+
+            for ( int column = 0 ; column < columnCount ; column++ )
+                {
+                chunkOffsets[ column ] = in.readLong() ;
+                }
+
+            rowGroups.add( new RowGroup( rows, chunkOffsets ) ) ;
+            }
+
+        return new Footer( List.copyOf( columns ), List.copyOf( rowGroups ) ) ;
+
+        }   // end readFooter() from a channel
+
+
+    /**
+     * @return where the row group following {@code group} starts - the footer if it's the last
+     */
+    private static long nextRowGroupStart( final Footer footer,
+                                           final int group,
+                                           final FileChannel channel ) throws IOException
+        {
+
+        final int next = group + 1 ;
+
+        if ( next < footer.rowGroups().size() )
+            {
+            return footer.rowGroups().get( next ).chunkOffsets()[ 0 ] ;
+            }
+
+        return ByteBuffer.wrap( read( channel, channel.size() - Long.BYTES - MAGIC.length, Long.BYTES ) )
+                         .getLong() ;
+
+        }   // end nextRowGroupStart()
+
+
+    private static byte[] read( final FileChannel channel,
+                                final long position,
+                                final long length ) throws IOException
+        {
+
+        final ByteBuffer buffer = ByteBuffer.allocate( Math.toIntExact( length ) ) ;
+
+        while ( buffer.hasRemaining() )
+            {
+
+            if ( channel.read( buffer, position + buffer.position() ) < 0 )
+                {
+                throw new IOException( "truncated columnar gradebook" ) ;
+                }
+
+            }
+
+        return buffer.array() ;
+
+        }   // end read()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * appends rows to a new file - a row group is written each time {@value ColumnarGradebook#ROW_GROUP_SIZE}
+     * rows have been added and the footer is written when it's closed
+     */
+    public static final class Writer implements AutoCloseable
+        {
+
+        private final List<Column> columns ;
+        private final DataOutputStream out ;
+
+        private final List<Object[]> rowGroup = new ArrayList<>( ROW_GROUP_SIZE ) ;
+        private final List<RowGroup> written = new ArrayList<>() ;
+
+        private long position ;
+
+
+        private Writer( final Path file,
+                        final List<Column> columns ) throws IOException
+            {
+
+            this.columns = List.copyOf( columns ) ;
+            this.out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( file ) ) ) ;
+
+            this.out.write( MAGIC ) ;
+            this.position = MAGIC.length ;
+
+            }   // end 2-arg constructor
+
+
+        /**
+         * add a row
+         *
+         * @param values
+         *     one value per column in schema order - {@link Number}s (or {@link Boolean}s) for
+         *     {@link ColumnType#INT} columns, anything for {@link ColumnType#STRING}s - {@code null} if the
+         *     row has no value
+         *
+         * @throws IOException
+         *     if a full row group can't be written
+         */
+        public void addRow( final Object[] values ) throws IOException
+            {
+
+            if ( values.length != this.columns.size() )
+                {
+                throw new IllegalArgumentException( String.format( "expected %,d values, got %,d",
+                                                                   this.columns.size(),
+                                                                   values.length ) ) ;
+                }
+
+            this.rowGroup.add( values.clone() ) ;
+
+            if ( this.rowGroup.size() == ROW_GROUP_SIZE )
+                {
+                writeRowGroup() ;
+                }
+
+            }   // end addRow()
+
+
+        /**
+         * write the last row group and the footer
+         */
+        @Override
+        public void close() throws IOException
+            {
+
+            try
+                {
+
+                if ( ! this.rowGroup.isEmpty() )
+                    {
+                    writeRowGroup() ;
+                    }
+
+                final long footerOffset = this.position ;
+
+                this.out.writeInt( this.columns.size() ) ;
+
+                for ( final Column column : this.columns )
+                    {
+                    this.out.writeUTF( column.name() ) ;
+                    this.out.writeByte( column.type().ordinal() ) ;
+                    }
+
+                this.out.writeInt( this.written.size() ) ;
+
+                for ( final RowGroup group : this.written )
+                    {
+                    this.out.writeInt( group.rows() ) ;
+
+                    for ( final long chunkOffset : group.chunkOffsets() )
+                        {
+                        this.out.writeLong( chunkOffset ) ;
+                        }
+
+                    }
+
+                this.out.writeLong( footerOffset ) ;
+                this.out.write( MAGIC ) ;
+                }
+            finally
+                {
+                this.out.close() ;
+                }
+
+            }   // end close()
+
+
+        private void writeRowGroup() throws IOException
+            {
+
+            final int rows = this.rowGroup.size() ;
+            final long[] chunkOffsets = new long[ this.columns.size() ] ;
+
+            for ( int column = 0 ; column < this.columns.size() ; column++ )
+                {
+                chunkOffsets[ column ] = this.position ;
+
+                final ByteArrayOutputStream chunkBytes = new ByteArrayOutputStream() ;
+                final DataOutputStream chunk = new DataOutputStream( chunkBytes ) ;
+                final byte[] present = new byte[ ( rows + 7 ) / 8 ] ;
+
+                for ( int row = 0 ; row < rows ; row++ )
+                    {
+                    final Object value = this.rowGroup.get( row )[ column ] ;
+
+                    if ( value != null )
+                        {
+                        present[ row / 8 ] |= (byte) ( 1 << ( row % 8 ) ) ;
+                        }
+
+                    switch ( this.columns.get( column ).type() )
+                        {
+                        case INT -> chunk.writeInt( toInt( value ) ) ;
+                        case STRING ->
+                            {
+                            final byte[] utf8 = value == null
+                                    ? new byte[ 0 ]
+                                    : value.toString().getBytes( StandardCharsets.UTF_8 ) ;
+
+                            chunk.writeInt( utf8.length ) ;
+                            chunk.write( utf8 ) ;
+                            }
+                        }
+
+                    }
+
+                this.out.write( present ) ;
+                chunkBytes.writeTo( this.out ) ;
+                this.position += present.length + chunkBytes.size() ;
+                }
+
+            this.written.add( new RowGroup( rows, chunkOffsets ) ) ;
+            this.rowGroup.clear() ;
+
+            }   // end writeRowGroup()
+
+
+        private static int toInt( final Object value )
+            {
+
+            return switch ( value )
+                {
+                case null -> 0 ;
+                case final Boolean flag -> flag
+                        ? 1
+                        : 0 ;
+                case final Number number -> number.intValue() ;
+                default -> throw new IllegalArgumentException( "not a number: " + value ) ;
+                } ;
+
+            }   // end toInt()
+
+        }   // end class Writer
+
+    }   // end class ColumnarGradebook
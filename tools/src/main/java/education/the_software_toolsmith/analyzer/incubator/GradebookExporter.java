@@ -0,0 +1,375 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.incubator.ColumnarGradebook.Column ;
+import education.the_software_toolsmith.analyzer.incubator.ColumnarGradebook.ColumnType ;
+
+import com.fasterxml.jackson.databind.JsonNode ;
+import com.fasterxml.jackson.databind.ObjectMapper ;
+
+import java.io.BufferedReader ;
+import java.io.BufferedWriter ;
+import java.io.IOException ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.Paths ;
+import java.util.ArrayList ;
+import java.util.HashMap ;
+import java.util.LinkedHashMap ;
+import java.util.List ;
+import java.util.Map ;
+
+
+/**
+ * pivots a batch run's {@value ResultsSink#FILE_NAME} into a gradebook - one row per student and one
+ * column per structural requirement and test group - as CSV and optionally as a {@link ColumnarGradebook}
+ * <p>
+ * The results are streamed twice: once to discover the columns and each student's latest record, then to
+ * write the rows. Only the column names and a line number per student are held in memory. Columns are:
+ * <ul>
+ * <li>the student, name, submission, status, and exit code
+ * <li>whether it compiled, its style counts by severity, and its test totals
+ * <li>{@code structure:<method>} - the number of the method's requirements met
+ * <li>{@code tests:<group>} - the number of the group's tests passed
+ * </ul>
+ * A row has no value for a stage which didn't run.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public final class GradebookExporter
+    {
+
+    /** the CSV gradebook in the graded root */
+    static final String CSV_FILE_NAME = "gradebook.csv" ;
+    /** the columnar gradebook in the graded root */
+    static final String COLUMNAR_FILE_NAME = "gradebook.gbk" ;
+
+    /** prefix of the per-method structural requirement columns */
+    private static final String STRUCTURE_PREFIX = "structure:" ;
+    /** prefix of the per-group test columns */
+    private static final String TESTS_PREFIX = "tests:" ;
+
+    /** thread-safe once configured */
+    private static final ObjectMapper MAPPER = new ObjectMapper() ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private GradebookExporter()
+        {
+
+        // static methods only
+
+        }   // end no-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * export a results file
+     *
+     * @param args
+     *     {@code <results.jsonl> <gradebook.csv> [<gradebook.gbk>]} - the columnar file is written only if
+     *     named
+     *
+     * @throws IOException
+     *     if the results can't be read or the gradebook can't be written
+     */
+    public static void main( final String[] args ) throws IOException
+        {
+
+        if ( args.length < 2 )
+            {
+            System.err.println( "Usage: GradebookExporter <results.jsonl> <gradebook.csv> [<gradebook.gbk>]" ) ;
+            System.exit( 2 ) ;
+            }
+
+        final int rows = export( Paths.get( args[ 0 ] ),
+                                 Paths.get( args[ 1 ] ),
+                                 args.length > 2
+                                         ? Paths.get( args[ 2 ] )
+                                         : null ) ;
+
+        System.out.printf( "exported %,d students to %s%n", rows, args[ 1 ] ) ;
+
+        }   // end main()
+
+
+    /**
+     * export a results file
+     *
+     * @param resultsFile
+     *     written by a {@link ResultsSink}
+     * @param csvFile
+     *     destination for the CSV gradebook
+     * @param columnarFile
+     *     destination for the {@link ColumnarGradebook} or {@code null} to skip it
+     *
+     * @return the number of students exported
+     *
+     * @throws IOException
+     *     if the results can't be read or the gradebook can't be written
+     */
+    public static int export( final Path resultsFile,
+                              final Path csvFile,
+                              final Path columnarFile ) throws IOException
+        {
+
+        // pass 1: the columns - fixed first, the rest in the order they're encountered - and each student's
+        // latest record
+        final Map<String, ColumnType> columnTypes = new LinkedHashMap<>() ;
+
+        for ( final String identification : new String[] { "student", "name", "submission", "status" } )
+            {
+            columnTypes.put( identification, ColumnType.STRING ) ;
+            }
+
+        columnTypes.put( "exitCode", ColumnType.INT ) ;
+
+        final Map<String, Long> latestLine = new HashMap<>() ;
+
+        long lineNumber = 0 ;
+
+        try ( BufferedReader in = Files.newBufferedReader( resultsFile, StandardCharsets.UTF_8 ) )
+            {
+            String line ;
+
+            while ( ( line = in.readLine() ) != null )
+                {
+                lineNumber++ ;
+
+                if ( line.isBlank() )
+                    {
+                    continue ;
+                    }
+
+                final Map<String, Object> row = flatten( MAPPER.readTree( line ) ) ;
+
+                for ( final Map.Entry<String, Object> cell : row.entrySet() )
+                    {
+                    columnTypes.putIfAbsent( cell.getKey(),
+                                             cell.getValue() instanceof String
+                                                     ? ColumnType.STRING
+                                                     : ColumnType.INT ) ;
+                    }
+
+                // a later record for the same student - e.g., from appended runs - supersedes the earlier one
+                latestLine.put( (String) row.get( "student" ), lineNumber ) ;
+                }
+
+            }
+
+        final List<Column> columns = new ArrayList<>( columnTypes.size() ) ;
+        columnTypes.forEach( ( name,
+                               type ) -> columns.add( new Column( name, type ) ) ) ;
+
+
+        // pass 2: the rows
+        int rowCount = 0 ;
+        lineNumber = 0 ;
+
+        try ( BufferedReader in = Files.newBufferedReader( resultsFile, StandardCharsets.UTF_8 ) ;
+              BufferedWriter csv = Files.newBufferedWriter( csvFile, StandardCharsets.UTF_8 ) ;
+              ColumnarGradebook.Writer columnar = columnarFile == null
+                      ? null
+                      : ColumnarGradebook.create( columnarFile, columns ) )
+            {
+            writeCsvRow( csv, columnTypes.keySet().toArray() ) ;
+
+            String line ;
+
+            while ( ( line = in.readLine() ) != null )
+                {
+                lineNumber++ ;
+
+                if ( line.isBlank() )
+                    {
+                    continue ;
+                    }
+
+                final Map<String, Object> row = flatten( MAPPER.readTree( line ) ) ;
+
+                if ( latestLine.get( (String) row.get( "student" ) ) != lineNumber )
+                    {
+                    continue ;
+                    }
+
+                final Object[] values = new Object[ columns.size() ] ;
+
+                for ( int i = 0 ; i < values.length ; i++ )
+                    {
+                    values[ i ] = row.get( columns.get( i ).name() ) ;
+                    }
+
+                writeCsvRow( csv, values ) ;
+
+                if ( columnar != null )
+                    {
+                    columnar.addRow( values ) ;
+                    }
+
+                rowCount++ ;
+                }
+
+            }
+
+        return rowCount ;
+
+        }   // end export()
+
+
+    /*
+     * utility methods
+     */
+
+
+    /**
+     * @return one record's cells keyed by column name in column order - stages which didn't run contribute
+     *     no cells
+     */
+    private static Map<String, Object> flatten( final JsonNode record )
+        {
+
+        final Map<String, Object> row = new LinkedHashMap<>() ;
+
+        // graded without a student id - the submission identifies the row
+        row.put( "student", record.path( "student" ).asText( record.path( "submission" ).asText() ) ) ;
+        row.put( "name", text( record, "name" ) ) ;
+        row.put( "submission", text( record, "submission" ) ) ;
+        row.put( "status", text( record, "status" ) ) ;
+        row.put( "exitCode", record.path( "exitCode" ).asInt( -1 ) ) ;
+
+        final JsonNode grading = record.path( "grading" ) ;
+
+        if ( grading.has( "compiled" ) )
+            {
+            row.put( "compiled",
+                     grading.get( "compiled" ).asBoolean()
+                             ? 1
+                             : 0 ) ;
+            }
+
+        final JsonNode style = grading.path( "style" ) ;
+
+        for ( final String counter : new String[] { "violations", "error", "warning", "info" } )
+            {
+
+            if ( style.has( counter ) )
+                {
+                row.put( "style." + counter, style.get( counter ).asInt() ) ;
+                }
+
+            }
+
+        final JsonNode tests = grading.path( "tests" ) ;
+
+        for ( final String counter : new String[] { "found", "passed", "failed", "skipped", "aborted" } )
+            {
+
+            if ( tests.has( counter ) )
+                {
+                row.put( "tests." + counter, tests.get( counter ).asInt() ) ;
+                }
+
+            }
+
+        for ( final JsonNode method : grading.path( "structure" ).path( "methods" ) )
+            {
+            row.put( STRUCTURE_PREFIX + method.path( "method" ).asText(), method.path( "passed" ).asInt() ) ;
+            }
+
+        for ( final Map.Entry<String, JsonNode> group : tests.path( "groups" ).properties() )
+            {
+            row.put( TESTS_PREFIX + group.getKey(), group.getValue().path( "passed" ).asInt() ) ;
+            }
+
+        // drop the cells for missing text fields so they're empty rather than "null"
+        row.values().removeIf( value -> value == null ) ;
+
+        return row ;
+
+        }   // end flatten()
+
+
+    private static String text( final JsonNode record,
+                                final String field )
+        {
+
+        final JsonNode value = record.get( field ) ;
+
+        return ( value == null ) || value.isNull()
+                ? null
+                : value.asText() ;
+
+        }   // end text()
+
+
+    /**
+     * write one row quoted as described by RFC 4180 - {@code null}s are written as empty cells
+     */
+    private static void writeCsvRow( final BufferedWriter csv,
+                                     final Object[] values ) throws IOException
+        {
+
+        for ( int i = 0 ; i < values.length ; i++ )
+            {
+
+            if ( i > 0 )
+                {
+                csv.write( ',' ) ;
+                }
+
+            if ( values[ i ] == null )
+                {
+                continue ;
+                }
+
+            final String value = values[ i ].toString() ;
+
+            if ( value.contains( "," ) || value.contains( "\"" ) || value.contains( "\n" )
+                 || value.contains( "\r" ) )
+                {
+                csv.write( '"' ) ;
+                csv.write( value.replace( "\"", "\"\"" ) ) ;
+                csv.write( '"' ) ;
+                }
+            else
+                {
+                csv.write( value ) ;
+                }
+
+            }
+
+        csv.write( "\r\n" ) ;
+
+        }   // end writeCsvRow()
+
+    }   // end class GradebookExporter
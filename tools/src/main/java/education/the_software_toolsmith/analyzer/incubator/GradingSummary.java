@@ -0,0 +1,437 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.MethodAssessment ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Result ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalysisResult ;
+
+import com.fasterxml.jackson.databind.JsonNode ;
+import com.fasterxml.jackson.databind.ObjectMapper ;
+import com.fasterxml.jackson.databind.node.ArrayNode ;
+import com.fasterxml.jackson.databind.node.ObjectNode ;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel ;
+
+import org.junit.platform.engine.TestExecutionResult ;
+import org.junit.platform.launcher.TestExecutionListener ;
+import org.junit.platform.launcher.TestIdentifier ;
+import org.junit.platform.launcher.TestPlan ;
+
+import java.io.IOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.Map ;
+import java.util.Optional ;
+import java.util.TreeMap ;
+
+
+/**
+ * machine-readable results of grading one submission - written beside its log so batch tools needn't
+ * scrape the log
+ * <p>
+ * The summary is a single JSON object:
+ *
+ * <pre>
+ * {@code
+ * { "compiled": true,
+ *   "structure": { "compliant": false, "methods": [ { "method": "add(T)", "passed": 3, "checks": 4 } ] },
+ *   "style": { "compliant": false, "violations": 8, "error": 5, "warning": 3, "info": 0, "ignore": 0 },
+ *   "tests": { "found": 20, "passed": 18, "failed": 2, "skipped": 0, "aborted": 0,
+ *              "groups": { "AddTests": { "passed": 5, "failed": 1, ... } },
+ *              "failures": [ "AddTests.testAddNull()" ] },
+ *   "timingsMs": { "compile": 1234, "style": 210, "structure": 340, "tests": 2100 },
+ *   "error": "..." }
+ * }
+ * </pre>
+ *
+ * Sections for stages which didn't run are omitted.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public final class GradingSummary
+    {
+
+    /** the summary file in a submission's output folder */
+    static final String FILE_NAME = "grading-summary.json" ;
+
+    /** how a test may end - counted overall and by group */
+    private static final String[] TEST_OUTCOMES = { "passed", "failed", "skipped", "aborted" } ;
+
+    /** thread-safe once configured */
+    private static final ObjectMapper MAPPER = new ObjectMapper() ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final ObjectNode root = MAPPER.createObjectNode() ;
+    private final ObjectNode timings = MAPPER.createObjectNode() ;
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * @param logFile
+     *     a submission's log
+     *
+     * @return the summary file beside it
+     */
+    static Path pathFor( final Path logFile )
+        {
+
+        return logFile.resolveSibling( FILE_NAME ) ;
+
+        }   // end pathFor()
+
+
+    /**
+     * read a submission's summary
+     *
+     * @param summaryFile
+     *     from {@link #pathFor(Path)}
+     *
+     * @return the summary or empty if there isn't one - e.g., the grading process was killed
+     *
+     * @throws IOException
+     *     if the summary can't be read or parsed
+     */
+    static Optional<JsonNode> read( final Path summaryFile ) throws IOException
+        {
+
+        if ( ! Files.isRegularFile( summaryFile ) )
+            {
+            return Optional.empty() ;
+            }
+
+        return Optional.of( MAPPER.readTree( summaryFile.toFile() ) ) ;
+
+        }   // end read()
+
+
+    /**
+     * record whether the submission compiled
+     *
+     * @param compiled
+     *     {@code true} if it compiled
+     * @param startedAt
+     *     {@link System#nanoTime()} when compilation started
+     */
+    void compiled( final boolean compiled,
+                   final long startedAt )
+        {
+
+        this.root.put( "compiled", compiled ) ;
+        elapsed( "compile", startedAt ) ;
+
+        }   // end compiled()
+
+
+    /**
+     * record the style analysis
+     *
+     * @param overall
+     *     the result for all files - {@code CodeStyleAnalyzer.EVERYTHING_KEY}
+     * @param startedAt
+     *     {@link System#nanoTime()} when the analysis started
+     */
+    void style( final CodeStyleAnalysisResult overall,
+                final long startedAt )
+        {
+
+        final ObjectNode style = this.root.putObject( "style" ) ;
+
+        style.put( "compliant", overall.isCompliant ) ;
+        style.put( "violations", overall.violationCount() ) ;
+
+        for ( final SeverityLevel severityLevel : SeverityLevel.values() )
+            {
+            style.put( severityLevel.getName(),
+                       overall.violationSeverityLevelCounters[ severityLevel.ordinal() ] ) ;
+            }
+
+        elapsed( "style", startedAt ) ;
+
+        }   // end style()
+
+
+    /**
+     * record the structural analysis - one entry per method with requirements
+     *
+     * @param result
+     *     the analysis' result
+     * @param startedAt
+     *     {@link System#nanoTime()} when the analysis started
+     */
+    void structure( final Result result,
+                    final long startedAt )
+        {
+
+        final ObjectNode structure = this.root.putObject( "structure" ) ;
+        final ArrayNode methods = structure.putArray( "methods" ) ;
+
+        boolean compliant = result.thrown == null ;
+
+        for ( final MethodAssessment assessment : result.methodAssessments )
+            {
+
+            if ( ! assessment.hasRules() )
+                {
+                continue ;
+                }
+
+            methods.addObject()
+                   .put( "method", assessment.signature() )
+                   .put( "passed", assessment.checksPassed() )
+                   .put( "checks", assessment.checkCount() ) ;
+
+            compliant &= assessment.isCompliant() ;
+            }
+
+        structure.put( "compliant", compliant ) ;
+
+        if ( result.thrown != null )
+            {
+            structure.put( "error", result.thrown.toString() ) ;
+            }
+
+        elapsed( "structure", startedAt ) ;
+
+        }   // end structure()
+
+
+    /**
+     * @return a listener which records the test run in this summary - register it for a single execution
+     */
+    TestExecutionListener tests()
+        {
+
+        return new TestTally( System.nanoTime() ) ;
+
+        }   // end tests()
+
+
+    /**
+     * record why grading stopped early
+     *
+     * @param thrown
+     *     what stopped it
+     */
+    void failed( final Throwable thrown )
+        {
+
+        this.root.put( "error", thrown.toString() ) ;
+
+        }   // end failed()
+
+
+    /**
+     * write the summary beside a submission's log
+     *
+     * @param logFile
+     *     the submission's log
+     *
+     * @throws IOException
+     *     if the summary can't be written
+     */
+    void write( final Path logFile ) throws IOException
+        {
+
+        this.root.set( "timingsMs", this.timings ) ;
+
+        Files.writeString( pathFor( logFile ), MAPPER.writeValueAsString( this.root ) ) ;
+
+        }   // end write()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.root.toString() ;
+
+        }   // end toString()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private void elapsed( final String stage,
+                          final long startedAt )
+        {
+
+        this.timings.put( stage, ( System.nanoTime() - startedAt ) / 1_000_000 ) ;
+
+        }   // end elapsed()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * counts test results overall and by group - a test's group is its parent container, i.e., its test
+     * class, nested class, or parameterized test
+     */
+    private final class TestTally implements TestExecutionListener
+        {
+
+        private final long startedAt ;
+
+        private final ObjectNode tests = MAPPER.createObjectNode() ;
+        private final ArrayNode failures = MAPPER.createArrayNode() ;
+        private final Map<String, ObjectNode> groups = new TreeMap<>() ;
+
+        private TestPlan testPlan ;
+
+
+        private TestTally( final long startedAt )
+            {
+
+            this.startedAt = startedAt ;
+
+            }   // end 1-arg constructor
+
+
+        @Override
+        public void testPlanExecutionStarted( final TestPlan plan )
+            {
+
+            this.testPlan = plan ;
+
+            this.tests.put( "found", plan.countTestIdentifiers( TestIdentifier::isTest ) ) ;
+
+            for ( final String outcome : TEST_OUTCOMES )
+                {
+                this.tests.put( outcome, 0 ) ;
+                }
+
+            }   // end testPlanExecutionStarted()
+
+
+        @Override
+        public void executionSkipped( final TestIdentifier testIdentifier,
+                                      final String reason )
+            {
+
+            if ( testIdentifier.isTest() )
+                {
+                count( testIdentifier, "skipped" ) ;
+
+                return ;
+                }
+
+            // a skipped container's tests never start
+            for ( final TestIdentifier descendant : this.testPlan.getDescendants( testIdentifier ) )
+                {
+
+                if ( descendant.isTest() )
+                    {
+                    count( descendant, "skipped" ) ;
+                    }
+
+                }
+
+            }   // end executionSkipped()
+
+
+        @Override
+        public void executionFinished( final TestIdentifier testIdentifier,
+                                       final TestExecutionResult testExecutionResult )
+            {
+
+            if ( ! testIdentifier.isTest() )
+                {
+                return ;
+                }
+
+            final String outcome = switch ( testExecutionResult.getStatus() )
+                {
+                case SUCCESSFUL -> "passed" ;
+                case ABORTED -> "aborted" ;
+                case FAILED -> "failed" ;
+                } ;
+
+            count( testIdentifier, outcome ) ;
+
+            if ( "failed".equals( outcome ) )
+                {
+                this.failures.add( group( testIdentifier ) + "." + testIdentifier.getDisplayName() ) ;
+                }
+
+            }   // end executionFinished()
+
+
+        @Override
+        public void testPlanExecutionFinished( final TestPlan plan )
+            {
+
+            this.tests.putObject( "groups" ).setAll( this.groups ) ;
+            this.tests.set( "failures", this.failures ) ;
+
+            GradingSummary.this.root.set( "tests", this.tests ) ;
+            elapsed( "tests", this.startedAt ) ;
+
+            }   // end testPlanExecutionFinished()
+
+
+        private void count( final TestIdentifier test,
+                            final String outcome )
+            {
+
+            this.tests.put( outcome, this.tests.path( outcome ).asInt() + 1 ) ;
+
+            final ObjectNode group = this.groups.computeIfAbsent( group( test ), ignored ->
+                {
+                final ObjectNode counters = MAPPER.createObjectNode() ;
+
+                for ( final String counter : TEST_OUTCOMES )
+                    {
+                    counters.put( counter, 0 ) ;
+                    }
+
+                return counters ;
+                } ) ;
+
+            group.put( outcome, group.path( outcome ).asInt() + 1 ) ;
+
+            }   // end count()
+
+
+        private String group( final TestIdentifier test )
+            {
+
+            return this.testPlan.getParent( test ).map( TestIdentifier::getDisplayName ).orElse( "(none)" ) ;
+
+            }   // end group()
+
+        }   // end inner class TestTally
+
+    }   // end class GradingSummary
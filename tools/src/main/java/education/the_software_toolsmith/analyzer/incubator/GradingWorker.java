@@ -0,0 +1,310 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.framework.dynamic_analysis.TestingBase ;
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
+
+import java.io.BufferedReader ;
+import java.io.File ;
+import java.io.FileOutputStream ;
+import java.io.IOException ;
+import java.io.InputStreamReader ;
+import java.io.PrintStream ;
+import java.lang.reflect.InvocationTargetException ;
+import java.lang.reflect.Method ;
+import java.net.MalformedURLException ;
+import java.net.URL ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Path ;
+import java.nio.file.Paths ;
+import java.util.ArrayList ;
+import java.util.List ;
+
+
+/**
+ * long-lived grading JVM - grades one submission per request read from standard input
+ * <p>
+ * Protocol (one line per message, UTF-8):
+ * <ul>
+ * <li>request:
+ * {@code GRADE<tab>nonce<tab>assignment<tab>projectRoot<tab>studentFile<tab>logFile<tab>workDir<tab>classesDir}
+ * where assignment is an encoded {@link AssignmentContext}
+ * <li>request: {@code QUIT}
+ * <li>reply: {@code DONE <nonce> <exitCode> <usedHeapBytes> <maxHeapBytes>}
+ * </ul>
+ * The student's code can write to the worker's original standard output (e.g., via
+ * {@code FileDescriptor.out}), so the parent accepts only a reply which echoes the nonce it sent with the
+ * request.
+ * While a submission is graded, {@code System.out} and {@code System.err} are redirected to its log file
+ * so the log matches what a fresh {@link SingleStudentRunner} JVM would have written. The runner itself -
+ * and with it the analyzer framework, the tests, and the student's compiled classes - is loaded by a
+ * throwaway {@link JobClassLoader} so no static state from one student is visible to the next. Each
+ * request names its assignment so a worker isn't tied to one.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 move {@code JobClassLoader} to its own file
+ * @version 1.2 2026-10-16 each request carries its {@link AssignmentContext}
+ * @version 1.3 2026-10-16 replies echo the request's nonce so student output can't forge one
+ * @version 1.4 2026-10-16 run {@link SingleStudentRunner} as defined by the job's class loader rather than
+ *     the worker's so the framework's static state starts fresh for each job
+ */
+public final class GradingWorker
+    {
+
+    /** request to grade a submission */
+    static final String GRADE_REQUEST = "GRADE" ;
+    /** request to shut down */
+    static final String QUIT_REQUEST = "QUIT" ;
+    /** prefix of the reply to a grade request */
+    static final String DONE_REPLY = "DONE" ;
+
+    /** separates the fields of a request */
+    static final String FIELD_SEPARATOR = "\t" ;
+
+
+    /**
+     * Utility class - prevent instantiation
+     */
+    private GradingWorker()
+        {
+
+        // Utility class - prevent instantiation
+
+        }   // end no-arg constructor
+
+
+    /**
+     * serve grading requests until {@code QUIT} or end of input
+     *
+     * @param args
+     *     unused
+     *
+     * @throws IOException
+     *     if the request channel fails
+     */
+    public static void main( final String[] args ) throws IOException
+        {
+
+        // replies go only to the original standard output
+        final PrintStream replies = System.out ;
+        final PrintStream originalErr = System.err ;
+
+        final BufferedReader requests
+                = new BufferedReader( new InputStreamReader( System.in, StandardCharsets.UTF_8 ) ) ;
+
+        String request ;
+
+        while ( ( request = requests.readLine() ) != null )
+            {
+
+            if ( QUIT_REQUEST.equals( request ) )
+                {
+                break ;
+                }
+
+            final String[] fields = request.split( FIELD_SEPARATOR ) ;
+
+            // echoed in the reply so the parent can tell it from anything the student's code wrote
+            final String nonce = fields.length > 1
+                    ? fields[ 1 ]
+                    : "" ;
+
+            int exitCode ;
+
+            if ( ( fields.length != 8 ) || ! GRADE_REQUEST.equals( fields[ 0 ] ) )
+                {
+                originalErr.printf( "ignoring malformed request: '%s'%n", request ) ;
+                exitCode = 2 ;
+                }
+            else
+                {
+                exitCode = gradeOne( fields[ 2 ],
+                                     Paths.get( fields[ 3 ] ),
+                                     Paths.get( fields[ 4 ] ),
+                                     Paths.get( fields[ 5 ] ),
+                                     Paths.get( fields[ 6 ] ),
+                                     Paths.get( fields[ 7 ] ) ) ;
+
+                System.setOut( replies ) ;
+                System.setErr( originalErr ) ;
+                }
+
+            // collect the previous student's garbage so the reported heap use is meaningful
+            System.gc() ;
+
+            final Runtime runtime = Runtime.getRuntime() ;
+            replies.printf( "%s %s %d %d %d%n",
+                            DONE_REPLY,
+                            nonce,
+                            exitCode,
+                            runtime.totalMemory() - runtime.freeMemory(),
+                            runtime.maxMemory() ) ;
+            replies.flush() ;
+            }
+
+        }   // end main()
+
+
+    /**
+     * grade one submission with its output directed to its log file
+     *
+     * @return 0 if grading completed, 1 otherwise - matches the exit code of a fresh JVM
+     */
+    private static int gradeOne( final String encodedAssignment,
+                                 final Path projectRoot,
+                                 final Path studentFile,
+                                 final Path logFile,
+                                 final Path workDir,
+                                 final Path classesDir )
+        {
+
+        final Thread current = Thread.currentThread() ;
+        final ClassLoader originalContextLoader = current.getContextClassLoader() ;
+
+        // a fresh JVM would have run in the log file's folder
+        System.setProperty( TestingBase.TEST_LOGS_FOLDER_PROPERTY,
+                            logFile.resolveSibling( "test-logs" ).toString() ) ;
+
+        try ( PrintStream log = new PrintStream( new FileOutputStream( logFile.toFile() ),
+                                                 true,
+                                                 StandardCharsets.UTF_8 ) ;
+              JobClassLoader jobLoader = new JobClassLoader( jobClasspath( projectRoot, classesDir ),
+                                                             GradingWorker.class.getClassLoader() ) )
+            {
+            System.setOut( log ) ;
+            System.setErr( log ) ;
+
+            current.setContextClassLoader( jobLoader ) ;
+
+            try
+                {
+                gradeInJobLoader( jobLoader,
+                                  encodedAssignment,
+                                  projectRoot,
+                                  studentFile,
+                                  logFile,
+                                  workDir,
+                                  classesDir ) ;
+
+                return 0 ;
+                }
+            catch ( final Throwable t )
+                {
+                t.printStackTrace( log ) ;
+
+                return 1 ;
+                }
+
+            }
+        catch ( final IOException e )
+            {
+            e.printStackTrace() ;
+
+            return 1 ;
+            }
+        finally
+            {
+            current.setContextClassLoader( originalContextLoader ) ;
+            System.clearProperty( TestingBase.TEST_LOGS_FOLDER_PROPERTY ) ;
+            }
+
+        }   // end gradeOne()
+
+
+    /**
+     * call {@link SingleStudentRunner}'s {@code grade()} as defined by the job's class loader - everything
+     * it reaches, other than the loader's shared packages, is defined anew for this job
+     */
+    private static void gradeInJobLoader( final JobClassLoader jobLoader,
+                                          final String encodedAssignment,
+                                          final Path projectRoot,
+                                          final Path studentFile,
+                                          final Path logFile,
+                                          final Path workDir,
+                                          final Path classesDir ) throws Throwable
+        {
+
+        final Class<?> contextClass = Class.forName( AssignmentContext.class.getName(), true, jobLoader ) ;
+        final Class<?> runnerClass = Class.forName( SingleStudentRunner.class.getName(), true, jobLoader ) ;
+
+        final Method decode = contextClass.getMethod( "decode", String.class ) ;
+        final Method grade = runnerClass.getDeclaredMethod( "grade",
+                                                            contextClass,
+                                                            Path.class,
+                                                            Path.class,
+                                                            Path.class,
+                                                            Path.class,
+                                                            Path.class,
+                                                            ClassLoader.class ) ;
+
+        // package access doesn't span class loaders
+        grade.setAccessible( true ) ;
+
+        try
+            {
+            grade.invoke( null,
+                          decode.invoke( null, encodedAssignment ),
+                          projectRoot,
+                          studentFile,
+                          logFile,
+                          workDir,
+                          classesDir,
+                          jobLoader ) ;
+            }
+        catch ( final InvocationTargetException e )
+            {
+            throw e.getCause() ;
+            }
+
+        }   // end gradeInJobLoader()
+
+
+    /**
+     * same search order as the classpath BatchRunner gives a fresh JVM
+     */
+    private static URL[] jobClasspath( final Path projectRoot,
+                                       final Path classesDir ) throws MalformedURLException
+        {
+
+        final List<URL> urls = new ArrayList<>() ;
+
+        urls.add( classesDir.toUri().toURL() ) ;
+        urls.add( projectRoot.resolve( "target/test-classes" ).toUri().toURL() ) ;
+        urls.add( projectRoot.resolve( "target/classes" ).toUri().toURL() ) ;
+
+        for ( final String entry : System.getProperty( "java.class.path" ).split( File.pathSeparator ) )
+            {
+
+            if ( ! entry.isBlank() )
+                {
+                urls.add( Paths.get( entry ).toAbsolutePath().toUri().toURL() ) ;
+                }
+
+            }
+
+        return urls.toArray( new URL[ 0 ] ) ;
+
+        }   // end jobClasspath()
+
+    }   // end class GradingWorker
@@ -0,0 +1,378 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
+
+import java.io.BufferedReader ;
+import java.io.BufferedWriter ;
+import java.io.IOException ;
+import java.io.InputStreamReader ;
+import java.io.OutputStreamWriter ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.Paths ;
+import java.security.SecureRandom ;
+import java.time.Duration ;
+import java.util.HexFormat ;
+import java.util.List ;
+import java.util.Queue ;
+import java.util.concurrent.ConcurrentLinkedQueue ;
+import java.util.concurrent.TimeUnit ;
+import java.util.concurrent.atomic.AtomicInteger ;
+
+
+/**
+ * keeps warm {@link GradingWorker} JVMs available for reuse across submissions
+ * <p>
+ * A worker is borrowed for each submission and returned afterward. It is retired instead of returned once
+ * it has graded {@code maxJobsPerWorker} submissions, when its heap use after grading exceeds
+ * {@code maxHeapFraction} of its maximum heap, when it is killed for exceeding its time budget, or when it
+ * stops responding to the protocol (e.g., the student's code called {@code System.exit()}). The pool never
+ * holds more idle workers than the number of threads which have used it concurrently.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 enforce per-submission time budgets
+ * @version 1.2 2026-10-16 any worker grades any assignment - each request names its
+ *     {@link AssignmentContext}
+ * @version 1.3 2026-10-16 match each reply to its request by a random nonce
+ * @version 1.4 2026-10-16 never return a killed or dead worker to the pool
+ */
+public final class GradingWorkerPool implements AutoCloseable
+    {
+
+    /** generates the per-request nonces */
+    private static final SecureRandom NONCES = new SecureRandom() ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final int maxJobsPerWorker ;
+    private final double maxHeapFraction ;
+    private final Path workerLogDir ;
+
+    private final Queue<WorkerProcess> idle = new ConcurrentLinkedQueue<>() ;
+    private final AtomicInteger workerCounter = new AtomicInteger() ;
+
+    private volatile boolean closed = false ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * @param maxJobsPerWorker
+     *     the number of submissions a worker grades before it is replaced
+     * @param maxHeapFraction
+     *     a worker is replaced when its heap use after a submission exceeds this fraction of its maximum
+     * @param workerLogDir
+     *     destination for output a worker produces outside of grading a submission
+     */
+    public GradingWorkerPool( final int maxJobsPerWorker,
+                              final double maxHeapFraction,
+                              final Path workerLogDir )
+        {
+
+        if ( maxJobsPerWorker < 1 )
+            {
+            throw new IllegalArgumentException( "maxJobsPerWorker must be at least 1: " + maxJobsPerWorker ) ;
+            }
+
+        if ( ( maxHeapFraction <= 0.0 ) || ( maxHeapFraction > 1.0 ) )
+            {
+            throw new IllegalArgumentException( "maxHeapFraction must be in (0, 1]: " + maxHeapFraction ) ;
+            }
+
+        this.maxJobsPerWorker = maxJobsPerWorker ;
+        this.maxHeapFraction = maxHeapFraction ;
+        this.workerLogDir = workerLogDir ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    @Override
+    public void close()
+        {
+
+        this.closed = true ;
+
+        WorkerProcess worker ;
+
+        while ( ( worker = this.idle.poll() ) != null )
+            {
+            worker.retire() ;
+            }
+
+        }   // end close()
+
+
+    /**
+     * grade one submission on a warm worker - output goes to {@code logFile}
+     *
+     * @param assignment
+     *     the assignment the submission is for
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     * @param studentFile
+     *     the student's {className}.java
+     * @param logFile
+     *     the submission's log file
+     * @param workDir
+     *     the extracted student project
+     * @param classesDir
+     *     destination for compiled classes
+     * @param wallBudget
+     *     maximum elapsed time - the worker is killed if exceeded
+     * @param cpuBudget
+     *     maximum CPU time - the worker is killed if exceeded
+     *
+     * @return 0 if grading completed, non-zero otherwise
+     *
+     * @throws IOException
+     *     if a worker can't be started or stops responding
+     * @throws SubmissionTimeoutException
+     *     if grading exceeded either budget
+     */
+    public int grade( final AssignmentContext assignment,
+                      final Path projectRoot,
+                      final Path studentFile,
+                      final Path logFile,
+                      final Path workDir,
+                      final Path classesDir,
+                      final Duration wallBudget,
+                      final Duration cpuBudget ) throws IOException, SubmissionTimeoutException
+        {
+
+        WorkerProcess worker ;
+
+        // an idle worker may have died since it was returned
+        while ( ( ( worker = this.idle.poll() ) != null ) && ! worker.process.isAlive() )
+            {
+            worker.retire() ;
+            }
+
+        if ( worker == null )
+            {
+            worker = startWorker() ;
+            }
+
+        boolean reusable = false ;
+
+        try ( ProcessWatchdog watchdog = ProcessWatchdog.watch( worker.process, wallBudget, cpuBudget ) )
+            {
+            final int exitCode ;
+
+            try
+                {
+                final String nonce = newNonce() ;
+
+                exitCode = worker.grade( nonce,
+                                         String.join( GradingWorker.FIELD_SEPARATOR,
+                                                      GradingWorker.GRADE_REQUEST,
+                                                      nonce,
+                                                      assignment.encode(),
+                                                      projectRoot.toString(),
+                                                      studentFile.toString(),
+                                                      logFile.toString(),
+                                                      workDir.toString(),
+                                                      classesDir.toString() ) ) ;
+                }
+            catch ( final IOException e )
+                {
+                // a killed worker looks like one that stopped responding
+                watchdog.checkBudget() ;
+
+                throw e ;
+                }
+
+            // the watchdog may have killed the worker after it replied - once closed, it can't
+            watchdog.close() ;
+            watchdog.checkBudget() ;
+
+            reusable = ( worker.jobsCompleted < this.maxJobsPerWorker )
+                       && ( worker.lastHeapFraction <= this.maxHeapFraction )
+                       && ! watchdog.isExpired()
+                       && worker.process.isAlive() ;
+
+            return exitCode ;
+            }
+        finally
+            {
+
+            if ( reusable && ! this.closed )
+                {
+                this.idle.offer( worker ) ;
+                }
+            else
+                {
+                worker.retire() ;
+                }
+
+            }
+
+        }   // end grade()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static String newNonce()
+        {
+
+        final byte[] nonce = new byte[ 16 ] ;
+        NONCES.nextBytes( nonce ) ;
+
+        return HexFormat.of().formatHex( nonce ) ;
+
+        }   // end newNonce()
+
+
+    private WorkerProcess startWorker() throws IOException
+        {
+
+        Files.createDirectories( this.workerLogDir ) ;
+
+        final int workerNumber = this.workerCounter.incrementAndGet() ;
+
+        final String javaExe = Paths.get( System.getProperty( "java.home" ), "bin", "java" ).toString() ;
+
+        final ProcessBuilder pb = new ProcessBuilder( List.of( javaExe,
+                                                               "-cp",
+                                                               System.getProperty( "java.class.path" ),
+                                                               GradingWorker.class.getName() ) ) ;
+        pb.redirectError( this.workerLogDir.resolve( String.format( "worker-%03d.log", workerNumber ) )
+                                           .toFile() ) ;
+
+        return new WorkerProcess( pb.start() ) ;
+
+        }   // end startWorker()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * parent side of the protocol with one worker JVM
+     */
+    private static final class WorkerProcess
+        {
+
+        final Process process ;
+        private final BufferedWriter requests ;
+        private final BufferedReader replies ;
+
+        private int jobsCompleted = 0 ;
+        private double lastHeapFraction = 0.0 ;
+
+
+        WorkerProcess( final Process process )
+            {
+
+            this.process = process ;
+            this.requests = new BufferedWriter( new OutputStreamWriter( process.getOutputStream(),
+                                                                        StandardCharsets.UTF_8 ) ) ;
+            this.replies = new BufferedReader( new InputStreamReader( process.getInputStream(),
+                                                                      StandardCharsets.UTF_8 ) ) ;
+
+            }   // end 1-arg constructor
+
+
+        int grade( final String nonce,
+                   final String request ) throws IOException
+            {
+
+            this.requests.write( request ) ;
+            this.requests.newLine() ;
+            this.requests.flush() ;
+
+            final String expectedPrefix = GradingWorker.DONE_REPLY + " " + nonce + " " ;
+
+            String reply ;
+
+            while ( ( reply = this.replies.readLine() ) != null )
+                {
+
+                // anything else came from student code writing directly to the original stdout
+                if ( reply.startsWith( expectedPrefix ) )
+                    {
+                    final String[] fields = reply.split( " " ) ;
+
+                    this.jobsCompleted++ ;
+                    this.lastHeapFraction = Double.parseDouble( fields[ 3 ] ) / Double.parseDouble( fields[ 4 ] ) ;
+
+                    return Integer.parseInt( fields[ 2 ] ) ;
+                    }
+
+                }
+
+            throw new IOException( "grading worker exited unexpectedly" ) ;
+
+            }   // end grade()
+
+
+        void retire()
+            {
+
+            try
+                {
+                this.requests.write( GradingWorker.QUIT_REQUEST ) ;
+                this.requests.newLine() ;
+                this.requests.flush() ;
+
+                if ( this.process.waitFor( 10, TimeUnit.SECONDS ) )
+                    {
+                    return ;
+                    }
+
+                }
+            catch ( final IOException e )
+                {
+                // already gone - make sure
+                }
+            catch ( final InterruptedException e )
+                {
+                Thread.currentThread().interrupt() ;
+                }
+
+            this.process.destroyForcibly() ;
+
+            }   // end retire()
+
+        }   // end class WorkerProcess
+
+    }   // end class GradingWorkerPool
@@ -0,0 +1,197 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.io.ByteArrayOutputStream ;
+import java.io.IOException ;
+import java.io.OutputStream ;
+import java.net.URI ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.ConcurrentHashMap ;
+
+import javax.tools.Diagnostic ;
+import javax.tools.DiagnosticCollector ;
+import javax.tools.FileObject ;
+import javax.tools.ForwardingJavaFileManager ;
+import javax.tools.JavaCompiler ;
+import javax.tools.JavaFileManager ;
+import javax.tools.JavaFileObject ;
+import javax.tools.SimpleJavaFileObject ;
+import javax.tools.StandardJavaFileManager ;
+import javax.tools.ToolProvider ;
+
+
+/**
+ * compiles sources from any {@link java.nio.file.FileSystem} (e.g., a mounted submission zip) into class
+ * files held in memory
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+final class InMemoryCompiler
+    {
+
+    /**
+     * the outcome of a compilation
+     *
+     * @param success
+     *     {@code true} if compilation succeeded
+     * @param classes
+     *     class file contents keyed by binary class name
+     * @param diagnostics
+     *     errors, warnings, and notes reported by the compiler
+     */
+    record Compilation( boolean success,
+                        Map<String, byte[]> classes,
+                        List<Diagnostic<? extends JavaFileObject>> diagnostics )
+        {}
+
+
+    /**
+     * Utility class - prevent instantiation
+     */
+    private InMemoryCompiler()
+        {
+
+        // Utility class - prevent instantiation
+
+        }   // end no-arg constructor
+
+
+    /**
+     * compile sources to memory
+     *
+     * @param sources
+     *     the sources to compile
+     * @param classpath
+     *     classpath for compilation
+     * @param release
+     *     the {@code --release} level
+     *
+     * @return the compiled classes and diagnostics
+     */
+    static Compilation compile( final List<Path> sources,
+                                final String classpath,
+                                final String release )
+        {
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler() ;
+
+        if ( compiler == null )
+            {
+            throw new IllegalStateException( "No JavaCompiler. Run with a JDK, not a JRE." ) ;
+            }
+
+        final Map<String, byte[]> classes = new ConcurrentHashMap<>() ;
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>() ;
+
+        final StandardJavaFileManager standard
+                = compiler.getStandardFileManager( null, null, StandardCharsets.UTF_8 ) ;
+
+        try ( JavaFileManager fm = new MemoryOutputFileManager( standard, classes ) )
+            {
+            final Iterable<? extends JavaFileObject> units = standard.getJavaFileObjectsFromPaths( sources ) ;
+
+            final boolean ok = compiler.getTask( null,
+                                                 fm,
+                                                 diagnostics,
+                                                 List.of( "-cp", classpath, "--release", release ),
+                                                 null,
+                                                 units )
+                                       .call() ;
+
+            return new Compilation( ok, Map.copyOf( classes ), diagnostics.getDiagnostics() ) ;
+            }
+        catch ( final IOException e )
+            {
+            throw new IllegalStateException( "unable to close the compiler's file manager", e ) ;
+            }
+
+        }   // end compile()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * sends class output to memory - everything else goes to the standard file manager
+     */
+    private static final class MemoryOutputFileManager extends ForwardingJavaFileManager<StandardJavaFileManager>
+        {
+
+        private final Map<String, byte[]> classes ;
+
+
+        MemoryOutputFileManager( final StandardJavaFileManager standard,
+                                 final Map<String, byte[]> classes )
+            {
+
+            super( standard ) ;
+
+            this.classes = classes ;
+
+            }   // end 2-arg constructor
+
+
+        @Override
+        public JavaFileObject getJavaFileForOutput( final Location location,
+                                                    final String className,
+                                                    final JavaFileObject.Kind kind,
+                                                    final FileObject sibling )
+            {
+
+            final URI uri = URI.create( "mem:///" + className.replace( '.', '/' ) + kind.extension ) ;
+
+            return new SimpleJavaFileObject( uri, kind )
+                {
+
+                @Override
+                public OutputStream openOutputStream()
+                    {
+
+                    return new ByteArrayOutputStream()
+                        {
+
+                        @Override
+                        public void close()
+                            {
+
+                            MemoryOutputFileManager.this.classes.put( className, toByteArray() ) ;
+
+                            }   // end close()
+
+                        } ;
+
+                    }   // end openOutputStream()
+
+                } ;
+
+            }   // end getJavaFileForOutput()
+
+        }   // end class MemoryOutputFileManager
+
+    }   // end class InMemoryCompiler
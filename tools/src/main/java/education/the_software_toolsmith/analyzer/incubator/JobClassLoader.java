@@ -0,0 +1,208 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.framework.compliance.ComplianceException ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.SharedTypeSolvers ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleEngine ;
+
+import java.net.URL ;
+import java.net.URLClassLoader ;
+import java.util.List ;
+import java.util.Map ;
+
+
+/**
+ * child-first class loader for one grading job
+ * <p>
+ * The tests, the student's classes, and the analyzer framework (whose static state is per-student) are
+ * defined anew for each job - {@link GradingWorker} calls {@link SingleStudentRunner} through this loader.
+ * The JDK and the libraries which must be shared with the JUnit launcher, or which are expensive to reload
+ * and hold no per-student state, come from the parent. So do the framework's caches which are meant to
+ * outlive a job - {@link SharedTypeSolvers} and {@link CodeStyleEngine} - and the types their APIs expose.
+ * Other framework caches, e.g., {@code StarterCode}'s, last for one job. Classes compiled in memory take
+ * precedence over the classpath.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation - split from {@link GradingWorker}; add in-memory classes
+ * @version 1.1 2026-10-16 share {@link SharedTypeSolvers} so its cached solvers outlive each job
+ * @version 1.2 2026-10-16 share {@link CodeStyleEngine} so its loaded configurations outlive each job
+ */
+final class JobClassLoader extends URLClassLoader
+    {
+
+    /** packages always loaded by the parent */
+    private static final List<String> SHARED_PACKAGE_PREFIXES = List.of( "java.",
+                                                                         "javax.",
+                                                                         "jdk.",
+                                                                         "sun.",
+                                                                         "com.sun.",
+                                                                         "org.junit.",
+                                                                         "org.opentest4j.",
+                                                                         "org.apiguardian.",
+                                                                         "com.puppycrawl.",
+                                                                         "com.github.javaparser.",
+                                                                         "com.fasterxml.",
+                                                                         "org.antlr.",
+                                                                         "com.google.common.",
+                                                                         SharedTypeSolvers.class.getName(),
+                                                                         CodeStyleEngine.class.getName(),
+                                                                         ComplianceException.class.getName() ) ;
+
+    static
+        {
+        ClassLoader.registerAsParallelCapable() ;
+        }
+
+
+    /*
+     * data fields
+     */
+
+
+    /** class file contents keyed by binary name */
+    private final Map<String, byte[]> inMemoryClasses ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * @param urls
+     *     the job's classpath in search order
+     * @param parent
+     *     supplies the shared packages
+     */
+    JobClassLoader( final URL[] urls,
+                    final ClassLoader parent )
+        {
+
+        this( urls, parent, Map.of() ) ;
+
+        }   // end 2-arg constructor
+
+
+    /**
+     * @param urls
+     *     the job's classpath in search order
+     * @param parent
+     *     supplies the shared packages
+     * @param inMemoryClasses
+     *     class file contents keyed by binary name - searched before {@code urls}
+     */
+    JobClassLoader( final URL[] urls,
+                    final ClassLoader parent,
+                    final Map<String, byte[]> inMemoryClasses )
+        {
+
+        super( urls, parent ) ;
+
+        this.inMemoryClasses = inMemoryClasses ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * API methods
+     */
+
+
+    @Override
+    protected Class<?> findClass( final String name ) throws ClassNotFoundException
+        {
+
+        final byte[] classFile = this.inMemoryClasses.get( name ) ;
+
+        if ( classFile != null )
+            {
+            return defineClass( name, classFile, 0, classFile.length ) ;
+            }
+
+        return super.findClass( name ) ;
+
+        }   // end findClass()
+
+
+    @Override
+    protected Class<?> loadClass( final String name,
+                                  final boolean resolve ) throws ClassNotFoundException
+        {
+
+        if ( isShared( name ) )
+            {
+            return super.loadClass( name, resolve ) ;
+            }
+
+        synchronized ( getClassLoadingLock( name ) )
+            {
+            Class<?> loaded = findLoadedClass( name ) ;
+
+            if ( loaded == null )
+                {
+
+                try
+                    {
+                    loaded = findClass( name ) ;
+                    }
+                catch ( final ClassNotFoundException e )
+                    {
+                    loaded = getParent().loadClass( name ) ;
+                    }
+
+                }
+
+            if ( resolve )
+                {
+                resolveClass( loaded ) ;
+                }
+
+            return loaded ;
+            }
+
+        }   // end loadClass()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static boolean isShared( final String name )
+        {
+
+        for ( final String prefix : SHARED_PACKAGE_PREFIXES )
+            {
+
+            if ( name.startsWith( prefix ) )
+                {
+                return true ;
+                }
+
+            }
+
+        return false ;
+
+        }   // end isShared()
+
+    }   // end class JobClassLoader
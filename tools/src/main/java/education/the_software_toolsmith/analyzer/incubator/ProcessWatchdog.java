@@ -0,0 +1,273 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.time.Duration ;
+import java.util.concurrent.Executors ;
+import java.util.concurrent.ScheduledExecutorService ;
+import java.util.concurrent.ScheduledFuture ;
+import java.util.concurrent.TimeUnit ;
+
+
+/**
+ * enforces wall-clock and CPU time budgets on a grading process while the caller waits on it
+ * <p>
+ * The watchdog samples the process every {@value #POLL_INTERVAL_MILLIS}ms. When either budget is exceeded,
+ * the process and all of its descendants are forcibly destroyed, which releases whatever the caller is
+ * blocked on ({@code waitFor()} or a read from the process' output). The caller then checks
+ * {@link #checkBudget()}.
+ * <p>
+ * CPU time is measured from when watching starts so a reused worker JVM isn't charged for earlier
+ * submissions. A zero (or negative) budget is not enforced.
+ * <p>
+ * Once {@link #close()} returns the watchdog will not kill the process, so {@link #isExpired()} is final.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 {@code close()} waits for an in-flight sample so a kill can't follow it
+ */
+public final class ProcessWatchdog implements AutoCloseable
+    {
+
+    /** how often processes are sampled */
+    private static final long POLL_INTERVAL_MILLIS = 200 ;
+
+    /** shared by all watchdogs - sampling is cheap */
+    private static final ScheduledExecutorService SAMPLER
+            = Executors.newSingleThreadScheduledExecutor( r ->
+                {
+                final Thread sampler = new Thread( r, "process-watchdog" ) ;
+                sampler.setDaemon( true ) ;
+
+                return sampler ;
+                } ) ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final ProcessHandle process ;
+    private final Duration wallBudget ;
+    private final Duration cpuBudget ;
+
+    private final long startedAt ;
+    private final Duration startingCpu ;
+
+    private final ScheduledFuture<?> sampling ;
+
+    private volatile String expiredReason = null ;
+
+    /** guarded by {@code this} - set once the caller is done waiting */
+    private boolean closed = false ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private ProcessWatchdog( final ProcessHandle process,
+                             final Duration wallBudget,
+                             final Duration cpuBudget )
+        {
+
+        this.process = process ;
+        this.wallBudget = wallBudget ;
+        this.cpuBudget = cpuBudget ;
+
+        this.startedAt = System.nanoTime() ;
+        this.startingCpu = cpuTime( process ) ;
+
+        this.sampling = SAMPLER.scheduleWithFixedDelay( this::sample,
+                                                        POLL_INTERVAL_MILLIS,
+                                                        POLL_INTERVAL_MILLIS,
+                                                        TimeUnit.MILLISECONDS ) ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * start watching a process
+     *
+     * @param process
+     *     the grading process
+     * @param wallBudget
+     *     maximum elapsed time
+     * @param cpuBudget
+     *     maximum CPU time consumed by the process and its descendants
+     *
+     * @return the watchdog - close it once the caller is done waiting
+     */
+    public static ProcessWatchdog watch( final Process process,
+                                         final Duration wallBudget,
+                                         final Duration cpuBudget )
+        {
+
+        return new ProcessWatchdog( process.toHandle(), wallBudget, cpuBudget ) ;
+
+        }   // end watch()
+
+
+    /**
+     * report an exceeded budget
+     *
+     * @throws SubmissionTimeoutException
+     *     if the process was killed for exceeding a budget
+     */
+    public void checkBudget() throws SubmissionTimeoutException
+        {
+
+        if ( this.expiredReason != null )
+            {
+            throw new SubmissionTimeoutException( this.expiredReason ) ;
+            }
+
+        }   // end checkBudget()
+
+
+    @Override
+    public synchronized void close()
+        {
+
+        // sampling holds the lock so this waits for a kill already under way
+        this.closed = true ;
+        this.sampling.cancel( false ) ;
+
+        }   // end close()
+
+
+    /**
+     * determine whether the process was killed for exceeding a budget
+     *
+     * @return {@code true} if the process was killed; {@code false} otherwise
+     */
+    public boolean isExpired()
+        {
+
+        return this.expiredReason != null ;
+
+        }   // end isExpired()
+
+
+    /**
+     * forcibly destroy a process and everything it started
+     *
+     * @param root
+     *     the process to destroy
+     */
+    public static void killTree( final ProcessHandle root )
+        {
+
+        // children first so they can't be re-parented out of reach
+        root.descendants().forEach( ProcessHandle::destroyForcibly ) ;
+        root.destroyForcibly() ;
+
+        }   // end killTree()
+
+
+    /*
+     * utility methods
+     */
+
+
+    /**
+     * CPU time used by a process and its live descendants
+     */
+    private static Duration cpuTime( final ProcessHandle root )
+        {
+
+        Duration total = root.info().totalCpuDuration().orElse( Duration.ZERO ) ;
+
+        for ( final ProcessHandle descendant : (Iterable<ProcessHandle>) root.descendants()::iterator )
+            {
+            total = total.plus( descendant.info().totalCpuDuration().orElse( Duration.ZERO ) ) ;
+            }
+
+        return total ;
+
+        }   // end cpuTime()
+
+
+    private static boolean isEnforced( final Duration budget )
+        {
+
+        return ( budget != null ) && budget.isPositive() ;
+
+        }   // end isEnforced()
+
+
+    private synchronized void sample()
+        {
+
+        if ( this.closed )
+            {
+            return ;
+            }
+
+        if ( ! this.process.isAlive() )
+            {
+            this.sampling.cancel( false ) ;
+
+            return ;
+            }
+
+        final Duration elapsed = Duration.ofNanos( System.nanoTime() - this.startedAt ) ;
+
+        if ( isEnforced( this.wallBudget ) && ( elapsed.compareTo( this.wallBudget ) > 0 ) )
+            {
+            expire( String.format( "exceeded wall-clock budget of %,ds", this.wallBudget.toSeconds() ) ) ;
+
+            return ;
+            }
+
+        if ( isEnforced( this.cpuBudget ) )
+            {
+            final Duration used = cpuTime( this.process ).minus( this.startingCpu ) ;
+
+            if ( used.compareTo( this.cpuBudget ) > 0 )
+                {
+                expire( String.format( "exceeded CPU budget of %,ds", this.cpuBudget.toSeconds() ) ) ;
+                }
+
+            }
+
+        }   // end sample()
+
+
+    private void expire( final String reason )
+        {
+
+        this.expiredReason = reason ;
+        this.sampling.cancel( false ) ;
+
+        killTree( this.process ) ;
+
+        }   // end expire()
+
+    }   // end class ProcessWatchdog
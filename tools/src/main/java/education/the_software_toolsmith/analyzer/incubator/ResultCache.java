@@ -0,0 +1,392 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
+import education.the_software_toolsmith.analyzer.framework.utilities.Hashing ;
+import education.the_software_toolsmith.analyzer.framework.utilities.ZipUtils ;
+
+import java.io.IOException ;
+import java.io.InputStream ;
+import java.nio.file.AtomicMoveNotSupportedException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardCopyOption ;
+import java.security.MessageDigest ;
+import java.util.ArrayList ;
+import java.util.List ;
+import java.util.Optional ;
+import java.util.stream.Stream ;
+import java.util.zip.ZipEntry ;
+import java.util.zip.ZipFile ;
+
+
+/**
+ * content-addressed store of prior grading results
+ * <p>
+ * A submission's key is the SHA-256 of the Java sources in its zip (build output and OS clutter excluded)
+ * combined with the hash of the assignment configuration: everything under the grading project's
+ * {@value #CONFIG_FOLDER} and {@value #TEST_CLASSES_FOLDER} folders (checkstyle.xml, the requirement set,
+ * the compiled tests and their resources), its {@value #MAIN_SOURCES_FOLDER} and {@value #CLASSES_FOLDER}
+ * folders (compiled with the student's file and used as the starter code for structural analysis) plus
+ * the {@link AssignmentContext}.
+ * Changing any rule, test, or supporting class therefore invalidates every entry, while an unchanged
+ * resubmission is a hit.
+ * <p>
+ * Each entry is a folder named by the key holding the submission's {@value #LOG_FILE_NAME} (the complete
+ * record of its structural, style, and test results), its {@link GradingSummary} if it has one, and its
+ * exit code. Entries are written to a
+ * temporary folder and renamed into place so concurrent graders never see a partial entry - atomically
+ * where the file system supports it.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 hash the batch's {@link AssignmentContext} rather than {@code SharedState}
+ * @version 1.2 2026-10-16 cache the {@link GradingSummary} with the log
+ * @version 1.3 2026-10-16 hash the project's main sources and classes; fall back to a plain rename where
+ *     an atomic one isn't supported
+ * @version 1.4 2026-10-16 expose the configuration and content hashes so the {@link RunJournal} can tell
+ *     whether a submission's recorded grade is still current
+ * @version 1.5 2026-10-16 hash with {@link Hashing}
+ * @version 1.6 2026-10-16 a store which loses the race to another grader succeeds however the rename
+ *     failure is reported
+ */
+public final class ResultCache
+    {
+
+    /** grading project folder holding checkstyle.xml, requirement sets, etc. */
+    static final String CONFIG_FOLDER = "config" ;
+    /** grading project folder holding the compiled tests and test resources */
+    static final String TEST_CLASSES_FOLDER = "target/test-classes" ;
+    /** grading project folder holding the sources compiled with the student's file */
+    static final String MAIN_SOURCES_FOLDER = "src/main/java" ;
+    /** grading project folder holding the compiled main sources */
+    static final String CLASSES_FOLDER = "target/classes" ;
+
+    /** the cached log */
+    static final String LOG_FILE_NAME = "batch.log" ;
+    /** the cached exit code */
+    private static final String EXIT_CODE_FILE_NAME = "exit-code" ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final Path cacheRoot ;
+    private final String configurationKey ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private ResultCache( final Path cacheRoot,
+                         final String configurationKey )
+        {
+
+        this.cacheRoot = cacheRoot ;
+        this.configurationKey = configurationKey ;
+
+        }   // end 2-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * prepare the cache folder
+     *
+     * @param cacheRoot
+     *     folder which holds the cache entries
+     * @param configurationKey
+     *     from {@link #configurationKey(AssignmentContext, Path)}
+     *
+     * @return the cache
+     *
+     * @throws IOException
+     *     if the cache folder can't be created
+     */
+    public static ResultCache open( final Path cacheRoot,
+                                    final String configurationKey ) throws IOException
+        {
+
+        Files.createDirectories( cacheRoot ) ;
+
+        return new ResultCache( cacheRoot, configurationKey ) ;
+
+        }   // end open()
+
+
+    /**
+     * hash the assignment configuration
+     *
+     * @param assignment
+     *     the assignment being graded
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     *
+     * @return the hash - changes whenever anything which affects grading changes
+     *
+     * @throws IOException
+     *     if the configuration can't be read
+     */
+    public static String configurationKey( final AssignmentContext assignment,
+                                           final Path projectRoot ) throws IOException
+        {
+
+        final MessageDigest digest = Hashing.newDigest() ;
+
+        for ( final String assignmentString : List.of( assignment.className(),
+                                                       assignment.adtPathSegment(),
+                                                       assignment.adtPackageSegment(),
+                                                       assignment.longAssignmentId(),
+                                                       assignment.shortAssignmentId() ) )
+            {
+            Hashing.update( digest, assignmentString ) ;
+            }
+
+        for ( final String folder : List.of( CONFIG_FOLDER,
+                                             TEST_CLASSES_FOLDER,
+                                             MAIN_SOURCES_FOLDER,
+                                             CLASSES_FOLDER ) )
+            {
+            final Path root = projectRoot.resolve( folder ) ;
+
+            if ( ! Files.isDirectory( root ) )
+                {
+                continue ;
+                }
+
+            final List<Path> files ;
+
+            try ( Stream<Path> walk = Files.walk( root ) )
+                {
+                files = walk.filter( Files::isRegularFile ).sorted().toList() ;
+                }
+
+            for ( final Path file : files )
+                {
+                // qualified by its folder so a file can't stand in for its namesake in another folder
+                Hashing.update( digest, folder + "/" + root.relativize( file ).toString().replace( '\\', '/' ) ) ;
+
+                try ( InputStream in = Files.newInputStream( file ) )
+                    {
+                    Hashing.update( digest, in ) ;
+                    }
+
+                }
+
+            }
+
+        return Hashing.toHex( digest ) ;
+
+        }   // end configurationKey()
+
+
+    /**
+     * hash the Java sources in a submitted zip
+     *
+     * @param zip
+     *     the submitted zip
+     *
+     * @return the hash - the same for any zip with the same sources
+     *
+     * @throws IOException
+     *     if the zip can't be read
+     */
+    public static String contentKey( final Path zip ) throws IOException
+        {
+
+        final MessageDigest digest = Hashing.newDigest() ;
+
+        try ( ZipFile zipFile = new ZipFile( zip.toFile() ) )
+            {
+            final List<ZipEntry> sources = new ArrayList<>() ;
+
+            zipFile.stream().filter( e -> ! e.isDirectory() ).forEach( e ->
+                {
+                final String name = e.getName().replace( '\\', '/' ) ;
+
+                if ( name.endsWith( ".java" ) && ! ZipUtils.isNoiseZipPath( name ) )
+                    {
+                    sources.add( e ) ;
+                    }
+
+                } ) ;
+
+            sources.sort( ( a,
+                            b ) -> a.getName().compareTo( b.getName() ) ) ;
+
+            for ( final ZipEntry source : sources )
+                {
+                Hashing.update( digest, source.getName().replace( '\\', '/' ) ) ;
+
+                try ( InputStream in = zipFile.getInputStream( source ) )
+                    {
+                    Hashing.update( digest, in ) ;
+                    }
+
+                }
+
+            }
+
+        return Hashing.toHex( digest ) ;
+
+        }   // end contentKey()
+
+
+    /**
+     * compute the cache key for a submission
+     *
+     * @param contentKey
+     *     from {@link #contentKey(Path)}
+     *
+     * @return the key
+     */
+    public String keyFor( final String contentKey )
+        {
+
+        final MessageDigest digest = Hashing.newDigest() ;
+        Hashing.update( digest, this.configurationKey ) ;
+        Hashing.update( digest, contentKey ) ;
+
+        return Hashing.toHex( digest ) ;
+
+        }   // end keyFor()
+
+
+    /**
+     * copy a prior result into a submission's output folder
+     *
+     * @param key
+     *     from {@link #keyFor(String)}
+     * @param logFile
+     *     destination for the cached log - the cached summary is restored beside it
+     *
+     * @return the cached exit code or empty if there is no entry for the key
+     *
+     * @throws IOException
+     *     if the entry can't be copied
+     */
+    public Optional<Integer> restore( final String key,
+                                      final Path logFile ) throws IOException
+        {
+
+        final Path entry = this.cacheRoot.resolve( key ) ;
+
+        if ( ! Files.isDirectory( entry ) )
+            {
+            return Optional.empty() ;
+            }
+
+        final int exitCode = Integer.parseInt( Files.readString( entry.resolve( EXIT_CODE_FILE_NAME ) ).trim() ) ;
+
+        Files.createDirectories( logFile.getParent() ) ;
+        Files.copy( entry.resolve( LOG_FILE_NAME ), logFile, StandardCopyOption.REPLACE_EXISTING ) ;
+
+        final Path summaryFile = entry.resolve( GradingSummary.FILE_NAME ) ;
+
+        if ( Files.isRegularFile( summaryFile ) )
+            {
+            Files.copy( summaryFile, GradingSummary.pathFor( logFile ), StandardCopyOption.REPLACE_EXISTING ) ;
+            }
+        else
+            {
+            // cached before summaries were written - don't leave an earlier grading's summary in place
+            Files.deleteIfExists( GradingSummary.pathFor( logFile ) ) ;
+            }
+
+        return Optional.of( exitCode ) ;
+
+        }   // end restore()
+
+
+    /**
+     * record a submission's result
+     *
+     * @param key
+     *     from {@link #keyFor(String)}
+     * @param logFile
+     *     the submission's log - its summary is cached too
+     * @param exitCode
+     *     the grading process' exit code
+     *
+     * @throws IOException
+     *     if the entry can't be written
+     */
+    public void store( final String key,
+                       final Path logFile,
+                       final int exitCode ) throws IOException
+        {
+
+        final Path entry = this.cacheRoot.resolve( key ) ;
+
+        if ( Files.isDirectory( entry ) )
+            {
+            return ;
+            }
+
+        final Path staging = Files.createTempDirectory( this.cacheRoot, key + "-" ) ;
+
+        try
+            {
+            Files.copy( logFile, staging.resolve( LOG_FILE_NAME ) ) ;
+
+            if ( Files.isRegularFile( GradingSummary.pathFor( logFile ) ) )
+                {
+                Files.copy( GradingSummary.pathFor( logFile ), staging.resolve( GradingSummary.FILE_NAME ) ) ;
+                }
+
+            Files.writeString( staging.resolve( EXIT_CODE_FILE_NAME ), Integer.toString( exitCode ) ) ;
+
+            try
+                {
+                Files.move( staging, entry, StandardCopyOption.ATOMIC_MOVE ) ;
+                }
+            catch ( final AtomicMoveNotSupportedException e )
+                {
+                // a plain rename of a folder within the cache is still all-or-nothing on most file systems
+                Files.move( staging, entry ) ;
+                }
+
+            }
+        catch ( final IOException e )
+            {
+            BatchRunner.deleteRecursively( staging ) ;
+
+            // another grader stored the same content first - file systems differ in how they report it
+            if ( Files.isDirectory( entry ) )
+                {
+                return ;
+                }
+
+            throw e ;
+            }
+
+        }   // end store()
+
+    }   // end class ResultCache
@@ -0,0 +1,210 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import education.the_software_toolsmith.analyzer.incubator.BatchRunner.Submission ;
+
+import com.fasterxml.jackson.databind.ObjectMapper ;
+import com.fasterxml.jackson.databind.node.ObjectNode ;
+
+import java.io.BufferedWriter ;
+import java.io.IOException ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardOpenOption ;
+
+
+/**
+ * writes a batch run's results as JSON Lines - one compact record per submission, appended as soon as the
+ * submission is finished
+ * <p>
+ * Each record holds the submission's identification and {@link SubmissionOutcome} plus its
+ * {@link GradingSummary} as {@code "grading"} - {@code null} if grading didn't get far enough to write
+ * one:
+ *
+ * <pre>
+ * {@code
+ * {"submission":"...","student":"...","name":"...","assignment":"...","submittedAt":"2026-10-16T09:15",
+ *  "sequence":12,"status":"COMPLETED","exitCode":0,"elapsedMs":5321,"grading":{...}}
+ * }
+ * </pre>
+ *
+ * Nothing is retained once a record is written so the run's size doesn't matter. The file is rewritten by
+ * each run - a resumed run reports its skipped submissions again from their summaries.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+final class ResultsSink implements AutoCloseable
+    {
+
+    /** the results file in the graded root */
+    static final String FILE_NAME = "results.jsonl" ;
+
+    /** thread-safe once configured */
+    private static final ObjectMapper MAPPER = new ObjectMapper() ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final Path gradedRoot ;
+    private final BufferedWriter out ;
+
+    private long recordCount = 0 ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private ResultsSink( final Path gradedRoot,
+                         final BufferedWriter out )
+        {
+
+        this.gradedRoot = gradedRoot ;
+        this.out = out ;
+
+        }   // end 2-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * start the results file for a batch run
+     *
+     * @param gradedRoot
+     *     parent folder for all graded output - the file is created here
+     *
+     * @return the sink
+     *
+     * @throws IOException
+     *     if the file can't be created
+     */
+    static ResultsSink open( final Path gradedRoot ) throws IOException
+        {
+
+        final BufferedWriter out = Files.newBufferedWriter( gradedRoot.resolve( FILE_NAME ),
+                                                            StandardCharsets.UTF_8,
+                                                            StandardOpenOption.CREATE,
+                                                            StandardOpenOption.TRUNCATE_EXISTING,
+                                                            StandardOpenOption.WRITE ) ;
+
+        return new ResultsSink( gradedRoot, out ) ;
+
+        }   // end open()
+
+
+    /**
+     * write one submission's record - thread-safe
+     *
+     * @param outcome
+     *     how processing the submission ended
+     * @param submission
+     *     identifies the student - {@code null} if unknown
+     *
+     * @throws IOException
+     *     if the submission's summary can't be read or the record can't be written
+     */
+    void append( final SubmissionOutcome outcome,
+                 final Submission submission ) throws IOException
+        {
+
+        final ObjectNode record = MAPPER.createObjectNode() ;
+
+        record.put( "submission", outcome.label() ) ;
+
+        if ( submission != null )
+            {
+            record.put( "student", submission.studentId() ) ;
+            record.put( "name", submission.displayName() ) ;
+            record.put( "assignment", submission.assignmentId() ) ;
+            record.put( "submittedAt", submission.submittedAt().toString() ) ;
+            }
+
+        record.put( "sequence", outcome.sequence() ) ;
+        record.put( "status", outcome.status().name() ) ;
+        record.put( "exitCode", outcome.exitCode() ) ;
+        record.put( "elapsedMs", outcome.elapsed().toMillis() ) ;
+
+        if ( outcome.message() != null )
+            {
+            record.put( "message", outcome.message() ) ;
+            }
+
+        final Path logFile = this.gradedRoot.resolve( outcome.label() ).resolve( ResultCache.LOG_FILE_NAME ) ;
+        record.set( "grading", GradingSummary.read( GradingSummary.pathFor( logFile ) ).orElse( null ) ) ;
+
+        // compact - one record per line
+        final String line = MAPPER.writeValueAsString( record ) ;
+
+        synchronized ( this )
+            {
+            this.out.write( line ) ;
+            this.out.newLine() ;
+            // a killed run keeps every record written so far
+            this.out.flush() ;
+
+            this.recordCount++ ;
+            }
+
+        }   // end append()
+
+
+    /**
+     * @return the number of records written
+     */
+    synchronized long recordCount()
+        {
+
+        return this.recordCount ;
+
+        }   // end recordCount()
+
+
+    @Override
+    public synchronized void close() throws IOException
+        {
+
+        this.out.close() ;
+
+        }   // end close()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s: %,d records",
+                              this.gradedRoot.resolve( FILE_NAME ),
+                              recordCount() ) ;
+
+        }   // end toString()
+
+    }   // end class ResultsSink
@@ -0,0 +1,364 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.io.IOException ;
+import java.nio.ByteBuffer ;
+import java.nio.channels.FileChannel ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardCopyOption ;
+import java.nio.file.StandardOpenOption ;
+import java.time.LocalDateTime ;
+import java.time.format.DateTimeFormatter ;
+import java.util.Map ;
+import java.util.Optional ;
+import java.util.concurrent.ConcurrentHashMap ;
+
+
+/**
+ * durable, append-only record of each submission's progress through a batch run
+ * <p>
+ * Every stage of every submission is journaled when it starts, completes, or fails - one tab-separated
+ * line per event: {@code timestamp submission stage event [detail]}. Each line is forced to disk before
+ * the stage proceeds, so after a crash or reboot the journal shows exactly how far each submission got. A
+ * restarted run replays the journal and resumes each submission after its last completed stage.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 end a line torn by a crash before appending so the next entry isn't lost with it
+ */
+public final class RunJournal implements AutoCloseable
+    {
+
+    /**
+     * the stages of grading one submission in the order they run
+     */
+    public enum Stage
+        {
+
+         /** unzip the submission - detail: the zip and globs extracted and the extracted project folder */
+         EXTRACT
+
+         /** find {className}.java in the extracted project - detail: the zip and globs extracted and its path */
+         , LOCATE
+
+         /** run the grading pipeline - detail: the exit code and the configuration and sources graded */
+         , GRADE
+
+        ;
+
+        }   // end enum Stage
+
+
+    /**
+     * the work performed by a stage
+     */
+    @FunctionalInterface
+    public interface StageWork
+        {
+
+        /**
+         * perform the stage
+         *
+         * @return detail to journal with the stage's completion - needed to resume at the next stage
+         *
+         * @throws Exception
+         *     if the stage fails
+         */
+        String perform() throws Exception ;
+
+        }   // end interface StageWork
+
+
+    /**
+     * a completed stage as recorded in the journal
+     *
+     * @param stage
+     *     the stage
+     * @param detail
+     *     what the stage produced
+     */
+    public record Completed( Stage stage,
+                             String detail )
+        {}
+
+
+    /** journal entry events */
+    private static final String STARTED = "started" ;
+    private static final String COMPLETED = "completed" ;
+    private static final String FAILED = "failed" ;
+
+    private static final String FIELD_SEPARATOR = "\t" ;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME ;
+
+
+    /*
+     * data fields
+     */
+
+
+    private final FileChannel channel ;
+
+    /** the most recent completion per submission - replayed from the journal then kept current */
+    private final Map<String, Completed> progress = new ConcurrentHashMap<>() ;
+
+
+    /*
+     * constructors
+     */
+
+
+    private RunJournal( final FileChannel channel )
+        {
+
+        this.channel = channel ;
+
+        }   // end 1-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * open the journal for a batch run
+     *
+     * @param journalFile
+     *     the journal
+     * @param resume
+     *     {@code true} to resume from an existing journal; {@code false} to set it aside and start over
+     *
+     * @return the journal
+     *
+     * @throws IOException
+     *     if the journal can't be read or opened
+     */
+    public static RunJournal open( final Path journalFile,
+                                   final boolean resume ) throws IOException
+        {
+
+        if ( Files.exists( journalFile ) && ! resume )
+            {
+            final String setAside = String.format( "%s.%s",
+                                                   journalFile.getFileName(),
+                                                   LocalDateTime.now()
+                                                                .format( TIMESTAMP_FORMAT )
+                                                                .replace( ':', '-' ) ) ;
+            Files.move( journalFile,
+                        journalFile.resolveSibling( setAside ),
+                        StandardCopyOption.REPLACE_EXISTING ) ;
+            }
+
+        Files.createDirectories( journalFile.toAbsolutePath().getParent() ) ;
+
+        final RunJournal journal = new RunJournal( FileChannel.open( journalFile,
+                                                                     StandardOpenOption.CREATE,
+                                                                     StandardOpenOption.WRITE,
+                                                                     StandardOpenOption.APPEND ) ) ;
+
+        if ( resume )
+            {
+            journal.replay( journalFile ) ;
+            journal.endTornLine( journalFile ) ;
+            }
+
+        return journal ;
+
+        }   // end open()
+
+
+    @Override
+    public void close() throws IOException
+        {
+
+        this.channel.close() ;
+
+        }   // end close()
+
+
+    /**
+     * retrieve the last stage a submission completed
+     *
+     * @param submission
+     *     identifies the submission
+     *
+     * @return the most recently completed stage or empty if none
+     */
+    public Optional<Completed> lastCompleted( final String submission )
+        {
+
+        return Optional.ofNullable( this.progress.get( submission ) ) ;
+
+        }   // end lastCompleted()
+
+
+    /**
+     * run a stage, journaling its start and its completion or failure
+     *
+     * @param submission
+     *     identifies the submission
+     * @param stage
+     *     the stage
+     * @param work
+     *     the stage's work
+     *
+     * @return the detail produced by the stage
+     *
+     * @throws Exception
+     *     if the stage fails - the failure is journaled before it's rethrown
+     */
+    public String perform( final String submission,
+                           final Stage stage,
+                           final StageWork work ) throws Exception
+        {
+
+        append( submission, stage, STARTED, null ) ;
+
+        final String detail ;
+
+        try
+            {
+            detail = work.perform() ;
+            }
+        catch ( final Exception e )
+            {
+            append( submission, stage, FAILED, e.toString() ) ;
+
+            throw e ;
+            }
+
+        append( submission, stage, COMPLETED, detail ) ;
+        this.progress.put( submission, new Completed( stage, detail ) ) ;
+
+        return detail ;
+
+        }   // end perform()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private void append( final String submission,
+                         final Stage stage,
+                         final String event,
+                         final String detail ) throws IOException
+        {
+
+        final StringBuilder line = new StringBuilder() ;
+        line.append( LocalDateTime.now().format( TIMESTAMP_FORMAT ) )
+            .append( FIELD_SEPARATOR )
+            .append( submission )
+            .append( FIELD_SEPARATOR )
+            .append( stage )
+            .append( FIELD_SEPARATOR )
+            .append( event ) ;
+
+        if ( detail != null )
+            {
+            // keep the entry on one line
+            line.append( FIELD_SEPARATOR ).append( detail.replaceAll( "[\\t\\r\\n]+", " " ) ) ;
+            }
+
+        line.append( '\n' ) ;
+
+        final ByteBuffer bytes = ByteBuffer.wrap( line.toString().getBytes( StandardCharsets.UTF_8 ) ) ;
+
+        synchronized ( this.channel )
+            {
+
+            while ( bytes.hasRemaining() )
+                {
+                this.channel.write( bytes ) ;
+                }
+
+            this.channel.force( false ) ;
+            }
+
+        }   // end append()
+
+
+    /*
+     * a crash mid-append leaves the last line unterminated - end it so it doesn't swallow the next entry
+     */
+    private void endTornLine( final Path journalFile ) throws IOException
+        {
+
+        final long size = this.channel.size() ;
+
+        if ( size == 0 )
+            {
+            return ;
+            }
+
+        final ByteBuffer last = ByteBuffer.allocate( 1 ) ;
+
+        try ( FileChannel reader = FileChannel.open( journalFile, StandardOpenOption.READ ) )
+            {
+            reader.read( last, size - 1 ) ;
+            }
+
+        if ( last.get( 0 ) != '\n' )
+            {
+            this.channel.write( ByteBuffer.wrap( new byte[] { '\n' } ) ) ;
+            this.channel.force( false ) ;
+            }
+
+        }   // end endTornLine()
+
+
+    private void replay( final Path journalFile ) throws IOException
+        {
+
+        for ( final String line : Files.readAllLines( journalFile, StandardCharsets.UTF_8 ) )
+            {
+            final String[] fields = line.split( FIELD_SEPARATOR, 5 ) ;
+
+            // a line torn by a crash is simply ignored
+            if ( ( fields.length < 4 ) || ! COMPLETED.equals( fields[ 3 ] ) )
+                {
+                continue ;
+                }
+
+            try
+                {
+                this.progress.put( fields[ 1 ],
+                                   new Completed( Stage.valueOf( fields[ 2 ] ),
+                                                  fields.length == 5
+                                                          ? fields[ 4 ]
+                                                          : null ) ) ;
+                }
+            catch ( final IllegalArgumentException e )
+                {
+                // unknown stage - ignore
+                }
+
+            }
+
+        }   // end replay()
+
+    }   // end class RunJournal
@@ -22,10 +22,20 @@ package education.the_software_toolsmith.analyzer.incubator ;
 
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass ;
 
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.CodeStructureAnalyzer ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Configuration ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalysisResult ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalyzer ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleEngine ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.tools.ImplementationComplianceStore ;
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
 import education.the_software_toolsmith.analyzer.framework.utilities.SharedState ;
+import education.the_software_toolsmith.analyzer.framework.utilities.SubmissionFileSystem ;
 
 import static education.the_software_toolsmith.analyzer.framework.dynamic_analysis.TestingBase.* ;
 
+import com.github.javaparser.resolution.TypeSolver ;
+
 import org.junit.platform.launcher.Launcher ;
 import org.junit.platform.launcher.LauncherDiscoveryRequest ;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder ;
@@ -33,14 +43,17 @@ import org.junit.platform.launcher.core.LauncherFactory ;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener ;
 
 import java.io.File ;
+import java.io.FileNotFoundException ;
 import java.io.IOException ;
+import java.net.MalformedURLException ;
+import java.net.URL ;
 import java.nio.charset.StandardCharsets ;
 import java.nio.file.Files ;
 import java.nio.file.Path ;
 import java.nio.file.Paths ;
-import java.nio.file.StandardCopyOption ;
 import java.util.ArrayList ;
 import java.util.HashMap ;
+import java.util.LinkedHashMap ;
 import java.util.List ;
 import java.util.Locale ;
 import java.util.Map ;
@@ -58,6 +71,23 @@ import javax.tools.ToolProvider ;
  * @author David M Rosenberg
  *
  * @version 1.0 2025-12-15 Initial implementation based on code from ChatGPT 5.2
+ * @version 1.1 2026-10-16 optional --classesDir so concurrent runs compile into separate folders
+ * @version 1.2 2026-10-16 split out {@code grade()} so warm {@link GradingWorker}s can reuse it; the
+ *     student's source is located in --workDir rather than the working directory
+ * @version 1.3 2026-10-16 --studentFile may name the submission zip itself - it's then mounted and
+ *     compiled in memory so nothing is written to disk
+ * @version 1.4 2026-10-16 grade the assignment named by --assignment - an {@link AssignmentContext} - so
+ *     one JVM can grade several assignments; defaults to {@link SharedState}'s
+ * @version 1.5 2026-10-16 record the results in a {@link GradingSummary} beside the log
+ * @version 1.6 2026-10-16 check style in process on a shared {@link CodeStyleEngine} when the project's
+ *     config folder holds checkstyle.xml
+ * @version 1.7 2026-10-16 analyze structure in process on the shared type solver when the project's
+ *     config folder holds requirements.json
+ * @version 1.8 2026-10-16 evaluate the requirements as a compiled {@code RequirementPlan}
+ * @version 1.9 2026-10-16 skip style or structure when the project has no configuration for it rather
+ *     than running the tool mains, which grade {@link SharedState}'s assignment rather than this one's
+ * @version 1.10 2026-10-16 compile the student's source in place of the project's copy from disk too, so
+ *     both modes compile the same sources; nothing is copied into the project
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public final class SingleStudentRunner extends SharedState
@@ -65,47 +95,19 @@ public final class SingleStudentRunner extends SharedState
 
     // ===== KNOBS / DIALS =====
 
-    // Where {className}.java should be copied into your project:
-    private static final Path DEST_CLASS_REL ;
-//            Paths.get("src/main/java/edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".java");
-    static
-        {
-//        String src = Path.of( "./src" ).toAbsolutePath().normalize().toString() ;
-        final String extracted = Path.of( "_project" ).toAbsolutePath().normalize().toString() ;
-        final List<Path> pathsToSourceFile = findFiles( className + ".java", extracted ) ;
-
-        if ( pathsToSourceFile.size() >= 1 )
-            {
-            System.out.printf( "*** found %s in %s%n", className + ".java", extracted ) ;
-            // TODO warn if found more than 1
-            DEST_CLASS_REL = pathsToSourceFile.getFirst() ;
-            }
-        else
-//        if ( pathsToSourceFile.isEmpty() )
-            {
-            System.out.printf( "*** %s not found in %s%n", className + ".java", extracted ) ;
-//            throw new FileNotFoundException( String.format( "looking for '%s' in '%s'", className + ".java", src ) ) ;
-            DEST_CLASS_REL = null ;    // hopefully will cause something to blow up
-            }
-
-        }
-
-    // Your JUnit test class:
-    private static final String TEST_CLASS_FQCN
-            = "edu.wit.scds.ds.tests." + ADTPackageSegment + ".tests." + className + "DMRTests" ;
+    // Your JUnit test class: see AssignmentContext.testClassName()
 
-    // Your tool mains:
-    private static final String CHECKSTYLE_TOOL_FQCN
-            = "education.the_software_toolsmith.analyzer.framework.static_analysis.compliance.ValidateCodingStyle" ;
-
-    private static final String IMPL_TOOL_FQCN
-            = "education.the_software_toolsmith.analyzer.framework.static_analysis.compliance.ValidateImplementation" ;
+    // What to check, from the project's config folder - a stage without one is skipped:
+    private static final String CHECKSTYLE_CONFIG = "checkstyle.xml" ;
+    private static final String REQUIREMENTS_CONFIG = "requirements.json" ;
 
     // The compiled class output location (standard Maven):
     private static final Path CLASSES_OUT_REL = Paths.get( "target/classes" ) ;
-    @SuppressWarnings( "unused" )
     private static final Path TEST_CLASSES_OUT_REL = Paths.get( "target/test-classes" ) ;
 
+    // match your Parser language level; adjust if needed
+    private static final String JAVA_RELEASE = "24" ;
+
     // =========================
 
 
@@ -118,83 +120,354 @@ public final class SingleStudentRunner extends SharedState
         final Path studentFile = Paths.get( required( a, "--studentFile" ) ).toAbsolutePath().normalize() ;
         final Path logFile = Paths.get( required( a, "--logFile" ) ).toAbsolutePath().normalize() ;
         final Path workDir = Paths.get( required( a, "--workDir" ) ).toAbsolutePath().normalize() ;
+        // optional - concurrent batch runs give each submission its own output folder
+        final Path classesDir = Paths.get( a.getOrDefault( "--classesDir",
+                                                           projectRoot.resolve( CLASSES_OUT_REL ).toString() ) )
+                                     .toAbsolutePath()
+                                     .normalize() ;
+        // optional - the assignment this submission is for
+        final AssignmentContext assignment = a.containsKey( "--assignment" )
+                ? AssignmentContext.decode( a.get( "--assignment" ) )
+                : SharedState.assignmentContext() ;
+
+        // BatchRunner put the compiled classes on our classpath
+        grade( assignment,
+               projectRoot,
+               studentFile,
+               logFile,
+               workDir,
+               classesDir,
+               SingleStudentRunner.class.getClassLoader() ) ;
+
+        }
+
+
+    /**
+     * compile, analyze, and test one student's submission
+     * <p>
+     * Everything is written to {@code System.out} - the caller is responsible for directing it to the
+     * submission's log. The results are also written to the submission's {@link GradingSummary}, even if
+     * grading fails.
+     *
+     * @param assignment
+     *     the assignment the submission is for
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     * @param studentFile
+     *     the student's {className}.java
+     * @param logFile
+     *     the submission's log file
+     * @param workDir
+     *     the extracted student project
+     * @param classesDir
+     *     destination for compiled classes
+     * @param testLoader
+     *     the class loader which supplies the tests and the freshly compiled classes
+     *
+     * @throws Exception
+     *     if compilation or test execution fails
+     */
+    static void grade( final AssignmentContext assignment,
+                       final Path projectRoot,
+                       final Path studentFile,
+                       final Path logFile,
+                       final Path workDir,
+                       final Path classesDir,
+                       final ClassLoader testLoader ) throws Exception
+        {
 
         Files.createDirectories( logFile.getParent() ) ;
 
+        final GradingSummary summary = new GradingSummary() ;
+
+        try
+            {
+            grade( assignment, projectRoot, studentFile, workDir, classesDir, testLoader, summary ) ;
+            }
+        catch ( final Exception e )
+            {
+            summary.failed( e ) ;
+
+            throw e ;
+            }
+        finally
+            {
+            summary.write( logFile ) ;
+            }
+
+        }
+
+
+    private static void grade( final AssignmentContext assignment,
+                               final Path projectRoot,
+                               final Path studentFile,
+                               final Path workDir,
+                               final Path classesDir,
+                               final ClassLoader testLoader,
+                               final GradingSummary summary ) throws Exception
+        {
+
         // Everything in this JVM goes to the log (BatchRunner already redirected output to logFile). Still,
         // we can write a header.
+        System.out.println( "ASSIGNMENT: " + assignment ) ;
         System.out.println( "PROJECT: " + projectRoot ) ;
         System.out.println( "STUDENT: " + studentFile ) ;
         System.out.println( "WORKDIR: " + workDir ) ;
+        System.out.println( "CLASSES: " + classesDir ) ;
         System.out.println( "------------------------------------------------------------" ) ;
 
-        // 1) Copy student file into project
-        final Path destSource = projectRoot.resolve( DEST_CLASS_REL ) ;
-        Files.createDirectories( destSource.getParent() ) ;
-        Files.copy( studentFile, destSource, StandardCopyOption.REPLACE_EXISTING ) ;
-        System.out.println( "Copied to: " + destSource ) ;
+        if ( isSubmissionZip( studentFile ) )
+            {
+            gradeInMemory( assignment, projectRoot, studentFile, summary ) ;
+
+            return ;
+            }
 
         // Optional isolation: delete old class so you can't accidentally use stale output
-        final Path classClass
-                = projectRoot.resolve( "target/classes" )
-                             .resolve( "edu/wit/scds/ds/" + ADTPathSegment + "/" + className + ".class" ) ;
+        final Path classClass = classesDir.resolve( assignment.classFileRelativePath() ) ;
         Files.deleteIfExists( classClass ) ;
 
 
         // 2) Compile " + {className} + ".java (and anything it depends on in src/main/java) For safety,
-        // compile the whole main source tree (slower but reliable). If you want, you can optimize later to
-        // compile just {className} + deps.
-        compileMainSources( projectRoot ) ;
+        // compile the whole main source tree (slower but reliable) with the student's in place of the
+        // project's copy. If you want, you can optimize later to compile just {className} + deps.
+        final long compileStartedAt = System.nanoTime() ;
 
-        // 4) Run Checkstyle tool (catch so next step still runs)
-        runMainSafely( CHECKSTYLE_TOOL_FQCN, new String[ 0 ] ) ;
+        try
+            {
+            compileMainSources( mainSources( assignment, projectRoot, studentFile ), classesDir ) ;
+            }
+        catch ( final IllegalStateException e )
+            {
+            summary.compiled( false, compileStartedAt ) ;
+
+            throw e ;
+            }
+
+        summary.compiled( true, compileStartedAt ) ;
+
+        // 4) Run Checkstyle (catch so next step still runs)
+        analyzeStyle( projectRoot, studentFile, summary ) ;
 
         // 5) Run Implementation validator
-        runMainSafely( IMPL_TOOL_FQCN, new String[ 0 ] ) ;
+        analyzeStructure( assignment, projectRoot, studentFile, summary ) ;
 
         // 3) Run JUnit
-        runJUnitInProcess( TEST_CLASS_FQCN ) ;
+        runJUnitInProcess( assignment.testClassName(), testLoader, summary ) ;
 
         System.out.println( "DONE." ) ;
 
         }
 
 
-    private static void compileMainSources( final Path projectRoot ) throws IOException
+    /**
+     * grade a submission zip without writing anything to disk
+     * <p>
+     * The zip is mounted as a file system. The project's main sources - with the student's {className}.java
+     * in place of the project's own - are compiled to memory, and the tests are run against those classes.
+     *
+     * @param assignment
+     *     the assignment the submission is for
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     * @param submissionZip
+     *     the student's submission
+     * @param summary
+     *     receives the results
+     *
+     * @throws Exception
+     *     if compilation or test execution fails
+     */
+    private static void gradeInMemory( final AssignmentContext assignment,
+                                       final Path projectRoot,
+                                       final Path submissionZip,
+                                       final GradingSummary summary ) throws Exception
         {
 
-        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler() ;
+        try ( SubmissionFileSystem submission = SubmissionFileSystem.mount( submissionZip ) )
+            {
+            System.out.println( "Mounted in memory: " + submission ) ;
 
-        if ( compiler == null )
+            // 1) locate {className}.java in the submission
+            final List<Path> found = submission.findFiles( assignment.sourceFileName() ) ;
+
+            if ( found.isEmpty() )
+                {
+                throw new FileNotFoundException( String.format( "looking for '%s' in '%s'",
+                                                                assignment.sourceFileName(),
+                                                                submissionZip ) ) ;
+                }
+
+            final Path studentSource = found.getFirst() ;
+            System.out.printf( "*** found %s in %s%n", studentSource, submissionZip ) ;
+
+
+            // 2) Compile the project's sources with the student's in place of the project's copy
+            final List<Path> sources = mainSources( assignment, projectRoot, studentSource ) ;
+
+            System.out.println( "Compiling " + sources.size() + " source files in memory..." ) ;
+            final long compileStartedAt = System.nanoTime() ;
+            final InMemoryCompiler.Compilation compilation
+                    = InMemoryCompiler.compile( sources, System.getProperty( "java.class.path" ), JAVA_RELEASE ) ;
+
+            for ( final Diagnostic<? extends JavaFileObject> d : compilation.diagnostics() )
+                {
+                System.out.println( formatDiag( d ) ) ;
+                }
+
+            summary.compiled( compilation.success(), compileStartedAt ) ;
+
+            if ( ! compilation.success() )
+                {
+                throw new IllegalStateException( "Compilation failed." ) ;
+                }
+
+            System.out.println( "Compilation OK." ) ;
+
+            // 4) Run Checkstyle (catch so next step still runs)
+            analyzeStyle( projectRoot, studentSource, summary ) ;
+
+            // 5) Run Implementation validator
+            analyzeStructure( assignment, projectRoot, studentSource, summary ) ;
+
+            // 3) Run JUnit against the in-memory classes
+            try ( JobClassLoader testLoader = new JobClassLoader( testClasspath( projectRoot ),
+                                                                  SingleStudentRunner.class.getClassLoader(),
+                                                                  compilation.classes() ) )
+                {
+                final Thread current = Thread.currentThread() ;
+                final ClassLoader originalContextLoader = current.getContextClassLoader() ;
+
+                current.setContextClassLoader( testLoader ) ;
+
+                try
+                    {
+                    runJUnitInProcess( assignment.testClassName(), testLoader, summary ) ;
+                    }
+                finally
+                    {
+                    current.setContextClassLoader( originalContextLoader ) ;
+                    }
+
+                }
+
+            System.out.println( "DONE." ) ;
+            }
+
+        }
+
+
+    /**
+     * determine whether the student file is actually the whole submission to be graded in memory
+     *
+     * @param studentFile
+     *     the --studentFile argument
+     *
+     * @return {@code true} if it names a zip; {@code false} otherwise
+     */
+    static boolean isSubmissionZip( final Path studentFile )
+        {
+
+        return studentFile.getFileName().toString().toLowerCase( Locale.ROOT ).endsWith( ".zip" ) ;
+
+        }
+
+
+    /**
+     * the tests, the project's compiled classes, then everything we can see
+     */
+    private static URL[] testClasspath( final Path projectRoot ) throws MalformedURLException
+        {
+
+        final List<URL> urls = new ArrayList<>() ;
+
+        urls.add( projectRoot.resolve( TEST_CLASSES_OUT_REL ).toUri().toURL() ) ;
+        urls.add( projectRoot.resolve( CLASSES_OUT_REL ).toUri().toURL() ) ;
+
+        for ( final String entry : System.getProperty( "java.class.path" ).split( File.pathSeparator ) )
             {
-            throw new IllegalStateException( "No JavaCompiler. Run with a JDK, not a JRE." ) ;
+
+            if ( ! entry.isBlank() )
+                {
+                urls.add( Paths.get( entry ).toAbsolutePath().toUri().toURL() ) ;
+                }
+
             }
 
+        return urls.toArray( new URL[ 0 ] ) ;
+
+        }
+
+
+    /**
+     * the project's main sources with the student's {className}.java in place of the project's own - both
+     * grading modes compile exactly these
+     *
+     * @param assignment
+     *     names the replaced file
+     * @param projectRoot
+     *     the project that contains the tests/tools
+     * @param studentSource
+     *     the student's {className}.java - on disk or in a mounted submission
+     *
+     * @return the sources to compile, the student's first
+     *
+     * @throws IOException
+     *     if the project's sources can't be listed
+     */
+    private static List<Path> mainSources( final AssignmentContext assignment,
+                                           final Path projectRoot,
+                                           final Path studentSource ) throws IOException
+        {
+
         final Path srcMain = projectRoot.resolve( "src/main/java" ) ;
-        final Path outDir = projectRoot.resolve( CLASSES_OUT_REL ) ;
+        final Path replaced = srcMain.resolve( assignment.sourceRelativePath() ) ;
 
-        Files.createDirectories( outDir ) ;
+        final List<Path> sources = new ArrayList<>() ;
+        sources.add( studentSource ) ;
 
-        // Collect all .java files under src/main/java
-        final List<File> javaFiles = new ArrayList<>() ;
+        if ( Files.isDirectory( srcMain ) )
+            {
+
+            try ( var stream = Files.walk( srcMain ) )
+                {
+                stream.filter( p -> p.toString().endsWith( ".java" ) )
+                      .filter( p -> ! p.equals( replaced ) )
+                      .forEach( sources::add ) ;
+                }
+
+            }
+
+        return sources ;
+
+        }
+
+
+    private static void compileMainSources( final List<Path> sources,
+                                            final Path outDir ) throws IOException
+        {
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler() ;
 
-        try ( var stream = Files.walk( srcMain ) )
+        if ( compiler == null )
             {
-            stream.filter( p -> p.toString().endsWith( ".java" ) )
-                  .forEach( p -> javaFiles.add( p.toFile() ) ) ;
+            throw new IllegalStateException( "No JavaCompiler. Run with a JDK, not a JRE." ) ;
             }
 
-        if ( javaFiles.isEmpty() )
+        Files.createDirectories( outDir ) ;
+
+        final List<File> javaFiles = new ArrayList<>() ;
+
+        for ( final Path source : sources )
             {
-            throw new IllegalStateException( "No java files found under " + srcMain ) ;
+            javaFiles.add( source.toFile() ) ;
             }
 
         // Classpath for compilation: - target/classes (for previously compiled classes) - plus dependencies
         // from current process classpath (when run via Maven exec, this includes deps)
         final String cp = System.getProperty( "java.class.path" ) ;
 
-        // match your Parser language level; adjust if needed
-        final List<String> options = List.of( "-d", outDir.toString(), "-cp", cp, "--release", "24" ) ;
+        final List<String> options = List.of( "-d", outDir.toString(), "-cp", cp, "--release", JAVA_RELEASE ) ;
 
         System.out.println( "Compiling " + javaFiles.size() + " source files..." ) ;
         final StandardJavaFileManager fm
@@ -274,17 +547,19 @@ public final class SingleStudentRunner extends SharedState
         }
 
 
-    private static void runJUnitInProcess( final String testClassFqcn ) throws Exception
+    private static void runJUnitInProcess( final String testClassFqcn,
+                                           final ClassLoader testLoader,
+                                           final GradingSummary gradingSummary ) throws Exception
         {
 
-        final Class<?> testClass = Class.forName( testClassFqcn ) ;
+        final Class<?> testClass = Class.forName( testClassFqcn, true, testLoader ) ;
 
         final LauncherDiscoveryRequest request
                 = LauncherDiscoveryRequestBuilder.request().selectors( selectClass( testClass ) ).build() ;
 
         final Launcher launcher = LauncherFactory.create() ;
         final SummaryGeneratingListener listener = new SummaryGeneratingListener() ;
-        launcher.registerTestExecutionListeners( listener ) ;
+        launcher.registerTestExecutionListeners( listener, gradingSummary.tests() ) ;
 
         System.out.println( "Running JUnit: " + testClassFqcn ) ;
         launcher.execute( request ) ;
@@ -304,21 +579,101 @@ public final class SingleStudentRunner extends SharedState
         }
 
 
-    private static void runMainSafely( final String fqcn,
-                                       final String[] toolArgs )
+    /**
+     * check the student's source against the project's checkstyle.xml on a shared engine - skipped if the
+     * project doesn't have one
+     */
+    private static void analyzeStyle( final Path projectRoot,
+                                      final Path studentSource,
+                                      final GradingSummary summary )
         {
 
-        System.out.println( "Running tool: " + fqcn ) ;
+        final Path config = projectRoot.resolve( ResultCache.CONFIG_FOLDER ) ;
+        final Path checkstyleXml = config.resolve( CHECKSTYLE_CONFIG ) ;
+
+        if ( ! Files.isRegularFile( checkstyleXml ) )
+            {
+            System.out.println( "Skipping style check - not found: " + checkstyleXml ) ;
+
+            return ;
+            }
+
+        System.out.println( "Checking style: " + checkstyleXml ) ;
+        final long startedAt = System.nanoTime() ;
 
         try
             {
-            final Class<?> c = Class.forName( fqcn ) ;
-            final var m = c.getMethod( "main", String[].class ) ;
-            m.invoke( null, (Object) toolArgs ) ;
+            // warm workers reuse the loaded configuration for every submission
+            final CodeStyleEngine engine = CodeStyleEngine.of( checkstyleXml ) ;
+            final Map<String, CodeStyleAnalysisResult> results
+                    = CodeStyleAnalyzer.analyze( engine, List.of( studentSource ) ) ;
+            final CodeStyleAnalysisResult overall = results.get( CodeStyleAnalyzer.EVERYTHING_KEY ) ;
+
+            System.out.println( overall.report() ) ;
+            summary.style( overall, startedAt ) ;
+            }
+        catch ( final Throwable t )
+            {
+            System.out.println( "Style analysis failed: " + checkstyleXml ) ;
+            t.printStackTrace( System.out ) ;
+            }
+
+        }
+
+
+    /**
+     * check the student's source against the project's requirements.json - skipped if the project doesn't
+     * have one or its starter code
+     */
+    private static void analyzeStructure( final AssignmentContext assignment,
+                                          final Path projectRoot,
+                                          final Path studentSource,
+                                          final GradingSummary summary )
+        {
+
+        final Path config = projectRoot.resolve( ResultCache.CONFIG_FOLDER ) ;
+        final Path requirements = config.resolve( REQUIREMENTS_CONFIG ) ;
+        final Path starter = projectRoot.resolve( "src/main/java" ).resolve( assignment.sourceRelativePath() ) ;
+
+        if ( ! Files.isRegularFile( requirements ) || ! Files.isRegularFile( starter ) )
+            {
+            System.out.printf( "Skipping structure check - not found: %s or %s%n", requirements, starter ) ;
+
+            return ;
+            }
+
+        System.out.println( "Checking structure: " + requirements ) ;
+        final long startedAt = System.nanoTime() ;
+
+        try
+            {
+            final CodeStructureAnalyzer checker = new CodeStructureAnalyzer( assignment.sourceFileName(),
+                                                                             starter,
+                                                                             studentSource,
+                                                                             new LinkedHashMap<>() ) ;
+
+            try
+                {
+                // the JDK and starter code resolve the same for everyone - warm workers build their solver once
+                final TypeSolver sharedLayer = Configuration.sharedTypeSolver( starter ) ;
+
+                checker.configureParser( Configuration.parserConfiguration( sharedLayer,
+                                                                            checker.studentCodePath ) ) ;
+                checker.usePlan( ImplementationComplianceStore.loadPlan( requirements ) ) ;
+                checker.analyze() ;
+                }
+            catch ( final Exception e )
+                {
+                // remember this exception
+                checker.result.thrown = e ;
+                }
+
+            System.out.println( checker.result.report() ) ;
+            summary.structure( checker.result, startedAt ) ;
             }
         catch ( final Throwable t )
             {
-            System.out.println( "Tool failed: " + fqcn ) ;
+            System.out.println( "Structure analysis failed: " + requirements ) ;
             t.printStackTrace( System.out ) ;
             }
 
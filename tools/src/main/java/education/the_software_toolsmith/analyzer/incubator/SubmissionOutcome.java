@@ -0,0 +1,70 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.time.Duration ;
+
+
+/**
+ * final disposition of one submission in a batch grading run
+ *
+ * @param sequence
+ *     1-based position of the submission in the batch - determines summary order
+ * @param label
+ *     human-readable identification of the submission (typically the submission folder name)
+ * @param status
+ *     how processing ended
+ * @param exitCode
+ *     exit code reported by the grading process or -1 if none
+ * @param elapsed
+ *     wall-clock time spent processing the submission
+ * @param message
+ *     explanation for a failure or {@code null} if none
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public record SubmissionOutcome( int sequence,
+                                 String label,
+                                 SubmissionStatus status,
+                                 int exitCode,
+                                 Duration elapsed,
+                                 String message )
+    {
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%,5d: %-9s exit: %3d %,8.1fs  %s%s",
+                              this.sequence,
+                              this.status,
+                              this.exitCode,
+                              this.elapsed.toMillis() / 1_000.0,
+                              this.label,
+                              this.message == null
+                                      ? ""
+                                      : " - " + this.message ) ;
+
+        }   // end toString()
+
+    }   // end record SubmissionOutcome
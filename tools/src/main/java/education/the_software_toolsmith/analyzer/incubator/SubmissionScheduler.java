@@ -0,0 +1,456 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import java.io.ByteArrayOutputStream ;
+import java.io.PrintStream ;
+import java.nio.charset.StandardCharsets ;
+import java.time.Duration ;
+import java.util.ArrayList ;
+import java.util.EnumMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.concurrent.ConcurrentSkipListMap ;
+import java.util.concurrent.LinkedBlockingQueue ;
+import java.util.concurrent.Semaphore ;
+import java.util.concurrent.ThreadFactory ;
+import java.util.concurrent.ThreadPoolExecutor ;
+import java.util.concurrent.TimeUnit ;
+import java.util.concurrent.atomic.AtomicInteger ;
+import java.util.function.Consumer ;
+
+
+/**
+ * runs batch grading tasks on a fixed number of workers with a bounded backlog
+ * <p>
+ * {@link #submit(String, SubmissionTask)} blocks the caller once {@code workers + queueCapacity}
+ * submissions are outstanding so the producer never races far ahead of the graders. Each task writes its
+ * console output to a private buffer which is echoed to {@code System.out} in one piece when the task
+ * finishes - interleaved progress from concurrent submissions would otherwise be unreadable.
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 record timed out submissions as {@link SubmissionStatus#TIMED_OUT}
+ * @version 1.2 2026-10-16 tasks report their own disposition (e.g., {@link SubmissionStatus#CACHED})
+ * @version 1.3 2026-10-16 optionally pass each outcome to a listener as soon as it's recorded
+ */
+public final class SubmissionScheduler implements AutoCloseable
+    {
+
+    /**
+     * how a task disposed of its submission
+     *
+     * @param status
+     *     {@link SubmissionStatus#COMPLETED} or another finished status the task determined itself
+     * @param exitCode
+     *     exit code reported by the grading process or -1 if none
+     */
+    public record Graded( SubmissionStatus status,
+                          int exitCode )
+        {
+
+        /**
+         * the submission was graded
+         *
+         * @param exitCode
+         *     exit code reported by the grading process
+         *
+         * @return the disposition
+         */
+        public static Graded completed( final int exitCode )
+            {
+
+            return new Graded( SubmissionStatus.COMPLETED, exitCode ) ;
+
+            }   // end completed()
+
+        }   // end record Graded
+
+
+    /**
+     * the work to perform for one submission
+     */
+    @FunctionalInterface
+    public interface SubmissionTask
+        {
+
+        /**
+         * grade one submission
+         *
+         * @param console
+         *     destination for progress messages
+         *
+         * @return the disposition of the submission
+         *
+         * @throws SubmissionTimeoutException
+         *     if grading exceeded its time budget
+         * @throws Exception
+         *     if the submission could not be graded
+         */
+        Graded grade( PrintStream console ) throws Exception ;
+
+        }   // end interface SubmissionTask
+
+
+    /*
+     * data fields
+     */
+
+
+    private final int workers ;
+    private final int queueCapacity ;
+    private final Consumer<SubmissionOutcome> outcomeListener ;
+
+    private final ThreadPoolExecutor executor ;
+    private final Semaphore available ;
+
+    private final AtomicInteger nextSequence = new AtomicInteger() ;
+    private final Map<Integer, SubmissionStatus> statuses = new ConcurrentHashMap<>() ;
+    private final Map<Integer, SubmissionOutcome> outcomes = new ConcurrentSkipListMap<>() ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * one worker per available processor with a backlog of the same size
+     */
+    public SubmissionScheduler()
+        {
+
+        this( Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() ) ;
+
+        }   // end no-arg constructor
+
+
+    /**
+     * @param workers
+     *     the number of submissions to grade concurrently
+     * @param queueCapacity
+     *     the number of submissions which may wait for a worker before {@code submit()} blocks
+     */
+    public SubmissionScheduler( final int workers,
+                                final int queueCapacity )
+        {
+
+        this( workers, queueCapacity, outcome ->
+            {} ) ;
+
+        }   // end 2-arg constructor
+
+
+    /**
+     * @param workers
+     *     the number of submissions to grade concurrently
+     * @param queueCapacity
+     *     the number of submissions which may wait for a worker before {@code submit()} blocks
+     * @param outcomeListener
+     *     receives each outcome on the thread which recorded it - must be thread-safe
+     */
+    public SubmissionScheduler( final int workers,
+                                final int queueCapacity,
+                                final Consumer<SubmissionOutcome> outcomeListener )
+        {
+
+        if ( workers < 1 )
+            {
+            throw new IllegalArgumentException( "workers must be at least 1: " + workers ) ;
+            }
+
+        if ( queueCapacity < 0 )
+            {
+            throw new IllegalArgumentException( "queue capacity must not be negative: " + queueCapacity ) ;
+            }
+
+        this.workers = workers ;
+        this.queueCapacity = queueCapacity ;
+        this.outcomeListener = outcomeListener ;
+
+        this.available = new Semaphore( workers + queueCapacity ) ;
+
+        // the semaphore keeps the executor's queue from overflowing so it never rejects work
+        this.executor = new ThreadPoolExecutor( workers,
+                                                workers,
+                                                0L,
+                                                TimeUnit.MILLISECONDS,
+                                                new LinkedBlockingQueue<>(),
+                                                new GraderThreadFactory() ) ;
+
+        }   // end 3-arg constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * wait for all submitted tasks to finish and stop the workers
+     *
+     * @return the outcomes of all submissions in submission order
+     *
+     * @throws InterruptedException
+     *     if interrupted while waiting
+     */
+    public List<SubmissionOutcome> awaitCompletion() throws InterruptedException
+        {
+
+        this.executor.shutdown() ;
+
+        while ( ! this.executor.awaitTermination( 1, TimeUnit.MINUTES ) )
+            {
+            System.out.printf( "... waiting on %,d active and %,d queued submissions%n",
+                               this.executor.getActiveCount(),
+                               this.executor.getQueue().size() ) ;
+            }
+
+        return new ArrayList<>( this.outcomes.values() ) ;
+
+        }   // end awaitCompletion()
+
+
+    @Override
+    public void close()
+        {
+
+        this.executor.shutdownNow() ;
+
+        }   // end close()
+
+
+    /**
+     * write a one-line-per-submission summary followed by per-status totals
+     *
+     * @param out
+     *     the destination
+     */
+    public void printSummary( final PrintStream out )
+        {
+
+        final Map<SubmissionStatus, Integer> totals = new EnumMap<>( SubmissionStatus.class ) ;
+
+        out.printf( "%n============================================================%n" ) ;
+        out.printf( "summary (%,d workers, queue capacity %,d)%n", this.workers, this.queueCapacity ) ;
+        out.printf( "------------------------------------------------------------%n" ) ;
+
+        for ( final SubmissionOutcome outcome : this.outcomes.values() )
+            {
+            out.println( outcome ) ;
+            totals.merge( outcome.status(), 1, Integer::sum ) ;
+            }
+
+        out.printf( "------------------------------------------------------------%n" ) ;
+
+        for ( final Map.Entry<SubmissionStatus, Integer> total : totals.entrySet() )
+            {
+            out.printf( "%-9s %,5d%n", total.getKey(), total.getValue() ) ;
+            }
+
+        }   // end printSummary()
+
+
+    /**
+     * retrieve the current state of a submission
+     *
+     * @param sequence
+     *     the value returned by {@link #submit(String, SubmissionTask)}
+     *
+     * @return the submission's status or {@code null} if the sequence is unknown
+     */
+    public SubmissionStatus statusOf( final int sequence )
+        {
+
+        return this.statuses.get( sequence ) ;
+
+        }   // end statusOf()
+
+
+    /**
+     * queue a submission for grading - blocks while the backlog is full
+     *
+     * @param label
+     *     identification of the submission for progress and summary output
+     * @param task
+     *     the grading work
+     *
+     * @return the 1-based sequence number assigned to the submission
+     *
+     * @throws InterruptedException
+     *     if interrupted while waiting for room in the backlog
+     */
+    public int submit( final String label,
+                       final SubmissionTask task ) throws InterruptedException
+        {
+
+        this.available.acquire() ;
+
+        final int sequence = this.nextSequence.incrementAndGet() ;
+        this.statuses.put( sequence, SubmissionStatus.QUEUED ) ;
+
+        try
+            {
+            this.executor.execute( () -> run( sequence, label, task ) ) ;
+            }
+        catch ( final RuntimeException e )
+            {
+            this.available.release() ;
+            record( sequence, label, SubmissionStatus.FAILED, -1, Duration.ZERO, e.toString() ) ;
+
+            throw e ;
+            }
+
+        return sequence ;
+
+        }   // end submit()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private void record( final int sequence,
+                         final String label,
+                         final SubmissionStatus status,
+                         final int exitCode,
+                         final Duration elapsed,
+                         final String message )
+        {
+
+        final SubmissionOutcome outcome
+                = new SubmissionOutcome( sequence, label, status, exitCode, elapsed, message ) ;
+
+        this.outcomes.put( sequence, outcome ) ;
+        this.statuses.put( sequence, status ) ;
+
+        try
+            {
+            this.outcomeListener.accept( outcome ) ;
+            }
+        catch ( final RuntimeException e )
+            {
+            // the submission is graded regardless
+            System.err.printf( "outcome listener failed for %s: %s%n", label, e ) ;
+            }
+
+        }   // end record()
+
+
+    private void run( final int sequence,
+                      final String label,
+                      final SubmissionTask task )
+        {
+
+        this.statuses.put( sequence, SubmissionStatus.RUNNING ) ;
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream() ;
+        final long startedAt = System.nanoTime() ;
+
+        try ( PrintStream console = new PrintStream( buffer, true, StandardCharsets.UTF_8 ) )
+            {
+            console.println( "------------------------------------------------------------" ) ;
+            console.printf( "%,d: %s%n", sequence, label ) ;
+
+            try
+                {
+                final Graded graded = task.grade( console ) ;
+
+                console.println( "Exit code: " + graded.exitCode() ) ;
+                record( sequence,
+                        label,
+                        graded.status(),
+                        graded.exitCode(),
+                        Duration.ofNanos( System.nanoTime() - startedAt ),
+                        null ) ;
+                }
+            catch ( final SubmissionTimeoutException e )
+                {
+                console.printf( "processing submission timed out: %s%n", e.getMessage() ) ;
+                console.printf( "killed - continuing with the next submission%n" ) ;
+
+                record( sequence,
+                        label,
+                        SubmissionStatus.TIMED_OUT,
+                        -1,
+                        Duration.ofNanos( System.nanoTime() - startedAt ),
+                        e.getMessage() ) ;
+                }
+            catch ( final Throwable t )
+                {
+                console.printf( "processing submission failed: %s%n", t.getMessage() ) ;
+                t.printStackTrace( console ) ;
+                console.printf( "aborting - no further processing for this submission%n" ) ;
+
+                record( sequence,
+                        label,
+                        SubmissionStatus.FAILED,
+                        -1,
+                        Duration.ofNanos( System.nanoTime() - startedAt ),
+                        t.toString() ) ;
+                }
+
+            }
+        finally
+            {
+            synchronized ( System.out )
+                {
+                System.out.print( buffer.toString( StandardCharsets.UTF_8 ) ) ;
+                System.out.flush() ;
+                }
+
+            this.available.release() ;
+            }
+
+        }   // end run()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * names the worker threads so thread dumps from a stuck run are readable
+     */
+    private static final class GraderThreadFactory implements ThreadFactory
+        {
+
+        private final AtomicInteger threadCounter = new AtomicInteger() ;
+
+
+        @Override
+        public Thread newThread( final Runnable r )
+            {
+
+            final Thread worker = new Thread( r, "grader-" + this.threadCounter.incrementAndGet() ) ;
+            worker.setDaemon( false ) ;
+
+            return worker ;
+
+            }   // end newThread()
+
+        }   // end class GraderThreadFactory
+
+    }   // end class SubmissionScheduler
@@ -0,0 +1,115 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+
+/**
+ * lifecycle of a single submission as it moves through a batch grading run
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ * @version 1.1 2026-10-16 add TIMED_OUT
+ * @version 1.2 2026-10-16 add CACHED
+ * @version 1.3 2026-10-16 add SKIPPED
+ */
+public enum SubmissionStatus
+    {
+
+     /** waiting for a grading worker */
+     QUEUED( "queued" )
+
+     /** a grading worker is processing the submission */
+     , RUNNING( "running" )
+
+     /** grading ran to completion (the child may still report a non-zero exit code) */
+     , COMPLETED( "completed" )
+
+     /** grading could not be completed - see the outcome's message */
+     , FAILED( "failed" )
+
+     /** grading exceeded its time budget and was killed */
+     , TIMED_OUT( "timed out" )
+
+     /** an identical submission was graded previously - its results were reused */
+     , CACHED( "cached" )
+
+     /** a previous run already graded the submission */
+     , SKIPPED( "skipped" )
+
+    ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** text for display */
+    private final String prettyDescription ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * save the 'pretty' description
+     *
+     * @param prettyText
+     *     the pretty text
+     */
+    private SubmissionStatus( final String prettyText )
+        {
+
+        this.prettyDescription = prettyText ;
+
+        }   // end constructor
+
+
+    /*
+     * public API methods
+     */
+
+
+    /**
+     * determine whether a submission in this state will no longer change
+     *
+     * @return {@code true} if processing of the submission has ended; {@code false} otherwise
+     */
+    public boolean isFinished()
+        {
+
+        return ( this != QUEUED ) && ( this != RUNNING ) ;
+
+        }   // end isFinished()
+
+
+    @Override
+    public String toString()
+        {
+
+        return this.prettyDescription ;
+
+        }   // end toString()
+
+    }   // end enum SubmissionStatus
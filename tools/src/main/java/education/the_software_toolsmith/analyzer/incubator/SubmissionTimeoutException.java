@@ -0,0 +1,73 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+
+/**
+ * grading a submission exceeded its wall-clock or CPU time budget and the grading process was killed
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+public class SubmissionTimeoutException extends Exception
+    {
+
+    /** to support serialization */
+    private static final long serialVersionUID = 4417316298350722413L ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * set state with a provided message
+     *
+     * @param message
+     *     description of the exceeded budget
+     */
+    public SubmissionTimeoutException( final String message )
+        {
+
+        super( message ) ;
+
+        }   // end 1-arg constructor with message
+
+
+    /**
+     * set state with a provided message and cause
+     *
+     * @param message
+     *     description of the exceeded budget
+     * @param cause
+     *     chained exception which resulted from killing the grading process
+     */
+    public SubmissionTimeoutException( final String message,
+                                       final Throwable cause )
+        {
+
+        super( message, cause ) ;
+
+        }   // end 2-arg constructor
+
+    }   // end class SubmissionTimeoutException
@@ -24,6 +24,7 @@ import education.the_software_toolsmith.analyzer.framework.dynamic_analysis.Test
 import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.CodeStructureAnalyzer ;
 import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Configuration ;
 import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Requirement ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.structure.RequirementPlan ;
 import education.the_software_toolsmith.analyzer.framework.utilities.AnalysisException ;
 
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.Behavior.* ;
@@ -31,9 +32,18 @@ import static education.the_software_toolsmith.analyzer.framework.static_analysi
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.structure.TargetType.* ;
 import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.className ;
 
+import com.github.javaparser.resolution.TypeSolver ;
+
 import java.io.FileNotFoundException ;
 import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.LinkedHashMap ;
 import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.ExecutionException ;
+import java.util.concurrent.ExecutorService ;
+import java.util.concurrent.Executors ;
+import java.util.concurrent.Future ;
 
 //import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.longAssignmentId ;
 import static education.the_software_toolsmith.analyzer.framework.utilities.SharedState.* ;
@@ -49,6 +59,12 @@ import static education.the_software_toolsmith.analyzer.framework.utilities.Shar
  * @version 3.0 2025-12-23 remove all validator functionality to new class ImplementationComplianceChecker
  * @version 4.0 2026-01-10 rename from {@code ValidateImplemention} to {@code AnalyzeCodeStructure}
  * @version 5.0 2026-04-19 TEMP updates to specifically grade this semester's LinkedBag assignment
+ * @version 5.1 2026-10-16 resolve every student against one shared solver layer for the starter code
+ * @version 5.2 2026-10-16 configure each analyzer's own parser instead of {@code StaticJavaParser}
+ * @version 5.3 2026-10-16 --parallel analyzes submissions concurrently
+ * @version 5.4 2026-10-16 compile the requirements once into a {@link RequirementPlan} shared by every
+ *     analysis
+ * @version 5.5 2026-10-16 each analysis thread resolves against its own shared solver layer
  */
 @SuppressWarnings( "javadoc" )  // DMR FUTURE add Javadoc comments
 public class AnalyzeCodeStructure
@@ -58,7 +74,8 @@ public class AnalyzeCodeStructure
      * test driver
      *
      * @param args
-     *     -unused-
+     *     {@code --parallel [n]} analyzes n submissions concurrently (default: available processors) -
+     *     results are reported in the same order either way
      *
      * @throws Exception
      */
@@ -113,62 +130,207 @@ public class AnalyzeCodeStructure
                                    : "s" ) ;/* DEBUG */
 
 /* end TEMP */
+        // the requirements are the same for everyone - compile them once
+        final RequirementPlan requirementPlan = implementationRequirements() ;
+
+        final List<Path> submissions = new ArrayList<>() ;
+
         for ( Path path : found )
             {
 
-            if ( path.toString()
-                     .equals( starter.toString() ) )
+            if ( ! path.toString()
+                       .equals( starter.toString() ) )
                 {
 
-                continue ;
+                submissions.add( path ) ;
 
                 }
 
-            CodeStructureAnalyzer checker = null ;
-            
-            try
+            }
+
+        final int threads = parallelism( args ) ;
+
+        if ( threads <= 1 )
+            {
+
+            for ( Path path : submissions )
                 {
 
-                checker = new CodeStructureAnalyzer( classToAssess,
-                                                     baseSearchLocation,
-                                                     starter.toString(),
-                                                     path.toString() ) ;
+                final CodeStructureAnalyzer checker
+                        = analyzeSubmission( classToAssess,
+                                             baseSearchLocation,
+                                             starter,
+                                             path,
+                                             requirementPlan ) ;
+
+                System.out.printf( "%s%n", checker.result ) ;
+
+                }
+
+            return ;
+
+            }
+
 
-                // configure JavaParser and symbol solver to find student's code
-                Configuration.configureSolver( checker.studentCodePath ) ;
+        // each analyzer owns its parser so submissions can be analyzed concurrently
+        final Path starterPath = starter ;
+        final List<Future<CodeStructureAnalyzer>> analyses = new ArrayList<>( submissions.size() ) ;
 
-                configureImplementationValidation( checker ) ;
+        final ExecutorService executor = Executors.newFixedThreadPool( threads ) ;
 
-                checker.analyze() ;
+        try
+            {
+
+            for ( final Path path : submissions )
+                {
+
+                analyses.add( executor.submit( () -> analyzeSubmission( classToAssess,
+                                                                        baseSearchLocation,
+                                                                        starterPath,
+                                                                        path,
+                                                                        requirementPlan ) ) ) ;
 
                 }
-            catch ( Exception e )
+
+            // report in the same order as the serial analysis
+            for ( final Future<CodeStructureAnalyzer> analysis : analyses )
                 {
 
-                if ( checker == null )
+                try
+                    {
+
+                    System.out.printf( "%s%n", analysis.get().result ) ;
+
+                    }
+                catch ( final ExecutionException e )
                     {
 
-                    // catastrophic failure?
-                    throw new AnalysisException( "unable to instantiate a CodeStructureAnalyzer",
-                                                 e ) ;
+                    if ( e.getCause() instanceof final Exception cause )
+                        {
+
+                        throw cause ;
+
+                        }
+
+                    throw e ;
 
                     }
-                
-                // remember this exception
-                checker.result.thrown = e ;
 
-                }   // end catch
-            
-            System.out.printf( "%s%n", checker.result ) ;
+                }
+
+            }
+        finally
+            {
+
+            executor.shutdownNow() ;
 
-            }   // end for
+            }
 
         }   // end main()
 
 
-    public static void configureImplementationValidation( final CodeStructureAnalyzer checker )
+    /**
+     * analyze one student's submission with its own analyzer and parser
+     *
+     * @return the analyzer holding the result - any exception thrown by the analysis is recorded in the
+     *     result
+     *
+     * @throws AnalysisException
+     *     if the analyzer can't be instantiated
+     */
+    private static CodeStructureAnalyzer analyzeSubmission( final String classToAssess,
+                                                            final String baseSearchLocation,
+                                                            final Path starter,
+                                                            final Path path,
+                                                            final RequirementPlan requirementPlan )
+            throws AnalysisException
         {
 
+        CodeStructureAnalyzer checker = null ;
+
+        try
+            {
+
+            checker = new CodeStructureAnalyzer( classToAssess,
+                                                 baseSearchLocation,
+                                                 starter.toString(),
+                                                 path.toString() ) ;
+
+            // the JDK and starter code resolve the same for everyone - their solver is built once per thread
+            final TypeSolver sharedLayer = Configuration.sharedTypeSolver( starter ) ;
+
+            // configure JavaParser and symbol solver to find student's code
+            checker.configureParser( Configuration.parserConfiguration( sharedLayer,
+                                                                        checker.studentCodePath ) ) ;
+
+            checker.usePlan( requirementPlan ) ;
+
+            checker.analyze() ;
+
+            }
+        catch ( Exception e )
+            {
+
+            if ( checker == null )
+                {
+
+                // catastrophic failure?
+                throw new AnalysisException( "unable to instantiate a CodeStructureAnalyzer",
+                                             e ) ;
+
+                }
+
+            // remember this exception
+            checker.result.thrown = e ;
+
+            }   // end catch
+
+        return checker ;
+
+        }   // end analyzeSubmission()
+
+
+    /**
+     * @return the number of submissions to analyze concurrently: {@code --parallel [n]} - n defaults to the
+     *     available processors; 1 without {@code --parallel}
+     */
+    private static int parallelism( final String[] args )
+        {
+
+        for ( int i = 0 ; i < args.length ; i++ )
+            {
+
+            if ( "--parallel".equals( args[ i ] ) )
+                {
+
+                if ( ( i + 1 < args.length ) && args[ i + 1 ].matches( "\\d+" ) )
+                    {
+
+                    return Integer.parseInt( args[ i + 1 ] ) ;
+
+                    }
+
+                return Runtime.getRuntime().availableProcessors() ;
+
+                }
+
+            }
+
+        return 1 ;
+
+        }   // end parallelism()
+
+
+    /**
+     * the assignment's implementation requirements - compiled once and shared by every analysis
+     *
+     * @return the compiled requirements
+     */
+    public static RequirementPlan implementationRequirements()
+        {
+
+        final Map<String, List<Requirement>> requirements = new LinkedHashMap<>() ;
+
         /*
          * requirements
          */
@@ -222,39 +384,39 @@ public class AnalyzeCodeStructure
          * specific modifications
          */
 
-        checker.setMethodRequirements( "LinkedBag(BagInterface)",
-                                       mustCallNoArgConstructor,
-                                       mustCallGetData,
-                                       mustCallGetNext,
-                                       mustCallAddT,
-                                       mustCallToArray,
-                                       mustCallAddArrayOfT ) ;
-        checker.setMethodRequirements( "LinkedBag(T[])",
-                                       mustCallNoArgConstructor,
-                                       mustCallAddArrayOfT,
-                                       mustNotCallAddT ) ;
-        checker.setMethodRequirements( "difference(BagInterface)",
-                                       mustInstantiateCloningConstructor,
-                                       mustCallGetData,
-                                       mustCallGetNext,
-                                       mustCallRemove,
-                                       mustCallToArray ) ;
-        checker.setMethodRequirements( "intersection(BagInterface)",
-                                       mustInstantiateNoArgConstructor,
-                                       mustInstantiateCloningConstructor,
-                                       mustCallGetData,
-                                       couldCallContains,
-                                       mustCallRemove,
-                                       mustCallAddT,
-                                       mustCallGetNext ) ;
-        checker.setMethodRequirements( "union(BagInterface)",
-                                       mustInstantiateCloningConstructor,
-                                       mustCallGetNext,
-                                       mustCallGetData,
-                                       mustCallAddT,
-                                       mustNotCallToArray,
-                                       mustNotCallAddArrayOfT ) ;
-        checker.setMethodRequirements( "add(T[])", mustCallAddT ) ;
+        requirements.put( "LinkedBag(BagInterface)",
+                          List.of( mustCallNoArgConstructor,
+                                   mustCallGetData,
+                                   mustCallGetNext,
+                                   mustCallAddT,
+                                   mustCallToArray,
+                                   mustCallAddArrayOfT ) ) ;
+        requirements.put( "LinkedBag(T[])",
+                          List.of( mustCallNoArgConstructor,
+                                   mustCallAddArrayOfT,
+                                   mustNotCallAddT ) ) ;
+        requirements.put( "difference(BagInterface)",
+                          List.of( mustInstantiateCloningConstructor,
+                                   mustCallGetData,
+                                   mustCallGetNext,
+                                   mustCallRemove,
+                                   mustCallToArray ) ) ;
+        requirements.put( "intersection(BagInterface)",
+                          List.of( mustInstantiateNoArgConstructor,
+                                   mustInstantiateCloningConstructor,
+                                   mustCallGetData,
+                                   couldCallContains,
+                                   mustCallRemove,
+                                   mustCallAddT,
+                                   mustCallGetNext ) ) ;
+        requirements.put( "union(BagInterface)",
+                          List.of( mustInstantiateCloningConstructor,
+                                   mustCallGetNext,
+                                   mustCallGetData,
+                                   mustCallAddT,
+                                   mustNotCallToArray,
+                                   mustNotCallAddArrayOfT ) ) ;
+        requirements.put( "add(T[])", List.of( mustCallAddT ) ) ;
         
         
 
@@ -263,30 +425,32 @@ public class AnalyzeCodeStructure
          * no changes
          */
 
-        checker.setMethodRequirements( "LinkedBag()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "add(T)", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "clear()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "contains(T)", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "getCurrentSize()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "getFrequencyOf(T)", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "isEmpty()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "remove()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "remove(T)", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "toArray()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "toString()", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "getReferenceTo(T)", DO_LEAVE_EVERYTHING_AS_IS ) ;
-        checker.setMethodRequirements( "initializeState()", DO_LEAVE_EVERYTHING_AS_IS ) ;
+        requirements.put( "LinkedBag()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "add(T)", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "clear()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "contains(T)", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "getCurrentSize()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "getFrequencyOf(T)", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "isEmpty()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "remove()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "remove(T)", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "toArray()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "toString()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "getReferenceTo(T)", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
+        requirements.put( "initializeState()", List.of( DO_LEAVE_EVERYTHING_AS_IS ) ) ;
         
         
         /*
          * optional changes
          */
         
-        checker.setMethodRequirements( "main(String[])", OPTIONALLY_MODIFY_METHOD, DO_NOT_DELETE_METHOD ) ;
-        checker.setMethodRequirements( "printStuff(BagInterface, BagInterface)",
-                                       OPTIONALLY_MODIFY_METHOD,
-                                       OPTIONALLY_DELETE_METHOD ) ;
+        requirements.put( "main(String[])", List.of( OPTIONALLY_MODIFY_METHOD, DO_NOT_DELETE_METHOD ) ) ;
+        requirements.put( "printStuff(BagInterface, BagInterface)",
+                          List.of( OPTIONALLY_MODIFY_METHOD,
+                                   OPTIONALLY_DELETE_METHOD ) ) ;
+
+        return RequirementPlan.compile( requirements ) ;
 
-        }    // end configureImplementationValidation()
+        }    // end implementationRequirements()
 
     }   // end class AnalyzeCodeStructure
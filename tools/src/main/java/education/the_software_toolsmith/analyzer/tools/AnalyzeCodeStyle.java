@@ -21,16 +21,22 @@
 package education.the_software_toolsmith.analyzer.tools ;
 
 import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalysisResult ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalyzer ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleCache ;
+import education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleEngine ;
 import education.the_software_toolsmith.analyzer.framework.utilities.SharedState ;
 
 import static education.the_software_toolsmith.analyzer.framework.dynamic_analysis.TestingBase.* ;
 import static education.the_software_toolsmith.analyzer.framework.static_analysis.style.CodeStyleAnalyzer.analyze ;
 
 import java.nio.file.Path ;
+import java.nio.file.Paths ;
 import java.util.Arrays ;
+import java.util.LinkedHashMap ;
 import java.util.LinkedList ;
 import java.util.List ;
 import java.util.Map ;
+import java.util.Map.Entry ;
 
 
 /**
@@ -40,6 +46,8 @@ import java.util.Map ;
  *
  * @version 1.0 2025-12-06 Initial implementation
  * @version 2.0 2026-01-10 rename from {@code ValidateCodingStyle} to {@code AnalyzeCodeStyle}
+ * @version 2.1 2026-10-16 analyze every submission folder named on the command line in one batch
+ * @version 2.2 2026-10-16 add {@code --cache folder} to reuse results for files analyzed by earlier runs
  */
 public final class AnalyzeCodeStyle extends SharedState
     {
@@ -49,7 +57,8 @@ public final class AnalyzeCodeStyle extends SharedState
      * test driver
      *
      * @param args
-     *     -unused-
+     *     [--cache folder] submission folders to analyze together - if none, analyzes this project's
+     *     {className}.java
      *
      * @throws Exception
      *     if checkstyle fails catastrophically
@@ -67,6 +76,22 @@ public final class AnalyzeCodeStyle extends SharedState
                                pathToCheckstyleRules ) ;
             }
 
+        if ( args.length > 0 )
+            {
+            CodeStyleCache cache = null ;
+            String[] submissionFolders = args ;
+
+            if ( "--cache".equals( args[ 0 ] ) && ( args.length > 1 ) )
+                {
+                cache = CodeStyleCache.open( Paths.get( args[ 1 ] ) ) ;
+                submissionFolders = Arrays.copyOfRange( args, 2, args.length ) ;
+                }
+
+            analyzeSubmissions( pathToCheckstyleRules, cache, submissionFolders ) ;
+
+            return ;
+            }
+
 
         // let's see if we're compliant with our coding style
         final List<Path> sourcePaths = new LinkedList<>() ;
@@ -112,4 +137,56 @@ public final class AnalyzeCodeStyle extends SharedState
 
         }   // end main()
 
+
+    /**
+     * analyze a section's submissions on one Checkstyle engine
+     *
+     * @param pathToCheckstyleRules
+     *     the checkstyle.xml
+     * @param cache
+     *     results of earlier runs - {@code null} to check every file
+     * @param submissionFolders
+     *     each submission's folder
+     *
+     * @throws Exception
+     *     if checkstyle fails catastrophically
+     */
+    private static void analyzeSubmissions( final Path pathToCheckstyleRules,
+                                            final CodeStyleCache cache,
+                                            final String[] submissionFolders ) throws Exception
+        {
+
+        final Map<Path, List<Path>> submissions = new LinkedHashMap<>() ;
+
+        for ( final String submissionFolder : submissionFolders )
+            {
+            final Path folder = Paths.get( submissionFolder ).normalize() ;
+
+            submissions.put( folder, findFiles( className + ".java", folder.toString() ) ) ;
+            }
+
+        final Map<Path, Map<String, CodeStyleAnalysisResult>> results
+                = CodeStyleAnalyzer.analyzeBatch( CodeStyleEngine.of( pathToCheckstyleRules ),
+                                                  cache,
+                                                  submissions,
+                                                  Runtime.getRuntime().availableProcessors() ) ;
+
+        for ( final Entry<Path, Map<String, CodeStyleAnalysisResult>> result : results.entrySet() )
+            {
+            System.out.printf( "%n==========%n%s:%n%s%n",
+                               result.getKey(),
+                               result.getValue() == null
+                                       ? "  no " + className + ".java found"
+                                       : result.getValue().get( CodeStyleAnalyzer.EVERYTHING_KEY ).summary() ) ;
+            }
+
+        System.out.printf( "%nanalyzed %,d submissions%n", results.size() ) ;
+
+        if ( cache != null )
+            {
+            System.out.printf( "%s%n", cache ) ;
+            }
+
+        }   // end analyzeSubmissions()
+
     }   // end class AnalyzeCodeStyle
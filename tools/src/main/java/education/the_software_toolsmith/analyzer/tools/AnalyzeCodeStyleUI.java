@@ -45,6 +45,7 @@ import java.util.Scanner ;
  *
  * @version 1.0 2025-12-27 Initial implementation - based on ValidateCodingStyle
  * @version 2.0 2026-01-10 rename from {@code ValidateCodingStyleUI} to {@code AnalyzeCodeStyleUI}
+ * @version 2.1 2026-10-16 display the on-demand summary and report
  */
 public final class AnalyzeCodeStyleUI extends SharedState
     {
@@ -166,8 +167,8 @@ public final class AnalyzeCodeStyleUI extends SharedState
             Map<String, CodeStyleAnalysisResult> codeStyleAnalysisResults = null ;
             codeStyleAnalysisResults = analyze( pathToCheckstyleRules, sourcePaths ) ;
 
-            System.out.printf( "%s%n", codeStyleAnalysisResults.get( EVERYTHING_KEY ).summary.toString() ) ;
-            System.out.printf( "%s%n", codeStyleAnalysisResults.get( EVERYTHING_KEY ).report.toString() ) ;
+            System.out.printf( "%s%n", codeStyleAnalysisResults.get( EVERYTHING_KEY ).summary() ) ;
+            System.out.printf( "%s%n", codeStyleAnalysisResults.get( EVERYTHING_KEY ).report() ) ;
             }
         catch ( final Exception e )
             {
@@ -0,0 +1,165 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import education.the_software_toolsmith.analyzer.incubator.ColumnarGradebook.Column ;
+import education.the_software_toolsmith.analyzer.incubator.ColumnarGradebook.ColumnType ;
+import education.the_software_toolsmith.analyzer.incubator.ColumnarGradebook.Footer ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.List ;
+
+
+/**
+ * write/read round trips for {@link ColumnarGradebook} files
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class ColumnarGradebookTests
+    {
+
+    private static final List<Column> SCHEMA = List.of( new Column( "student", ColumnType.STRING ),
+                                                        new Column( "exitCode", ColumnType.INT ),
+                                                        new Column( "compliant", ColumnType.INT ),
+                                                        new Column( "note", ColumnType.STRING ) ) ;
+
+    @TempDir
+    Path folder ;
+
+
+    @Test
+    void columnsReadBackInRowOrderAcrossRowGroups() throws IOException
+        {
+
+        // a full row group, then a partial one
+        final int rowCount = ColumnarGradebook.ROW_GROUP_SIZE + 3 ;
+        final Path file = this.folder.resolve( "gradebook.gbk" ) ;
+
+        final List<Object> students = new ArrayList<>() ;
+        final List<Object> exitCodes = new ArrayList<>() ;
+        final List<Object> compliant = new ArrayList<>() ;
+        final List<Object> notes = new ArrayList<>() ;
+
+        try ( ColumnarGradebook.Writer writer = ColumnarGradebook.create( file, SCHEMA ) )
+            {
+
+            for ( int row = 0 ; row < rowCount ; row++ )
+                {
+                // multi-byte characters, empty strings, negative numbers, booleans, and missing values
+                final String student = String.format( "s%04d-Zoë", row ) ;
+                final Integer exitCode = row % 7 == 0
+                        ? null
+                        : row - 500 ;
+                final Boolean isCompliant = row % 2 == 0 ;
+                final String note = switch ( row % 3 )
+                    {
+                    case 0 -> null ;
+                    case 1 -> "" ;
+                    default -> "line 1\nline 2 ✓" ;
+                    } ;
+
+                writer.addRow( new Object[] { student, exitCode, isCompliant, note } ) ;
+
+                students.add( student ) ;
+                exitCodes.add( exitCode ) ;
+                compliant.add( isCompliant
+                        ? 1
+                        : 0 ) ;
+                notes.add( note ) ;
+                }
+
+            }
+
+        final Footer footer = ColumnarGradebook.readFooter( file ) ;
+
+        assertEquals( SCHEMA, footer.columns() ) ;
+        assertEquals( 2, footer.rowGroups().size() ) ;
+        assertEquals( rowCount, footer.rowCount() ) ;
+
+        assertEquals( students, ColumnarGradebook.readColumn( file, "student" ) ) ;
+        assertEquals( exitCodes, ColumnarGradebook.readColumn( file, "exitCode" ) ) ;
+        assertEquals( compliant, ColumnarGradebook.readColumn( file, "compliant" ) ) ;
+        assertEquals( notes, ColumnarGradebook.readColumn( file, "note" ) ) ;
+
+        }   // end columnsReadBackInRowOrderAcrossRowGroups()
+
+
+    @Test
+    void emptyGradebookHasSchemaButNoRows() throws IOException
+        {
+
+        final Path file = this.folder.resolve( "empty.gbk" ) ;
+
+        try ( ColumnarGradebook.Writer writer = ColumnarGradebook.create( file, SCHEMA ) )
+            {
+            // no rows
+            }
+
+        final Footer footer = ColumnarGradebook.readFooter( file ) ;
+
+        assertEquals( SCHEMA, footer.columns() ) ;
+        assertEquals( 0, footer.rowCount() ) ;
+        assertTrue( ColumnarGradebook.readColumn( file, "note" ).isEmpty() ) ;
+
+        }   // end emptyGradebookHasSchemaButNoRows()
+
+
+    @Test
+    void rejectsAFileInAnotherFormat() throws IOException
+        {
+
+        final Path file = this.folder.resolve( "gradebook.csv" ) ;
+        Files.writeString( file, "student,exitCode\ns0001,0\ns0002,1\n" ) ;
+
+        assertThrows( IOException.class, () -> ColumnarGradebook.readFooter( file ) ) ;
+        assertThrows( IOException.class, () -> ColumnarGradebook.readColumn( file, "student" ) ) ;
+
+        }   // end rejectsAFileInAnotherFormat()
+
+
+    @Test
+    void rejectsUnknownColumnsAndMisshapenRows() throws IOException
+        {
+
+        final Path file = this.folder.resolve( "gradebook.gbk" ) ;
+
+        try ( ColumnarGradebook.Writer writer = ColumnarGradebook.create( file, SCHEMA ) )
+            {
+            assertThrows( IllegalArgumentException.class, () -> writer.addRow( new Object[] { "s0001", 0 } ) ) ;
+            }
+
+        assertThrows( IllegalArgumentException.class, () -> ColumnarGradebook.readColumn( file, "grade" ) ) ;
+
+        }   // end rejectsUnknownColumnsAndMisshapenRows()
+
+    }   // end class ColumnarGradebookTests
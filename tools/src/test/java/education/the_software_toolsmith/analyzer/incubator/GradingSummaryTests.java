@@ -0,0 +1,183 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+import static org.junit.jupiter.api.Assertions.fail ;
+import static org.junit.jupiter.api.Assumptions.assumeTrue ;
+
+import com.fasterxml.jackson.databind.JsonNode ;
+
+import org.junit.jupiter.api.Disabled ;
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+import org.junit.platform.engine.discovery.DiscoverySelectors ;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder ;
+import org.junit.platform.launcher.core.LauncherFactory ;
+
+import java.io.IOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.List ;
+import java.util.Map ;
+
+
+/**
+ * the shape of the summary {@link GradingSummary} writes beside a submission's log
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class GradingSummaryTests
+    {
+
+    @TempDir
+    Path folder ;
+
+
+    @Test
+    void summaryHoldsOnlyTheStagesWhichRan() throws IOException
+        {
+
+        final Path logFile = this.folder.resolve( "a/batch.log" ) ;
+        Files.createDirectories( logFile.getParent() ) ;
+
+        final GradingSummary summary = new GradingSummary() ;
+        summary.compiled( false, System.nanoTime() ) ;
+        summary.failed( new IllegalStateException( "didn't compile" ) ) ;
+        summary.write( logFile ) ;
+
+        final JsonNode written = GradingSummary.read( GradingSummary.pathFor( logFile ) ).orElseThrow() ;
+
+        assertEquals( List.of( "compiled", "error", "timingsMs" ), fieldNames( written ) ) ;
+        assertFalse( written.get( "compiled" ).asBoolean() ) ;
+        assertEquals( "java.lang.IllegalStateException: didn't compile", written.get( "error" ).asText() ) ;
+        assertEquals( List.of( "compile" ), fieldNames( written.get( "timingsMs" ) ) ) ;
+        assertTrue( written.get( "timingsMs" ).get( "compile" ).canConvertToLong() ) ;
+
+        }   // end summaryHoldsOnlyTheStagesWhichRan()
+
+
+    @Test
+    void testRunIsCountedOverallAndByGroup() throws IOException
+        {
+
+        final Path logFile = this.folder.resolve( "a/batch.log" ) ;
+        Files.createDirectories( logFile.getParent() ) ;
+
+        final GradingSummary summary = new GradingSummary() ;
+
+        LauncherFactory.create()
+                       .execute( LauncherDiscoveryRequestBuilder.request()
+                                                                .selectors( DiscoverySelectors.selectClass( Sample.class ) )
+                                                                .build(),
+                                 summary.tests() ) ;
+        summary.write( logFile ) ;
+
+        final JsonNode tests = GradingSummary.read( GradingSummary.pathFor( logFile ) ).orElseThrow().get( "tests" ) ;
+
+        assertEquals( List.of( "found", "passed", "failed", "skipped", "aborted", "groups", "failures" ),
+                      fieldNames( tests ) ) ;
+        assertEquals( 5, tests.get( "found" ).asInt() ) ;
+        assertEquals( 2, tests.get( "passed" ).asInt() ) ;
+        assertEquals( 1, tests.get( "failed" ).asInt() ) ;
+        assertEquals( 1, tests.get( "skipped" ).asInt() ) ;
+        assertEquals( 1, tests.get( "aborted" ).asInt() ) ;
+
+        // the test class is the only group
+        final String group = Sample.class.getName().substring( Sample.class.getName().lastIndexOf( '.' ) + 1 ) ;
+
+        assertEquals( List.of( group ), fieldNames( tests.get( "groups" ) ) ) ;
+        assertEquals( List.of( "passed", "failed", "skipped", "aborted" ), fieldNames( tests.get( "groups" ).get( group ) ) ) ;
+        assertEquals( 2, tests.get( "groups" ).get( group ).get( "passed" ).asInt() ) ;
+
+        assertEquals( 1, tests.get( "failures" ).size() ) ;
+        assertEquals( group + ".fails()", tests.get( "failures" ).get( 0 ).asText() ) ;
+
+        }   // end testRunIsCountedOverallAndByGroup()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private static List<String> fieldNames( final JsonNode node )
+        {
+
+        return node.properties().stream().map( Map.Entry::getKey ).toList() ;
+
+        }   // end fieldNames()
+
+
+    /*
+     * nested classes
+     */
+
+
+    /**
+     * a graded submission's tests - run by the launcher only; nested classes aren't discovered with their
+     * enclosing class
+     */
+    static class Sample
+        {
+
+        @Test
+        void passes()
+            {
+            // passes
+            }
+
+
+        @Test
+        void alsoPasses()
+            {
+            // passes
+            }
+
+
+        @Test
+        void fails()
+            {
+            fail( "as intended" ) ;
+            }
+
+
+        @Test
+        void aborts()
+            {
+            assumeTrue( false, "as intended" ) ;
+            }
+
+
+        @Disabled( "as intended" )
+        @Test
+        void isSkipped()
+            {
+            fail( "skipped tests don't run" ) ;
+            }
+
+        }   // end class Sample
+
+    }   // end class GradingSummaryTests
@@ -0,0 +1,302 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import education.the_software_toolsmith.analyzer.framework.utilities.AssignmentContext ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.io.OutputStream ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.util.ArrayList ;
+import java.util.LinkedHashMap ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Optional ;
+import java.util.concurrent.Callable ;
+import java.util.concurrent.CyclicBarrier ;
+import java.util.concurrent.ExecutorService ;
+import java.util.concurrent.Executors ;
+import java.util.concurrent.Future ;
+import java.util.stream.Stream ;
+import java.util.zip.ZipEntry ;
+import java.util.zip.ZipOutputStream ;
+
+
+/**
+ * key stability and concurrent storage for {@link ResultCache}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class ResultCacheTests
+    {
+
+    private static final AssignmentContext ASSIGNMENT
+            = new AssignmentContext( "ArrayStack", "stacks/adt", "stacks.adt", "Stacks-01", "S01" ) ;
+
+    private static final String STACK_SOURCE = "package stacks.adt ; public class ArrayStack {}" ;
+    private static final String NODE_SOURCE = "package stacks.adt ; class Node {}" ;
+
+    @TempDir
+    Path folder ;
+
+
+    @Test
+    void contentKeyDependsOnlyOnTheJavaSources() throws IOException
+        {
+
+        final Map<String, String> sources = new LinkedHashMap<>() ;
+        sources.put( "Stacks/src/stacks/adt/ArrayStack.java", STACK_SOURCE ) ;
+        sources.put( "Stacks/src/stacks/adt/Node.java", NODE_SOURCE ) ;
+
+        // the same sources in another order with build output and clutter
+        final Map<String, String> cluttered = new LinkedHashMap<>() ;
+        cluttered.put( "Stacks/bin/stacks/adt/ArrayStack.java", "stale copy" ) ;
+        cluttered.put( "Stacks/src/stacks/adt/Node.java", NODE_SOURCE ) ;
+        cluttered.put( "__MACOSX/Stacks/._ArrayStack.java", "resource fork" ) ;
+        cluttered.put( "Stacks/README.txt", "notes" ) ;
+        cluttered.put( "Stacks/src/stacks/adt/ArrayStack.java", STACK_SOURCE ) ;
+
+        final String key = ResultCache.contentKey( zip( "plain.zip", sources ) ) ;
+
+        assertEquals( key, ResultCache.contentKey( zip( "plain-again.zip", sources ) ) ) ;
+        assertEquals( key, ResultCache.contentKey( zip( "cluttered.zip", cluttered ) ) ) ;
+
+        // any change to a source's content or name is a different submission
+        final Map<String, String> edited = new LinkedHashMap<>( sources ) ;
+        edited.put( "Stacks/src/stacks/adt/Node.java", NODE_SOURCE + " // edited" ) ;
+
+        final Map<String, String> renamed = new LinkedHashMap<>() ;
+        renamed.put( "Stacks/src/stacks/adt/ArrayStack.java", STACK_SOURCE ) ;
+        renamed.put( "Stacks/src/stacks/adt/LinkedNode.java", NODE_SOURCE ) ;
+
+        assertNotEquals( key, ResultCache.contentKey( zip( "edited.zip", edited ) ) ) ;
+        assertNotEquals( key, ResultCache.contentKey( zip( "renamed.zip", renamed ) ) ) ;
+
+        }   // end contentKeyDependsOnlyOnTheJavaSources()
+
+
+    @Test
+    void configurationKeyTracksEverythingWhichAffectsGrading() throws IOException
+        {
+
+        final Path project = this.folder.resolve( "project" ) ;
+        write( project.resolve( "config/checkstyle.xml" ), "<module name=\"Checker\"/>" ) ;
+        write( project.resolve( "src/main/java/stacks/adt/StackInterface.java" ), "interface StackInterface {}" ) ;
+
+        final String key = ResultCache.configurationKey( ASSIGNMENT, project ) ;
+
+        assertEquals( key, ResultCache.configurationKey( ASSIGNMENT, project ) ) ;
+
+        // a different assignment
+        assertNotEquals( key,
+                         ResultCache.configurationKey( new AssignmentContext( "LinkedStack",
+                                                                              "stacks/adt",
+                                                                              "stacks.adt",
+                                                                              "Stacks-01",
+                                                                              "S01" ),
+                                                       project ) ) ;
+
+        // a changed rule
+        write( project.resolve( "config/checkstyle.xml" ), "<module name=\"Checker\"><module name=\"X\"/></module>" ) ;
+        final String changedRule = ResultCache.configurationKey( ASSIGNMENT, project ) ;
+
+        assertNotEquals( key, changedRule ) ;
+
+        // the same file moved to another graded folder
+        Files.createDirectories( project.resolve( "target/classes" ) ) ;
+        Files.move( project.resolve( "config/checkstyle.xml" ), project.resolve( "target/classes/checkstyle.xml" ) ) ;
+
+        assertNotEquals( changedRule, ResultCache.configurationKey( ASSIGNMENT, project ) ) ;
+
+        }   // end configurationKeyTracksEverythingWhichAffectsGrading()
+
+
+    @Test
+    void entryKeyDependsOnTheConfiguration() throws IOException
+        {
+
+        final ResultCache before = ResultCache.open( this.folder.resolve( "cache" ), "configuration-1" ) ;
+        final ResultCache after = ResultCache.open( this.folder.resolve( "cache" ), "configuration-2" ) ;
+
+        assertEquals( before.keyFor( "content" ), before.keyFor( "content" ) ) ;
+        assertNotEquals( before.keyFor( "content" ), after.keyFor( "content" ) ) ;
+        assertNotEquals( before.keyFor( "content" ), before.keyFor( "other content" ) ) ;
+
+        }   // end entryKeyDependsOnTheConfiguration()
+
+
+    @Test
+    void restoreReturnsWhatWasStored() throws IOException
+        {
+
+        final ResultCache cache = ResultCache.open( this.folder.resolve( "cache" ), "configuration" ) ;
+        final String key = cache.keyFor( "content" ) ;
+
+        final Path gradedLog = write( this.folder.resolve( "graded/a/batch.log" ), "log of a" ) ;
+        write( GradingSummary.pathFor( gradedLog ), "{\"summary\":\"a\"}" ) ;
+
+        assertTrue( cache.restore( key, this.folder.resolve( "graded/b/batch.log" ) ).isEmpty() ) ;
+
+        cache.store( key, gradedLog, 3 ) ;
+
+        final Path restoredLog = this.folder.resolve( "graded/b/batch.log" ) ;
+
+        assertEquals( Optional.of( 3 ), cache.restore( key, restoredLog ) ) ;
+        assertEquals( "log of a", Files.readString( restoredLog ) ) ;
+        assertEquals( "{\"summary\":\"a\"}", Files.readString( GradingSummary.pathFor( restoredLog ) ) ) ;
+
+        }   // end restoreReturnsWhatWasStored()
+
+
+    @Test
+    void concurrentStoresAndRestoresOfOneKeySeeOneCompleteEntry() throws Exception
+        {
+
+        final int graderCount = 8 ;
+        final Path cacheRoot = this.folder.resolve( "cache" ) ;
+        final ResultCache cache = ResultCache.open( cacheRoot, "configuration" ) ;
+        final String key = cache.keyFor( "content" ) ;
+
+        final CyclicBarrier start = new CyclicBarrier( 2 * graderCount ) ;
+        final List<Callable<Void>> graders = new ArrayList<>() ;
+
+        for ( int i = 0 ; i < graderCount ; i++ )
+            {
+            // each grader's log names its exit code so a mixed entry would show
+            final int exitCode = i ;
+            final Path log = write( this.folder.resolve( "graded/" + i + "/batch.log" ), "exit " + i ) ;
+
+            graders.add( () ->
+                {
+                start.await() ;
+                cache.store( key, log, exitCode ) ;
+
+                return null ;
+                } ) ;
+            }
+
+        // graders restoring while the entry is stored see all of it or none of it
+        for ( int i = 0 ; i < graderCount ; i++ )
+            {
+            final Path restoredLog = this.folder.resolve( "restoring/" + i + "/batch.log" ) ;
+
+            graders.add( () ->
+                {
+                start.await() ;
+
+                for ( int attempt = 0 ; attempt < 50 ; attempt++ )
+                    {
+                    final Optional<Integer> restored = cache.restore( key, restoredLog ) ;
+
+                    if ( restored.isPresent() )
+                        {
+                        assertEquals( "exit " + restored.get(), Files.readString( restoredLog ) ) ;
+                        }
+
+                    }
+
+                return null ;
+                } ) ;
+            }
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 * graderCount ) ;
+
+        try
+            {
+
+            for ( final Future<Void> stored : executor.invokeAll( graders ) )
+                {
+                stored.get() ;
+                }
+
+            }
+        finally
+            {
+            executor.shutdownNow() ;
+            }
+
+        // no staging folders left behind
+        try ( Stream<Path> entries = Files.list( cacheRoot ) )
+            {
+            assertEquals( List.of( cacheRoot.resolve( key ) ), entries.toList() ) ;
+            }
+
+        final Path restoredLog = this.folder.resolve( "restored/batch.log" ) ;
+        final int exitCode = cache.restore( key, restoredLog ).orElseThrow() ;
+
+        assertEquals( "exit " + exitCode, Files.readString( restoredLog ) ) ;
+        assertFalse( Files.exists( GradingSummary.pathFor( restoredLog ) ) ) ;
+
+        }   // end concurrentStoresAndRestoresOfOneKeySeeOneCompleteEntry()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private Path zip( final String name,
+                      final Map<String, String> entries ) throws IOException
+        {
+
+        final Path zip = this.folder.resolve( name ) ;
+
+        try ( OutputStream file = Files.newOutputStream( zip ) ;
+              ZipOutputStream out = new ZipOutputStream( file ) )
+            {
+
+            for ( final Map.Entry<String, String> entry : entries.entrySet() )
+                {
+                out.putNextEntry( new ZipEntry( entry.getKey() ) ) ;
+                out.write( entry.getValue().getBytes( StandardCharsets.UTF_8 ) ) ;
+                out.closeEntry() ;
+                }
+
+            }
+
+        return zip ;
+
+        }   // end zip()
+
+
+    private static Path write( final Path file,
+                               final String content ) throws IOException
+        {
+
+        Files.createDirectories( file.getParent() ) ;
+
+        return Files.writeString( file, content ) ;
+
+        }   // end write()
+
+    }   // end class ResultCacheTests
@@ -0,0 +1,217 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import education.the_software_toolsmith.analyzer.incubator.BatchRunner.Submission ;
+
+import com.fasterxml.jackson.databind.JsonNode ;
+import com.fasterxml.jackson.databind.ObjectMapper ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.time.Duration ;
+import java.time.LocalDateTime ;
+import java.util.ArrayList ;
+import java.util.List ;
+import java.util.Map ;
+
+
+/**
+ * the records {@link ResultsSink} writes - one JSON object per line
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class ResultsSinkTests
+    {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper() ;
+
+    @TempDir
+    Path gradedRoot ;
+
+
+    @Test
+    void recordHoldsTheSubmissionItsOutcomeAndItsSummary() throws IOException
+        {
+
+        final String label = "S01-1234 - Pat Doe - 2026-10-16 1201" ;
+        final Path logFile = this.gradedRoot.resolve( label ).resolve( ResultCache.LOG_FILE_NAME ) ;
+        Files.createDirectories( logFile.getParent() ) ;
+
+        final GradingSummary summary = new GradingSummary() ;
+        summary.compiled( true, System.nanoTime() ) ;
+        summary.write( logFile ) ;
+
+        final Submission submission = new Submission( "1234",
+                                                      "S01",
+                                                      "Pat Doe",
+                                                      LocalDateTime.of( 2026, 10, 16, 12, 1 ),
+                                                      this.gradedRoot.resolve( label ) ) ;
+
+        try ( ResultsSink sink = ResultsSink.open( this.gradedRoot ) )
+            {
+            sink.append( new SubmissionOutcome( 1,
+                                                label,
+                                                SubmissionStatus.COMPLETED,
+                                                0,
+                                                Duration.ofMillis( 1500 ),
+                                                null ),
+                         submission ) ;
+
+            assertEquals( 1, sink.recordCount() ) ;
+            }
+
+        final List<JsonNode> records = records() ;
+
+        assertEquals( 1, records.size() ) ;
+
+        final JsonNode record = records.getFirst() ;
+
+        // no message when there's nothing to say
+        assertEquals( List.of( "submission",
+                               "student",
+                               "name",
+                               "assignment",
+                               "submittedAt",
+                               "sequence",
+                               "status",
+                               "exitCode",
+                               "elapsedMs",
+                               "grading" ),
+                      fieldNames( record ) ) ;
+        assertEquals( label, record.get( "submission" ).asText() ) ;
+        assertEquals( "1234", record.get( "student" ).asText() ) ;
+        assertEquals( "Pat Doe", record.get( "name" ).asText() ) ;
+        assertEquals( "S01", record.get( "assignment" ).asText() ) ;
+        assertEquals( "2026-10-16T12:01", record.get( "submittedAt" ).asText() ) ;
+        assertEquals( 1, record.get( "sequence" ).asInt() ) ;
+        assertEquals( "COMPLETED", record.get( "status" ).asText() ) ;
+        assertEquals( 0, record.get( "exitCode" ).asInt() ) ;
+        assertEquals( 1500, record.get( "elapsedMs" ).asLong() ) ;
+
+        // the summary is embedded as written
+        assertEquals( GradingSummary.read( GradingSummary.pathFor( logFile ) ).orElseThrow(), record.get( "grading" ) ) ;
+
+        }   // end recordHoldsTheSubmissionItsOutcomeAndItsSummary()
+
+
+    @Test
+    void unidentifiedUngradedSubmissionHasItsMessageAndNoSummary() throws IOException
+        {
+
+        try ( ResultsSink sink = ResultsSink.open( this.gradedRoot ) )
+            {
+            sink.append( new SubmissionOutcome( 2,
+                                                "stray.zip",
+                                                SubmissionStatus.TIMED_OUT,
+                                                -1,
+                                                Duration.ofSeconds( 90 ),
+                                                "over budget" ),
+                         null ) ;
+            }
+
+        final JsonNode record = records().getFirst() ;
+
+        assertEquals( List.of( "submission", "sequence", "status", "exitCode", "elapsedMs", "message", "grading" ),
+                      fieldNames( record ) ) ;
+        assertEquals( "TIMED_OUT", record.get( "status" ).asText() ) ;
+        assertEquals( "over budget", record.get( "message" ).asText() ) ;
+        assertTrue( record.get( "grading" ).isNull() ) ;
+
+        }   // end unidentifiedUngradedSubmissionHasItsMessageAndNoSummary()
+
+
+    @Test
+    void eachRunStartsAFreshFileWithOneLinePerRecord() throws IOException
+        {
+
+        for ( int run = 1 ; run <= 2 ; run++ )
+            {
+
+            try ( ResultsSink sink = ResultsSink.open( this.gradedRoot ) )
+                {
+
+                for ( int sequence = 1 ; sequence <= 3 ; sequence++ )
+                    {
+                    // a message which spans lines stays on the record's line
+                    sink.append( new SubmissionOutcome( sequence,
+                                                        "s" + sequence,
+                                                        SubmissionStatus.FAILED,
+                                                        -1,
+                                                        Duration.ZERO,
+                                                        "run " + run + "\nsecond line" ),
+                                 null ) ;
+                    }
+
+                }
+
+            }
+
+        final List<JsonNode> records = records() ;
+
+        assertEquals( 3, records.size() ) ;
+
+        for ( int i = 0 ; i < records.size() ; i++ )
+            {
+            assertEquals( i + 1, records.get( i ).get( "sequence" ).asInt() ) ;
+            assertEquals( "run 2\nsecond line", records.get( i ).get( "message" ).asText() ) ;
+            }
+
+        }   // end eachRunStartsAFreshFileWithOneLinePerRecord()
+
+
+    /*
+     * utility methods
+     */
+
+
+    private List<JsonNode> records() throws IOException
+        {
+
+        final List<JsonNode> records = new ArrayList<>() ;
+
+        for ( final String line : Files.readAllLines( this.gradedRoot.resolve( ResultsSink.FILE_NAME ) ) )
+            {
+            records.add( MAPPER.readTree( line ) ) ;
+            }
+
+        return records ;
+
+        }   // end records()
+
+
+    private static List<String> fieldNames( final JsonNode node )
+        {
+
+        return node.properties().stream().map( Map.Entry::getKey ).toList() ;
+
+        }   // end fieldNames()
+
+    }   // end class ResultsSinkTests
@@ -0,0 +1,203 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertSame ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import education.the_software_toolsmith.analyzer.incubator.RunJournal.Completed ;
+import education.the_software_toolsmith.analyzer.incubator.RunJournal.Stage ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.io.TempDir ;
+
+import java.io.IOException ;
+import java.nio.charset.StandardCharsets ;
+import java.nio.file.Files ;
+import java.nio.file.Path ;
+import java.nio.file.StandardOpenOption ;
+import java.util.List ;
+import java.util.stream.Stream ;
+
+
+/**
+ * journaling and replay for {@link RunJournal}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+class RunJournalTests
+    {
+
+    @TempDir
+    Path folder ;
+
+
+    @Test
+    void replayResumesEachSubmissionAfterItsLastCompletedStage() throws Exception
+        {
+
+        final Path file = this.folder.resolve( "journal.log" ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            journal.perform( "a", Stage.EXTRACT, () -> "a/_project" ) ;
+            journal.perform( "a", Stage.LOCATE, () -> "a/_project/src/Stack.java" ) ;
+            journal.perform( "b", Stage.EXTRACT, () -> "b/_project" ) ;
+
+            assertEquals( new Completed( Stage.LOCATE, "a/_project/src/Stack.java" ),
+                          journal.lastCompleted( "a" ).orElseThrow() ) ;
+            }
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            assertEquals( new Completed( Stage.LOCATE, "a/_project/src/Stack.java" ),
+                          journal.lastCompleted( "a" ).orElseThrow() ) ;
+            assertEquals( new Completed( Stage.EXTRACT, "b/_project" ),
+                          journal.lastCompleted( "b" ).orElseThrow() ) ;
+            assertTrue( journal.lastCompleted( "c" ).isEmpty() ) ;
+            }
+
+        }   // end replayResumesEachSubmissionAfterItsLastCompletedStage()
+
+
+    @Test
+    void failedStageIsJournaledButNotCompleted() throws Exception
+        {
+
+        final Path file = this.folder.resolve( "journal.log" ) ;
+        final IOException failure = new IOException( "disk full" ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            journal.perform( "a", Stage.EXTRACT, () -> "a/_project" ) ;
+
+            assertSame( failure,
+                        assertThrows( IOException.class,
+                                      () -> journal.perform( "a", Stage.LOCATE, () ->
+                                          {
+                                          throw failure ;
+                                          } ) ) ) ;
+
+            assertEquals( Stage.EXTRACT, journal.lastCompleted( "a" ).orElseThrow().stage() ) ;
+            }
+
+        assertTrue( Files.readString( file ).contains( "failed\tjava.io.IOException: disk full" ) ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            assertEquals( Stage.EXTRACT, journal.lastCompleted( "a" ).orElseThrow().stage() ) ;
+            }
+
+        }   // end failedStageIsJournaledButNotCompleted()
+
+
+    @Test
+    void tornLineIsIgnoredAndDoesNotSwallowTheNextEntry() throws Exception
+        {
+
+        final Path file = this.folder.resolve( "journal.log" ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            journal.perform( "a", Stage.EXTRACT, () -> "a/_project" ) ;
+            }
+
+        // a crash while the completion was being written
+        Files.writeString( file,
+                           "2026-10-16T12:00:00\tb\tEXTRACT\tcompl",
+                           StandardCharsets.UTF_8,
+                           StandardOpenOption.APPEND ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            assertTrue( journal.lastCompleted( "b" ).isEmpty() ) ;
+            assertEquals( Stage.EXTRACT, journal.lastCompleted( "a" ).orElseThrow().stage() ) ;
+
+            journal.perform( "c", Stage.EXTRACT, () -> "c/_project" ) ;
+            }
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            assertTrue( journal.lastCompleted( "b" ).isEmpty() ) ;
+            assertEquals( new Completed( Stage.EXTRACT, "c/_project" ),
+                          journal.lastCompleted( "c" ).orElseThrow() ) ;
+            }
+
+        }   // end tornLineIsIgnoredAndDoesNotSwallowTheNextEntry()
+
+
+    @Test
+    void detailIsKeptOnOneLine() throws Exception
+        {
+
+        final Path file = this.folder.resolve( "journal.log" ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            journal.perform( "a", Stage.GRADE, () -> "0\tfirst\r\nsecond" ) ;
+            }
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            assertEquals( "0 first second", journal.lastCompleted( "a" ).orElseThrow().detail() ) ;
+            }
+
+        // started and completed
+        assertEquals( 2, Files.readAllLines( file ).size() ) ;
+
+        }   // end detailIsKeptOnOneLine()
+
+
+    @Test
+    void startingOverSetsTheJournalAside() throws Exception
+        {
+
+        final Path file = this.folder.resolve( "journal.log" ) ;
+
+        try ( RunJournal journal = RunJournal.open( file, true ) )
+            {
+            journal.perform( "a", Stage.EXTRACT, () -> "a/_project" ) ;
+            }
+
+        try ( RunJournal journal = RunJournal.open( file, false ) )
+            {
+            assertTrue( journal.lastCompleted( "a" ).isEmpty() ) ;
+            }
+
+        final List<Path> setAside ;
+
+        try ( Stream<Path> files = Files.list( this.folder ) )
+            {
+            setAside = files.filter( path -> path.getFileName().toString().startsWith( "journal.log." ) ).toList() ;
+            }
+
+        assertEquals( 1, setAside.size() ) ;
+        assertTrue( Files.readString( setAside.getFirst() ).contains( "a/_project" ) ) ;
+        assertFalse( Files.readString( file ).contains( "a/_project" ) ) ;
+
+        }   // end startingOverSetsTheJournalAside()
+
+    }   // end class RunJournalTests
@@ -0,0 +1,227 @@
+/* @formatter:off
+ *
+ * Copyright © 2025-2026 David M Rosenberg, The Software Toolsmith
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.analyzer.incubator ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.Test ;
+import org.junit.jupiter.api.Timeout ;
+
+import java.util.List ;
+import java.util.Map ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.concurrent.CountDownLatch ;
+import java.util.concurrent.TimeUnit ;
+import java.util.concurrent.atomic.AtomicInteger ;
+
+
+/**
+ * ordering, backpressure, and outcome reporting for {@link SubmissionScheduler}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-16 Initial implementation
+ */
+@Timeout( value = 30, unit = TimeUnit.SECONDS )
+class SubmissionSchedulerTests
+    {
+
+    @Test
+    void outcomesAreInSubmissionOrderRegardlessOfFinishingOrder() throws InterruptedException
+        {
+
+        final int submissionCount = 4 ;
+
+        // the first submission can't finish until all the others have
+        final CountDownLatch othersFinished = new CountDownLatch( submissionCount - 1 ) ;
+
+        final List<SubmissionOutcome> outcomes ;
+
+        try ( SubmissionScheduler scheduler = new SubmissionScheduler( submissionCount, 0 ) )
+            {
+            scheduler.submit( "s1", console ->
+                {
+                othersFinished.await() ;
+
+                return SubmissionScheduler.Graded.completed( 1 ) ;
+                } ) ;
+
+            for ( int i = 2 ; i <= submissionCount ; i++ )
+                {
+                final int exitCode = i ;
+
+                scheduler.submit( "s" + i, console ->
+                    {
+                    othersFinished.countDown() ;
+
+                    return SubmissionScheduler.Graded.completed( exitCode ) ;
+                    } ) ;
+                }
+
+            outcomes = scheduler.awaitCompletion() ;
+            }
+
+        assertEquals( submissionCount, outcomes.size() ) ;
+
+        for ( int i = 0 ; i < submissionCount ; i++ )
+            {
+            final SubmissionOutcome outcome = outcomes.get( i ) ;
+
+            assertEquals( i + 1, outcome.sequence() ) ;
+            assertEquals( "s" + ( i + 1 ), outcome.label() ) ;
+            assertEquals( SubmissionStatus.COMPLETED, outcome.status() ) ;
+            assertEquals( i + 1, outcome.exitCode() ) ;
+            }
+
+        }   // end outcomesAreInSubmissionOrderRegardlessOfFinishingOrder()
+
+
+    @Test
+    void submitBlocksWhileTheBacklogIsFull() throws InterruptedException
+        {
+
+        final CountDownLatch release = new CountDownLatch( 1 ) ;
+        final CountDownLatch running = new CountDownLatch( 1 ) ;
+
+        final SubmissionScheduler.SubmissionTask blocked = console ->
+            {
+            running.countDown() ;
+            release.await() ;
+
+            return SubmissionScheduler.Graded.completed( 0 ) ;
+            } ;
+
+        try ( SubmissionScheduler scheduler = new SubmissionScheduler( 1, 1 ) )
+            {
+            // one running and one waiting fills the backlog
+            final int first = scheduler.submit( "running", blocked ) ;
+            scheduler.submit( "waiting", blocked ) ;
+
+            assertTrue( running.await( 10, TimeUnit.SECONDS ) ) ;
+            assertEquals( SubmissionStatus.RUNNING, scheduler.statusOf( first ) ) ;
+
+            final AtomicInteger thirdSequence = new AtomicInteger() ;
+            final Thread producer = new Thread( () ->
+                {
+                try
+                    {
+                    thirdSequence.set( scheduler.submit( "blocked", blocked ) ) ;
+                    }
+                catch ( final InterruptedException e )
+                    {
+                    Thread.currentThread().interrupt() ;
+                    }
+                } ) ;
+
+            producer.start() ;
+            producer.join( 500 ) ;
+
+            assertTrue( producer.isAlive(), "submit() returned while the backlog was full" ) ;
+            assertEquals( 0, thirdSequence.get() ) ;
+
+            release.countDown() ;
+            producer.join() ;
+
+            assertEquals( 3, thirdSequence.get() ) ;
+            assertEquals( 3, scheduler.awaitCompletion().size() ) ;
+            }
+
+        }   // end submitBlocksWhileTheBacklogIsFull()
+
+
+    @Test
+    void listenerReceivesEveryOutcomeWithTheTasksDisposition() throws InterruptedException
+        {
+
+        final Map<String, SubmissionOutcome> heard = new ConcurrentHashMap<>() ;
+
+        final List<SubmissionOutcome> outcomes ;
+
+        try ( SubmissionScheduler scheduler = new SubmissionScheduler( 2, 2, outcome ->
+            {
+            heard.put( outcome.label(), outcome ) ;
+
+            // a failing listener mustn't affect grading
+            if ( outcome.label().equals( "cached" ) )
+                {
+                throw new IllegalStateException( "listener failure" ) ;
+                }
+            } ) )
+            {
+            scheduler.submit( "graded", console -> SubmissionScheduler.Graded.completed( 3 ) ) ;
+            scheduler.submit( "cached", console -> new SubmissionScheduler.Graded( SubmissionStatus.CACHED, 0 ) ) ;
+            scheduler.submit( "timed out", console ->
+                {
+                throw new SubmissionTimeoutException( "over budget" ) ;
+                } ) ;
+            scheduler.submit( "failed", console ->
+                {
+                throw new IllegalArgumentException( "no zip" ) ;
+                } ) ;
+
+            outcomes = scheduler.awaitCompletion() ;
+            }
+
+        assertEquals( 4, heard.size() ) ;
+
+        for ( final SubmissionOutcome outcome : outcomes )
+            {
+            assertEquals( outcome, heard.get( outcome.label() ) ) ;
+            assertTrue( outcome.status().isFinished() ) ;
+            }
+
+        assertEquals( SubmissionStatus.COMPLETED, heard.get( "graded" ).status() ) ;
+        assertEquals( 3, heard.get( "graded" ).exitCode() ) ;
+        assertEquals( SubmissionStatus.CACHED, heard.get( "cached" ).status() ) ;
+        assertEquals( SubmissionStatus.TIMED_OUT, heard.get( "timed out" ).status() ) ;
+        assertEquals( "over budget", heard.get( "timed out" ).message() ) ;
+        assertEquals( SubmissionStatus.FAILED, heard.get( "failed" ).status() ) ;
+        assertEquals( -1, heard.get( "failed" ).exitCode() ) ;
+        assertTrue( heard.get( "failed" ).message().contains( "no zip" ) ) ;
+
+        }   // end listenerReceivesEveryOutcomeWithTheTasksDisposition()
+
+
+    @Test
+    void rejectsInvalidSizes()
+        {
+
+        assertThrows( IllegalArgumentException.class, () -> new SubmissionScheduler( 0, 1 ) ) ;
+        assertThrows( IllegalArgumentException.class, () -> new SubmissionScheduler( 1, -1 ) ) ;
+
+        }   // end rejectsInvalidSizes()
+
+
+    @Test
+    void unknownSequenceHasNoStatus()
+        {
+
+        try ( SubmissionScheduler scheduler = new SubmissionScheduler( 1, 0 ) )
+            {
+            assertNull( scheduler.statusOf( 1 ) ) ;
+            }
+
+        }   // end unknownSequenceHasNoStatus()
+
+    }   // end class SubmissionSchedulerTests